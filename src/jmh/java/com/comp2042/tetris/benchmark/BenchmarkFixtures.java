@@ -0,0 +1,87 @@
+package com.comp2042.tetris.benchmark;
+
+import com.comp2042.tetris.controller.core.GameController;
+import com.comp2042.tetris.model.board.SimpleBoard;
+import com.comp2042.tetris.model.bricks.BrickRotator;
+import com.comp2042.tetris.model.bricks.RandomBrickGenerator;
+import com.comp2042.tetris.model.bricks.RotationState;
+import com.comp2042.tetris.model.score.Score;
+import com.comp2042.tetris.utils.GameRandom;
+import com.comp2042.tetris.utils.MatrixOperations;
+
+/**
+ * Boards shared by the benchmarks, built from a fixed seed so every run measures the same positions.
+ *
+ * <p>A board's fill level is the percentage of its rows, counted from the bottom, that hold
+ * garbage. Each garbage row has exactly one gap in a random column, so filling never clears
+ * a line by itself and the surface stays ragged like a real stack.</p>
+ */
+final class BenchmarkFixtures {
+
+    /** Seed of every random source used by the benchmarks. */
+    static final long SEED = 42L;
+    /** Rows of the game board. */
+    static final int ROWS = GameController.BOARD_ROWS;
+    /** Columns of the game board. */
+    static final int COLS = GameController.BOARD_COLS;
+
+    private static final int COLORS = 7;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Builds a matrix whose bottom rows are filled with garbage.
+     *
+     * @param fillPercent the percentage of rows to fill, 0 to 100
+     * @return a new ROWS x COLS matrix
+     */
+    static int[][] filledMatrix(int fillPercent) {
+        if (fillPercent < 0 || fillPercent > 100) {
+            throw new IllegalArgumentException("BenchmarkFixtures: fill must be between 0 and 100");
+        }
+        GameRandom random = new GameRandom(SEED);
+        int[][] matrix = new int[ROWS][COLS];
+        for (int row = ROWS - ROWS * fillPercent / 100; row < ROWS; row++) {
+            int gap = random.nextInt(COLS);
+            for (int col = 0; col < COLS; col++) {
+                matrix[row][col] = col == gap ? 0 : 1 + random.nextInt(COLORS);
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Builds a board with garbage rows and a freshly spawned brick.
+     *
+     * @param fillPercent the percentage of rows to fill, 0 to 100
+     * @return a new board whose bricks come from a generator seeded with {@link #SEED}
+     */
+    static SimpleBoard filledBoard(int fillPercent) {
+        SimpleBoard board = new SimpleBoard(ROWS, COLS, new RandomBrickGenerator(new GameRandom(SEED)),
+                new BrickRotator(), new Score());
+        board.newGame();
+        int[][] matrix = filledMatrix(fillPercent);
+        int garbage = ROWS * fillPercent / 100;
+        int[][] rows = new int[garbage][];
+        System.arraycopy(matrix, ROWS - garbage, rows, 0, garbage);
+        board.addRows(rows);
+        return board;
+    }
+
+    /**
+     * Returns the lowest row a shape can rest on when dropped from the top of the board.
+     *
+     * @param matrix the settled cells
+     * @param state the shape
+     * @param x the column of the shape
+     * @return the landing row
+     */
+    static int landingY(int[][] matrix, RotationState state, int x) {
+        int y = 0;
+        while (!MatrixOperations.intersect(matrix, state, x, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+}
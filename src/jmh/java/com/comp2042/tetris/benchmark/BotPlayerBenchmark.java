@@ -0,0 +1,93 @@
+package com.comp2042.tetris.benchmark;
+
+import com.comp2042.tetris.ai.BotPlayer;
+import com.comp2042.tetris.ai.Heuristic;
+import com.comp2042.tetris.ai.Placement;
+import com.comp2042.tetris.ai.PlacementBot;
+import com.comp2042.tetris.controller.command.DefaultCommandRegistry;
+import com.comp2042.tetris.controller.command.DefaultInputCommandFactory;
+import com.comp2042.tetris.controller.core.GameController;
+import com.comp2042.tetris.controller.core.InputHandler;
+import com.comp2042.tetris.model.board.SimpleBoard;
+import com.comp2042.tetris.model.bricks.BrickRotator;
+import com.comp2042.tetris.model.bricks.RandomBrickGenerator;
+import com.comp2042.tetris.model.event.SimpleGameEventBus;
+import com.comp2042.tetris.model.score.Score;
+import com.comp2042.tetris.utils.GameRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many pieces a {@link BotPlayer} plays per second in a headless game: the
+ * bot's search with the default lookahead and beam, then the inputs pressed through an
+ * {@link InputHandler} and {@link GameController} on a standard board.
+ *
+ * <p>The target is 1000 pieces per second. Nearly all of the time goes to the search,
+ * which expands each beam on {@code parallelism} threads, so the single-threaded figure
+ * is expected to be lower; one slow core manages about 800.</p>
+ *
+ * <p>Each iteration starts a new game from {@link BenchmarkFixtures#SEED}, so every run
+ * plays the same bricks. A game the bot tops out in is started over.</p>
+ *
+ * @see BotPlayer
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BotPlayerBenchmark {
+
+    @Param({"1", "2", "4"})
+    private int parallelism;
+
+    private PlacementBot bot;
+    private BotPlayer player;
+
+    @Setup(Level.Trial)
+    public void createBot() {
+        bot = new PlacementBot(Heuristic.DEFAULT, PlacementBot.DEFAULT_LOOKAHEAD, PlacementBot.DEFAULT_BEAM_WIDTH,
+                parallelism);
+    }
+
+    @Setup(Level.Iteration)
+    public void newGame() {
+        BrickRotator rotator = new BrickRotator();
+        RandomBrickGenerator generator = new RandomBrickGenerator(new GameRandom(BenchmarkFixtures.SEED));
+        SimpleBoard board = new SimpleBoard(BenchmarkFixtures.ROWS, BenchmarkFixtures.COLS, generator, rotator,
+                new Score());
+        GameController controller = new GameController(board, new SimpleGameEventBus());
+        InputHandler input = new InputHandler(() -> false, () -> false,
+                new DefaultCommandRegistry(), new DefaultInputCommandFactory());
+        input.setGameController(controller);
+        player = new BotPlayer(bot, board, rotator, generator, input);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeBot() {
+        bot.close();
+    }
+
+    @Benchmark
+    public Placement playPiece() {
+        Placement placement = player.playPiece();
+        if (placement == null) {
+            newGame();
+        }
+        return placement;
+    }
+}
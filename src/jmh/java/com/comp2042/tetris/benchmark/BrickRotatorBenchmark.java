@@ -0,0 +1,84 @@
+package com.comp2042.tetris.benchmark;
+
+import com.comp2042.tetris.model.bricks.ActivePiece;
+import com.comp2042.tetris.model.bricks.BrickRotator;
+import com.comp2042.tetris.model.bricks.BrickType;
+import com.comp2042.tetris.model.bricks.RotationState;
+import com.comp2042.tetris.utils.MatrixOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Point;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BrickRotator#tryRotateLeft} turning an upright I brick flat.
+ *
+ * <p>The brick rests on the stack either in the middle of the board, where it turns in
+ * place, or against the left wall, where the turn only fits after a wall kick. Each call
+ * starts from the same upright position.</p>
+ *
+ * @see BrickRotator
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BrickRotatorBenchmark {
+
+    private static final int UPRIGHT = 1;
+
+    @Param({"0", "50"})
+    private int fillPercent;
+
+    @Param({"open", "wall"})
+    private String position;
+
+    private int[][] matrix;
+    private BrickRotator rotator;
+    private ActivePiece piece;
+    private Point offset;
+    private int x;
+    private int y;
+
+    @Setup
+    public void setUp() {
+        matrix = BenchmarkFixtures.filledMatrix(fillPercent);
+        rotator = new BrickRotator();
+        rotator.setBrick(BrickType.I);
+        RotationState upright = BrickType.I.getRotationStates().get(UPRIGHT);
+        x = "wall".equals(position) ? -upright.leftExtent() : (BenchmarkFixtures.COLS - upright.width()) / 2;
+        y = BenchmarkFixtures.landingY(matrix, upright, x);
+        piece = new ActivePiece();
+        offset = new Point(x, y);
+
+        RotationState flat = BrickType.I.getRotationStates().get(0);
+        if ("wall".equals(position) != MatrixOperations.intersect(matrix, flat, x, y)) {
+            throw new IllegalStateException("BrickRotatorBenchmark: " + position + " position does not match its kick");
+        }
+    }
+
+    @Benchmark
+    public boolean rotateActivePiece() {
+        rotator.setCurrentShape(UPRIGHT);
+        piece.moveTo(x, y);
+        return rotator.tryRotateLeft(matrix, piece);
+    }
+
+    @Benchmark
+    public Point rotatePoint() {
+        rotator.setCurrentShape(UPRIGHT);
+        return rotator.tryRotateLeft(matrix, offset);
+    }
+}
@@ -0,0 +1,91 @@
+package com.comp2042.tetris.benchmark;
+
+import com.comp2042.tetris.model.board.ClearRow;
+import com.comp2042.tetris.model.bricks.BrickType;
+import com.comp2042.tetris.model.bricks.RotationState;
+import com.comp2042.tetris.utils.MatrixOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the pure matrix helpers on boards of different fill levels.
+ *
+ * <p>The brick is a T resting on the stack, so intersection tests scan occupied rows
+ * and find no collision. {@link #checkRemovingWithClears()} uses the same board with
+ * its two lowest rows completed.</p>
+ *
+ * @see MatrixOperations
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MatrixOperationsBenchmark {
+
+    @Param({"0", "25", "50", "75"})
+    private int fillPercent;
+
+    private int[][] matrix;
+    private int[][] clearingMatrix;
+    private int[][] shape;
+    private RotationState state;
+    private int x;
+    private int y;
+
+    @Setup
+    public void setUp() {
+        matrix = BenchmarkFixtures.filledMatrix(fillPercent);
+        clearingMatrix = MatrixOperations.copy(matrix);
+        for (int row = BenchmarkFixtures.ROWS - 2; row < BenchmarkFixtures.ROWS; row++) {
+            Arrays.fill(clearingMatrix[row], 1);
+        }
+        state = BrickType.T.getRotationStates().get(0);
+        shape = state.shape();
+        x = (BenchmarkFixtures.COLS - state.width()) / 2;
+        y = BenchmarkFixtures.landingY(matrix, state, x);
+    }
+
+    @Benchmark
+    public boolean intersectMatrix() {
+        return MatrixOperations.intersect(matrix, shape, x, y);
+    }
+
+    @Benchmark
+    public boolean intersectRotationState() {
+        return MatrixOperations.intersect(matrix, state, x, y);
+    }
+
+    @Benchmark
+    public int[][] merge() {
+        return MatrixOperations.merge(matrix, shape, x, y);
+    }
+
+    @Benchmark
+    public ClearRow checkRemoving() {
+        return MatrixOperations.checkRemoving(matrix);
+    }
+
+    @Benchmark
+    public ClearRow checkRemovingWithClears() {
+        return MatrixOperations.checkRemoving(clearingMatrix);
+    }
+
+    @Benchmark
+    public int[][] copy() {
+        return MatrixOperations.copy(matrix);
+    }
+}
@@ -0,0 +1,52 @@
+package com.comp2042.tetris.benchmark;
+
+import com.comp2042.tetris.model.bricks.Brick;
+import com.comp2042.tetris.model.bricks.RandomBrickGenerator;
+import com.comp2042.tetris.utils.GameRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures drawing bricks and reading the preview from a seeded {@link RandomBrickGenerator}.
+ * Drawing includes refilling the bag every time it runs out.
+ *
+ * @see RandomBrickGenerator
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomBrickGeneratorBenchmark {
+
+    private static final int PREVIEW = 3;
+
+    private RandomBrickGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = new RandomBrickGenerator(new GameRandom(BenchmarkFixtures.SEED));
+    }
+
+    @Benchmark
+    public Brick getBrick() {
+        return generator.getBrick();
+    }
+
+    @Benchmark
+    public List<Brick> getNextBricks() {
+        return generator.getNextBricks(PREVIEW);
+    }
+}
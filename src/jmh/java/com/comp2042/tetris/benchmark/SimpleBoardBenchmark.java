@@ -0,0 +1,82 @@
+package com.comp2042.tetris.benchmark;
+
+import com.comp2042.tetris.model.board.Board;
+import com.comp2042.tetris.model.board.SimpleBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a brick's life on a {@link SimpleBoard}: moving and rotating it, then dropping,
+ * locking and spawning the next one.
+ *
+ * <p>Drop cycles change the board, so each one first restores the saved starting position.
+ * {@link #restore()} measures that restore on its own; subtract it from the drop cycles to
+ * get the cost of the drop itself. The move cycle returns the brick to where it started
+ * apart from its rotation, so it needs no restore.</p>
+ *
+ * @see SimpleBoard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimpleBoardBenchmark {
+
+    @Param({"0", "25", "50", "75"})
+    private int fillPercent;
+
+    private SimpleBoard board;
+    private Board.State start;
+
+    @Setup
+    public void setUp() {
+        board = BenchmarkFixtures.filledBoard(fillPercent);
+        start = board.saveState();
+    }
+
+    @Benchmark
+    public void moveAndRotate(Blackhole blackhole) {
+        blackhole.consume(board.moveBrickLeft());
+        blackhole.consume(board.moveBrickRight());
+        blackhole.consume(board.rotateLeftBrick());
+    }
+
+    @Benchmark
+    public void restore() {
+        board.restoreState(start);
+    }
+
+    @Benchmark
+    public boolean hardDropCycle(Blackhole blackhole) {
+        board.restoreState(start);
+        blackhole.consume(board.hardDropBrick());
+        board.mergeBrickToBackground();
+        blackhole.consume(board.clearRows());
+        return board.createNewBrick();
+    }
+
+    @Benchmark
+    public boolean softDropCycle(Blackhole blackhole) {
+        board.restoreState(start);
+        while (board.moveBrickDown()) {
+            blackhole.consume(board.getStateHash());
+        }
+        board.mergeBrickToBackground();
+        blackhole.consume(board.clearRows());
+        return board.createNewBrick();
+    }
+}
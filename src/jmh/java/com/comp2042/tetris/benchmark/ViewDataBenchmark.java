@@ -0,0 +1,69 @@
+package com.comp2042.tetris.benchmark;
+
+import com.comp2042.tetris.model.board.SimpleBoard;
+import com.comp2042.tetris.model.bricks.BrickType;
+import com.comp2042.tetris.model.data.ViewData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the {@link ViewData} the view reads every frame.
+ *
+ * <p>{@link #boardViewData()} is what the game pays: the ghost position, the preview
+ * shapes and the snapshot itself. {@link #construct()} is the constructor alone, with
+ * the same arguments prepared up front.</p>
+ *
+ * @see ViewData
+ * @see SimpleBoard#getViewData()
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ViewDataBenchmark {
+
+    @Param({"0", "25", "50", "75"})
+    private int fillPercent;
+
+    private SimpleBoard board;
+    private int[][] brick;
+    private List<int[][]> preview;
+    private int x;
+    private int y;
+    private int ghostY;
+
+    @Setup
+    public void setUp() {
+        board = BenchmarkFixtures.filledBoard(fillPercent);
+        ViewData view = board.getViewData();
+        brick = BrickType.T.getRotationStates().get(0).shape();
+        preview = view.getNextBricksData();
+        x = view.getXPosition();
+        y = view.getYPosition();
+        ghostY = view.getGhostYPosition();
+    }
+
+    @Benchmark
+    public ViewData boardViewData() {
+        return board.getViewData();
+    }
+
+    @Benchmark
+    public ViewData construct() {
+        return new ViewData(brick, x, y, preview, ghostY, 0, BrickType.T.getRotationStates().size(), 0);
+    }
+}
@@ -0,0 +1,15 @@
+package com.comp2042.tetris.ai;
+
+/**
+ * Measurements of a board after a placement, as scored by a {@link Heuristic}.
+ * Heights are counted from the floor, so an empty column has height 0.
+ *
+ * @param aggregateHeight the sum of all column heights
+ * @param maxHeight the height of the tallest column
+ * @param holes the number of empty cells with a filled cell somewhere above them
+ * @param bumpiness the sum of height differences between neighbouring columns
+ * @param linesCleared the number of lines cleared on the way to this board
+ * @see SearchBoard#features(int)
+ */
+public record BoardFeatures(int aggregateHeight, int maxHeight, int holes, int bumpiness, int linesCleared) {
+}
@@ -0,0 +1,115 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.controller.core.GameActionInvoker;
+import com.comp2042.tetris.model.board.Board;
+import com.comp2042.tetris.model.bricks.Brick;
+import com.comp2042.tetris.model.bricks.BrickGenerator;
+import com.comp2042.tetris.model.bricks.BrickRotator;
+import com.comp2042.tetris.model.data.ViewData;
+import com.comp2042.tetris.sim.SimAction;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Plays a game with a {@link PlacementBot}, pressing the same buttons a human would.
+ * The board, rotator and generator are only read; every change goes through the
+ * {@link GameActionInvoker}, so the game controller, scoring and events behave
+ * exactly as in an interactive game.
+ *
+ * <p>The bot's plan is carried out against the live brick: a {@link ReachabilitySearch}
+ * with the rotator's own strategy finds the shortest inputs that lock the brick where
+ * the bot chose, tucks and spins included, and the player presses them in order.</p>
+ *
+ * <p>Like a player, it must be called from the thread that drives the game.</p>
+ *
+ * @see PlacementBot
+ */
+public final class BotPlayer {
+
+    private final PlacementBot bot;
+    private final Board board;
+    private final BrickRotator rotator;
+    private final BrickGenerator generator;
+    private final GameActionInvoker actions;
+    private final int rotationLimit;
+    private final ReachabilitySearch search;
+
+    /**
+     * Creates a player for a game whose bricks may rotate freely.
+     *
+     * @param bot chooses the placements; must use the rotator's rotation strategy
+     * @param board the board of the game, for reading the settled cells and brick position
+     * @param rotator the rotator of the board, for reading the current brick
+     * @param generator the generator of the board, for reading the preview
+     * @param actions the inputs of the game
+     */
+    public BotPlayer(PlacementBot bot, Board board, BrickRotator rotator, BrickGenerator generator,
+                     GameActionInvoker actions) {
+        this(bot, board, rotator, generator, actions, ReachabilitySearch.UNLIMITED_ROTATIONS);
+    }
+
+    /**
+     * Creates a player for a game.
+     *
+     * @param bot chooses the placements; must use the rotator's rotation strategy
+     * @param board the board of the game, for reading the settled cells and brick position
+     * @param rotator the rotator of the board, for reading the current brick
+     * @param generator the generator of the board, for reading the preview
+     * @param actions the inputs of the game
+     * @param rotationLimit the level's rotation limit, as {@link com.comp2042.tetris.model.level.GameLevel#getRotationLimit()} reports it
+     */
+    public BotPlayer(PlacementBot bot, Board board, BrickRotator rotator, BrickGenerator generator,
+                     GameActionInvoker actions, int rotationLimit) {
+        this.bot = Objects.requireNonNull(bot, "bot");
+        this.board = Objects.requireNonNull(board, "board");
+        this.rotator = Objects.requireNonNull(rotator, "rotator");
+        this.generator = Objects.requireNonNull(generator, "generator");
+        this.actions = Objects.requireNonNull(actions, "actions");
+        this.rotationLimit = rotationLimit < 0 ? ReachabilitySearch.UNLIMITED_ROTATIONS : rotationLimit;
+        this.search = new ReachabilitySearch(rotator.getRotationStrategy());
+    }
+
+    /**
+     * Chooses a placement for the current brick and plays it, ending with a hard drop.
+     *
+     * @return the placement played, or null if the brick could not be placed and nothing was done
+     * @throws IllegalStateException if the bot chose a placement the brick cannot reach,
+     *         which happens when it rotates with a different strategy than the rotator
+     */
+    public Placement playPiece() {
+        ViewData view = board.getViewData();
+        Brick brick = rotator.getCurrentBrick();
+        int rotation = rotator.getCurrentShapeIndex();
+        int rotationsLeft = rotationLimit < 0 ? ReachabilitySearch.UNLIMITED_ROTATIONS
+                : Math.max(0, rotationLimit - view.getRotationsUsed());
+        Placement placement = bot.choose(board.getBoardView(), brick, rotation, view.getXPosition(), view.getYPosition(),
+                rotationsLeft, rotationLimit, generator.getNextBricks(bot.getLookahead()));
+        if (placement == null) {
+            return null;
+        }
+
+        List<LockPosition> locks = search.search(board.getBoardMatrix(), brick.getRotationStates(), rotation,
+                view.getXPosition(), view.getYPosition(), rotationsLeft);
+        LockPosition target = locks.stream()
+                .filter(lock -> lock.rotation() == placement.rotation() && lock.x() == placement.x() && lock.y() == placement.y())
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("BotPlayer: the chosen placement cannot be reached"));
+        for (SimAction input : target.inputs()) {
+            press(input);
+        }
+        return placement;
+    }
+
+    private void press(SimAction input) {
+        switch (input) {
+            case LEFT -> actions.moveLeft();
+            case RIGHT -> actions.moveRight();
+            case ROTATE -> actions.rotate();
+            case SOFT_DROP -> actions.moveDown();
+            case HARD_DROP -> actions.instantDrop();
+            default -> {
+            }
+        }
+    }
+}
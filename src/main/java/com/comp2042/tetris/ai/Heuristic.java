@@ -0,0 +1,23 @@
+package com.comp2042.tetris.ai;
+
+/**
+ * Scores the board left behind by a placement; higher is better.
+ * Implementations are called concurrently from search threads, so they must be thread-safe.
+ *
+ * @see PlacementBot
+ * @see WeightedHeuristic
+ */
+@FunctionalInterface
+public interface Heuristic {
+
+    /** Linear heuristic with weights tuned for standard Tetris play. */
+    Heuristic DEFAULT = new WeightedHeuristic(-0.510066, 0.760666, -0.35663, -0.184483);
+
+    /**
+     * Scores a board.
+     *
+     * @param features the measurements of the board
+     * @return the score; higher is better
+     */
+    double evaluate(BoardFeatures features);
+}
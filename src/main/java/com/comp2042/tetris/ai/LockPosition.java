@@ -0,0 +1,41 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.sim.SimAction;
+
+import java.util.List;
+
+/**
+ * A position where a brick can lock, with the shortest inputs that put it there.
+ *
+ * @param x the horizontal position of the brick
+ * @param y the vertical position of the brick
+ * @param rotation the index of the rotation state in {@link com.comp2042.tetris.model.bricks.Brick#getRotationStates()}
+ * @param inputs the shortest input sequence from the start position, ending with the hard drop that locks it
+ * @see ReachabilitySearch
+ */
+public record LockPosition(int x, int y, int rotation, List<SimAction> inputs) {
+
+    /**
+     * Copies the input list.
+     */
+    public LockPosition {
+        inputs = List.copyOf(inputs);
+    }
+
+    /**
+     * Returns whether the brick has to move after falling to get here, as in tucks and spins.
+     *
+     * @return true if a soft drop is followed by a horizontal move or a rotation
+     */
+    public boolean isTuck() {
+        boolean dropped = false;
+        for (SimAction input : inputs) {
+            if (input == SimAction.SOFT_DROP) {
+                dropped = true;
+            } else if (dropped && input != SimAction.HARD_DROP) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
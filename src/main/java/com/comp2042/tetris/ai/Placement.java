@@ -0,0 +1,13 @@
+package com.comp2042.tetris.ai;
+
+/**
+ * Final resting position chosen for a brick.
+ *
+ * @param rotation the index of the rotation state in {@link com.comp2042.tetris.model.bricks.Brick#getRotationStates()}
+ * @param x the horizontal position of the brick when it locks
+ * @param y the vertical position of the brick when it locks
+ * @param score the heuristic score of the best line of play through this placement
+ * @see PlacementBot#choose
+ */
+public record Placement(int rotation, int x, int y, double score) {
+}
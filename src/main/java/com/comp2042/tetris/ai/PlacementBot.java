@@ -0,0 +1,338 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.model.board.BoardView;
+import com.comp2042.tetris.model.bricks.Brick;
+import com.comp2042.tetris.model.bricks.RotationState;
+import com.comp2042.tetris.model.bricks.RotationStrategy;
+import com.comp2042.tetris.model.bricks.StandardRotationStrategy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+/**
+ * Chooses where to place the current brick by enumerating every final position it can
+ * reach and looking ahead through the preview queue.
+ *
+ * <p>Reachable positions are found by a {@link ReachabilitySearch} with the board's
+ * rotation strategy, so they include tucks and spins under overhangs. The search is a
+ * beam search:</p>
+ * <ul>
+ *   <li>Every placement of the current brick is scored with the {@link Heuristic}</li>
+ *   <li>The best {@code beamWidth} boards are expanded with every placement of the next preview brick</li>
+ *   <li>This repeats for up to {@code lookahead} preview bricks</li>
+ *   <li>The current placement leading to the best final board wins</li>
+ * </ul>
+ *
+ * <p>Each beam is expanded in parallel on the bot's own pool. Results do not depend on the
+ * number of threads: ties are always broken in enumeration order.</p>
+ *
+ * <p>With a {@link TranspositionTable}, board evaluations and whole decisions are cached.
+ * Each search revisits boards the previous one already looked ahead to, so about a quarter
+ * of evaluations are served from the table in steady play. Each placement updates the
+ * board's hash, so a probe costs a fraction of a {@link Heuristic#DEFAULT} evaluation; but
+ * evaluations are a small part of a search, which mostly goes to finding placements, so with
+ * the default heuristic the table saves little. It pays off for costlier heuristics and when
+ * the same decisions come up again. A cached result is exactly what the search would have
+ * computed, so the table changes speed, never play. Share a table only between bots with
+ * the same heuristic and search size.</p>
+ *
+ * @see BotPlayer
+ * @see Heuristic
+ */
+public final class PlacementBot implements AutoCloseable {
+
+    /** Preview bricks searched by default, matching the preview panel. */
+    public static final int DEFAULT_LOOKAHEAD = 3;
+    /** Boards kept at each search depth by default. */
+    public static final int DEFAULT_BEAM_WIDTH = 8;
+
+    private static final long EVALUATION_SALT = 0x3C6EF372FE94F82BL;
+    private static final long DECISION_SALT = 0xA54FF53A5F1D36F1L;
+
+    private static final Comparator<Node> BEST_FIRST =
+            Comparator.comparingDouble(Node::score).reversed().thenComparingInt(Node::root);
+
+    private final Heuristic heuristic;
+    private final int lookahead;
+    private final int beamWidth;
+    private final ForkJoinPool pool;
+    private final TranspositionTable table;
+    private final ReachabilitySearch search;
+
+    /**
+     * Creates a bot with the default heuristic and search size, using every available processor.
+     */
+    public PlacementBot() {
+        this(Heuristic.DEFAULT, DEFAULT_LOOKAHEAD, DEFAULT_BEAM_WIDTH, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a bot.
+     *
+     * @param heuristic scores the boards left behind by placements
+     * @param lookahead the number of preview bricks to search through; 0 considers the current brick only
+     * @param beamWidth the number of boards kept at each depth
+     * @param parallelism the number of threads that expand a beam
+     * @throws IllegalArgumentException if lookahead is negative or beamWidth or parallelism is not positive
+     */
+    public PlacementBot(Heuristic heuristic, int lookahead, int beamWidth, int parallelism) {
+        this(heuristic, lookahead, beamWidth, parallelism, null);
+    }
+
+    /**
+     * Creates a bot that caches its results.
+     *
+     * @param heuristic scores the boards left behind by placements
+     * @param lookahead the number of preview bricks to search through; 0 considers the current brick only
+     * @param beamWidth the number of boards kept at each depth
+     * @param parallelism the number of threads that expand a beam
+     * @param table the cache of evaluations and decisions, or null for none
+     * @throws IllegalArgumentException if lookahead is negative or beamWidth or parallelism is not positive
+     */
+    public PlacementBot(Heuristic heuristic, int lookahead, int beamWidth, int parallelism, TranspositionTable table) {
+        this(heuristic, lookahead, beamWidth, parallelism, table, new StandardRotationStrategy());
+    }
+
+    /**
+     * Creates a bot for a board that rotates bricks with the given strategy.
+     *
+     * @param heuristic scores the boards left behind by placements
+     * @param lookahead the number of preview bricks to search through; 0 considers the current brick only
+     * @param beamWidth the number of boards kept at each depth
+     * @param parallelism the number of threads that expand a beam
+     * @param table the cache of evaluations and decisions, or null for none
+     * @param rotationStrategy the rotation strategy of the board being played
+     * @throws IllegalArgumentException if lookahead is negative or beamWidth or parallelism is not positive
+     */
+    public PlacementBot(Heuristic heuristic, int lookahead, int beamWidth, int parallelism, TranspositionTable table,
+                        RotationStrategy rotationStrategy) {
+        if (lookahead < 0 || beamWidth <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("PlacementBot: invalid search size");
+        }
+        this.heuristic = Objects.requireNonNull(heuristic, "heuristic");
+        this.lookahead = lookahead;
+        this.beamWidth = beamWidth;
+        this.pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+        this.table = table;
+        this.search = new ReachabilitySearch(rotationStrategy);
+    }
+
+    /**
+     * Returns the number of preview bricks the bot searches through.
+     *
+     * @return the lookahead
+     */
+    public int getLookahead() {
+        return lookahead;
+    }
+
+    /**
+     * Chooses a placement for the current brick when rotations are not limited.
+     *
+     * @param board the settled cells
+     * @param brick the current brick
+     * @param rotation the current rotation index of the brick
+     * @param x the current horizontal position of the brick
+     * @param y the current vertical position of the brick
+     * @param preview the upcoming bricks, next first; bricks beyond the lookahead are ignored
+     * @return the best placement, or null if the brick cannot be placed anywhere
+     * @throws IllegalArgumentException if the board is too wide to search
+     */
+    public Placement choose(BoardView board, Brick brick, int rotation, int x, int y, List<? extends Brick> preview) {
+        return choose(board, brick, rotation, x, y, ReachabilitySearch.UNLIMITED_ROTATIONS,
+                ReachabilitySearch.UNLIMITED_ROTATIONS, preview);
+    }
+
+    /**
+     * Chooses a placement for the current brick.
+     *
+     * @param board the settled cells
+     * @param brick the current brick
+     * @param rotation the current rotation index of the brick
+     * @param x the current horizontal position of the brick
+     * @param y the current vertical position of the brick
+     * @param rotationsLeft how many more times the current brick may rotate, or {@link ReachabilitySearch#UNLIMITED_ROTATIONS}
+     * @param rotationLimit how many times each preview brick may rotate, or {@link ReachabilitySearch#UNLIMITED_ROTATIONS}
+     * @param preview the upcoming bricks, next first; bricks beyond the lookahead are ignored
+     * @return the best placement, or null if the brick cannot be placed anywhere
+     * @throws IllegalArgumentException if the board is too wide to search
+     */
+    public Placement choose(BoardView board, Brick brick, int rotation, int x, int y, int rotationsLeft, int rotationLimit,
+                            List<? extends Brick> preview) {
+        Objects.requireNonNull(brick, "brick");
+        Objects.requireNonNull(preview, "preview");
+        SearchBoard start = SearchBoard.of(Objects.requireNonNull(board, "board"));
+        int depth = Math.min(lookahead, preview.size());
+        long decisionKey = 0;
+        if (table != null) {
+            decisionKey = decisionKey(start, brick, rotation, x, y, rotationsLeft, rotationLimit, preview, depth);
+            TranspositionTable.Entry cached = table.probe(decisionKey);
+            if (cached != null) {
+                return new Placement(cached.rotation(), cached.x(), cached.y(), cached.score());
+            }
+        }
+
+        List<Candidate> candidates = enumerate(search, start, brick.getRotationStates(), rotation, x, y, rotationsLeft);
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        List<Node> roots = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            roots.add(node(candidates.get(i).board(), i, 0));
+        }
+        List<Node> beam = best(roots, beamWidth);
+
+        for (int i = 0; i < depth; i++) {
+            List<RotationState> states = preview.get(i).getRotationStates();
+            List<Node> expanded = expand(beam, states, rotationLimit);
+            if (expanded.isEmpty()) {
+                // Every line of play tops out here; judge by what was reached before
+                break;
+            }
+            beam = best(expanded, beamWidth);
+        }
+
+        Node best = beam.get(0);
+        Candidate chosen = candidates.get(best.root());
+        if (table != null) {
+            // Decisions are worth more than single evaluations, so they are stored one level deeper
+            table.store(decisionKey, depth + 1, best.score(), chosen.rotation(), chosen.x(), chosen.y());
+        }
+        return new Placement(chosen.rotation(), chosen.x(), chosen.y(), best.score());
+    }
+
+    /**
+     * Returns the best nodes in {@link #BEST_FIRST} order, keeping the earlier of equal
+     * nodes first as a stable sort would, without sorting the rest.
+     */
+    private static List<Node> best(List<Node> nodes, int count) {
+        List<Node> kept = new ArrayList<>(count + 1);
+        for (Node node : nodes) {
+            if (kept.size() == count && BEST_FIRST.compare(node, kept.get(count - 1)) >= 0) {
+                continue;
+            }
+            int at = kept.size();
+            while (at > 0 && BEST_FIRST.compare(node, kept.get(at - 1)) < 0) {
+                at--;
+            }
+            kept.add(at, node);
+            if (kept.size() > count) {
+                kept.remove(count);
+            }
+        }
+        return kept;
+    }
+
+    private List<Node> expand(List<Node> frontier, List<RotationState> states, int rotationLimit) {
+        if (pool == null) {
+            List<Node> expanded = new ArrayList<>();
+            for (Node parent : frontier) {
+                children(parent, states, rotationLimit).forEach(expanded::add);
+            }
+            return expanded;
+        }
+        // A parallel stream started inside the pool runs on the pool's threads
+        return pool.submit(
+                () -> frontier.parallelStream().flatMap(parent -> children(parent, states, rotationLimit)).toList()).join();
+    }
+
+    private Stream<Node> children(Node parent, List<RotationState> states, int rotationLimit) {
+        SearchBoard board = parent.board();
+        // A brick that does not fit at its spawn has no placements: that line of play tops out
+        return enumerate(search, board, states, 0, board.spawnX(states.get(0)), SearchBoard.SPAWN_Y, rotationLimit).stream()
+                .map(child -> node(child.board(), parent.root(), parent.lines()));
+    }
+
+    private Node node(SearchBoard board, int root, int linesBefore) {
+        int lines = linesBefore + board.linesCleared();
+        return new Node(board, root, lines, evaluate(board, lines));
+    }
+
+    private double evaluate(SearchBoard board, int lines) {
+        if (table == null) {
+            return heuristic.evaluate(board.features(lines));
+        }
+        long key = SearchBoard.mix(board.hash() ^ (EVALUATION_SALT + lines));
+        TranspositionTable.Entry cached = table.probe(key);
+        if (cached != null) {
+            return cached.score();
+        }
+        double score = heuristic.evaluate(board.features(lines));
+        table.store(key, 0, score, 0, 0, 0);
+        return score;
+    }
+
+    private static long decisionKey(SearchBoard board, Brick brick, int rotation, int x, int y, int rotationsLeft,
+                                    int rotationLimit, List<? extends Brick> preview, int depth) {
+        long key = board.hash() ^ DECISION_SALT;
+        key = SearchBoard.mix(key ^ shapeKey(brick));
+        key = SearchBoard.mix(key ^ ((long) rotation << 48 ^ (long) (x & 0xFFFF) << 32 ^ (y & 0xFFFFL) << 16 ^ depth));
+        key = SearchBoard.mix(key ^ ((long) rotationsLeft << 32 ^ (rotationLimit & 0xFFFFFFFFL)));
+        for (int i = 0; i < depth; i++) {
+            key = SearchBoard.mix(key ^ shapeKey(preview.get(i)));
+        }
+        return key;
+    }
+
+    private static long shapeKey(Brick brick) {
+        long key = 0;
+        for (RotationState state : brick.getRotationStates()) {
+            key = SearchBoard.mix(key ^ state.packedMask());
+        }
+        return key;
+    }
+
+    /**
+     * Lists every placement the search can reach. Placements that fill the same cells
+     * with another rotation state of the same shape are only kept once.
+     */
+    static List<Candidate> enumerate(ReachabilitySearch search, SearchBoard board, List<RotationState> states,
+                                     int rotation, int x, int y, int rotationsLeft) {
+        List<LockPosition> locks = search.lockPositions(board.cells(), states, rotation, x, y, rotationsLeft);
+        List<Candidate> candidates = new ArrayList<>(locks.size());
+        for (LockPosition lock : locks) {
+            RotationState state = states.get(lock.rotation());
+            if (!isDuplicate(candidates, states, state, lock)) {
+                candidates.add(new Candidate(lock.rotation(), lock.x(), lock.y(), board.place(state, lock.x(), lock.y())));
+            }
+        }
+        return candidates;
+    }
+
+    private static boolean isDuplicate(List<Candidate> candidates, List<RotationState> states, RotationState state,
+                                       LockPosition lock) {
+        for (Candidate candidate : candidates) {
+            if (candidate.x() == lock.x() && candidate.y() == lock.y()
+                    && states.get(candidate.rotation()).packedMask() == state.packedMask()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Shuts down the search threads.
+     */
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * A placement of the brick being searched and the board it leaves.
+     */
+    record Candidate(int rotation, int x, int y, SearchBoard board) {
+    }
+
+    /**
+     * A board in the beam, tagged with the current-brick candidate it descends from.
+     */
+    private record Node(SearchBoard board, int root, int lines, double score) {
+    }
+}
@@ -0,0 +1,586 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.model.bricks.ActivePiece;
+import com.comp2042.tetris.model.bricks.RotationState;
+import com.comp2042.tetris.model.bricks.RotationStrategy;
+import com.comp2042.tetris.model.bricks.StandardRotationStrategy;
+import com.comp2042.tetris.sim.SimAction;
+import com.comp2042.tetris.utils.MatrixOperations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds every position a brick can lock in from where it is, and the shortest
+ * inputs that reach each one.
+ *
+ * <p>The search is a breadth-first walk over brick positions using the game's own rules:
+ * collisions are those of {@link MatrixOperations#intersect(int[][], RotationState, int, int)},
+ * tested on row bit masks, and rotations go through the board's {@link RotationStrategy},
+ * wall kicks included.
+ * The inputs explored are the ones a player has:</p>
+ * <ul>
+ *   <li>{@link SimAction#LEFT} and {@link SimAction#RIGHT}</li>
+ *   <li>{@link SimAction#ROTATE}, counterclockwise, within the level's rotation limit</li>
+ *   <li>{@link SimAction#SOFT_DROP} while the brick can fall</li>
+ *   <li>{@link SimAction#HARD_DROP}, which ends the sequence</li>
+ * </ul>
+ *
+ * <p>Because soft drops are followed by further moves, positions under overhangs
+ * (tucks) and rotations into them (spins) are found too. The empty rows above the stack
+ * are crossed in one go rather than row by row, which assumes the rotation strategy only
+ * looks at the rows the rotated brick covers, as {@link StandardRotationStrategy} does.
+ * Visited positions are kept in bitsets and each search allocates only a few small
+ * arrays, so a search of a standard board takes a few tens of microseconds.</p>
+ *
+ * @see LockPosition
+ */
+public final class ReachabilitySearch {
+
+    /** Rotation limit meaning the brick may rotate freely. */
+    public static final int UNLIMITED_ROTATIONS = -1;
+
+    private static final SimAction[] MOVES = {SimAction.LEFT, SimAction.RIGHT, SimAction.ROTATE, SimAction.SOFT_DROP};
+    private static final byte SOFT_DROP = 3;
+    private static final int NO_PARENT = -1;
+    /** Walks along the starting row kept before the cache is emptied; a few per brick in practice. */
+    private static final int MAX_ROW_WALKS = 256;
+    /** Fields of each position in a cached row walk. */
+    private static final int ROW_WALK_FIELDS = 4;
+
+    private final RotationStrategy rotationStrategy;
+    private final Map<RowWalkKey, int[]> rowWalks = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a search that rotates like a {@link com.comp2042.tetris.model.bricks.BrickRotator} with default settings.
+     */
+    public ReachabilitySearch() {
+        this(new StandardRotationStrategy());
+    }
+
+    /**
+     * Creates a search that rotates with the given strategy.
+     *
+     * @param rotationStrategy the rotation strategy of the board being searched
+     */
+    public ReachabilitySearch(RotationStrategy rotationStrategy) {
+        this.rotationStrategy = Objects.requireNonNull(rotationStrategy, "rotationStrategy");
+    }
+
+    /**
+     * Lists every lock position reachable from the brick's current position.
+     *
+     * @param board the settled cells; not modified
+     * @param states the rotation states of the brick
+     * @param rotation the current rotation index
+     * @param x the current horizontal position
+     * @param y the current vertical position
+     * @param rotationsLeft how many more times the brick may rotate, or {@link #UNLIMITED_ROTATIONS}
+     * @return the lock positions, fewest inputs first; empty if the brick does not fit where it is
+     */
+    public List<LockPosition> search(int[][] board, List<RotationState> states, int rotation, int x, int y,
+                                     int rotationsLeft) {
+        return walk(board, states, rotation, x, y, rotationsLeft, true);
+    }
+
+    /**
+     * Lists every lock position reachable from the brick's current position like
+     * {@link #search}, leaving out the inputs for callers that only need the positions.
+     *
+     * @return the lock positions, fewest inputs first, each with an empty input list
+     */
+    List<LockPosition> lockPositions(int[][] board, List<RotationState> states, int rotation, int x, int y,
+                                     int rotationsLeft) {
+        return walk(board, states, rotation, x, y, rotationsLeft, false);
+    }
+
+    private List<LockPosition> walk(int[][] board, List<RotationState> states, int rotation, int x, int y,
+                                    int rotationsLeft, boolean withInputs) {
+        Objects.requireNonNull(board, "board");
+        Objects.requireNonNull(states, "states");
+        if (states.isEmpty() || MatrixOperations.intersect(board, states.get(rotation), x, y)) {
+            return List.of();
+        }
+        Space space = new Space(board, states, rotation, x, y, rotationsLeft);
+        Walk walk = new Walk(space.size);
+        int start = space.index(0, x, y);
+        walk.parent[start] = NO_PARENT;
+        mark(walk.visited, start);
+        ActivePiece piece = new ActivePiece();
+        Locks locks = new Locks();
+
+        // Seeds are positions whose shortest inputs are already known; they occupy the front of the queue
+        int seeds = 0;
+        int lastOpenRow = space.lastOpenRow(y);
+        if (lastOpenRow > y) {
+            seeds = crossOpenRows(space, walk, piece, start, lastOpenRow, locks);
+        }
+        int head = seeds;
+        int tail = seeds;
+        if (seeds == 0) {
+            walk.queue[tail++] = start;
+        }
+        int seed = 0;
+        while (seed < seeds || head < tail) {
+            // Both runs are in order of depth; taking the shallower keeps the walk breadth-first
+            int current = seed < seeds && (head == tail || walk.depth[walk.queue[seed]] <= walk.depth[walk.queue[head]])
+                    ? walk.queue[seed++]
+                    : walk.queue[head++];
+            int layer = space.layer(current);
+            int cx = space.x(current);
+            int cy = space.y(current);
+
+            // A hard drop from the top of a column run reaches its landing spot in the fewest inputs
+            boolean fallenInto = walk.parent[current] != NO_PARENT && MOVES[walk.move[current]] == SimAction.SOFT_DROP;
+            if (!fallenInto) {
+                addLock(space, walk, layer, cx, landing(space, layer, cx, cy, walk), current, locks);
+            }
+
+            for (byte m = 0; m < MOVES.length; m++) {
+                int next = step(space, piece, layer, cx, cy, MOVES[m]);
+                if (next >= 0 && !isSet(walk.visited, next)) {
+                    walk.visit(next, current, m);
+                    walk.queue[tail++] = next;
+                }
+            }
+        }
+        // Locks found while crossing the open rows were added first, whatever their depth
+        return locks.toPositions(space, walk, seeds > 0, withInputs);
+    }
+
+    /**
+     * Walks the rows above the stack in one go. Every move there plays out the same on any
+     * of those rows, so only the starting row is searched with moves and rotations; each
+     * position it reaches is then dropped straight to the last open row, where the regular
+     * walk picks it up as a seed. The walk along the starting row does not depend on the
+     * stack, so it is cached by brick, start and board width. The rows in between are left
+     * unvisited, since no walk below the open rows can climb back into them; the drop is
+     * recorded as one link whose soft drops are counted out when its inputs are built.
+     * Each column run's hard drop is reported on the way.
+     *
+     * @return the number of seeds written to the front of the queue, or 0 if the rotation
+     *         strategy moved the brick vertically and the rows have to be walked one by one
+     */
+    private int crossOpenRows(Space space, Walk walk, ActivePiece piece, int start, int lastOpenRow, Locks locks) {
+        int row = space.y(start);
+        int rotationsLeft = space.wraps ? UNLIMITED_ROTATIONS : space.layers - 1;
+        RowWalkKey key = new RowWalkKey(space.states, space.startRotation, space.x(start), rotationsLeft, space.width);
+        int[] rowWalk = rowWalks.get(key);
+        if (rowWalk == null) {
+            rowWalk = walkRow(space, piece, start);
+            if (rowWalks.size() >= MAX_ROW_WALKS) {
+                rowWalks.clear();
+            }
+            rowWalks.put(key, rowWalk);
+        }
+        if (rowWalk.length == 0) {
+            return 0;
+        }
+
+        int tail = rowWalk.length / ROW_WALK_FIELDS;
+        int[] reached = new int[tail];
+        reached[0] = start;
+        for (int i = 1, at = ROW_WALK_FIELDS; i < tail; i++, at += ROW_WALK_FIELDS) {
+            int next = space.index(rowWalk[at], rowWalk[at + 1], row);
+            walk.visit(next, reached[rowWalk[at + 2]], (byte) rowWalk[at + 3]);
+            reached[i] = next;
+        }
+
+        for (int i = 0; i < tail; i++) {
+            int top = reached[i];
+            int layer = space.layer(top);
+            int cx = space.x(top);
+            int seed = space.index(layer, cx, lastOpenRow);
+            walk.drop(seed, top, lastOpenRow - row);
+            addLock(space, walk, layer, cx, landing(space, layer, cx, lastOpenRow, walk), top, locks);
+            walk.queue[i] = seed;
+        }
+        return tail;
+    }
+
+    /**
+     * Walks the starting row with sideways moves and rotations, in breadth-first order.
+     *
+     * @return the layer, column, parent's order and move of every position reached, the
+     *         start first; empty if the rotation strategy moved the brick vertically
+     */
+    private int[] walkRow(Space space, ActivePiece piece, int start) {
+        int row = space.y(start);
+        long[] visited = new long[(space.size + Long.SIZE - 1) / Long.SIZE];
+        mark(visited, start);
+        int[] reached = new int[space.layers * space.columns];
+        int[] rowWalk = new int[reached.length * ROW_WALK_FIELDS];
+        int head = 0;
+        int tail = 0;
+        reached[tail++] = start;
+        rowWalk[0] = space.layer(start);
+        rowWalk[1] = space.x(start);
+        rowWalk[2] = NO_PARENT;
+        while (head < tail) {
+            int current = reached[head];
+            int layer = space.layer(current);
+            int cx = space.x(current);
+            for (byte m = 0; m < MOVES.length - 1; m++) {
+                int next = step(space, piece, layer, cx, row, MOVES[m]);
+                if (next < 0 || isSet(visited, next)) {
+                    continue;
+                }
+                if (space.y(next) != row) {
+                    return new int[0];
+                }
+                mark(visited, next);
+                int at = tail * ROW_WALK_FIELDS;
+                rowWalk[at] = space.layer(next);
+                rowWalk[at + 1] = space.x(next);
+                rowWalk[at + 2] = head;
+                rowWalk[at + 3] = m;
+                reached[tail++] = next;
+            }
+            head++;
+        }
+        return Arrays.copyOf(rowWalk, tail * ROW_WALK_FIELDS);
+    }
+
+    /**
+     * Reports a lock position reached by hard dropping from a position, unless it was
+     * already reported with as few inputs.
+     */
+    private static void addLock(Space space, Walk walk, int layer, int x, int landing, int from, Locks locks) {
+        // Keyed by rotation rather than layer, so a limited brick reports each spot once
+        int lock = space.index(layer % space.states.size(), x, landing);
+        int reported = walk.lockPlusOne[lock] - 1;
+        if (reported < 0) {
+            walk.lockPlusOne[lock] = locks.add(from, landing) + 1;
+        } else if (walk.depth[from] < walk.depth[locks.from[reported]]) {
+            locks.from[reported] = from;
+        }
+    }
+
+    /**
+     * Applies one input, returning the resulting position index or -1 if the input does nothing.
+     */
+    private int step(Space space, ActivePiece piece, int layer, int x, int y, SimAction input) {
+        RotationState state = space.states.get(space.rotation(layer));
+        switch (input) {
+            case LEFT -> {
+                return space.collides(state, x - 1, y) ? -1 : space.index(layer, x - 1, y);
+            }
+            case RIGHT -> {
+                return space.collides(state, x + 1, y) ? -1 : space.index(layer, x + 1, y);
+            }
+            case SOFT_DROP -> {
+                return space.collides(state, x, y + 1) ? -1 : space.index(layer, x, y + 1);
+            }
+            case ROTATE -> {
+                int nextLayer = space.nextLayer(layer);
+                if (nextLayer < 0) {
+                    return -1;
+                }
+                piece.moveTo(x, y);
+                if (!rotationStrategy.applyRotation(space.board, space.states.get(space.rotation(nextLayer)), piece)) {
+                    return -1;
+                }
+                return space.index(nextLayer, piece.getX(), piece.getY());
+            }
+            default -> {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Returns the row a brick falls to from a position, remembering the answer for every
+     * row it passes so each column run is only walked once.
+     */
+    private static int landing(Space space, int layer, int x, int y, Walk walk) {
+        RotationState state = space.states.get(space.rotation(layer));
+        int[] landingPlusOne = walk.landingPlusOne;
+        int bottom = y;
+        int known = 0;
+        while (!space.collides(state, x, bottom + 1)) {
+            bottom++;
+            known = landingPlusOne[space.index(layer, x, bottom)];
+            if (known != 0) {
+                break;
+            }
+        }
+        int landing = known != 0 ? known - 1 : bottom;
+        for (int row = y; row <= bottom; row++) {
+            landingPlusOne[space.index(layer, x, row)] = landing + 1;
+        }
+        return landing;
+    }
+
+    private static List<SimAction> inputsTo(Space space, Walk walk, int index) {
+        int depth = walk.depth[index];
+        SimAction[] inputs = new SimAction[depth + 1];
+        inputs[depth] = SimAction.HARD_DROP;
+        int i = depth;
+        for (int at = index; walk.parent[at] != NO_PARENT; at = walk.parent[at]) {
+            SimAction input = MOVES[walk.move[at]];
+            // A drop across the open rows is one link for several soft drops
+            int count = input == SimAction.SOFT_DROP ? space.y(at) - space.y(walk.parent[at]) : 1;
+            Arrays.fill(inputs, i - count, i, input);
+            i -= count;
+        }
+        return List.of(inputs);
+    }
+
+    private static void mark(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & 1L << index) != 0;
+    }
+
+    /**
+     * Numbers every position the brick could occupy. A layer is the number of rotations
+     * made so far; without a rotation limit, layers wrap around with the rotation index.
+     */
+    private static final class Space {
+        private final int[][] board;
+        private final List<RotationState> states;
+        private final int startRotation;
+        private final int layers;
+        private final boolean wraps;
+        private final int minX;
+        private final int minY;
+        private final int columns;
+        private final int rows;
+        private final int size;
+        private final int reach;
+        private final int width;
+        // Occupancy of each board row, or null if the board is too wide for a mask
+        private final long[] rowBits;
+
+        Space(int[][] board, List<RotationState> states, int startRotation, int x, int y, int rotationsLeft) {
+            this.board = board;
+            this.states = states;
+            this.startRotation = startRotation;
+            this.wraps = rotationsLeft < 0;
+            this.layers = wraps ? states.size() : rotationsLeft + 1;
+            int shapeSize = 0;
+            int lowestCell = 0;
+            for (RotationState state : states) {
+                shapeSize = Math.max(shapeSize, Math.max(state.width(), state.height()));
+                lowestCell = Math.max(lowestCell, state.bottomExtent());
+            }
+            this.reach = lowestCell + 1;
+            this.width = board.length > 0 ? board[0].length : 0;
+            this.rowBits = width < Long.SIZE ? rowBits(board) : null;
+            // Any position that fits keeps a filled cell on the board, and the brick never moves up
+            this.minX = Math.min(x, -shapeSize);
+            this.minY = y;
+            this.columns = Math.max(x, width) - minX + 1;
+            this.rows = Math.max(board.length - minY, 1);
+            this.size = layers * rows * columns;
+        }
+
+        /**
+         * Returns the lowest row from {@code y} down on which the brick, in any rotation,
+         * only covers empty rows of the board, or {@code y} if there is none below it.
+         */
+        int lastOpenRow(int y) {
+            int firstFilled = 0;
+            while (firstFilled < board.length && isEmpty(board[firstFilled])) {
+                firstFilled++;
+            }
+            return y < 0 ? y : Math.max(y, firstFilled - reach);
+        }
+
+        /**
+         * Returns whether the brick would leave the board or overlap a filled cell,
+         * exactly as {@link MatrixOperations#intersect(int[][], RotationState, int, int)} decides.
+         */
+        boolean collides(RotationState state, int x, int y) {
+            if (rowBits == null) {
+                return MatrixOperations.intersect(board, state, x, y);
+            }
+            if (state.cellCount() == 0) {
+                return false;
+            }
+            if (x + state.leftExtent() < 0 || x + state.rightExtent() >= width) {
+                return true;
+            }
+            for (int row = state.topExtent(); row <= state.bottomExtent(); row++) {
+                long mask = state.rowMask(row);
+                if (mask == 0) {
+                    continue;
+                }
+                int boardRow = y + row;
+                if (boardRow < 0 || boardRow >= rowBits.length || (rowBits[boardRow] & (x >= 0 ? mask << x : mask >>> -x)) != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static long[] rowBits(int[][] board) {
+            long[] bits = new long[board.length];
+            for (int row = 0; row < board.length; row++) {
+                for (int col = 0; col < board[row].length; col++) {
+                    if (board[row][col] != 0) {
+                        bits[row] |= 1L << col;
+                    }
+                }
+            }
+            return bits;
+        }
+
+        private static boolean isEmpty(int[] row) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int index(int layer, int x, int y) {
+            return (layer * rows + (y - minY)) * columns + (x - minX);
+        }
+
+        int layer(int index) {
+            return index / (rows * columns);
+        }
+
+        int y(int index) {
+            return index / columns % rows + minY;
+        }
+
+        int x(int index) {
+            return index % columns + minX;
+        }
+
+        int rotation(int layer) {
+            return (startRotation + layer) % states.size();
+        }
+
+        int nextLayer(int layer) {
+            if (wraps) {
+                return (layer + 1) % layers;
+            }
+            return layer + 1 < layers ? layer + 1 : -1;
+        }
+    }
+
+    /**
+     * Lock positions found so far, as the position each is hard dropped from and the row it lands on.
+     */
+    private static final class Locks {
+        private int[] from = new int[32];
+        private int[] landing = new int[32];
+        private int count;
+
+        int add(int position, int row) {
+            if (count == from.length) {
+                from = Arrays.copyOf(from, count * 2);
+                landing = Arrays.copyOf(landing, count * 2);
+            }
+            from[count] = position;
+            landing[count] = row;
+            return count++;
+        }
+
+        List<LockPosition> toPositions(Space space, Walk walk, boolean sortByDepth, boolean withInputs) {
+            int[] order = sortByDepth ? byDepth(walk.depth) : null;
+            List<LockPosition> positions = new ArrayList<>(count);
+            for (int n = 0; n < count; n++) {
+                int i = order == null ? n : order[n];
+                int position = from[i];
+                List<SimAction> inputs = withInputs
+                        ? inputsTo(space, walk, position)
+                        : List.of();
+                positions.add(new LockPosition(space.x(position), landing[i], space.rotation(space.layer(position)), inputs));
+            }
+            return positions;
+        }
+
+        /**
+         * Orders the locks by the depth they are dropped from, keeping the order of equal
+         * depths; a counting sort, as depths are small.
+         */
+        private int[] byDepth(int[] depth) {
+            int deepest = 0;
+            for (int i = 0; i < count; i++) {
+                deepest = Math.max(deepest, depth[from[i]]);
+            }
+            int[] starts = new int[deepest + 2];
+            for (int i = 0; i < count; i++) {
+                starts[depth[from[i]] + 1]++;
+            }
+            for (int d = 1; d < starts.length; d++) {
+                starts[d] += starts[d - 1];
+            }
+            int[] order = new int[count];
+            for (int i = 0; i < count; i++) {
+                order[starts[depth[from[i]]]++] = i;
+            }
+            return order;
+        }
+    }
+
+    /**
+     * What a walk along the starting row depends on. The list of rotation states is compared
+     * by identity, which is cheap and matches, as each brick type hands out the same list.
+     */
+    private record RowWalkKey(List<RotationState> states, int rotation, int x, int rotationsLeft, int width) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof RowWalkKey key && key.states == states && key.rotation == rotation && key.x == x
+                    && key.rotationsLeft == rotationsLeft && key.width == width;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = System.identityHashCode(states);
+            hash = hash * 31 + rotation;
+            hash = hash * 31 + x;
+            hash = hash * 31 + rotationsLeft;
+            return hash * 31 + width;
+        }
+    }
+
+    /**
+     * Bookkeeping of one search, indexed by position.
+     */
+    private static final class Walk {
+        private final int[] queue;
+        private final int[] parent;
+        private final byte[] move;
+        private final int[] depth;
+        private final int[] landingPlusOne;
+        private final int[] lockPlusOne;
+        private final long[] visited;
+
+        Walk(int size) {
+            queue = new int[size];
+            parent = new int[size];
+            move = new byte[size];
+            depth = new int[size];
+            landingPlusOne = new int[size];
+            lockPlusOne = new int[size];
+            visited = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        }
+
+        void visit(int index, int from, byte input) {
+            mark(visited, index);
+            parent[index] = from;
+            move[index] = input;
+            depth[index] = depth[from] + 1;
+        }
+
+        void drop(int index, int from, int rows) {
+            mark(visited, index);
+            parent[index] = from;
+            move[index] = SOFT_DROP;
+            depth[index] = depth[from] + rows;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.model.board.BoardView;
+import com.comp2042.tetris.model.bricks.RotationState;
+
+/**
+ * Immutable occupancy-only copy of a board used by the search.
+ * Each row is a bit mask, so placements, line clears and features are a few
+ * bitwise operations per row, and a placement copies one small array.
+ * The hash is kept up to date by each placement, like the board's own
+ * {@code ZobristHash}: rows are hashed by their mask and combined with their index,
+ * so only the rows a brick fills or a line clear moves are rehashed.
+ * Where a brick can go is left to {@link ReachabilitySearch}, which plays by
+ * the game's own collision and rotation rules on {@link #cells()}.
+ */
+final class SearchBoard {
+
+    /** Widest board a row mask can describe. */
+    static final int MAX_WIDTH = Long.SIZE - 1;
+
+    /** Row new bricks spawn on, as {@code SimpleBoard.createNewBrick} places them. */
+    static final int SPAWN_Y = 1;
+
+    private static final long ROW_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final long[] rows;
+    private final int width;
+    private final long fullRow;
+    private final int linesCleared;
+    // XOR of every row's rowKey, updated by each placement
+    private final long key;
+
+    private SearchBoard(long[] rows, int width, int linesCleared, long key) {
+        this.rows = rows;
+        this.width = width;
+        this.fullRow = (1L << width) - 1;
+        this.linesCleared = linesCleared;
+        this.key = key;
+    }
+
+    /**
+     * Copies the settled cells of a board.
+     *
+     * @param view the board to copy
+     * @return the search board
+     * @throws IllegalArgumentException if the board is wider than {@link #MAX_WIDTH}
+     */
+    static SearchBoard of(BoardView view) {
+        if (view.width() > MAX_WIDTH) {
+            throw new IllegalArgumentException("SearchBoard: boards wider than " + MAX_WIDTH + " columns are not supported");
+        }
+        long[] rows = new long[view.height()];
+        long key = 0;
+        for (int row = 0; row < rows.length; row++) {
+            rows[row] = view.rowMask(row);
+            key ^= rowKey(row, rows[row]);
+        }
+        return new SearchBoard(rows, view.width(), 0, key);
+    }
+
+    int width() {
+        return width;
+    }
+
+    int height() {
+        return rows.length;
+    }
+
+    /**
+     * Returns the number of lines the placement that produced this board cleared.
+     */
+    int linesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Returns the column a new brick spawns in, as {@code SimpleBoard.createNewBrick} places it.
+     */
+    int spawnX(RotationState state) {
+        return Math.min((width - state.width()) / 2, Math.max(0, width - state.width()));
+    }
+
+    /**
+     * Expands the board into a cell matrix, 1 for a filled cell, for the game's collision tests.
+     */
+    int[][] cells() {
+        int[][] cells = new int[rows.length][width];
+        for (int row = 0; row < rows.length; row++) {
+            for (long bits = rows[row]; bits != 0; bits &= bits - 1) {
+                cells[row][Long.numberOfTrailingZeros(bits)] = 1;
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Locks a brick and clears the completed lines.
+     *
+     * @return the resulting board, reporting the lines it cleared
+     */
+    SearchBoard place(RotationState state, int x, int y) {
+        long[] placed = rows.clone();
+        long placedKey = key;
+        for (int row = state.topExtent(); row <= state.bottomExtent(); row++) {
+            long mask = state.rowMask(row);
+            if (mask != 0) {
+                int boardRow = y + row;
+                placedKey ^= rowKey(boardRow, placed[boardRow]);
+                placed[boardRow] |= shift(mask, x);
+                placedKey ^= rowKey(boardRow, placed[boardRow]);
+            }
+        }
+        int lowestFull = placed.length - 1;
+        while (lowestFull >= 0 && placed[lowestFull] != fullRow) {
+            lowestFull--;
+        }
+        if (lowestFull < 0) {
+            return new SearchBoard(placed, width, 0, placedKey);
+        }
+
+        // Rows below the lowest full one stay put; the rest are rehashed where they land
+        placedKey ^= rowKeys(placed, lowestFull);
+        int cleared = 0;
+        int write = lowestFull;
+        for (int read = lowestFull; read >= 0; read--) {
+            if (placed[read] == fullRow) {
+                cleared++;
+            } else {
+                placed[write--] = placed[read];
+            }
+        }
+        while (write >= 0) {
+            placed[write--] = 0;
+        }
+        placedKey ^= rowKeys(placed, lowestFull);
+        return new SearchBoard(placed, width, cleared, placedKey);
+    }
+
+    /**
+     * Returns a 64-bit hash of the occupied cells, for {@link TranspositionTable} keys.
+     * Equal cells hash equally however the board was reached.
+     */
+    long hash() {
+        return mix(key ^ width);
+    }
+
+    private static long rowKeys(long[] rows, int last) {
+        long key = 0;
+        for (int row = 0; row <= last; row++) {
+            key ^= rowKey(row, rows[row]);
+        }
+        return key;
+    }
+
+    private static long rowKey(int row, long mask) {
+        return mask == 0 ? 0 : mix(mask + (row + 1) * ROW_GAMMA);
+    }
+
+    /**
+     * Finalises a hash so every input bit affects every output bit.
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Measures the board for a {@link Heuristic}.
+     *
+     * @param lines the lines cleared on the way to this board
+     * @return the board features
+     */
+    BoardFeatures features(int lines) {
+        int[] heights = new int[width];
+        long covered = 0;
+        int holes = 0;
+        for (int row = 0; row < rows.length; row++) {
+            long cells = rows[row];
+            holes += Long.bitCount(covered & ~cells);
+            long newlyCovered = cells & ~covered;
+            while (newlyCovered != 0) {
+                heights[Long.numberOfTrailingZeros(newlyCovered)] = rows.length - row;
+                newlyCovered &= newlyCovered - 1;
+            }
+            covered |= cells;
+        }
+        int aggregate = 0;
+        int max = 0;
+        int bumpiness = 0;
+        for (int col = 0; col < width; col++) {
+            aggregate += heights[col];
+            max = Math.max(max, heights[col]);
+            if (col > 0) {
+                bumpiness += Math.abs(heights[col] - heights[col - 1]);
+            }
+        }
+        return new BoardFeatures(aggregate, max, holes, bumpiness, lines);
+    }
+
+    private static long shift(long mask, int x) {
+        return x >= 0 ? mask << x : mask >>> -x;
+    }
+}
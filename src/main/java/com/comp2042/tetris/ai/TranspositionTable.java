@@ -0,0 +1,190 @@
+package com.comp2042.tetris.ai;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size, lock-free cache of search results keyed by a 64-bit position hash.
+ * One table can be shared by every search thread in the JVM.
+ *
+ * <p>Each slot holds three words: the score, a packed word with the search depth and
+ * placement, and a check word equal to {@code key ^ score ^ packed}. Words are written
+ * and read individually without locks; a read whose words came from two different
+ * writes fails the check and is treated as a miss, so a racing reader never sees a
+ * mixed-up entry.</p>
+ *
+ * <p>The number of slots is the largest power of two whose {@link #ENTRY_BYTES} fit in
+ * the byte budget. When two keys map to the same slot, the {@link ReplacementPolicy}
+ * decides which one is kept.</p>
+ *
+ * @see PlacementBot
+ */
+public final class TranspositionTable {
+
+    /** Bytes of memory used by each slot. */
+    public static final int ENTRY_BYTES = 3 * Long.BYTES;
+    /** Largest depth an entry can record. */
+    public static final int MAX_DEPTH = 0xFF;
+
+    private static final int WORDS = 3;
+    private static final long VALID = 1L << 63;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final ReplacementPolicy policy;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Which entry keeps a slot when a new key maps onto an occupied one.
+     */
+    public enum ReplacementPolicy {
+        /** The newest entry always wins. */
+        ALWAYS_REPLACE,
+        /** A new entry only displaces one searched to the same depth or shallower. */
+        DEPTH_PREFERRED
+    }
+
+    /**
+     * Creates a table that uses at most the given amount of memory for its slots.
+     *
+     * @param byteBudget the memory budget in bytes
+     * @param policy the replacement policy
+     * @throws IllegalArgumentException if the budget does not fit a single entry
+     */
+    public TranspositionTable(long byteBudget, ReplacementPolicy policy) {
+        if (byteBudget < ENTRY_BYTES) {
+            throw new IllegalArgumentException("TranspositionTable: byte budget must hold at least one entry");
+        }
+        this.policy = Objects.requireNonNull(policy, "policy");
+        long entries = Long.highestOneBit(Math.min(byteBudget / ENTRY_BYTES, Integer.MAX_VALUE / WORDS));
+        this.slots = new AtomicLongArray((int) entries * WORDS);
+        this.mask = (int) entries - 1;
+    }
+
+    /**
+     * Looks up a key.
+     *
+     * @param key the position hash
+     * @return the stored entry, or null on a miss
+     */
+    public Entry probe(long key) {
+        int base = slot(key);
+        long packed = slots.getOpaque(base + 1);
+        long score = slots.getOpaque(base + 2);
+        long check = slots.getOpaque(base);
+        if ((packed & VALID) == 0 || (check ^ score ^ packed) != key) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return new Entry((int) (packed >>> 32 & MAX_DEPTH), Double.longBitsToDouble(score),
+                (int) (packed >>> 24 & 0xFF), (byte) (packed >>> 16), (int) (packed & 0xFFFF));
+    }
+
+    /**
+     * Stores a result, subject to the replacement policy.
+     *
+     * @param key the position hash
+     * @param depth how deep the result was searched; deeper results are preferred
+     * @param score the score of the position
+     * @param rotation the rotation of the best placement, 0 to 255
+     * @param x the column of the best placement, -128 to 127
+     * @param y the row of the best placement, 0 to 65535
+     * @throws IllegalArgumentException if a value is out of range
+     */
+    public void store(long key, int depth, double score, int rotation, int x, int y) {
+        if (depth < 0 || depth > MAX_DEPTH || rotation < 0 || rotation > 0xFF || x != (byte) x || y < 0 || y > 0xFFFF) {
+            throw new IllegalArgumentException("TranspositionTable: entry out of range");
+        }
+        int base = slot(key);
+        long oldPacked = slots.getOpaque(base + 1);
+        if ((oldPacked & VALID) != 0) {
+            long oldKey = slots.getOpaque(base) ^ slots.getOpaque(base + 2) ^ oldPacked;
+            if (oldKey != key) {
+                if (policy == ReplacementPolicy.DEPTH_PREFERRED && depth < (int) (oldPacked >>> 32 & MAX_DEPTH)) {
+                    return;
+                }
+                evictions.increment();
+            }
+        }
+        long packed = VALID | (long) depth << 32 | (long) rotation << 24 | (long) (x & 0xFF) << 16 | y;
+        long scoreBits = Double.doubleToRawLongBits(score);
+        slots.setOpaque(base + 1, packed);
+        slots.setOpaque(base + 2, scoreBits);
+        slots.setOpaque(base, key ^ scoreBits ^ packed);
+    }
+
+    /**
+     * Removes every entry. Counters are kept.
+     * Must not run concurrently with searches that use the table.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.setOpaque(i, 0L);
+        }
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return the capacity in entries
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the memory used by the slots.
+     *
+     * @return the size in bytes
+     */
+    public long getByteSize() {
+        return (long) getCapacity() * ENTRY_BYTES;
+    }
+
+    /**
+     * Returns the number of probes that found their key.
+     *
+     * @return the hit count
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of probes that did not find their key.
+     *
+     * @return the miss count
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries overwritten by a different key.
+     *
+     * @return the eviction count
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private int slot(long key) {
+        return ((int) (key ^ key >>> 32) & mask) * WORDS;
+    }
+
+    /**
+     * A stored result.
+     *
+     * @param depth how deep the result was searched
+     * @param score the score of the position
+     * @param rotation the rotation of the best placement
+     * @param x the column of the best placement
+     * @param y the row of the best placement
+     */
+    public record Entry(int depth, double score, int rotation, int x, int y) {
+    }
+}
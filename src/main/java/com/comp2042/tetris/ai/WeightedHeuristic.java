@@ -0,0 +1,26 @@
+package com.comp2042.tetris.ai;
+
+/**
+ * Heuristic that scores a board as a weighted sum of its features.
+ * Penalties take negative weights and rewards positive ones.
+ *
+ * @param heightWeight the weight of the aggregate height
+ * @param linesWeight the weight of the cleared lines
+ * @param holesWeight the weight of the hole count
+ * @param bumpinessWeight the weight of the bumpiness
+ * @see Heuristic#DEFAULT
+ */
+public record WeightedHeuristic(double heightWeight, double linesWeight, double holesWeight, double bumpinessWeight)
+        implements Heuristic {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double evaluate(BoardFeatures features) {
+        return heightWeight * features.aggregateHeight()
+                + linesWeight * features.linesCleared()
+                + holesWeight * features.holes()
+                + bumpinessWeight * features.bumpiness();
+    }
+}
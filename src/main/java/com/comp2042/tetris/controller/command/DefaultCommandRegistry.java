@@ -2,6 +2,7 @@ package com.comp2042.tetris.controller.command;
 
 import com.comp2042.tetris.controller.core.GameActionInvoker;
 import com.comp2042.tetris.controller.core.InputCommandRegistrar;
+import com.comp2042.tetris.controller.core.KeyRepeat;
 import javafx.scene.input.KeyCode;
 
 /**
@@ -17,6 +18,10 @@ import javafx.scene.input.KeyCode;
  *   <li>Space - Hard drop (instant)</li>
  * </ul>
  *
+ * <p>Held left and right keys auto-shift and a held down key soft drops, timed by
+ * the {@link com.comp2042.tetris.controller.core.KeyRepeatEngine} rather than the
+ * keyboard's own repeat.</p>
+ *
  * @see CommandRegistry
  * @see GameCommand
  */
@@ -34,6 +39,9 @@ public class DefaultCommandRegistry implements CommandRegistry {
         commandRegistrar.registerCommand(rightCommand, true, KeyCode.RIGHT, KeyCode.D);
         commandRegistrar.registerCommand(downCommand, true, KeyCode.DOWN, KeyCode.S);
         commandRegistrar.registerCommand(rotateCommand, true, KeyCode.UP, KeyCode.W);
+        commandRegistrar.registerKeyRepeat(KeyRepeat.SHIFT_LEFT, KeyCode.LEFT, KeyCode.A);
+        commandRegistrar.registerKeyRepeat(KeyRepeat.SHIFT_RIGHT, KeyCode.RIGHT, KeyCode.D);
+        commandRegistrar.registerKeyRepeat(KeyRepeat.SOFT_DROP, KeyCode.DOWN, KeyCode.S);
 
         GameCommand instantDropCommand = inputCommandFactory.createInstantDropCommand(gameActionInvoker);
         commandRegistrar.registerCommand(instantDropCommand, true, KeyCode.SPACE);
@@ -33,6 +33,16 @@ public interface GameActionInvoker {
      */
     void moveRight();
 
+    /**
+     * Moves the brick left until it is blocked, as one move.
+     */
+    void slideLeft();
+
+    /**
+     * Moves the brick right until it is blocked, as one move.
+     */
+    void slideRight();
+
     /**
      * Rotates the brick counterclockwise.
      */
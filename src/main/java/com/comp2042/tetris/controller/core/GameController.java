@@ -20,28 +20,39 @@ package com.comp2042.tetris.controller.core;
 
 
 import com.comp2042.tetris.model.board.Board;
-import com.comp2042.tetris.model.board.ClearRow;
+import com.comp2042.tetris.model.board.GarbageMechanic;
+import com.comp2042.tetris.model.board.SimpleBoard;
+import com.comp2042.tetris.model.bricks.BrickRotator;
+import com.comp2042.tetris.model.bricks.RandomBrickGenerator;
 import com.comp2042.tetris.model.score.DefaultScorePolicy;
+import com.comp2042.tetris.model.event.EventType;
 import com.comp2042.tetris.model.event.GameStateSnapshot;
 import com.comp2042.tetris.model.event.GameEventPublisher;
 import com.comp2042.tetris.model.event.MoveEvent;
-import com.comp2042.tetris.model.event.BrickPlacedEvent;
+import com.comp2042.tetris.model.score.Score;
 import com.comp2042.tetris.model.score.ScoreManager;
 import com.comp2042.tetris.model.level.GameLevel;
+import com.comp2042.tetris.utils.GameRandom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import com.comp2042.tetris.utils.AudioManager;
 
 import java.util.Objects;
 import java.util.function.Supplier;
 
 public class GameController implements IGameController {
 
+    /** Rows of the standard board, including the hidden spawn rows. */
+    public static final int BOARD_ROWS = 23;
+    /** Columns of the standard board. */
+    public static final int BOARD_COLS = 13;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(GameController.class);
     private final Board board;
     private final GameEventPublisher eventPublisher;
     private final ScoreManager scoreManager;
     private final GameFlowManager gameFlowManager;
+    private final GarbageMechanic garbageMechanic;
+    private final Runnable rotationFeedback;
 
     /**
      * Constructs a GameController with a board supplier.
@@ -53,6 +64,17 @@ public class GameController implements IGameController {
         this(requireBoard(boardSupplier), eventPublisher);
     }
 
+    /**
+     * Constructs a GameController with a board supplier and a rotation feedback hook.
+     *
+     * @param boardSupplier supplier that creates the game board
+     * @param eventPublisher the event publisher for game events
+     * @param rotationFeedback action run on every rotate input, such as a sound effect
+     */
+    public GameController(Supplier<Board> boardSupplier, GameEventPublisher eventPublisher, Runnable rotationFeedback) {
+        this(requireBoard(boardSupplier), eventPublisher, rotationFeedback);
+    }
+
     /**
      * Constructs a GameController with a pre-created board.
      *
@@ -60,15 +82,61 @@ public class GameController implements IGameController {
      * @param eventPublisher the event publisher for game events
      */
     public GameController(Board board, GameEventPublisher eventPublisher) {
+        this(board, eventPublisher, () -> { });
+    }
+
+    /**
+     * Constructs a GameController with a pre-created board and a rotation feedback hook.
+     *
+     * @param board the game board
+     * @param eventPublisher the event publisher for game events
+     * @param rotationFeedback action run on every rotate input, such as a sound effect
+     */
+    public GameController(Board board, GameEventPublisher eventPublisher, Runnable rotationFeedback) {
+        this(board, eventPublisher, rotationFeedback, new GarbageMechanic());
+    }
+
+    /**
+     * Constructs a GameController with all collaborators supplied, so a seeded
+     * garbage mechanic can make the whole game reproducible.
+     *
+     * @param board the game board
+     * @param eventPublisher the event publisher for game events
+     * @param rotationFeedback action run on every rotate input, such as a sound effect
+     * @param garbageMechanic the garbage mechanic for this game
+     */
+    public GameController(Board board, GameEventPublisher eventPublisher, Runnable rotationFeedback,
+                          GarbageMechanic garbageMechanic) {
         this.board = Objects.requireNonNull(board, "board");
         this.eventPublisher = Objects.requireNonNull(eventPublisher, "eventPublisher");
+        this.rotationFeedback = Objects.requireNonNull(rotationFeedback, "rotationFeedback");
         this.scoreManager = new ScoreManager(board.getScore(), eventPublisher, new DefaultScorePolicy());
-        this.gameFlowManager = new GameFlowManager(board, eventPublisher, scoreManager);
+        this.garbageMechanic = Objects.requireNonNull(garbageMechanic, "garbageMechanic");
+        this.gameFlowManager = new GameFlowManager(board, eventPublisher, scoreManager, garbageMechanic);
         board.createNewBrick();
         publishInitialState();
         LOGGER.info("GameController initialized and initial game state published.");
     }
 
+    /**
+     * Creates a controller for a standard game whose brick sequence and garbage
+     * are drawn from independent streams of the given random source.
+     * Two controllers created from generators with the same seed play identically
+     * when fed the same inputs.
+     *
+     * @param random the random source of the game
+     * @param eventPublisher the event publisher for game events
+     * @param rotationFeedback action run on every rotate input, such as a sound effect
+     * @return the new controller
+     */
+    public static GameController create(GameRandom random, GameEventPublisher eventPublisher, Runnable rotationFeedback) {
+        Objects.requireNonNull(random, "random");
+        // Split so bricks and garbage draw from independent streams
+        SimpleBoard board = new SimpleBoard(BOARD_ROWS, BOARD_COLS, new RandomBrickGenerator(random.split()),
+                new BrickRotator(), new Score());
+        return new GameController(board, eventPublisher, rotationFeedback, new GarbageMechanic(random.split()));
+    }
+
     private static Board requireBoard(Supplier<Board> boardSupplier) {
         Objects.requireNonNull(boardSupplier, "boardSupplier");
         Board suppliedBoard = boardSupplier.get();
@@ -85,6 +153,8 @@ public class GameController implements IGameController {
         // Pass the level down to the board logic
         board.setLevel(level);
 
+        gameFlowManager.setLevel(level);
+
         // Enable or disable garbage based on the level
         if (level.isGarbageEnabled()) {
             gameFlowManager.enableGarbage();
@@ -101,51 +171,97 @@ public class GameController implements IGameController {
     @Override
     public void onLeftEvent(MoveEvent event) {
         board.moveBrickLeft();
-        eventPublisher.publishBrickUpdated(board.getViewData());
+        eventPublisher.publishBrickUpdated(board.getViewData().withInputNanos(event.getInputNanos()));
     }
 
     @Override
     public void onRightEvent(MoveEvent event) {
         board.moveBrickRight();
-        eventPublisher.publishBrickUpdated(board.getViewData());
+        eventPublisher.publishBrickUpdated(board.getViewData().withInputNanos(event.getInputNanos()));
+    }
+
+    @Override
+    public void onSlideEvent(MoveEvent event) {
+        int columns = event.getEventType() == EventType.LEFT ? board.slideBrickLeft() : board.slideBrickRight();
+        if (columns > 0) {
+            eventPublisher.publishBrickUpdated(board.getViewData().withInputNanos(event.getInputNanos()));
+        }
     }
 
     @Override
     public void onRotateEvent(MoveEvent event) {
         board.rotateLeftBrick();
-        // Play rotation SFX immediately on rotate input for instant feedback
-        AudioManager.getInstance().playRotation();
-        eventPublisher.publishBrickUpdated(board.getViewData());
+        // Play rotation feedback immediately on rotate input
+        rotationFeedback.run();
+        eventPublisher.publishBrickUpdated(board.getViewData().withInputNanos(event.getInputNanos()));
     }
 
     @Override
     public void onInstantDropEvent(MoveEvent event) {
-        System.out.println("Instant drop triggered");
-        // Instantly drop the brick to the bottom
-        while (board.moveBrickDown()) {
-            scoreManager.handleDrop(event);
+        gameFlowManager.handleInstantDrop(event);
+    }
 
-        }
-        // Now merge and handle as in handleDownEvent
-        board.mergeBrickToBackground();
-        eventPublisher.publishBrickPlaced(new BrickPlacedEvent());
-        ClearRow clearRow = board.clearRows();
-        eventPublisher.publishBoardUpdated(board.getBoardMatrix());
-        scoreManager.handleLinesCleared(clearRow);
-        if (board.createNewBrick()) {
-            eventPublisher.publishGameOver();
-            return;
-        }
+    /**
+     * Reports whether the board can be saved and restored.
+     *
+     * @return true if {@link #saveState()} and {@link #restoreState(State)} are supported
+     */
+    public boolean supportsStateSave() {
+        return board.supportsStateSave();
+    }
+
+    /**
+     * Captures the game in progress. The level is not included; restore it with
+     * {@link #setLevel(GameLevel)} before {@link #restoreState(State)}.
+     *
+     * @return the game state
+     * @throws UnsupportedOperationException if the board cannot be saved
+     * @see #supportsStateSave()
+     */
+    public State saveState() {
+        return new State(board.saveState(), garbageMechanic.saveState());
+    }
+
+    /**
+     * Resumes a game saved by {@link #saveState()} on a controller built the same way,
+     * and publishes the restored board, brick and score.
+     *
+     * @param state the state to restore
+     * @throws UnsupportedOperationException if the board cannot be restored
+     */
+    public void restoreState(State state) {
+        Objects.requireNonNull(state, "state");
+        board.restoreState(state.board());
+        garbageMechanic.restoreState(state.garbage());
+        eventPublisher.publishBoardDelta(board.takeBoardDelta());
         eventPublisher.publishBrickUpdated(board.getViewData());
+        scoreManager.publishCurrentScore();
     }
 
     @Override
     public void createNewGame() {
         board.newGame();
         gameFlowManager.resetGarbage();
-        eventPublisher.publishBoardUpdated(board.getBoardMatrix());
+        eventPublisher.publishBoardDelta(board.takeBoardDelta());
         eventPublisher.publishBrickUpdated(board.getViewData());
         scoreManager.publishCurrentScore();
         LOGGER.info("New game started.");
     }
+
+    /**
+     * Saved game: the board and the garbage timer.
+     *
+     * @param board the board state
+     * @param garbage the garbage state
+     */
+    public record State(Board.State board, GarbageMechanic.State garbage) {
+
+        /**
+         * Validates the state.
+         */
+        public State {
+            Objects.requireNonNull(board, "board");
+            Objects.requireNonNull(garbage, "garbage");
+        }
+    }
 }
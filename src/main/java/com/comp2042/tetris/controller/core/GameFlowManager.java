@@ -3,9 +3,12 @@ package com.comp2042.tetris.controller.core;
 import com.comp2042.tetris.model.board.Board;
 import com.comp2042.tetris.model.board.ClearRow;
 import com.comp2042.tetris.model.board.GarbageMechanic;
+import com.comp2042.tetris.model.event.EventSource;
 import com.comp2042.tetris.model.event.GameEventPublisher;
 import com.comp2042.tetris.model.event.MoveEvent;
 import com.comp2042.tetris.model.event.BrickPlacedEvent;
+import com.comp2042.tetris.model.level.ClassicLevel;
+import com.comp2042.tetris.model.level.GameLevel;
 import com.comp2042.tetris.model.score.ScoreManager;
 
 import java.util.Objects;
@@ -32,6 +35,7 @@ public class GameFlowManager {
     private final GameEventPublisher eventPublisher;
     private final ScoreManager scoreManager;
     private final GarbageMechanic garbageMechanic;
+    private GameLevel level = new ClassicLevel();
 
     public GameFlowManager(Board board, GameEventPublisher eventPublisher, ScoreManager scoreManager) {
         this(board, eventPublisher, scoreManager, new GarbageMechanic());
@@ -44,43 +48,77 @@ public class GameFlowManager {
         this.garbageMechanic = Objects.requireNonNull(garbageMechanic, "garbageMechanic");
     }
 
+    /**
+     * Sets the level whose gravity interval drives garbage timing.
+     *
+     * @param level the level being played
+     */
+    public void setLevel(GameLevel level) {
+        this.level = Objects.requireNonNull(level, "level");
+    }
+
     public void handleDownEvent(MoveEvent event) {
         MoveEvent dropEvent = Objects.requireNonNull(event, "event");
 
+        // Gravity ticks are the game clock: each one advances game time by one drop interval
+        if (dropEvent.getEventSource() == EventSource.THREAD) {
+            garbageMechanic.advance(level.getTickIntervalMillis(board.getScore().getValue()));
+        }
+
         // Check if it's time to add garbage rows
         checkAndAddGarbage();
 
         boolean canMove = board.moveBrickDown();
 
         if (!canMove) {
-            board.mergeBrickToBackground();
-            eventPublisher.publishBrickPlaced(new BrickPlacedEvent());
-            ClearRow clearRow = board.clearRows();
-            eventPublisher.publishBoardUpdated(board.getBoardMatrix());
+            lockBrick(dropEvent);
+        } else {
+            scoreManager.handleDrop(dropEvent);
+            eventPublisher.publishBrickUpdated(board.getViewData().withInputNanos(dropEvent.getInputNanos()));
+        }
+    }
 
-            scoreManager.handleLinesCleared(clearRow);
+    /**
+     * Drops the current brick straight to its landing row and locks it.
+     * Drop points are still awarded for every row the brick falls.
+     *
+     * @param event the move event that triggered the drop
+     */
+    public void handleInstantDrop(MoveEvent event) {
+        MoveEvent dropEvent = Objects.requireNonNull(event, "event");
+        int droppedRows = board.hardDropBrick();
+        for (int row = 0; row < droppedRows; row++) {
+            scoreManager.handleDrop(dropEvent);
+        }
+        lockBrick(dropEvent);
+    }
 
-            if (board.createNewBrick()) {
-                eventPublisher.publishGameOver();
-                return;
-            }
+    private void lockBrick(MoveEvent event) {
+        board.mergeBrickToBackground();
+        eventPublisher.publishBrickPlaced(new BrickPlacedEvent());
+        ClearRow clearRow = board.clearRows();
+        eventPublisher.publishBoardDelta(board.takeBoardDelta());
 
-            eventPublisher.publishBrickUpdated(board.getViewData());
-        } else {
-            scoreManager.handleDrop(dropEvent);
-            eventPublisher.publishBrickUpdated(board.getViewData());
+        scoreManager.handleLinesCleared(clearRow);
+
+        if (board.createNewBrick()) {
+            eventPublisher.publishGameOver();
+            return;
         }
+
+        eventPublisher.publishBrickUpdated(board.getViewData().withInputNanos(event.getInputNanos()));
     }
 
     private void checkAndAddGarbage() {
         int rowsToAdd = garbageMechanic.checkAndGetRowsToAdd();
         if (rowsToAdd > 0) {
+            int width = board.getBoardView().width();
             int[][] garbageRows = new int[rowsToAdd][];
             for (int i = 0; i < rowsToAdd; i++) {
-                garbageRows[i] = garbageMechanic.generateGarbageRow(board.getBoardMatrix()[0].length);
+                garbageRows[i] = garbageMechanic.generateGarbageRow(width);
             }
             board.addRows(garbageRows);
-            eventPublisher.publishBoardUpdated(board.getBoardMatrix());
+            eventPublisher.publishBoardDelta(board.takeBoardDelta());
         }
     }
 
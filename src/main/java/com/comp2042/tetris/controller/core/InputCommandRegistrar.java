@@ -21,4 +21,15 @@ public interface InputCommandRegistrar {
      * @param keyCodes the keyboard keys that trigger this command
      */
     void registerCommand(GameCommand command, boolean requiresActiveGame, KeyCode... keyCodes);
+
+    /**
+     * Marks keys whose gameplay command keeps acting while the key is held.
+     * The default implementation ignores the request, leaving repeats to the keyboard.
+     *
+     * @param repeat how the held keys repeat
+     * @param keyCodes the keyboard keys, already registered with a gameplay command
+     * @see KeyRepeatEngine
+     */
+    default void registerKeyRepeat(KeyRepeat repeat, KeyCode... keyCodes) {
+    }
 }
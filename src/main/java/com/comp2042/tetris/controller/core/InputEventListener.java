@@ -5,6 +5,7 @@
 
 package com.comp2042.tetris.controller.core;
 
+import com.comp2042.tetris.model.event.EventType;
 import com.comp2042.tetris.model.event.MoveEvent;
 
 /**
@@ -16,6 +17,7 @@ import com.comp2042.tetris.model.event.MoveEvent;
  *   <li>Move down (soft drop)</li>
  *   <li>Move left</li>
  *   <li>Move right</li>
+ *   <li>Slide to the wall</li>
  *   <li>Rotate</li>
  *   <li>Instant drop (hard drop)</li>
  *   <li>New game</li>
@@ -47,6 +49,14 @@ public interface InputEventListener {
      */
     void onRightEvent(MoveEvent event);
 
+    /**
+     * Handles a slide: the brick moves sideways until it is blocked, as one move.
+     * The event type, {@link EventType#LEFT} or {@link EventType#RIGHT}, gives the direction.
+     *
+     * @param event the move event details
+     */
+    void onSlideEvent(MoveEvent event);
+
     /**
      * Handles a rotation event.
      *
@@ -3,9 +3,11 @@ package com.comp2042.tetris.controller.core;
 import com.comp2042.tetris.controller.command.GameCommand;
 import com.comp2042.tetris.controller.command.InputCommandFactory;
 import com.comp2042.tetris.controller.command.CommandRegistry;
+import com.comp2042.tetris.debug.InputLatencyTracker;
 import com.comp2042.tetris.model.event.EventSource;
 import com.comp2042.tetris.model.event.EventType;
 import com.comp2042.tetris.model.event.MoveEvent;
+import com.comp2042.tetris.model.level.ClassicLevel;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import org.slf4j.Logger;
@@ -15,7 +17,9 @@ import org.slf4j.LoggerFactory;
 import java.util.EnumMap;
 import java.util.Objects;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
 
 /**
  * Handles keyboard input and maps key presses to game commands.
@@ -27,6 +31,8 @@ import java.util.function.BooleanSupplier;
  *   <li>Supports both gameplay commands and global commands</li>
  *   <li>Can invert horizontal controls for special game modes</li>
  *   <li>Respects pause and game over states</li>
+ *   <li>Repeats held movement keys with a {@link KeyRepeatEngine} instead of the
+ *       keyboard's own repeat rate</li>
  * </ul>
  *
  * @see GameCommand
@@ -41,12 +47,18 @@ public class InputHandler implements GameActionInvoker, InputCommandRegistrar {
     private final BooleanSupplier isGameOverSupplier;
     private final CommandRegistry commandRegistry;
     private final InputCommandFactory inputCommandFactory;
+    private final LongSupplier gravityIntervalNanos;
+    private KeyRepeatEngine keyRepeat;
     private IGameController gameController;
     // When true, left/right inputs are inverted (left -> right, right -> left).
     private volatile boolean invertHorizontal = false;
+    private InputLatencyTracker latencyTracker;
+    // Arrival time of the input being handled, carried on the events it produces; 0 otherwise
+    private long inputNanos;
 
     /**
      * Constructs an InputHandler with the specified dependencies.
+     * Held soft drop is timed against the classic drop interval.
      *
      * @param isPauseSupplier supplier to check if game is paused
      * @param isGameOverSupplier supplier to check if game is over
@@ -57,10 +69,29 @@ public class InputHandler implements GameActionInvoker, InputCommandRegistrar {
                         BooleanSupplier isGameOverSupplier,
                         CommandRegistry commandRegistry,
                         InputCommandFactory inputCommandFactory) {
+        this(isPauseSupplier, isGameOverSupplier, commandRegistry, inputCommandFactory,
+                () -> Math.round(ClassicLevel.DEFAULT_DROP_INTERVAL_MILLIS * TimeUnit.MILLISECONDS.toNanos(1)));
+    }
+
+    /**
+     * Constructs an InputHandler with the specified dependencies.
+     *
+     * @param isPauseSupplier supplier to check if game is paused
+     * @param isGameOverSupplier supplier to check if game is over
+     * @param commandRegistry registry for command bindings
+     * @param inputCommandFactory factory for creating input commands
+     * @param gravityIntervalNanos supplies the current time between gravity drops, for held soft drop
+     */
+    public InputHandler(BooleanSupplier isPauseSupplier,
+                        BooleanSupplier isGameOverSupplier,
+                        CommandRegistry commandRegistry,
+                        InputCommandFactory inputCommandFactory,
+                        LongSupplier gravityIntervalNanos) {
         this.commandRegistry = Objects.requireNonNull(commandRegistry, "commandRegistry");
         this.inputCommandFactory = Objects.requireNonNull(inputCommandFactory, "inputCommandFactory");
         this.isPauseSupplier = isPauseSupplier;
         this.isGameOverSupplier = isGameOverSupplier;
+        this.gravityIntervalNanos = Objects.requireNonNull(gravityIntervalNanos, "gravityIntervalNanos");
     }
 
     /**
@@ -73,6 +104,24 @@ public class InputHandler implements GameActionInvoker, InputCommandRegistrar {
         this.invertHorizontal = invert;
     }
 
+    /**
+     * Changes the timing of held movement keys.
+     *
+     * @param settings the new timings
+     */
+    public void setKeyRepeatSettings(KeyRepeatSettings settings) {
+        keyRepeat().setSettings(settings);
+    }
+
+    /**
+     * Stamps gameplay inputs and reports them to a tracker.
+     *
+     * @param latencyTracker the tracker, or null to stop reporting
+     */
+    public void setLatencyTracker(InputLatencyTracker latencyTracker) {
+        this.latencyTracker = latencyTracker;
+    }
+
     /**
      * Sets the game controller for command execution.
      *
@@ -81,6 +130,7 @@ public class InputHandler implements GameActionInvoker, InputCommandRegistrar {
     public void setGameController(IGameController gameController) {
         this.gameController = gameController;
         gameplayCommands.clear();
+        keyRepeat().clearBindings();
         commandRegistry.registerCommands(this, this, inputCommandFactory);
     }
 
@@ -91,6 +141,17 @@ public class InputHandler implements GameActionInvoker, InputCommandRegistrar {
      * @return true if the event was handled, false otherwise
      */
     public boolean handle(KeyEvent keyEvent) {
+        return handle(keyEvent, System.nanoTime());
+    }
+
+    /**
+     * Handles a keyboard event and executes the corresponding command.
+     *
+     * @param keyEvent the keyboard event to process
+     * @param arrivalNanos when the event reached the game, from {@link System#nanoTime()}
+     * @return true if the event was handled, false otherwise
+     */
+    public boolean handle(KeyEvent keyEvent, long arrivalNanos) {
         if (keyEvent == null)  {
             LOGGER.warn("Key event was null; ignoring input.");
             return false;
@@ -115,19 +176,77 @@ public class InputHandler implements GameActionInvoker, InputCommandRegistrar {
             return false;
         }
 
-        command.execute();
+        if (!keyRepeat().press(keyEvent.getCode(), arrivalNanos) && keyRepeat().isRepeated(keyEvent.getCode())) {
+            // The keyboard's own repeat of a movement key; updateHeldKeys repeats those instead
+            keyEvent.consume();
+            return true;
+        }
+
+        inputNanos = arrivalNanos;
+        try {
+            command.execute();
+        } finally {
+            inputNanos = 0L;
+        }
         keyEvent.consume();
         LOGGER.debug("Executed gameplay command for key {}", keyEvent.getCode());
         return true;
     }
 
+    /**
+     * Handles a key release, ending any repeat of that key.
+     *
+     * @param keyEvent the key released event
+     */
+    public void handleReleased(KeyEvent keyEvent) {
+        if (keyEvent == null) {
+            return;
+        }
+        keyRepeat().release(keyEvent.getCode(), System.nanoTime());
+    }
+
+    /**
+     * Repeats held movement keys that are due. Call once per frame.
+     * While the game is paused or over, held keys are forgotten instead.
+     *
+     * @param now the current time, from {@link System#nanoTime()}
+     */
+    public void updateHeldKeys(long now) {
+        if (isInteractionDisabled()) {
+            keyRepeat().releaseAll();
+            return;
+        }
+        inputNanos = now;
+        try {
+            keyRepeat().update(now);
+        } finally {
+            inputNanos = 0L;
+        }
+    }
+
+    /**
+     * Tells the key repeat that a new brick has spawned, so a held shift with an
+     * auto-repeat rate of 0 slides it as well.
+     */
+    public void onBrickSpawned() {
+        keyRepeat().brickSpawned();
+    }
+
+    /**
+     * Forgets every held key, for when key releases can no longer arrive,
+     * such as after the game loses focus.
+     */
+    public void releaseAllKeys() {
+        keyRepeat().releaseAll();
+    }
+
     @Override
     public void moveDown(EventSource source) {
         if (isInteractionDisabled()) {
             return;
         }
         if (gameController != null) {
-            gameController.onDownEvent(new MoveEvent(EventType.DOWN, source));
+            gameController.onDownEvent(source == EventSource.USER ? userEvent(EventType.DOWN) : new MoveEvent(EventType.DOWN, source));
         }
     }
 
@@ -141,9 +260,9 @@ public class InputHandler implements GameActionInvoker, InputCommandRegistrar {
         if (gameController != null) {
             // If horizontal inversion is active, call the right event instead of left.
             if (invertHorizontal) {
-                gameController.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
+                gameController.onRightEvent(userEvent(EventType.RIGHT));
             } else {
-                gameController.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+                gameController.onLeftEvent(userEvent(EventType.LEFT));
             }
         }
     }
@@ -153,25 +272,54 @@ public class InputHandler implements GameActionInvoker, InputCommandRegistrar {
         if (gameController != null) {
             // If horizontal inversion is active, call the left event instead of right.
             if (invertHorizontal) {
-                gameController.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+                gameController.onLeftEvent(userEvent(EventType.LEFT));
             } else {
-                gameController.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
+                gameController.onRightEvent(userEvent(EventType.RIGHT));
             }
         }
     }
 
+    @Override
+    public void slideLeft() {
+        if (gameController != null) {
+            gameController.onSlideEvent(userEvent(invertHorizontal ? EventType.RIGHT : EventType.LEFT));
+        }
+    }
+
+    @Override
+    public void slideRight() {
+        if (gameController != null) {
+            gameController.onSlideEvent(userEvent(invertHorizontal ? EventType.LEFT : EventType.RIGHT));
+        }
+    }
+
     @Override
     public void rotate() {
         if (gameController != null) {
-            gameController.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER));
+            gameController.onRotateEvent(userEvent(EventType.ROTATE));
         }
     }
 
     @Override
     public void instantDrop() {
         if (gameController != null) {
-            gameController.onInstantDropEvent(new MoveEvent(EventType.DOWN, EventSource.USER)); // Using DOWN type, but it's instant
+            gameController.onInstantDropEvent(userEvent(EventType.DOWN)); // Using DOWN type, but it's instant
+        }
+    }
+
+    private MoveEvent userEvent(EventType type) {
+        if (inputNanos != 0L && latencyTracker != null) {
+            latencyTracker.inputReceived(inputNanos);
+        }
+        return new MoveEvent(type, EventSource.USER, inputNanos);
+    }
+
+    // Created on first use rather than in the constructor, which must not publish this
+    private KeyRepeatEngine keyRepeat() {
+        if (keyRepeat == null) {
+            keyRepeat = new KeyRepeatEngine(this, gravityIntervalNanos);
         }
+        return keyRepeat;
     }
 
     private boolean isInteractionDisabled() {
@@ -190,4 +338,9 @@ public class InputHandler implements GameActionInvoker, InputCommandRegistrar {
             targetMap.put(keyCode, command);
         }
     }
+
+    @Override
+    public void registerKeyRepeat(KeyRepeat repeat, KeyCode... keyCodes) {
+        keyRepeat().bind(repeat, keyCodes);
+    }
 }
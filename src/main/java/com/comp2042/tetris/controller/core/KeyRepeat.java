@@ -0,0 +1,16 @@
+package com.comp2042.tetris.controller.core;
+
+/**
+ * How a held gameplay key keeps acting after it was first pressed.
+ *
+ * @see KeyRepeatEngine
+ * @see InputCommandRegistrar#registerKeyRepeat(KeyRepeat, javafx.scene.input.KeyCode...)
+ */
+public enum KeyRepeat {
+    /** Moves left after the delayed auto shift, then at the auto-repeat rate. */
+    SHIFT_LEFT,
+    /** Moves right after the delayed auto shift, then at the auto-repeat rate. */
+    SHIFT_RIGHT,
+    /** Moves down at the gravity rate multiplied by the soft-drop factor. */
+    SOFT_DROP
+}
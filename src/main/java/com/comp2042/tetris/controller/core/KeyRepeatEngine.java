@@ -0,0 +1,263 @@
+package com.comp2042.tetris.controller.core;
+
+import javafx.scene.input.KeyCode;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks which gameplay keys are held and repeats their moves on its own clock,
+ * so movement speed does not depend on the keyboard repeat rate of the machine.
+ *
+ * <p>The first move of a key press is made by its command as usual; the engine only
+ * records the press. Presses of a key that is already down are the keyboard's own
+ * repeats and are reported so the caller can ignore them for the
+ * {@linkplain #isRepeated(KeyCode) keys the engine repeats}. On every
+ * {@link #update(long)}:</p>
+ * <ul>
+ *   <li>A held left or right key moves again once the delayed auto shift has passed,
+ *       then once per auto-repeat interval. With an auto-repeat rate of 0 the brick
+ *       slides to the wall in one move instead, and slides again only when a new
+ *       brick {@linkplain #brickSpawned() spawns} while the key is still held.</li>
+ *   <li>A held down key moves down once per gravity interval divided by the soft-drop factor.</li>
+ * </ul>
+ *
+ * <p>When both left and right are held, the one pressed last wins; releasing it hands
+ * over to the other, which starts its delayed auto shift again.</p>
+ *
+ * <p>Not thread-safe: presses, releases and updates must come from the same thread,
+ * normally the FX application thread.</p>
+ *
+ * @see KeyRepeatSettings
+ * @see KeyRepeat
+ */
+public final class KeyRepeatEngine {
+
+    /** Most repeated moves made by one update after a stall; no brick can use more. */
+    public static final int MAX_REPEATS_PER_UPDATE = GameController.BOARD_ROWS;
+
+    private final GameActionInvoker actions;
+    private final LongSupplier gravityIntervalNanos;
+    private final Map<KeyCode, KeyRepeat> bindings = new EnumMap<>(KeyCode.class);
+    private final Set<KeyCode> pressed = EnumSet.noneOf(KeyCode.class);
+    private KeyRepeatSettings settings = KeyRepeatSettings.DEFAULT;
+
+    private KeyRepeat shift;
+    private long nextShiftAt;
+    // With an auto-repeat rate of 0: whether the current brick has already been slid
+    private boolean slid;
+    private boolean softDropping;
+    private long nextSoftDropAt;
+
+    /**
+     * Creates an engine with the {@linkplain KeyRepeatSettings#DEFAULT default settings}.
+     *
+     * @param actions where repeated moves go
+     * @param gravityIntervalNanos supplies the current time between gravity drops
+     * @throws NullPointerException if either argument is null
+     */
+    public KeyRepeatEngine(GameActionInvoker actions, LongSupplier gravityIntervalNanos) {
+        this.actions = Objects.requireNonNull(actions, "actions cannot be null");
+        this.gravityIntervalNanos = Objects.requireNonNull(gravityIntervalNanos, "gravityIntervalNanos cannot be null");
+    }
+
+    /**
+     * Changes the timings. Keys already held keep their current deadlines.
+     *
+     * @param settings the new timings
+     * @throws NullPointerException if settings is null
+     */
+    public void setSettings(KeyRepeatSettings settings) {
+        this.settings = Objects.requireNonNull(settings, "settings cannot be null");
+    }
+
+    /**
+     * Returns the current timings.
+     *
+     * @return the settings
+     */
+    public KeyRepeatSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * Makes held keys repeat.
+     *
+     * @param repeat how the keys repeat
+     * @param keyCodes the keys
+     */
+    public void bind(KeyRepeat repeat, KeyCode... keyCodes) {
+        Objects.requireNonNull(repeat, "repeat cannot be null");
+        for (KeyCode keyCode : Objects.requireNonNull(keyCodes, "keyCodes cannot be null")) {
+            bindings.put(keyCode, repeat);
+        }
+    }
+
+    /**
+     * Removes every binding and forgets the held keys.
+     */
+    public void clearBindings() {
+        bindings.clear();
+        releaseAll();
+    }
+
+    /**
+     * Records a key press.
+     *
+     * @param keyCode the key
+     * @param now the time of the press, from {@link System#nanoTime()}
+     * @return true for a new press, false if the key was already down
+     */
+    public boolean press(KeyCode keyCode, long now) {
+        if (!pressed.add(keyCode)) {
+            return false;
+        }
+        KeyRepeat repeat = bindings.get(keyCode);
+        if (repeat == KeyRepeat.SOFT_DROP) {
+            if (!softDropping) {
+                softDropping = true;
+                nextSoftDropAt = now + softDropIntervalNanos();
+            }
+        } else if (repeat != null) {
+            shift = repeat;
+            nextShiftAt = now + settings.dasNanos();
+            slid = false;
+        }
+        return true;
+    }
+
+    /**
+     * Records a key release.
+     *
+     * @param keyCode the key
+     * @param now the time of the release, from {@link System#nanoTime()}
+     */
+    public void release(KeyCode keyCode, long now) {
+        if (!pressed.remove(keyCode)) {
+            return;
+        }
+        KeyRepeat repeat = bindings.get(keyCode);
+        if (repeat == null || isHeld(repeat)) {
+            return;
+        }
+        if (repeat == KeyRepeat.SOFT_DROP) {
+            softDropping = false;
+        } else if (repeat == shift) {
+            KeyRepeat other = repeat == KeyRepeat.SHIFT_LEFT ? KeyRepeat.SHIFT_RIGHT : KeyRepeat.SHIFT_LEFT;
+            if (isHeld(other)) {
+                shift = other;
+                nextShiftAt = now + settings.dasNanos();
+                slid = false;
+            } else {
+                shift = null;
+            }
+        }
+    }
+
+    /**
+     * Forgets every held key, for example when the game loses keyboard focus and
+     * releases would never arrive.
+     */
+    public void releaseAll() {
+        pressed.clear();
+        shift = null;
+        softDropping = false;
+    }
+
+    /**
+     * Records that a new brick has entered the board, so a shift held past its delay
+     * with an auto-repeat rate of 0 slides the new brick on the next update.
+     */
+    public void brickSpawned() {
+        slid = false;
+    }
+
+    /**
+     * Returns whether the engine repeats a key while it is held.
+     *
+     * @param keyCode the key
+     * @return true if the key is bound to a repeat
+     */
+    public boolean isRepeated(KeyCode keyCode) {
+        return bindings.containsKey(keyCode);
+    }
+
+    /**
+     * Returns whether a key is down.
+     *
+     * @param keyCode the key
+     * @return true between its press and its release
+     */
+    public boolean isPressed(KeyCode keyCode) {
+        return pressed.contains(keyCode);
+    }
+
+    /**
+     * Makes the moves that fell due since the last update.
+     *
+     * @param now the current time, from {@link System#nanoTime()}
+     */
+    public void update(long now) {
+        if (shift != null && now - nextShiftAt >= 0) {
+            if (settings.arrNanos() == 0) {
+                // Sliding again could not move the brick further, and would record a move per frame
+                if (!slid) {
+                    slide(shift);
+                    slid = true;
+                }
+            } else {
+                nextShiftAt = repeat(shift, nextShiftAt, settings.arrNanos(), now);
+            }
+        }
+        if (softDropping && now - nextSoftDropAt >= 0) {
+            nextSoftDropAt = repeat(KeyRepeat.SOFT_DROP, nextSoftDropAt, softDropIntervalNanos(), now);
+        }
+    }
+
+    /**
+     * Moves once for every interval from the deadline up to now and returns the next deadline.
+     */
+    private long repeat(KeyRepeat repeat, long deadline, long intervalNanos, long now) {
+        int moves = 0;
+        while (now - deadline >= 0 && moves < MAX_REPEATS_PER_UPDATE) {
+            move(repeat);
+            deadline += intervalNanos;
+            moves++;
+        }
+        // Time the cap skipped is not made up later
+        return now - deadline >= 0 ? now + intervalNanos : deadline;
+    }
+
+    private void move(KeyRepeat repeat) {
+        switch (repeat) {
+            case SHIFT_LEFT -> actions.moveLeft();
+            case SHIFT_RIGHT -> actions.moveRight();
+            case SOFT_DROP -> actions.moveDown();
+        }
+    }
+
+    private void slide(KeyRepeat repeat) {
+        if (repeat == KeyRepeat.SHIFT_LEFT) {
+            actions.slideLeft();
+        } else {
+            actions.slideRight();
+        }
+    }
+
+    private boolean isHeld(KeyRepeat repeat) {
+        for (KeyCode keyCode : pressed) {
+            if (bindings.get(keyCode) == repeat) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long softDropIntervalNanos() {
+        return Math.max(1L, (long) (gravityIntervalNanos.getAsLong() / settings.softDropFactor()));
+    }
+}
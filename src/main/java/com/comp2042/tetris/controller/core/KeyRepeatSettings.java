@@ -0,0 +1,95 @@
+package com.comp2042.tetris.controller.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timing of held movement keys.
+ *
+ * <ul>
+ *   <li>Delayed auto shift (DAS): how long a left or right key is held before it repeats</li>
+ *   <li>Auto-repeat rate (ARR): the time between repeated moves; 0 slides the brick to
+ *       the wall in one move</li>
+ *   <li>Soft-drop factor: how many times faster than gravity a held down key drops;
+ *       {@link Double#POSITIVE_INFINITY} drops one row per frame at most
+ *       {@link KeyRepeatEngine#MAX_REPEATS_PER_UPDATE} rows</li>
+ * </ul>
+ *
+ * @param dasNanos the delayed auto shift in nanoseconds
+ * @param arrNanos the auto-repeat rate in nanoseconds
+ * @param softDropFactor the soft-drop speed as a multiple of gravity
+ * @see KeyRepeatEngine
+ */
+public record KeyRepeatSettings(long dasNanos, long arrNanos, double softDropFactor) {
+
+    /** System property overriding the delayed auto shift, in milliseconds. */
+    public static final String DAS_PROPERTY = "tetris.das";
+    /** System property overriding the auto-repeat rate, in milliseconds. */
+    public static final String ARR_PROPERTY = "tetris.arr";
+    /** System property overriding the soft-drop factor. */
+    public static final String SOFT_DROP_FACTOR_PROPERTY = "tetris.sdf";
+
+    /** Ten frames of DAS, two frames of ARR at 60 Hz and a tenfold soft drop. */
+    public static final KeyRepeatSettings DEFAULT = ofMillis(167, 33, 10);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(KeyRepeatSettings.class);
+
+    public KeyRepeatSettings {
+        if (dasNanos < 0 || arrNanos < 0) {
+            throw new IllegalArgumentException("KeyRepeatSettings: DAS and ARR must not be negative");
+        }
+        if (!(softDropFactor > 0)) {
+            throw new IllegalArgumentException("KeyRepeatSettings: soft-drop factor must be positive, was " + softDropFactor);
+        }
+    }
+
+    /**
+     * Creates settings from millisecond timings.
+     *
+     * @param dasMillis the delayed auto shift in milliseconds
+     * @param arrMillis the auto-repeat rate in milliseconds
+     * @param softDropFactor the soft-drop speed as a multiple of gravity
+     * @return the settings
+     * @throws IllegalArgumentException if a timing is negative or the factor is not positive
+     */
+    public static KeyRepeatSettings ofMillis(double dasMillis, double arrMillis, double softDropFactor) {
+        return new KeyRepeatSettings(toNanos(dasMillis), toNanos(arrMillis), softDropFactor);
+    }
+
+    /**
+     * Reads {@value #DAS_PROPERTY}, {@value #ARR_PROPERTY} and {@value #SOFT_DROP_FACTOR_PROPERTY},
+     * using the {@link #DEFAULT} for any that is missing. Invalid values are logged and ignored.
+     *
+     * @return the settings
+     */
+    public static KeyRepeatSettings fromSystemProperties() {
+        double das = readProperty(DAS_PROPERTY, DEFAULT.dasNanos() / 1_000_000d);
+        double arr = readProperty(ARR_PROPERTY, DEFAULT.arrNanos() / 1_000_000d);
+        double softDropFactor = readProperty(SOFT_DROP_FACTOR_PROPERTY, DEFAULT.softDropFactor());
+        try {
+            return ofMillis(das, arr, softDropFactor);
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Ignoring key repeat properties: {}", e.getMessage());
+            return DEFAULT;
+        }
+    }
+
+    private static double readProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Ignoring {}={}: not a number", name, value);
+            return defaultValue;
+        }
+    }
+
+    private static long toNanos(double millis) {
+        return Math.round(millis * TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -1,13 +1,16 @@
 package com.comp2042.tetris.controller.ui;
 
 import com.comp2042.tetris.controller.core.InputHandler;
+import com.comp2042.tetris.controller.core.KeyRepeatSettings;
 import com.comp2042.tetris.controller.command.CommandRegistry;
 import com.comp2042.tetris.controller.command.DefaultCommandRegistry;
 import com.comp2042.tetris.controller.command.DefaultInputCommandFactory;
 import com.comp2042.tetris.controller.command.InputCommandFactory;
+import com.comp2042.tetris.debug.InputLatencyTracker;
 import com.comp2042.tetris.game.AnimationHandler;
 import com.comp2042.tetris.game.GameStateManager;
 import com.comp2042.tetris.view.BoardRenderer;
+import com.comp2042.tetris.view.CanvasBoardRenderer;
 import com.comp2042.tetris.view.GameViewPresenter;
 import com.comp2042.tetris.view.NotificationAnimator;
 import com.comp2042.tetris.view.OverlayPanel;
@@ -29,7 +32,8 @@ import java.util.Objects;
  * <ul>
  *   <li>AnimationHandler for game loop</li>
  *   <li>InputHandler and InputController for keyboard input</li>
- *   <li>BoardRenderer for visual display</li>
+ *   <li>BoardRenderer for visual display, or a CanvasBoardRenderer when
+ *       {@value #RENDERER_PROPERTY} is {@code canvas}</li>
  *   <li>GameViewPresenter for UI updates</li>
  *   <li>VisualEffectsManager for special effects</li>
  * </ul>
@@ -39,6 +43,9 @@ import java.util.Objects;
  */
 public class DefaultGuiControllerDependenciesFactory {
 
+    /** System property selecting the board renderer; {@code canvas} draws into Canvas layers. */
+    public static final String RENDERER_PROPERTY = "tetris.renderer";
+
     /**
      * Creates all dependencies for the GuiController.
      *
@@ -72,11 +79,17 @@ public class DefaultGuiControllerDependenciesFactory {
                 animationHandler::isPaused,
                 animationHandler::isGameOver,
                 commandRegistry,
-                inputCommandFactory);
+                inputCommandFactory,
+                animationHandler::getTickIntervalNanos);
+        inputHandler.setKeyRepeatSettings(KeyRepeatSettings.fromSystemProperties());
+        InputLatencyTracker latencyTracker = new InputLatencyTracker();
+        inputHandler.setLatencyTracker(latencyTracker);
 
         InputController inputController = new InputController(inputHandler);
 
-        BoardRenderer boardRenderer = new BoardRenderer(gamePanel, brickPanel, ghostBrickPanel, nextBrickPanel, UIConstants.BRICK_SIZE);
+        BoardRenderer boardRenderer = "canvas".equals(System.getProperty(RENDERER_PROPERTY))
+                ? new CanvasBoardRenderer(gamePanel, brickPanel, ghostBrickPanel, nextBrickPanel, UIConstants.BRICK_SIZE)
+                : new BoardRenderer(gamePanel, brickPanel, ghostBrickPanel, nextBrickPanel, UIConstants.BRICK_SIZE);
         NotificationAnimator notificationAnimator = new NotificationAnimator();
         GameViewPresenter gameViewPresenter = new GameViewPresenter(
                 boardRenderer,
@@ -84,6 +97,7 @@ public class DefaultGuiControllerDependenciesFactory {
                 groupNotification,
                 gameOverPanel,
                 notificationAnimator);
+        gameViewPresenter.setLatencyTracker(latencyTracker);
 
         VisualEffectsManager visualEffectsManager = new VisualEffectsManager(
                 pixelStarLayer,
@@ -98,7 +112,8 @@ public class DefaultGuiControllerDependenciesFactory {
                 commandRegistry,
                 boardRenderer,
                 gameViewPresenter,
-                visualEffectsManager
+                visualEffectsManager,
+                latencyTracker
         );
     }
 
@@ -1,7 +1,13 @@
 package com.comp2042.tetris.controller.ui;
 import com.comp2042.tetris.controller.core.GameOverManager;
 import com.comp2042.tetris.controller.core.IGameController;
+import com.comp2042.tetris.debug.DebugOverlay;
+import com.comp2042.tetris.debug.FrameProfiler;
+import com.comp2042.tetris.debug.InputLatencyTracker;
+import com.comp2042.tetris.debug.RuntimeStats;
 import com.comp2042.tetris.game.GameTimer;
+import com.comp2042.tetris.model.board.BoardDelta;
+import com.comp2042.tetris.model.board.BoardView;
 import com.comp2042.tetris.model.board.ClearRow;
 import com.comp2042.tetris.model.data.ViewData;
 import com.comp2042.tetris.model.event.EventSource;
@@ -20,6 +26,7 @@ import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
 import javafx.geometry.Pos;
 import javafx.scene.Group;
+import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
@@ -37,7 +44,9 @@ import javafx.geometry.Insets;
 import javafx.geometry.Point2D;
 import javafx.stage.Popup;
 
+import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.Objects;
 import java.util.ResourceBundle;
 
@@ -93,6 +102,12 @@ public class GuiController extends MenuController implements Initializable, IGui
 
     private GameOverManager gameOverManager;
 
+    private InputLatencyTracker latencyTracker;
+
+    private DebugOverlay debugOverlay;
+
+    private final FrameProfiler frameProfiler = new FrameProfiler();
+
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         setupFont();
@@ -204,7 +219,9 @@ public class GuiController extends MenuController implements Initializable, IGui
         this.boardRenderer = dependencies.boardRenderer();
         this.gameViewPresenter = dependencies.gameViewPresenter();
         this.visualEffectsManager = dependencies.visualEffectsManager();
+        this.latencyTracker = dependencies.latencyTracker();
         configureInputCommands();
+        installDebugOverlay();
         updatePauseUi(false);
 
         // Initialize GameOverManager
@@ -246,6 +263,60 @@ public class GuiController extends MenuController implements Initializable, IGui
         }
     }
 
+    private void installDebugOverlay() {
+        debugOverlay = new DebugOverlay();
+        debugOverlay.addPulseListener(frameProfiler::frame);
+        debugOverlay.addSection(frameProfiler::summary);
+        if (latencyTracker != null) {
+            debugOverlay.addSection(latencyTracker::summary);
+        }
+        debugOverlay.addSection(this::sceneGraphSummary);
+        debugOverlay.addSection(RuntimeStats::animationSummary);
+        debugOverlay.addSection(RuntimeStats::jvmSummary);
+        if (groupNotification != null && groupNotification.getParent() instanceof StackPane stack) {
+            stack.getChildren().add(debugOverlay.getNode());
+            StackPane.setAlignment(debugOverlay.getNode(), Pos.TOP_LEFT);
+        }
+        if (latencyTracker == null || gamePanel == null) return;
+
+        // Inputs rendered before a pulse's layout are on screen once that pulse is drawn
+        Runnable closeLatencies = () -> latencyTracker.pulse(System.nanoTime());
+        if (gamePanel.getScene() != null) {
+            gamePanel.getScene().addPostLayoutPulseListener(closeLatencies);
+        }
+        gamePanel.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (oldScene != null) oldScene.removePostLayoutPulseListener(closeLatencies);
+            if (newScene != null) newScene.addPostLayoutPulseListener(closeLatencies);
+        });
+    }
+
+    private void toggleDebugOverlay() {
+        if (debugOverlay == null) return;
+        // Time spent hidden is not a frame
+        frameProfiler.restart();
+        debugOverlay.toggle();
+    }
+
+    private String sceneGraphSummary() {
+        // The board's StackPane also holds the ghost and active brick layers
+        Node board = gameBoard != null && gameBoard.getParent() != null ? gameBoard.getParent() : gameBoard;
+        return "nodes: pixel stars " + RuntimeStats.countNodes(pixelStarLayer)
+                + "  board " + RuntimeStats.countNodes(board)
+                + "  scene " + (gamePanel != null && gamePanel.getScene() != null
+                        ? RuntimeStats.countNodes(gamePanel.getScene().getRoot()) : 0);
+    }
+
+    private void dumpInputLatency() {
+        if (latencyTracker == null) return;
+        Path file = InputLatencyTracker.dumpFile();
+        try {
+            latencyTracker.dump(file);
+            LOGGER.info("Input latency histogram written to {}", file.toAbsolutePath());
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write input latency histogram to {}", file, e);
+        }
+    }
+
     private void initializeGameOverManager() {
         if (animationHandler == null) {
             LOGGER.warn("Cannot initialize GameOverManager: animationHandler is null");
@@ -270,6 +341,8 @@ public class GuiController extends MenuController implements Initializable, IGui
         if (inputHandler == null) return;
         inputHandler.registerCommand(this::startNewGame, false, KeyCode.N);
         inputHandler.registerCommand(this::togglePauseState, false, KeyCode.P);
+        inputHandler.registerCommand(this::toggleDebugOverlay, false, KeyCode.F3);
+        inputHandler.registerCommand(this::dumpInputLatency, false, KeyCode.F4);
     }
 
     void handleTick() {
@@ -380,7 +453,7 @@ public class GuiController extends MenuController implements Initializable, IGui
     @Override
     public void onGameInitialized(GameStateSnapshot snapshot) { initGameView(snapshot.boardMatrix(), snapshot.viewData()); }
     @Override
-    public void onScoreChanged(ScoreChangeEvent event) { if (gameViewPresenter != null) gameViewPresenter.updateScore(event); if (animationHandler != null && currentLevel != null) animationHandler.setTickInterval(currentLevel.getTickInterval(event.newScore())); }
+    public void onScoreChanged(ScoreChangeEvent event) { if (gameViewPresenter != null) gameViewPresenter.updateScore(event); if (animationHandler != null && currentLevel != null) animationHandler.setTickIntervalNanos(currentLevel.getTickIntervalNanos(event.newScore())); }
 
     @Override
     public void onBrickUpdated(ViewData viewData) {
@@ -421,11 +494,15 @@ public class GuiController extends MenuController implements Initializable, IGui
     @Override
     public void onBoardUpdated(int[][] boardMatrix) { ensureConfigured(); refreshGameBackground(boardMatrix); }
     @Override
+    public void onBoardUpdated(BoardView boardView) { ensureConfigured(); if (gameViewPresenter != null) gameViewPresenter.refreshBoard(boardView); }
+    @Override
+    public void onBoardDelta(BoardDelta delta) { ensureConfigured(); if (gameViewPresenter != null) gameViewPresenter.applyBoardDelta(delta); }
+    @Override
     public void onLinesCleared(ClearRow clearRow) { ensureConfigured(); if (gameViewPresenter != null) gameViewPresenter.handleLinesCleared(clearRow); }
     @Override
     public void onGameOver() { gameOver(); }
     @Override
-    public void onBrickPlaced(BrickPlacedEvent event) { LOGGER.debug("Brick placed event received, playing sound"); AudioManager.getInstance().playBricksTouch(); }
+    public void onBrickPlaced(BrickPlacedEvent event) { LOGGER.debug("Brick placed event received, playing sound"); AudioManager.getInstance().playBricksTouch(); if (inputHandler != null) inputHandler.onBrickSpawned(); }
 
     private void ensureConfigured() { if (dependencies == null) throw new IllegalStateException("GuiController dependencies have not been configured. Inject dependencies before use."); }
 
@@ -2,6 +2,7 @@ package com.comp2042.tetris.controller.ui;
 
 import com.comp2042.tetris.controller.core.InputHandler;
 import com.comp2042.tetris.controller.command.CommandRegistry;
+import com.comp2042.tetris.debug.InputLatencyTracker;
 import com.comp2042.tetris.game.AnimationHandler;
 import com.comp2042.tetris.view.BoardRenderer;
 import com.comp2042.tetris.view.GameViewPresenter;
@@ -18,6 +19,7 @@ import com.comp2042.tetris.view.VisualEffectsManager;
  * @param boardRenderer renders the game board and bricks
  * @param gameViewPresenter manages view updates and notifications
  * @param visualEffectsManager handles visual effects like stars and explosions
+ * @param latencyTracker measures the time from key press to the frame showing it
  *
  * @see GuiController
  * @see DefaultGuiControllerDependenciesFactory
@@ -29,7 +31,8 @@ public record GuiControllerDependencies(
         CommandRegistry commandRegistry,
         BoardRenderer boardRenderer,
         GameViewPresenter gameViewPresenter,
-        VisualEffectsManager visualEffectsManager
+        VisualEffectsManager visualEffectsManager,
+        InputLatencyTracker latencyTracker
 ) {
 
 }
@@ -2,6 +2,7 @@ package com.comp2042.tetris.controller.ui;
 
 import com.comp2042.tetris.controller.core.InputHandler;
 import com.comp2042.tetris.utils.AudioManager;
+import javafx.animation.AnimationTimer;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
@@ -23,6 +24,7 @@ public class InputController {
 
     private final InputHandler inputHandler;
     private Button lastHoveredButton = null;
+    private AnimationTimer heldKeyTimer;
 
     /**
      * Creates a new InputController with the specified InputHandler.
@@ -37,6 +39,9 @@ public class InputController {
      * Attaches key event listeners to the provided focusNode.
      * This method should be called once the scene is available.
      *
+     * <p>Held movement keys are repeated once per pulse from the node's key presses and
+     * releases; losing focus counts as releasing every key.</p>
+     *
      * @param focusNode the node to attach keyboard listeners to
      */
     public void setupKeyboardInput(Node focusNode) {
@@ -49,6 +54,23 @@ public class InputController {
         focusNode.requestFocus();
 
         focusNode.setOnKeyPressed(this::handleKeyPressed);
+        focusNode.setOnKeyReleased(inputHandler::handleReleased);
+        focusNode.focusedProperty().addListener((obs, wasFocused, focused) -> {
+            if (!focused) {
+                inputHandler.releaseAllKeys();
+            }
+        });
+
+        if (heldKeyTimer == null) {
+            heldKeyTimer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    // Pulse times are when the frame was scheduled; key events use System.nanoTime
+                    inputHandler.updateHeldKeys(System.nanoTime());
+                }
+            };
+            heldKeyTimer.start();
+        }
 
         LOGGER.debug("Keyboard input setup completed for node: {}", focusNode.getClass().getSimpleName());
     }
@@ -60,6 +82,8 @@ public class InputController {
      * @param keyEvent the keyboard event to handle
      */
     private void handleKeyPressed(KeyEvent keyEvent) {
+        // Input-to-photon latency is measured from here
+        long arrivalNanos = System.nanoTime();
         if (keyEvent == null) {
             LOGGER.warn("Received null KeyEvent");
             return;
@@ -78,7 +102,7 @@ public class InputController {
 
         // Delegate to InputHandler
         if (inputHandler != null) {
-            inputHandler.handle(keyEvent);
+            inputHandler.handle(keyEvent, arrivalNanos);
         }
     }
 
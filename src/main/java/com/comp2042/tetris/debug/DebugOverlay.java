@@ -0,0 +1,137 @@
+package com.comp2042.tetris.debug;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Text panel of live diagnostics, hidden until toggled.
+ *
+ * <p>Each section is a supplier of a few lines of text, such as
+ * {@link InputLatencyTracker#summary()}. While the panel is showing, one
+ * {@link AnimationTimer} refreshes it every {@link #REFRESH_INTERVAL_NANOS} and passes
+ * every pulse to the pulse listeners, such as a {@link FrameProfiler}; while it is hidden
+ * the timer is stopped and neither sections nor listeners are called.</p>
+ *
+ * <p>The caller places {@link #getNode()} in the scene.</p>
+ */
+public final class DebugOverlay {
+
+    /** Time between refreshes of the text. */
+    public static final long REFRESH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private final Label label = new Label();
+    private final List<Supplier<String>> sections = new ArrayList<>();
+    private final List<LongConsumer> pulseListeners = new ArrayList<>();
+    private final AnimationTimer timer;
+    private long lastRefresh = NEVER;
+
+    /**
+     * Creates a hidden overlay with no sections.
+     */
+    public DebugOverlay() {
+        label.setStyle("-fx-background-color: rgba(0,0,0,0.75); -fx-text-fill: #7CFC00; "
+                + "-fx-font-family: monospace; -fx-font-size: 12; -fx-padding: 6 8;");
+        label.setMouseTransparent(true);
+        label.setFocusTraversable(false);
+        label.setMaxSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
+        label.setVisible(false);
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onPulse(now);
+            }
+        };
+    }
+
+    /**
+     * Returns the node showing the text.
+     *
+     * @return the overlay node
+     */
+    public Node getNode() {
+        return label;
+    }
+
+    /**
+     * Adds a section below the existing ones.
+     *
+     * @param section supplies the section's text
+     * @throws NullPointerException if section is null
+     */
+    public void addSection(Supplier<String> section) {
+        sections.add(Objects.requireNonNull(section, "section cannot be null"));
+    }
+
+    /**
+     * Adds a listener called on every pulse while the overlay is showing.
+     *
+     * @param listener receives the pulse timestamp, in nanoseconds
+     * @throws NullPointerException if listener is null
+     */
+    public void addPulseListener(LongConsumer listener) {
+        pulseListeners.add(Objects.requireNonNull(listener, "listener cannot be null"));
+    }
+
+    /**
+     * Returns whether the overlay is showing.
+     *
+     * @return true if visible
+     */
+    public boolean isShowing() {
+        return label.isVisible();
+    }
+
+    /**
+     * Shows or hides the overlay.
+     *
+     * @param showing true to show
+     */
+    public void setShowing(boolean showing) {
+        if (showing == isShowing()) {
+            return;
+        }
+        label.setVisible(showing);
+        if (showing) {
+            lastRefresh = NEVER;
+            timer.start();
+        } else {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Shows the overlay if hidden, hides it otherwise.
+     */
+    public void toggle() {
+        setShowing(!isShowing());
+    }
+
+    private void onPulse(long now) {
+        for (LongConsumer listener : pulseListeners) {
+            listener.accept(now);
+        }
+        if (lastRefresh != NEVER && now - lastRefresh < REFRESH_INTERVAL_NANOS) {
+            return;
+        }
+        lastRefresh = now;
+        StringBuilder text = new StringBuilder();
+        for (Supplier<String> section : sections) {
+            if (!text.isEmpty()) {
+                text.append('\n');
+            }
+            text.append(section.get());
+        }
+        label.setText(text.toString());
+    }
+}
@@ -0,0 +1,165 @@
+package com.comp2042.tetris.debug;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Frame-time profile of the FX pulses: frame rate, frame-time percentiles and long frames.
+ *
+ * <p>{@link #frame(long)} is called once per pulse with the pulse timestamp, normally from
+ * the {@link DebugOverlay}'s timer. The time between two pulses is one frame. A frame
+ * longer than {@link #LONG_FRAME_NANOS} missed a 60 Hz vsync; one longer than
+ * {@link #VERY_LONG_FRAME_NANOS} missed two.</p>
+ *
+ * <p>Not thread-safe: every call must come from the FX application thread.</p>
+ *
+ * @see LatencyHistogram
+ */
+public final class FrameProfiler {
+
+    /** One 60 Hz frame, 16.7 ms. */
+    public static final long LONG_FRAME_NANOS = TimeUnit.SECONDS.toNanos(1) / 60;
+    /** Two 60 Hz frames, 33.3 ms. */
+    public static final long VERY_LONG_FRAME_NANOS = 2 * LONG_FRAME_NANOS;
+    /** Time over which the frame rate is averaged. */
+    public static final long FPS_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    /** Upper bounds of the text histogram's bars; the last bar is open. */
+    private static final long[] BAR_LIMITS_NANOS = {
+            LONG_FRAME_NANOS / 2, LONG_FRAME_NANOS, VERY_LONG_FRAME_NANOS, 3 * LONG_FRAME_NANOS};
+    private static final int BAR_WIDTH = 20;
+    private static final long NONE = Long.MIN_VALUE;
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final long[] barCounts = new long[BAR_LIMITS_NANOS.length + 1];
+    private long lastFrame = NONE;
+    private long longFrames;
+    private long veryLongFrames;
+    private long windowStart = NONE;
+    private int windowFrames;
+    private double fps;
+
+    /**
+     * Records the frame that ended at the given pulse.
+     *
+     * @param now the pulse timestamp, in nanoseconds
+     */
+    public void frame(long now) {
+        if (lastFrame != NONE) {
+            long frameNanos = now - lastFrame;
+            histogram.record(frameNanos);
+            barCounts[barOf(frameNanos)]++;
+            if (frameNanos > LONG_FRAME_NANOS) longFrames++;
+            if (frameNanos > VERY_LONG_FRAME_NANOS) veryLongFrames++;
+        }
+        lastFrame = now;
+
+        if (windowStart == NONE) {
+            windowStart = now;
+            windowFrames = 0;
+            return;
+        }
+        windowFrames++;
+        long windowNanos = now - windowStart;
+        if (windowNanos >= FPS_WINDOW_NANOS) {
+            fps = windowFrames * (double) TimeUnit.SECONDS.toNanos(1) / windowNanos;
+            windowStart = now;
+            windowFrames = 0;
+        }
+    }
+
+    /**
+     * Forgets the last pulse, so the gap before the next one is not counted as a frame.
+     * Called when pulses stop being fed for a while, such as when the overlay is hidden.
+     */
+    public void restart() {
+        lastFrame = NONE;
+        windowStart = NONE;
+    }
+
+    /**
+     * Forgets every frame recorded.
+     */
+    public void reset() {
+        restart();
+        histogram.reset();
+        Arrays.fill(barCounts, 0L);
+        longFrames = 0;
+        veryLongFrames = 0;
+        fps = 0;
+    }
+
+    /**
+     * Returns the frame rate over the last complete {@link #FPS_WINDOW_NANOS}.
+     *
+     * @return frames per second, or 0 before the first window completes
+     */
+    public double getFps() {
+        return fps;
+    }
+
+    /**
+     * Returns the frame times recorded so far, in nanoseconds.
+     *
+     * @return the live histogram
+     */
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * Returns the number of frames longer than {@link #LONG_FRAME_NANOS}.
+     *
+     * @return the long frame count
+     */
+    public long getLongFrames() {
+        return longFrames;
+    }
+
+    /**
+     * Returns the number of frames longer than {@link #VERY_LONG_FRAME_NANOS}.
+     *
+     * @return the very long frame count
+     */
+    public long getVeryLongFrames() {
+        return veryLongFrames;
+    }
+
+    /**
+     * Summarises the frames for the debug overlay: the frame rate, percentiles, long frame
+     * counts and a bar per frame-time range.
+     *
+     * @return a few lines of text
+     */
+    public String summary() {
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT,
+                "fps %.1f  frame p50 %.1f ms  p99 %.1f ms  max %.1f ms\n"
+                        + "frames >16.7 ms: %d  >33.3 ms: %d  (n=%d)",
+                fps,
+                histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                histogram.getMax() / NANOS_PER_MILLI,
+                longFrames, veryLongFrames, histogram.getTotalCount()));
+        long total = histogram.getTotalCount();
+        for (int bar = 0; bar < barCounts.length; bar++) {
+            String range = bar < BAR_LIMITS_NANOS.length
+                    ? String.format(Locale.ROOT, "<=%5.1f", BAR_LIMITS_NANOS[bar] / NANOS_PER_MILLI)
+                    : String.format(Locale.ROOT, "> %5.1f", BAR_LIMITS_NANOS[bar - 1] / NANOS_PER_MILLI);
+            int width = total == 0 ? 0 : (int) Math.ceil(barCounts[bar] * (double) BAR_WIDTH / total);
+            text.append(String.format(Locale.ROOT, "\n%s ms |%-" + BAR_WIDTH + "s| %d",
+                    range, "#".repeat(width), barCounts[bar]));
+        }
+        return text.toString();
+    }
+
+    private static int barOf(long frameNanos) {
+        for (int bar = 0; bar < BAR_LIMITS_NANOS.length; bar++) {
+            if (frameNanos <= BAR_LIMITS_NANOS[bar]) {
+                return bar;
+            }
+        }
+        return BAR_LIMITS_NANOS.length;
+    }
+}
@@ -0,0 +1,159 @@
+package com.comp2042.tetris.debug;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures input-to-photon latency: the time from a key press reaching the game to
+ * the start of the frame that shows its effect.
+ *
+ * <p>Each gameplay input is stamped with {@link System#nanoTime()} on arrival. The
+ * stamp rides on the {@link com.comp2042.tetris.model.event.MoveEvent} to the game
+ * and on the {@link com.comp2042.tetris.model.data.ViewData} it publishes, so the
+ * tracker learns which inputs a render reflects even when the game runs on another
+ * thread or brick updates are coalesced:</p>
+ * <ol>
+ *   <li>{@link #inputReceived(long)} queues the stamp</li>
+ *   <li>{@link #frameRendered(long)} marks every queued input up to the rendered stamp as drawn</li>
+ *   <li>{@link #pulse(long)}, called once per pulse after layout, records the drawn inputs
+ *       in the {@linkplain #getHistogram() histogram}</li>
+ * </ol>
+ *
+ * <p>Inputs that change nothing on screen are never rendered; they are dropped after
+ * {@link #MAX_LATENCY_NANOS}.</p>
+ *
+ * <p>Not thread-safe: every call must come from the FX application thread.</p>
+ *
+ * @see LatencyHistogram
+ */
+public final class InputLatencyTracker {
+
+    /** System property naming the file the histogram is written to. */
+    public static final String DUMP_FILE_PROPERTY = "tetris.latency.file";
+    /** File the histogram is written to when {@value #DUMP_FILE_PROPERTY} is not set. */
+    public static final String DEFAULT_DUMP_FILE = "input-latency.hgrm";
+    /** Inputs waiting longer than this for a render are assumed to have none. */
+    public static final long MAX_LATENCY_NANOS = TimeUnit.SECONDS.toNanos(1);
+    /** Most inputs waiting at once; the oldest is dropped beyond this. */
+    public static final int MAX_PENDING = 256;
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final long[] pending = new long[MAX_PENDING];
+    // pending[head, drawn) have been rendered, pending[drawn, tail) are waiting; indices grow forever
+    private long head;
+    private long drawn;
+    private long tail;
+    private long dropped;
+
+    /**
+     * Queues an input.
+     *
+     * @param inputNanos when the input arrived, from {@link System#nanoTime()}
+     */
+    public void inputReceived(long inputNanos) {
+        if (tail - head == MAX_PENDING) {
+            head++;
+            drawn = Math.max(drawn, head);
+            dropped++;
+        }
+        pending[slot(tail++)] = inputNanos;
+    }
+
+    /**
+     * Marks the inputs shown by a render as drawn.
+     *
+     * @param inputNanos the stamp of the latest input the render reflects
+     */
+    public void frameRendered(long inputNanos) {
+        while (drawn < tail && pending[slot(drawn)] - inputNanos <= 0) {
+            drawn++;
+        }
+    }
+
+    /**
+     * Records the inputs drawn since the last pulse, which the pulse now shows.
+     *
+     * @param now the current time, from {@link System#nanoTime()}
+     */
+    public void pulse(long now) {
+        for (; head < drawn; head++) {
+            histogram.record(now - pending[slot(head)]);
+        }
+        while (head < tail && now - pending[slot(head)] > MAX_LATENCY_NANOS) {
+            head++;
+            dropped++;
+        }
+        drawn = Math.max(drawn, head);
+    }
+
+    /**
+     * Returns the latencies recorded so far, in nanoseconds.
+     *
+     * @return the live histogram
+     */
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * Returns the number of inputs that were never seen rendered.
+     *
+     * @return the dropped count
+     */
+    public long getDroppedCount() {
+        return dropped;
+    }
+
+    /**
+     * Forgets the recorded latencies and every waiting input.
+     */
+    public void reset() {
+        histogram.reset();
+        head = drawn = tail = 0;
+        dropped = 0;
+    }
+
+    /**
+     * Summarises the latencies for the debug overlay.
+     *
+     * @return p50, p99 and max in milliseconds, with the sample count
+     */
+    public String summary() {
+        return String.format(Locale.ROOT, "input->photon p50 %.1f ms  p99 %.1f ms  max %.1f ms  (n=%d)",
+                histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                histogram.getMax() / NANOS_PER_MILLI,
+                histogram.getTotalCount());
+    }
+
+    /**
+     * Writes the histogram as a percentile distribution in milliseconds.
+     *
+     * @param file the file to write, replaced if it exists
+     * @throws IOException if the file cannot be written
+     */
+    public void dump(Path file) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file)) {
+            histogram.writePercentileDistribution(out, NANOS_PER_MILLI);
+        }
+    }
+
+    /**
+     * Returns the file named by {@value #DUMP_FILE_PROPERTY}, or {@value #DEFAULT_DUMP_FILE}.
+     *
+     * @return the dump file
+     */
+    public static Path dumpFile() {
+        return Path.of(System.getProperty(DUMP_FILE_PROPERTY, DEFAULT_DUMP_FILE));
+    }
+
+    private static int slot(long index) {
+        return (int) (index % MAX_PENDING);
+    }
+}
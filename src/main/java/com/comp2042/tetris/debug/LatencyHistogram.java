@@ -0,0 +1,201 @@
+package com.comp2042.tetris.debug;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Histogram of latencies with a fixed relative precision, in the style of HdrHistogram.
+ *
+ * <p>Values below 128 are counted exactly. Larger values share a bucket with others that
+ * agree in their top {@value #PRECISION_BITS} bits, so every reported value is within
+ * 1/64 (under 1.6%) of a recorded one. Recording is a few shifts and an array increment,
+ * and the footprint is fixed whatever the range of values.</p>
+ *
+ * <p>Not thread-safe.</p>
+ *
+ * @see InputLatencyTracker
+ */
+public final class LatencyHistogram {
+
+    /** Number of leading bits of a value that are kept. */
+    public static final int PRECISION_BITS = 7;
+
+    private static final int SUB_BUCKET_COUNT = 1 << PRECISION_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final int PERCENTILE_TICKS_PER_HALF_DISTANCE = 5;
+
+    private final long[] counts = new long[indexOf(Long.MAX_VALUE) + 1];
+    private long totalCount;
+    private long min = Long.MAX_VALUE;
+    private long max;
+    private double sum;
+
+    /**
+     * Counts a value. Negative values are counted as 0.
+     *
+     * @param value the value, normally in nanoseconds
+     */
+    public void record(long value) {
+        long clamped = Math.max(0L, value);
+        counts[indexOf(clamped)]++;
+        totalCount++;
+        min = Math.min(min, clamped);
+        max = Math.max(max, clamped);
+        sum += clamped;
+    }
+
+    /**
+     * Forgets every value.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        totalCount = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+        sum = 0;
+    }
+
+    /**
+     * Returns the number of values recorded.
+     *
+     * @return the count
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the smallest value recorded, exactly.
+     *
+     * @return the minimum, or 0 when empty
+     */
+    public long getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    /**
+     * Returns the largest value recorded, exactly.
+     *
+     * @return the maximum, or 0 when empty
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of the values recorded, exactly.
+     *
+     * @return the mean, or 0 when empty
+     */
+    public double getMean() {
+        return totalCount == 0 ? 0 : sum / totalCount;
+    }
+
+    /**
+     * Returns the value that the given share of recorded values is at or below.
+     *
+     * @param percentile the share, from 0 to 100
+     * @return the highest value in the bucket that holds the percentile, never above the
+     *         maximum; 0 when empty
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double share = Math.min(Math.max(percentile, 0.0), 100.0) / 100.0;
+        long target = Math.max(1L, (long) Math.ceil(share * totalCount));
+        long seen = 0;
+        for (int index = 0; index < counts.length; index++) {
+            seen += counts[index];
+            if (seen >= target) {
+                return Math.min(highestValueAt(index), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Writes the percentile distribution in the text format of HdrHistogram's
+     * {@code outputPercentileDistribution}, which its plotting tools read.
+     *
+     * @param out where to write
+     * @param unitScale the number of recorded units per written unit, such as
+     *                  1,000,000 to write nanoseconds as milliseconds
+     * @throws IOException if writing fails
+     */
+    public void writePercentileDistribution(Appendable out, double unitScale) throws IOException {
+        out.append(String.format(Locale.ROOT, "%12s %14s %10s %14s%n%n", "Value", "Percentile", "TotalCount", "1/(1-Percentile)"));
+        if (totalCount > 0) {
+            double percentile = 0.0;
+            while (true) {
+                long value = getValueAtPercentile(percentile);
+                long countAtValue = countAtOrBelow(value);
+                if (countAtValue == totalCount) {
+                    out.append(String.format(Locale.ROOT, "%12.3f %2.12f %10d%n", value / unitScale, 1.0, totalCount));
+                    break;
+                }
+                out.append(String.format(Locale.ROOT, "%12.3f %2.12f %10d %14.2f%n", value / unitScale,
+                        percentile / 100.0, countAtValue, 1.0 / (1.0 - percentile / 100.0)));
+                // Halve the distance to 100% every few lines, as HdrHistogram does
+                long ticks = PERCENTILE_TICKS_PER_HALF_DISTANCE
+                        * (1L << ((long) (Math.log(100.0 / (100.0 - percentile)) / Math.log(2)) + 1));
+                percentile += 100.0 / ticks;
+            }
+        }
+        out.append(String.format(Locale.ROOT, "#[Mean    = %12.3f, StdDeviation   = %12.3f]%n",
+                getMean() / unitScale, standardDeviation() / unitScale));
+        out.append(String.format(Locale.ROOT, "#[Max     = %12.3f, Total count    = %12d]%n", max / unitScale, totalCount));
+        out.append(String.format(Locale.ROOT, "#[Buckets = %12d, SubBuckets     = %12d]%n",
+                (counts.length - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT + 1, SUB_BUCKET_COUNT));
+    }
+
+    private long countAtOrBelow(long value) {
+        long seen = 0;
+        for (int index = 0; index <= indexOf(value); index++) {
+            seen += counts[index];
+        }
+        return seen;
+    }
+
+    private double standardDeviation() {
+        if (totalCount == 0) {
+            return 0;
+        }
+        double mean = getMean();
+        double squares = 0;
+        for (int index = 0; index < counts.length; index++) {
+            if (counts[index] != 0) {
+                double middle = (lowestValueAt(index) + (double) highestValueAt(index)) / 2.0;
+                squares += counts[index] * (middle - mean) * (middle - mean);
+            }
+        }
+        return Math.sqrt(squares / totalCount);
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - PRECISION_BITS + 1;
+        int mantissa = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * HALF_SUB_BUCKET_COUNT + mantissa - HALF_SUB_BUCKET_COUNT;
+    }
+
+    static long lowestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT + 1;
+        long mantissa = (index - SUB_BUCKET_COUNT) % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        return mantissa << shift;
+    }
+
+    static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT + 1;
+        return lowestValueAt(index) + (1L << shift) - 1;
+    }
+}
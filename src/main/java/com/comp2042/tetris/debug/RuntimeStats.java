@@ -0,0 +1,156 @@
+package com.comp2042.tetris.debug;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+
+/**
+ * Snapshots of the scene graph, the running animations and the JVM for the debug overlay.
+ *
+ * <p>JavaFX has no public count of running animations. Every playing
+ * {@link javafx.animation.Animation} and started {@link javafx.animation.AnimationTimer}
+ * is registered with the toolkit's primary timer, so {@link #runningAnimations()} reads
+ * the timer's registration counts reflectively. That needs
+ * {@code --add-exports javafx.graphics/com.sun.javafx.tk=ALL-UNNAMED} and
+ * {@code --add-opens javafx.graphics/com.sun.scenario.animation=ALL-UNNAMED} when JavaFX
+ * is on the module path, which the {@code debug} Maven profile adds to {@code javafx:run};
+ * without them the count is reported as unavailable.</p>
+ */
+public final class RuntimeStats {
+
+    /** Returned by {@link #runningAnimations()} when the count cannot be read. */
+    public static final int UNAVAILABLE = -1;
+
+    private static final double BYTES_PER_MEGABYTE = 1024.0 * 1024.0;
+
+    private static Object primaryTimer;
+    private static Field receiversLength;
+    private static Field animationTimersLength;
+    private static boolean probed;
+
+    private RuntimeStats() {
+    }
+
+    /**
+     * Counts a node and every node below it.
+     *
+     * @param root the subtree to count, may be null
+     * @return the number of nodes, 0 for null
+     */
+    public static int countNodes(Node root) {
+        if (root == null) {
+            return 0;
+        }
+        int count = 0;
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            count++;
+            if (node instanceof Parent parent) {
+                for (Node child : parent.getChildrenUnmodifiable()) {
+                    pending.push(child);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of animations the toolkit is currently pulsing. A playing
+     * {@code Timeline} or transition counts once, however many children it has.
+     *
+     * @return the running animation count, or {@link #UNAVAILABLE}
+     */
+    public static int runningAnimations() {
+        return readCount(receiversLength);
+    }
+
+    /**
+     * Returns the number of started {@code AnimationTimer}s, including the overlay's own.
+     *
+     * @return the running timer count, or {@link #UNAVAILABLE}
+     */
+    public static int runningAnimationTimers() {
+        return readCount(animationTimersLength);
+    }
+
+    /**
+     * Summarises the running animations and timers.
+     *
+     * @return one line of text
+     */
+    public static String animationSummary() {
+        int animations = runningAnimations();
+        int timers = runningAnimationTimers();
+        if (animations == UNAVAILABLE || timers == UNAVAILABLE) {
+            return "animations: unavailable (see RuntimeStats)";
+        }
+        return String.format(Locale.ROOT, "animations running: %d  timers: %d", animations, timers);
+    }
+
+    /**
+     * Summarises heap use and the work of each garbage collector since start-up.
+     *
+     * @return a few lines of text
+     */
+    public static String jvmSummary() {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT,
+                "heap %.1f / %.1f MB (max %.1f MB)",
+                heap.getUsed() / BYTES_PER_MEGABYTE,
+                heap.getCommitted() / BYTES_PER_MEGABYTE,
+                heap.getMax() / BYTES_PER_MEGABYTE));
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            text.append(String.format(Locale.ROOT, "\ngc %s: %d runs, %d ms",
+                    collector.getName(), collector.getCollectionCount(), collector.getCollectionTime()));
+        }
+        return text.toString();
+    }
+
+    private static int readCount(Field field) {
+        probe();
+        if (field == null) {
+            return UNAVAILABLE;
+        }
+        try {
+            return field.getInt(primaryTimer);
+        } catch (IllegalAccessException e) {
+            return UNAVAILABLE;
+        }
+    }
+
+    private static synchronized void probe() {
+        if (probed) {
+            return;
+        }
+        probed = true;
+        try {
+            Class<?> toolkitClass = Class.forName("com.sun.javafx.tk.Toolkit");
+            Object toolkit = toolkitClass.getMethod("getToolkit").invoke(null);
+            Method getPrimaryTimer = toolkitClass.getMethod("getPrimaryTimer");
+            Object timer = getPrimaryTimer.invoke(toolkit);
+            Class<?> timerClass = Class.forName("com.sun.scenario.animation.AbstractPrimaryTimer");
+            Field receivers = timerClass.getDeclaredField("receiversLength");
+            Field timers = timerClass.getDeclaredField("animationTimersLength");
+            receivers.setAccessible(true);
+            timers.setAccessible(true);
+            primaryTimer = timer;
+            receiversLength = receivers;
+            animationTimersLength = timers;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // Not exported or opened to us, or a toolkit without these internals
+            primaryTimer = null;
+            receiversLength = null;
+            animationTimersLength = null;
+        }
+    }
+}
@@ -21,7 +21,7 @@ import java.util.Objects;
  */
 public class AnimationHandler {
     private final GameStateManager gameStateManager;
-    private Duration tickInterval;
+    private long tickIntervalNanos;
     private final Runnable tickAction;
     private GameLoop gameLoop;
 
@@ -35,20 +35,37 @@ public class AnimationHandler {
      */
     public AnimationHandler(GameStateManager gameStateManager, Duration tickInterval, Runnable tickAction) {
         this.gameStateManager = Objects.requireNonNull(gameStateManager, "gameStateManager cannot be null");
-        this.tickInterval = Objects.requireNonNull(tickInterval, "tickInterval cannot be null");
+        this.tickIntervalNanos = PulseGameLoop.toNanos(Objects.requireNonNull(tickInterval, "tickInterval cannot be null"));
         this.tickAction = Objects.requireNonNull(tickAction, "tickAction cannot be null");
     }
 
     /**
      * Ensures the game loop is initialized before starting.
-     * Creates a new GameLoop if one doesn't exist.
+     * Creates a new {@link PulseGameLoop} if no loop has been set.
      */
     public void ensureInitialized() {
         if (gameLoop == null) {
-            gameLoop = new GameLoop(tickInterval, tickAction);
+            gameLoop = new PulseGameLoop(tickIntervalNanos, tickAction);
         }
     }
 
+    /**
+     * Replaces the loop that drives the game, for example with a {@link FixedStepGameLoop}
+     * that ticks on its own thread. The current tick interval is applied to it.
+     * Must be called while no game is running.
+     *
+     * @param gameLoop the loop to use from now on
+     * @throws NullPointerException if gameLoop is null
+     */
+    public void setGameLoop(GameLoop gameLoop) {
+        Objects.requireNonNull(gameLoop, "gameLoop cannot be null");
+        if (this.gameLoop != null) {
+            this.gameLoop.stop();
+        }
+        this.gameLoop = gameLoop;
+        gameLoop.updateIntervalNanos(tickIntervalNanos);
+    }
+
     /**
      * Updates the tick interval for the game loop.
      * This allows dynamic speed adjustments during gameplay.
@@ -56,12 +73,35 @@ public class AnimationHandler {
      * @param newInterval the new duration between game ticks
      */
     public void setTickInterval(Duration newInterval) {
-        this.tickInterval = newInterval;
+        setTickIntervalNanos(PulseGameLoop.toNanos(newInterval));
+    }
+
+    /**
+     * Updates the tick interval for the game loop, given in nanoseconds.
+     * Does nothing if the interval is unchanged, so it is cheap to call on every score change.
+     *
+     * @param intervalNanos the new time between game ticks in nanoseconds
+     * @see com.comp2042.tetris.model.level.GameLevel#getTickIntervalNanos(int)
+     */
+    public void setTickIntervalNanos(long intervalNanos) {
+        if (intervalNanos == tickIntervalNanos) {
+            return;
+        }
+        this.tickIntervalNanos = intervalNanos;
         if (gameLoop != null) {
-            gameLoop.updateInterval(newInterval);
+            gameLoop.updateIntervalNanos(intervalNanos);
         }
     }
 
+    /**
+     * Returns the current tick interval.
+     *
+     * @return the time between game ticks in nanoseconds
+     */
+    public long getTickIntervalNanos() {
+        return tickIntervalNanos;
+    }
+
     /**
      * Starts the game loop and transitions to the running state.
      * Initializes the game loop if not already done.
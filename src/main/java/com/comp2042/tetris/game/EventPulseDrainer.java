@@ -0,0 +1,86 @@
+package com.comp2042.tetris.game;
+
+import com.comp2042.tetris.model.event.CoalescingGameEventListener;
+import com.comp2042.tetris.model.event.RingBufferGameEventBus;
+import javafx.animation.AnimationTimer;
+
+import java.util.Objects;
+
+/**
+ * Delivers pending game events once per JavaFX pulse, so listeners run on the FX
+ * application thread just before each frame is drawn.
+ *
+ * <p>Depending on how it is built, each pulse:</p>
+ * <ul>
+ *   <li>drains the events queued on a {@link RingBufferGameEventBus}, at most one buffer's worth</li>
+ *   <li>flushes the state held back by a {@link CoalescingGameEventListener}</li>
+ *   <li>or does both, draining first so the flush includes everything drained</li>
+ * </ul>
+ *
+ * @see RingBufferGameEventBus#drain()
+ * @see CoalescingGameEventListener#flush()
+ */
+public class EventPulseDrainer {
+    private final AnimationTimer timer;
+
+    /**
+     * Creates a drainer for a bus. It does nothing until started.
+     *
+     * @param eventBus the bus to drain
+     * @throws NullPointerException if eventBus is null
+     */
+    public EventPulseDrainer(RingBufferGameEventBus eventBus) {
+        this(Objects.requireNonNull(eventBus, "eventBus")::drain);
+    }
+
+    /**
+     * Creates a drainer that flushes coalesced state. It does nothing until started.
+     *
+     * @param coalescer the listener to flush
+     * @throws NullPointerException if coalescer is null
+     */
+    public EventPulseDrainer(CoalescingGameEventListener coalescer) {
+        this(Objects.requireNonNull(coalescer, "coalescer")::flush);
+    }
+
+    /**
+     * Creates a drainer for a bus whose events reach a coalescing listener. It does nothing until started.
+     *
+     * @param eventBus the bus to drain
+     * @param coalescer the listener to flush after draining
+     * @throws NullPointerException if either argument is null
+     */
+    public EventPulseDrainer(RingBufferGameEventBus eventBus, CoalescingGameEventListener coalescer) {
+        this(drainThenFlush(Objects.requireNonNull(eventBus, "eventBus"), Objects.requireNonNull(coalescer, "coalescer")));
+    }
+
+    private EventPulseDrainer(Runnable pulseAction) {
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                pulseAction.run();
+            }
+        };
+    }
+
+    private static Runnable drainThenFlush(RingBufferGameEventBus eventBus, CoalescingGameEventListener coalescer) {
+        return () -> {
+            eventBus.drain();
+            coalescer.flush();
+        };
+    }
+
+    /**
+     * Starts draining on every pulse.
+     */
+    public void start() {
+        timer.start();
+    }
+
+    /**
+     * Stops draining. Pending events stay where they are.
+     */
+    public void stop() {
+        timer.stop();
+    }
+}
@@ -0,0 +1,461 @@
+package com.comp2042.tetris.game;
+
+import com.comp2042.tetris.controller.core.IGameController;
+import com.comp2042.tetris.model.board.BoardDelta;
+import com.comp2042.tetris.model.board.BoardView;
+import com.comp2042.tetris.model.board.ClearRow;
+import com.comp2042.tetris.model.data.ViewData;
+import com.comp2042.tetris.model.event.BrickPlacedEvent;
+import com.comp2042.tetris.model.event.EventSource;
+import com.comp2042.tetris.model.event.EventType;
+import com.comp2042.tetris.model.event.GameEventListener;
+import com.comp2042.tetris.model.event.GameEventPublisher;
+import com.comp2042.tetris.model.event.GameStateSnapshot;
+import com.comp2042.tetris.model.event.MoveEvent;
+import com.comp2042.tetris.model.event.ScoreChangeEvent;
+import com.comp2042.tetris.model.level.GameLevel;
+import javafx.util.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link GameLoop} that advances the game on a dedicated logic thread instead of the
+ * JavaFX application thread, so drop timing does not share the jitter of layout, CSS
+ * and effects.
+ *
+ * <p>The logic thread:</p>
+ * <ul>
+ *   <li>Advances time in fixed steps using a nanosecond accumulator; after a stall it
+ *       catches up at most {@link #MAX_CATCH_UP_STEPS} steps and drops the rest</li>
+ *   <li>Feeds each step to a {@link GravityScheduler}, so the average drop rate is
+ *       exact even though each drop lands on a step</li>
+ *   <li>Runs input taken from a lock-free queue as soon as it is woken, before the next step</li>
+ * </ul>
+ *
+ * <p>The loop is also the {@link IGameController} handed to the view: every call is
+ * queued and made on the logic thread, as are the {@link GameLoop} calls, so the game
+ * is only ever touched by one thread and sees start, pause and input in the order the
+ * FX thread issued them.</p>
+ *
+ * <p>The game must publish to {@link #getEventPublisher()}. It copies board views
+ * before passing them on, because the board keeps changing after the event is
+ * published, and stops gravity at game over. The downstream publisher is normally a
+ * {@link com.comp2042.tetris.model.event.RingBufferGameEventBus} drained on the FX
+ * thread by an {@link EventPulseDrainer}.</p>
+ *
+ * @see AnimationHandler#setGameLoop(GameLoop)
+ */
+public final class FixedStepGameLoop implements GameLoop, IGameController, AutoCloseable {
+
+    /** Length of a logic step by default: 120 steps per second. */
+    public static final long DEFAULT_STEP_NANOS = TimeUnit.SECONDS.toNanos(1) / 120;
+    /** Most steps run in one go after the thread was held up; older time is dropped. */
+    public static final int MAX_CATCH_UP_STEPS = 12;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FixedStepGameLoop.class);
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+
+    private final long stepNanos;
+    private final LongSupplier clock;
+    private final GameEventPublisher eventPublisher;
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private volatile Thread thread;
+    private volatile boolean running;
+    private IGameController game;
+
+    // Owned by the logic thread
+    private final GravityScheduler gravity = new GravityScheduler(TimeUnit.SECONDS.toNanos(1));
+    private boolean gravityActive;
+    private long steps;
+    private long drops;
+    private long previous;
+    private long accumulator;
+
+    /**
+     * Creates a loop with the {@linkplain #DEFAULT_STEP_NANOS default step}.
+     *
+     * @param downstream the publisher that receives the game's events
+     * @throws NullPointerException if downstream is null
+     */
+    public FixedStepGameLoop(GameEventPublisher downstream) {
+        this(downstream, DEFAULT_STEP_NANOS);
+    }
+
+    /**
+     * Creates a loop. It does nothing until {@linkplain #launch(IGameController) launched}.
+     *
+     * @param downstream the publisher that receives the game's events
+     * @param stepNanos the length of a logic step in nanoseconds
+     * @throws NullPointerException if downstream is null
+     * @throws IllegalArgumentException if stepNanos is not positive
+     */
+    public FixedStepGameLoop(GameEventPublisher downstream, long stepNanos) {
+        this(downstream, stepNanos, System::nanoTime);
+    }
+
+    /**
+     * Creates a loop that reads the time from the given clock.
+     *
+     * @param downstream the publisher that receives the game's events
+     * @param stepNanos the length of a logic step in nanoseconds
+     * @param clock supplies the current time in nanoseconds, like {@link System#nanoTime()}
+     * @throws NullPointerException if downstream or clock is null
+     * @throws IllegalArgumentException if stepNanos is not positive
+     */
+    public FixedStepGameLoop(GameEventPublisher downstream, long stepNanos, LongSupplier clock) {
+        if (stepNanos <= 0) {
+            throw new IllegalArgumentException("FixedStepGameLoop: step must be positive, was " + stepNanos);
+        }
+        this.eventPublisher = new LogicThreadPublisher(Objects.requireNonNull(downstream, "downstream cannot be null"));
+        this.stepNanos = stepNanos;
+        this.clock = Objects.requireNonNull(clock, "clock cannot be null");
+    }
+
+    /**
+     * Returns the publisher the game must be built with.
+     *
+     * @return a publisher that detaches board views and forwards to the downstream publisher
+     */
+    public GameEventPublisher getEventPublisher() {
+        return eventPublisher;
+    }
+
+    /**
+     * Starts the logic thread for a game. Commands queued before this call run first.
+     *
+     * @param game the controller that plays the game; only called from the logic thread
+     * @throws NullPointerException if game is null
+     * @throws IllegalStateException if the loop was already launched
+     */
+    public synchronized void launch(IGameController game) {
+        attach(game);
+        Thread logic = new Thread(this::run, "game-logic");
+        logic.setDaemon(true);
+        thread = logic;
+        logic.start();
+    }
+
+    /**
+     * Binds a game without starting the logic thread; the caller then becomes the logic
+     * thread and drives the loop with {@link #runDue()}.
+     *
+     * @param game the controller that plays the game
+     * @throws NullPointerException if game is null
+     * @throws IllegalStateException if the loop was already launched
+     */
+    synchronized void attach(IGameController game) {
+        Objects.requireNonNull(game, "game cannot be null");
+        if (this.game != null) {
+            throw new IllegalStateException("FixedStepGameLoop: already launched");
+        }
+        this.game = game;
+        previous = clock.getAsLong();
+        running = true;
+    }
+
+    /**
+     * Stops the logic thread and waits for the current step to finish.
+     * Commands still queued are discarded.
+     */
+    @Override
+    public void close() {
+        running = false;
+        Thread logic = thread;
+        if (logic == null || logic == Thread.currentThread()) {
+            return;
+        }
+        LockSupport.unpark(logic);
+        try {
+            logic.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the number of logic steps run so far. Only exact when read on the logic thread.
+     *
+     * @return the step count
+     */
+    public long getStepCount() {
+        return steps;
+    }
+
+    /**
+     * Returns the number of gravity drops made so far. Only exact when read on the logic thread.
+     *
+     * @return the drop count
+     */
+    public long getDropCount() {
+        return drops;
+    }
+
+    // GameLoop: called from the FX thread, applied on the logic thread
+
+    /**
+     * {@inheritDoc}
+     * The first drop comes one full interval after the command runs.
+     */
+    @Override
+    public void start() {
+        submit(() -> {
+            gravity.reset();
+            gravityActive = true;
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void resume() {
+        submit(() -> gravityActive = true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pause() {
+        submit(() -> gravityActive = false);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The logic thread keeps running so it can take the next game's commands.
+     */
+    @Override
+    public void stop() {
+        submit(() -> {
+            gravityActive = false;
+            gravity.reset();
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * Time already accumulated towards the next drop is kept.
+     */
+    @Override
+    public void updateInterval(Duration newInterval) {
+        updateIntervalNanos(PulseGameLoop.toNanos(newInterval));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Time already accumulated towards the next drop is kept.
+     */
+    @Override
+    public void updateIntervalNanos(long intervalNanos) {
+        submit(() -> gravity.setIntervalNanos(intervalNanos));
+    }
+
+    // IGameController: queued for the logic thread
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onDownEvent(MoveEvent event) {
+        submit(() -> game.onDownEvent(event));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onLeftEvent(MoveEvent event) {
+        submit(() -> game.onLeftEvent(event));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onRightEvent(MoveEvent event) {
+        submit(() -> game.onRightEvent(event));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onSlideEvent(MoveEvent event) {
+        submit(() -> game.onSlideEvent(event));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onRotateEvent(MoveEvent event) {
+        submit(() -> game.onRotateEvent(event));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onInstantDropEvent(MoveEvent event) {
+        submit(() -> game.onInstantDropEvent(event));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void createNewGame() {
+        submit(() -> game.createNewGame());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setLevel(GameLevel level) {
+        submit(() -> game.setLevel(level));
+    }
+
+    private void submit(Runnable command) {
+        commands.add(command);
+        Thread logic = thread;
+        if (logic != null) {
+            LockSupport.unpark(logic);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            long untilNextStep = runDue();
+            if (commands.isEmpty()) {
+                LockSupport.parkNanos(this, untilNextStep);
+            }
+        }
+    }
+
+    /**
+     * Runs the queued commands, then every step that fell due since the previous call.
+     *
+     * @return the nanoseconds until the next step is due
+     */
+    long runDue() {
+        runCommands();
+        long now = clock.getAsLong();
+        accumulator = Math.min(accumulator + now - previous, MAX_CATCH_UP_STEPS * stepNanos);
+        previous = now;
+        while (accumulator >= stepNanos && running) {
+            accumulator -= stepNanos;
+            step();
+        }
+        return stepNanos - accumulator;
+    }
+
+    private void runCommands() {
+        Runnable command;
+        while (running && (command = commands.poll()) != null) {
+            try {
+                command.run();
+            } catch (RuntimeException e) {
+                LOGGER.error("FixedStepGameLoop: command failed", e);
+            }
+        }
+    }
+
+    private void step() {
+        steps++;
+        if (!gravityActive) {
+            return;
+        }
+        for (int due = gravity.advance(stepNanos); due > 0 && gravityActive; due--) {
+            drops++;
+            try {
+                game.onDownEvent(GRAVITY);
+            } catch (RuntimeException e) {
+                LOGGER.error("FixedStepGameLoop: gravity tick failed", e);
+            }
+        }
+    }
+
+    private static BoardView detach(BoardView view) {
+        long version = view.version();
+        return BoardView.live(view.snapshot(), () -> version);
+    }
+
+    /**
+     * Publisher used by the game on the logic thread.
+     */
+    private final class LogicThreadPublisher implements GameEventPublisher {
+        private final GameEventPublisher downstream;
+
+        LogicThreadPublisher(GameEventPublisher downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void registerListener(GameEventListener listener) {
+            downstream.registerListener(listener);
+        }
+
+        @Override
+        public void unregisterListener(GameEventListener listener) {
+            downstream.unregisterListener(listener);
+        }
+
+        @Override
+        public void publishGameInitialized(GameStateSnapshot snapshot) {
+            downstream.publishGameInitialized(snapshot);
+        }
+
+        @Override
+        public void publishScoreChanged(ScoreChangeEvent event) {
+            downstream.publishScoreChanged(event);
+        }
+
+        @Override
+        public void publishBrickUpdated(ViewData viewData) {
+            downstream.publishBrickUpdated(viewData);
+        }
+
+        @Override
+        public void publishBoardUpdated(int[][] boardMatrix) {
+            downstream.publishBoardUpdated(boardMatrix);
+        }
+
+        @Override
+        public void publishBoardUpdated(BoardView boardView) {
+            downstream.publishBoardUpdated(detach(boardView));
+        }
+
+        @Override
+        public void publishBoardDelta(BoardDelta delta) {
+            downstream.publishBoardDelta(new BoardDelta(delta.fromVersion(), delta.toVersion(),
+                    delta.firstRow(), delta.lastRow(), detach(delta.view())));
+        }
+
+        @Override
+        public void publishLinesCleared(ClearRow clearRow) {
+            // Boards hand over their live matrix, which the logic thread keeps mutating
+            downstream.publishLinesCleared(new ClearRow(clearRow.linesRemoved(), clearRow.newMatrix(),
+                    clearRow.scoreBonus(), clearRow.clearedRowIndices()));
+        }
+
+        @Override
+        public void publishGameOver() {
+            // The view stops the loop once it sees the event; no more drops until then
+            gravityActive = false;
+            downstream.publishGameOver();
+        }
+
+        @Override
+        public void publishBrickPlaced(BrickPlacedEvent event) {
+            downstream.publishBrickPlaced(event);
+        }
+    }
+}
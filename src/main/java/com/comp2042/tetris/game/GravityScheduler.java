@@ -0,0 +1,88 @@
+package com.comp2042.tetris.game;
+
+/**
+ * Decides when gravity drops the falling brick by accumulating elapsed time against
+ * the current tick interval.
+ *
+ * <p>Changing the interval is a field write: the time since the last drop is kept, so
+ * a speed-up never resets the phase of the next drop and calling
+ * {@link #setIntervalNanos(long)} with the same value on every score change costs
+ * nothing. A remainder is carried from one drop to the next, so the average drop
+ * rate is exact whatever the length of the steps it is advanced by.</p>
+ *
+ * <p>Not thread-safe: it belongs to the thread that drives the game loop.</p>
+ *
+ * @see PulseGameLoop
+ * @see FixedStepGameLoop
+ */
+public final class GravityScheduler {
+    private long intervalNanos;
+    private long elapsedNanos;
+
+    /**
+     * Creates a scheduler whose first drop is one interval away.
+     *
+     * @param intervalNanos the time between drops in nanoseconds
+     * @throws IllegalArgumentException if intervalNanos is not positive
+     */
+    public GravityScheduler(long intervalNanos) {
+        setIntervalNanos(intervalNanos);
+    }
+
+    /**
+     * Returns the time between drops.
+     *
+     * @return the interval in nanoseconds
+     */
+    public long getIntervalNanos() {
+        return intervalNanos;
+    }
+
+    /**
+     * Changes the time between drops. The time already elapsed since the last drop
+     * counts towards the next one.
+     *
+     * @param intervalNanos the new interval in nanoseconds
+     * @throws IllegalArgumentException if intervalNanos is not positive
+     */
+    public void setIntervalNanos(long intervalNanos) {
+        if (intervalNanos <= 0) {
+            throw new IllegalArgumentException("GravityScheduler: interval must be positive, was " + intervalNanos);
+        }
+        this.intervalNanos = intervalNanos;
+    }
+
+    /**
+     * Adds elapsed time and returns how many drops fell due.
+     *
+     * @param deltaNanos the time since the previous call; negative values are ignored
+     * @return the number of drops to perform now
+     */
+    public int advance(long deltaNanos) {
+        if (deltaNanos > 0) {
+            elapsedNanos += deltaNanos;
+        }
+        if (elapsedNanos < intervalNanos) {
+            return 0;
+        }
+        long drops = elapsedNanos / intervalNanos;
+        elapsedNanos -= drops * intervalNanos;
+        return (int) Math.min(drops, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the time left until the next drop.
+     *
+     * @return the nanoseconds until {@link #advance(long)} next returns a drop; 0 if one is due
+     */
+    public long getNanosUntilNextDrop() {
+        return Math.max(0L, intervalNanos - elapsedNanos);
+    }
+
+    /**
+     * Forgets the time elapsed since the last drop, so the next drop is a full interval away.
+     */
+    public void reset() {
+        elapsedNanos = 0;
+    }
+}
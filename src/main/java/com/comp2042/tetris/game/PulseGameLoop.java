@@ -0,0 +1,122 @@
+package com.comp2042.tetris.game;
+
+import javafx.animation.AnimationTimer;
+import javafx.util.Duration;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GameLoop} that runs the tick action on the FX application thread, checking
+ * once per pulse whether gravity is due.
+ *
+ * <p>A single {@link AnimationTimer} lives as long as the loop. Speed changes go to a
+ * {@link GravityScheduler}, so they take effect without rebuilding any animation
+ * and without moving the next drop back to a full interval away.</p>
+ *
+ * <p>After a long stall, such as the window being dragged, at most
+ * {@link #MAX_PULSE_NANOS} of the missed time is made up.</p>
+ *
+ * @see AnimationHandler
+ * @see FixedStepGameLoop
+ */
+public class PulseGameLoop implements GameLoop {
+
+    /** Most time counted for one pulse. */
+    public static final long MAX_PULSE_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private static final long NO_PULSE = Long.MIN_VALUE;
+
+    private final Runnable tickAction;
+    private final GravityScheduler gravity;
+    private final AnimationTimer timer;
+    private long lastPulse = NO_PULSE;
+
+    /**
+     * Constructs a new PulseGameLoop with the specified tick interval and action.
+     *
+     * @param intervalNanos the time between ticks in nanoseconds
+     * @param tickAction the action to execute on each tick
+     * @throws NullPointerException if tickAction is null
+     * @throws IllegalArgumentException if intervalNanos is not positive
+     */
+    public PulseGameLoop(long intervalNanos, Runnable tickAction) {
+        this.tickAction = Objects.requireNonNull(tickAction, "tickAction cannot be null");
+        this.gravity = new GravityScheduler(intervalNanos);
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onPulse(now);
+            }
+        };
+    }
+
+    private void onPulse(long now) {
+        if (lastPulse == NO_PULSE) {
+            lastPulse = now;
+            return;
+        }
+        long elapsed = Math.min(now - lastPulse, MAX_PULSE_NANOS);
+        lastPulse = now;
+        for (int drops = gravity.advance(elapsed); drops > 0; drops--) {
+            tickAction.run();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() {
+        gravity.reset();
+        lastPulse = NO_PULSE;
+        timer.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void resume() {
+        lastPulse = NO_PULSE;
+        timer.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pause() {
+        timer.stop();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        timer.stop();
+        gravity.reset();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The time since the last drop is kept.
+     */
+    @Override
+    public void updateInterval(Duration newInterval) {
+        updateIntervalNanos(toNanos(newInterval));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateIntervalNanos(long intervalNanos) {
+        gravity.setIntervalNanos(intervalNanos);
+    }
+
+    static long toNanos(Duration interval) {
+        return Math.max(1L, Math.round(interval.toMillis() * 1_000_000d));
+    }
+}
@@ -2,10 +2,17 @@ package com.comp2042.tetris.main;
 
 import com.comp2042.tetris.controller.core.GameController;
 import com.comp2042.tetris.controller.core.IGameController;
-import com.comp2042.tetris.model.board.SimpleBoard;
 import com.comp2042.tetris.model.event.GameEventPublisher;
 import com.comp2042.tetris.model.event.SimpleGameEventBus;
+import com.comp2042.tetris.replay.RecordingGameController;
+import com.comp2042.tetris.replay.ReplayWriter;
+import com.comp2042.tetris.utils.AudioManager;
+import com.comp2042.tetris.utils.GameRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -27,8 +34,11 @@ import java.util.function.Consumer;
  * @see IGameController
  */
 public class GameComponentBuilder {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GameComponentBuilder.class);
     private Supplier<GameEventPublisher> eventBusSupplier = SimpleGameEventBus::new;
-    private Function<GameEventPublisher, IGameController> controllerFactory = eventBus -> new GameController(() -> new SimpleBoard(23, 13), eventBus);
+    private Function<GameEventPublisher, IGameController> controllerFactory = this::createDefaultController;
+    private Long seed;
+    private OutputStream replayOutput;
 
     /**
      * Creates a new builder with default configuration.
@@ -61,6 +71,46 @@ public class GameComponentBuilder {
         return this;
     }
 
+    /**
+     * Seeds the default controller so the brick sequence and garbage are reproducible.
+     * Without a seed every game is seeded unpredictably.
+     *
+     * @param seed the game seed
+     * @return this builder for method chaining
+     */
+    public GameComponentBuilder withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Records every call made to the default controller as a replay stream.
+     * The returned controller is then a {@link RecordingGameController}, which
+     * should be closed when the application stops.
+     *
+     * @param out the destination of the replay
+     * @return this builder for method chaining
+     */
+    public GameComponentBuilder withReplayRecording(OutputStream out) {
+        this.replayOutput = Objects.requireNonNull(out, "out");
+        return this;
+    }
+
+    private IGameController createDefaultController(GameEventPublisher eventBus) {
+        // One random source per game, so the seed alone is enough to replay it
+        GameRandom random = seed != null ? new GameRandom(seed) : new GameRandom();
+        GameController controller = GameController.create(random, eventBus, () -> AudioManager.getInstance().playRotation());
+        if (replayOutput == null) {
+            return controller;
+        }
+        try {
+            return new RecordingGameController(controller, new ReplayWriter(replayOutput, random.getSeed()));
+        } catch (IOException e) {
+            LOGGER.warn("Replay recording disabled: {}", e.getMessage());
+            return controller;
+        }
+    }
+
     /**
      * Builds the game components with default configuration.
      *
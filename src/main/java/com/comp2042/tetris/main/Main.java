@@ -6,12 +6,24 @@ import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 import com.comp2042.tetris.controller.ui.GuiController;
+import com.comp2042.tetris.controller.core.IGameController;
 import com.comp2042.tetris.controller.ui.DefaultGuiControllerDependenciesFactory;
+import com.comp2042.tetris.controller.ui.GuiControllerDependencies;
+import com.comp2042.tetris.debug.InputLatencyTracker;
+import com.comp2042.tetris.game.EventPulseDrainer;
+import com.comp2042.tetris.game.FixedStepGameLoop;
+import com.comp2042.tetris.model.event.CoalescingGameEventListener;
 import com.comp2042.tetris.model.event.GameEventBusProvider;
 import com.comp2042.tetris.model.event.GameEventListener;
 import com.comp2042.tetris.model.event.GameEventPublisher;
+import com.comp2042.tetris.model.event.RingBufferGameEventBus;
+import com.comp2042.tetris.replay.RecordingGameController;
 import com.comp2042.tetris.view.UIConstants;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ResourceBundle;
 
 /**
@@ -31,6 +43,18 @@ import java.util.ResourceBundle;
  */
 public class Main extends Application {
 
+    /** System property naming a directory where every session is recorded as a replay. */
+    public static final String REPLAY_DIR_PROPERTY = "tetris.replay.dir";
+    /** System property selecting the event bus; {@code ring} queues events and delivers them once per frame. */
+    public static final String EVENT_BUS_PROPERTY = "tetris.eventbus";
+    /** System property selecting the game loop; {@code thread} runs the game on its own fixed-step thread. */
+    public static final String GAME_LOOP_PROPERTY = "tetris.loop";
+
+    private RecordingGameController sessionRecording;
+    private EventPulseDrainer eventDrainer;
+    private FixedStepGameLoop logicLoop;
+    private InputLatencyTracker latencyTracker;
+
     /**
      * Starts the JavaFX application by loading the FXML layout,
      * initializing game components, and displaying the main window.
@@ -48,19 +72,56 @@ public class Main extends Application {
         GuiController c = fxmlLoader.getController();
 
         DefaultGuiControllerDependenciesFactory dependenciesFactory = new DefaultGuiControllerDependenciesFactory();
-        c.setDependencies(dependenciesFactory.create(c));
+        GuiControllerDependencies dependencies = dependenciesFactory.create(c);
+        c.setDependencies(dependencies);
+        latencyTracker = dependencies.latencyTracker();
 
         GameComponentBuilder builder = GameComponentBuilder.createDefault();
+        String replayDir = System.getProperty(REPLAY_DIR_PROPERTY);
+        if (replayDir != null) {
+            builder.withReplayRecording(openReplayFile(Path.of(replayDir)));
+        }
+        RingBufferGameEventBus ringBus = null;
+        boolean threaded = "thread".equals(System.getProperty(GAME_LOOP_PROPERTY));
+        if (threaded || "ring".equals(System.getProperty(EVENT_BUS_PROPERTY))) {
+            ringBus = new RingBufferGameEventBus();
+        }
+        if (threaded) {
+            // The logic thread is the only publisher; the FX thread drains
+            logicLoop = new FixedStepGameLoop(ringBus);
+            builder.withEventBusSupplier(logicLoop::getEventPublisher);
+        } else if (ringBus != null) {
+            RingBufferGameEventBus bus = ringBus;
+            builder.withEventBusSupplier(() -> bus);
+        }
         GameComponentBuilder.GameComponents components;
+        CoalescingGameEventListener coalescer;
 
         if (c instanceof GameEventListener listener) {
-            components = builder.build(eventBus -> eventBus.registerListener(listener));
+            // The view only needs the latest brick, score and board once per frame
+            coalescer = new CoalescingGameEventListener(listener);
+            components = builder.build(eventBus -> eventBus.registerListener(coalescer));
         } else {
             throw new IllegalStateException("GuiController must implement GameEventListener");
         }
         GameEventPublisher eventBus = components.eventBus();
         GameEventBusProvider.initialize(eventBus);
-        c.setGameController(components.gameController());
+        if (ringBus != null) {
+            eventDrainer = new EventPulseDrainer(ringBus, coalescer);
+        } else {
+            eventDrainer = new EventPulseDrainer(coalescer);
+        }
+        eventDrainer.start();
+        IGameController gameController = components.gameController();
+        if (gameController instanceof RecordingGameController recording) {
+            sessionRecording = recording;
+        }
+        if (logicLoop != null) {
+            logicLoop.launch(gameController);
+            dependencies.animationHandler().setGameLoop(logicLoop);
+            gameController = logicLoop;
+        }
+        c.setGameController(gameController);
 
         primaryStage.setTitle("TetrisJFX");
         primaryStage.setResizable(false);
@@ -70,6 +131,33 @@ public class Main extends Application {
         primaryStage.show();
     }
 
+    /**
+     * Finishes the session replay, if one is being recorded, and writes the input latency
+     * histogram if {@value InputLatencyTracker#DUMP_FILE_PROPERTY} is set.
+     *
+     * @throws IOException if the replay or the histogram cannot be written
+     */
+    @Override
+    public void stop() throws IOException {
+        if (eventDrainer != null) {
+            eventDrainer.stop();
+        }
+        if (logicLoop != null) {
+            logicLoop.close();
+        }
+        if (sessionRecording != null) {
+            sessionRecording.close();
+        }
+        if (latencyTracker != null && System.getProperty(InputLatencyTracker.DUMP_FILE_PROPERTY) != null) {
+            latencyTracker.dump(InputLatencyTracker.dumpFile());
+        }
+    }
+
+    private static OutputStream openReplayFile(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        return Files.newOutputStream(directory.resolve("session-" + System.currentTimeMillis() + ".trpl"));
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
@@ -0,0 +1,582 @@
+package com.comp2042.tetris.model.board;
+
+import com.comp2042.tetris.model.bricks.ActivePiece;
+import com.comp2042.tetris.model.bricks.Brick;
+import com.comp2042.tetris.model.bricks.BrickGenerator;
+import com.comp2042.tetris.model.bricks.BrickRotator;
+import com.comp2042.tetris.model.bricks.BrickType;
+import com.comp2042.tetris.model.bricks.RandomBrickGenerator;
+import com.comp2042.tetris.model.bricks.RotationState;
+import com.comp2042.tetris.model.data.ViewData;
+import com.comp2042.tetris.model.level.ClassicLevel;
+import com.comp2042.tetris.model.level.GameLevel;
+import com.comp2042.tetris.model.score.Score;
+import com.comp2042.tetris.model.score.ScoreCalculator;
+import com.comp2042.tetris.utils.MatrixOperations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bitboard implementation of {@link Board}.
+ * Keeps one {@code long} occupancy mask per row (bit {@code c} set when column {@code c}
+ * is filled) alongside a separate colour plane that is only used for rendering.
+ *
+ * <p>Collision, merge and full-row detection work on whole rows at a time:</p>
+ * <ul>
+ *   <li>Collision - one AND per shape row against the shifted brick mask</li>
+ *   <li>Merge - one OR per shape row</li>
+ *   <li>Full rows - one compare per row against the full-row mask</li>
+ * </ul>
+ *
+ * <p>Behaviour (spawn position, wall kicks, rotation limits, garbage rows)
+ * matches {@link SimpleBoard}, so the two can be swapped freely. Boards are
+ * limited to {@value #MAX_COLS} columns.</p>
+ *
+ * @see Board
+ * @see SimpleBoard
+ */
+public class BitBoard implements Board {
+
+    /** Maximum number of columns that fit in a single row mask. */
+    public static final int MAX_COLS = Long.SIZE;
+
+    private static final int[] NO_CLEARED_ROWS = new int[0];
+
+    private final int rows;
+    private final int cols;
+    private final long fullRowMask;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private final Score score;
+
+    private final long[] occupancy;
+    private final int[][] colourPlane;
+    private final int[][] rowScratch;
+    private final int[] fullRowScratch;
+    private final Skyline skyline;
+    private final BoardView boardView = new LiveView();
+    private final DirtyRows dirtyRows;
+    private final ZobristHash zobrist;
+    private long boardVersion;
+    // Rows that may have filled up since the last clear; empty when firstCandidate > lastCandidate
+    private int firstCandidate;
+    private int lastCandidate = -1;
+
+    private RotationState currentState;
+    private final ActivePiece activePiece = new ActivePiece();
+    private long previewKey;
+
+    private GameLevel currentLevel;
+    private int currentBrickRotationCount = 0;
+
+    /**
+     * Constructs a BitBoard with default brick generator, rotator, and score.
+     *
+     * @param rows the number of rows in the board
+     * @param cols the number of columns in the board (at most {@value #MAX_COLS})
+     * @throws IllegalArgumentException if the dimensions are not supported
+     */
+    public BitBoard(int rows, int cols) {
+        this(rows, cols, new RandomBrickGenerator(), new BrickRotator(), new Score());
+    }
+
+    /**
+     * Constructs a BitBoard with custom components for testing or special game modes.
+     *
+     * @param rows the number of rows in the board
+     * @param cols the number of columns in the board (at most {@value #MAX_COLS})
+     * @param brickGenerator the generator for creating new bricks
+     * @param brickRotator the rotator for handling brick rotation
+     * @param score the score tracker
+     * @throws IllegalArgumentException if the dimensions are not supported
+     */
+    public BitBoard(int rows, int cols, BrickGenerator brickGenerator, BrickRotator brickRotator, Score score) {
+        if (rows <= 0 || cols <= 0 || cols > MAX_COLS) {
+            throw new IllegalArgumentException("BitBoard supports 1.." + MAX_COLS + " columns, got " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.fullRowMask = cols == MAX_COLS ? -1L : (1L << cols) - 1;
+        this.brickGenerator = brickGenerator;
+        this.brickRotator = brickRotator;
+        this.score = score;
+        this.occupancy = new long[rows];
+        this.colourPlane = new int[rows][cols];
+        this.rowScratch = new int[rows][];
+        this.fullRowScratch = new int[rows];
+        this.skyline = new Skyline(rows, cols);
+        this.dirtyRows = new DirtyRows(rows);
+        this.zobrist = new ZobristHash(rows);
+        this.firstCandidate = rows;
+        this.currentLevel = new ClassicLevel();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setLevel(GameLevel level) {
+        this.currentLevel = level;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(0, 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(-1, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(1, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int slideBrickLeft() {
+        return slide(-1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int slideBrickRight() {
+        return slide(1);
+    }
+
+    private int slide(int dx) {
+        int x = activePiece.getX();
+        int y = activePiece.getY();
+        int columns = 0;
+        // An empty shape never collides; it cannot travel further than the board is wide
+        while (columns < cols && !collides(x + (columns + 1) * dx, y)) {
+            columns++;
+        }
+        if (columns > 0) {
+            activePiece.translate(columns * dx, 0);
+        }
+        return columns;
+    }
+
+    private boolean tryMove(int dx, int dy) {
+        if (collides(activePiece.getX() + dx, activePiece.getY() + dy)) {
+            return false;
+        }
+        activePiece.translate(dx, dy);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean rotateLeftBrick() {
+        int limit = currentLevel.getRotationLimit();
+        if (limit != -1 && currentBrickRotationCount >= limit) {
+            return false;
+        }
+
+        // The colour plane doubles as the logical matrix expected by the rotation strategy
+        if (!brickRotator.tryRotateLeft(colourPlane, activePiece)) {
+            return false;
+        }
+        currentState = brickRotator.getCurrentState();
+        currentBrickRotationCount++;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean createNewBrick() {
+        currentBrickRotationCount = 0;
+        Brick currentBrick = brickGenerator.getBrick();
+        brickRotator.setBrick(currentBrick);
+        currentState = brickRotator.getCurrentState();
+
+        int shapeWidth = currentState.width();
+        int spawnX = Math.min((cols - shapeWidth) / 2, Math.max(0, cols - shapeWidth));
+        activePiece.moveTo(spawnX, 1);
+        previewKey = ZobristHash.previewKey(brickGenerator.getNextBricks(ZobristHash.PREVIEW_DEPTH));
+        return collides(activePiece.getX(), activePiece.getY());
+    }
+
+    /**
+     * Checks the current rotation state's row masks against the walls, floor and occupied cells.
+     *
+     * @param x the horizontal position of the shape's top-left corner
+     * @param y the vertical position of the shape's top-left corner
+     * @return true if any filled cell would be out of bounds or overlap the board
+     */
+    private boolean collides(int x, int y) {
+        if (currentState.isEmpty()) {
+            return false;
+        }
+        if (x + currentState.leftExtent() < 0 || x + currentState.rightExtent() >= cols) {
+            return true;
+        }
+        for (int row = currentState.topExtent(); row <= currentState.bottomExtent(); row++) {
+            long mask = currentState.rowMask(row);
+            if (mask == 0) {
+                continue;
+            }
+            int boardRow = y + row;
+            if (boardRow < 0 || boardRow >= rows) {
+                return true;
+            }
+            if ((occupancy[boardRow] & shift(mask, x)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long shift(long mask, int x) {
+        return x >= 0 ? mask << x : mask >>> -x;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        return MatrixOperations.copy(colourPlane);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Row masks come straight from the occupancy bitboard.
+     */
+    @Override
+    public BoardView getBoardView() {
+        return boardView;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BoardDelta takeBoardDelta() {
+        return dirtyRows.take(boardView);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ViewData getViewData() {
+        List<int[][]> nextBricksShapes = new ArrayList<>();
+        for (Brick brick : brickGenerator.getNextBricks(3)) {
+            nextBricksShapes.add(brick.getRotationStates().get(0).shape());
+        }
+        return new ViewData(currentState.shape(), activePiece.getX(), activePiece.getY(), nextBricksShapes, calculateGhostPosition(),
+                brickRotator.getCurrentShapeIndex(), brickRotator.getRotationStateCount(), currentBrickRotationCount);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Jumps straight to the landing row computed from the skyline.
+     */
+    @Override
+    public int hardDropBrick() {
+        int landingY = calculateGhostPosition();
+        int dropped = landingY - activePiece.getY();
+        activePiece.moveTo(activePiece.getX(), landingY);
+        return dropped;
+    }
+
+    private int calculateGhostPosition() {
+        int landingY = skyline.landingY(currentState, activePiece.getX(), activePiece.getY());
+        if (landingY != Skyline.BELOW_SURFACE) {
+            return landingY;
+        }
+
+        // The brick sits under an overhang, so probe row by row
+        int ghostY = activePiece.getY();
+        while (!collides(activePiece.getX(), ghostY + 1)) {
+            ghostY++;
+        }
+        return ghostY;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void mergeBrickToBackground() {
+        int x = activePiece.getX();
+        int y = activePiece.getY();
+        for (int row = currentState.topExtent(); row <= currentState.bottomExtent(); row++) {
+            occupancy[y + row] |= shift(currentState.rowMask(row), x);
+        }
+        for (int cell = 0; cell < currentState.cellCount(); cell++) {
+            int row = y + currentState.cellRow(cell);
+            int col = x + currentState.cellCol(cell);
+            zobrist.cellChanged(row, col, colourPlane[row][col], currentState.cellValue(cell));
+            colourPlane[row][col] = currentState.cellValue(cell);
+        }
+        skyline.onMerged(currentState, x, y);
+        dirtyRows.mark(y + currentState.topExtent(), y + currentState.bottomExtent());
+        addCandidates(y + currentState.topExtent(), y + currentState.bottomExtent());
+        boardVersion++;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Full rows are found with a single mask compare per row written since the last
+     * clear. The stack above the lowest cleared row is compacted towards the bottom by
+     * moving row references, and the cleared colour rows are zeroed and reused on top
+     * of it, so nothing is reallocated and rows above the stack are never touched.
+     */
+    @Override
+    public ClearRow clearRows() {
+        int fullRows = 0;
+        for (int row = firstCandidate; row <= lastCandidate; row++) {
+            if (occupancy[row] == fullRowMask) {
+                fullRowScratch[fullRows++] = row;
+            }
+        }
+        firstCandidate = rows;
+        lastCandidate = -1;
+        if (fullRows == 0) {
+            return new ClearRow(0, colourPlane, 0, NO_CLEARED_ROWS);
+        }
+        int[] clearedRows = Arrays.copyOf(fullRowScratch, fullRows);
+
+        int top = skyline.highestRow();
+        int lowest = clearedRows[fullRows - 1];
+        zobrist.excludeRows(top, lowest);
+        int cleared = fullRows - 1;
+        int writeRow = lowest;
+        for (int readRow = lowest; readRow >= top; readRow--) {
+            if (cleared >= 0 && clearedRows[cleared] == readRow) {
+                rowScratch[cleared--] = colourPlane[readRow];
+                continue;
+            }
+            zobrist.moveRow(readRow, writeRow);
+            occupancy[writeRow] = occupancy[readRow];
+            colourPlane[writeRow] = colourPlane[readRow];
+            writeRow--;
+        }
+        for (int i = 0; i < fullRows; i++) {
+            int row = top + i;
+            Arrays.fill(rowScratch[i], 0);
+            colourPlane[row] = rowScratch[i];
+            rowScratch[i] = null;
+            occupancy[row] = 0L;
+            zobrist.setRow(row, colourPlane[row]);
+        }
+        zobrist.includeRows(top, lowest);
+        skyline.onRowsCleared(colourPlane);
+        // Every row of the stack above the lowest cleared one has shifted down
+        dirtyRows.mark(top, lowest);
+        boardVersion++;
+        int scoreBonus = ScoreCalculator.calculateRowClearBonus(fullRows);
+        return new ClearRow(fullRows, colourPlane, scoreBonus, clearedRows);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void newGame() {
+        Arrays.fill(occupancy, 0L);
+        for (int[] row : colourPlane) {
+            Arrays.fill(row, 0);
+        }
+        skyline.reset();
+        zobrist.reset();
+        dirtyRows.markAll();
+        firstCandidate = rows;
+        lastCandidate = -1;
+        boardVersion++;
+        score.reset();
+        createNewBrick();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Only the stack and the rows it moves into are shifted up, with a single reference
+     * move; the colour rows they displace are reused for the incoming garbage.
+     */
+    @Override
+    public void addRows(int[][] rowsToAdd) {
+        if (rowsToAdd == null || rowsToAdd.length == 0) {
+            return;
+        }
+
+        // Only the last `rows` garbage lines can survive the shift
+        int added = Math.min(rowsToAdd.length, rows);
+        // Rows above the stack are empty before and after, so they stay where they are
+        int first = Math.max(0, skyline.highestRow() - added);
+        zobrist.excludeRows(first, rows - 1);
+        System.arraycopy(colourPlane, first, rowScratch, 0, added);
+        System.arraycopy(colourPlane, first + added, colourPlane, first, rows - added - first);
+        System.arraycopy(occupancy, first + added, occupancy, first, rows - added - first);
+        zobrist.shiftUp(first, added);
+        for (int i = 0; i < added; i++) {
+            int[] source = rowsToAdd[rowsToAdd.length - added + i];
+            int[] target = rowScratch[i];
+            rowScratch[i] = null;
+            long mask = 0L;
+            for (int col = 0; col < cols; col++) {
+                int value = source != null && col < source.length ? source[col] : 0;
+                target[col] = value;
+                if (value != 0) {
+                    mask |= 1L << col;
+                }
+            }
+            colourPlane[rows - added + i] = target;
+            occupancy[rows - added + i] = mask;
+            zobrist.setRow(rows - added + i, target);
+        }
+        zobrist.includeRows(first, rows - 1);
+        skyline.onRowsAdded(colourPlane, added);
+        dirtyRows.mark(first, rows - 1);
+        // Pending candidates moved up with the stack, and a garbage row may be full
+        addCandidates(Math.min(firstCandidate - added, rows - added), rows - 1);
+        boardVersion++;
+
+        // Push the current falling brick up to prevent immediate clipping if possible
+        int y = activePiece.getY();
+        if (y > 0) {
+            activePiece.translate(0, -Math.min(y, rowsToAdd.length));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Maintained incrementally, as on {@link SimpleBoard}.
+     */
+    @Override
+    public long getStateHash() {
+        return zobrist.hash(currentState.packedMask(), brickRotator.getCurrentShapeIndex(),
+                activePiece.getX(), activePiece.getY(), previewKey);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The colour plane holds every settled cell, so it is saved as the cells.
+     */
+    @Override
+    public boolean supportsStateSave() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public State saveState() {
+        return new State(colourPlane, BrickType.of(brickRotator.getCurrentBrick()), brickRotator.getCurrentShapeIndex(),
+                activePiece.getX(), activePiece.getY(), currentBrickRotationCount, score.getValue(),
+                brickGenerator.saveState());
+    }
+
+    /**
+     * {@inheritDoc}
+     * Occupancy masks and the skyline are rebuilt from the restored cells and every
+     * row is marked dirty.
+     */
+    @Override
+    public void restoreState(State state) {
+        int[][] cells = state.cells();
+        if (cells.length != rows || cells[0].length != cols) {
+            throw new IllegalArgumentException("BitBoard: state is for a " + cells.length + "x" + cells[0].length + " board");
+        }
+        for (int row = 0; row < rows; row++) {
+            long mask = 0L;
+            for (int col = 0; col < cols; col++) {
+                colourPlane[row][col] = cells[row][col];
+                if (cells[row][col] != 0) {
+                    mask |= 1L << col;
+                }
+            }
+            occupancy[row] = mask;
+            zobrist.setRow(row, colourPlane[row]);
+        }
+        zobrist.recombine();
+        skyline.reset();
+        skyline.onRowsAdded(colourPlane, rows);
+        dirtyRows.markAll();
+        addCandidates(0, rows - 1);
+        boardVersion++;
+
+        brickGenerator.restoreState(state.generator());
+        brickRotator.setBrick(state.brick());
+        brickRotator.setCurrentShape(state.rotation());
+        currentState = brickRotator.getCurrentState();
+        activePiece.moveTo(state.x(), state.y());
+        previewKey = ZobristHash.previewKey(brickGenerator.getNextBricks(ZobristHash.PREVIEW_DEPTH));
+        currentBrickRotationCount = state.rotationsUsed();
+        score.reset();
+        score.add(state.score());
+    }
+
+    private void addCandidates(int first, int last) {
+        firstCandidate = Math.max(0, Math.min(firstCandidate, first));
+        lastCandidate = Math.min(rows - 1, Math.max(lastCandidate, last));
+    }
+
+    /**
+     * Live view over the colour plane and occupancy masks.
+     */
+    private final class LiveView implements BoardView {
+
+        @Override
+        public int width() {
+            return cols;
+        }
+
+        @Override
+        public int height() {
+            return rows;
+        }
+
+        @Override
+        public int cell(int row, int col) {
+            return colourPlane[row][col];
+        }
+
+        @Override
+        public long rowMask(int row) {
+            return occupancy[row];
+        }
+
+        @Override
+        public long version() {
+            return boardVersion;
+        }
+
+        @Override
+        public int[][] snapshot() {
+            return MatrixOperations.copy(colourPlane);
+        }
+    }
+}
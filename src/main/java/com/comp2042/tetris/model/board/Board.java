@@ -4,9 +4,12 @@
 
 package com.comp2042.tetris.model.board;
 
+import com.comp2042.tetris.model.bricks.BrickGenerator;
+import com.comp2042.tetris.model.bricks.BrickType;
 import com.comp2042.tetris.model.level.GameLevel;
 import com.comp2042.tetris.model.score.Score;
 import com.comp2042.tetris.model.data.ViewData;
+import com.comp2042.tetris.utils.MatrixOperations;
 
 /**
  * Represents the game board and defines the core game mechanics for Tetris.
@@ -22,6 +25,7 @@ import com.comp2042.tetris.model.data.ViewData;
  * </ul>
  *
  * @see SimpleBoard
+ * @see BitBoard
  * @see ClearRow
  */
 public interface Board {
@@ -47,6 +51,36 @@ public interface Board {
      */
     boolean moveBrickRight();
 
+    /**
+     * Moves the current brick left until it is blocked, as a single operation.
+     * The default implementation repeats {@link #moveBrickLeft()}.
+     *
+     * @return the number of columns the brick moved
+     */
+    default int slideBrickLeft() {
+        int width = getBoardView().width();
+        int columns = 0;
+        while (columns < width && moveBrickLeft()) {
+            columns++;
+        }
+        return columns;
+    }
+
+    /**
+     * Moves the current brick right until it is blocked, as a single operation.
+     * The default implementation repeats {@link #moveBrickRight()}.
+     *
+     * @return the number of columns the brick moved
+     */
+    default int slideBrickRight() {
+        int width = getBoardView().width();
+        int columns = 0;
+        while (columns < width && moveBrickRight()) {
+            columns++;
+        }
+        return columns;
+    }
+
     /**
      * Attempts to rotate the current brick counterclockwise.
      *
@@ -68,6 +102,28 @@ public interface Board {
      */
     int[][] getBoardMatrix();
 
+    /**
+     * Returns a read-only view of the settled cells.
+     * The default implementation wraps a copy of {@link #getBoardMatrix()};
+     * boards override it to expose their live storage without copying.
+     *
+     * @return a view of the board cells
+     */
+    default BoardView getBoardView() {
+        return BoardView.copyOf(getBoardMatrix());
+    }
+
+    /**
+     * Returns the rows that changed since the previous call and starts tracking anew.
+     * The default implementation always asks for a full resync;
+     * boards that track their dirty rows report only the rows they touched.
+     *
+     * @return the board delta since the last call
+     */
+    default BoardDelta takeBoardDelta() {
+        return BoardDelta.fullResync(getBoardView());
+    }
+
     /**
      * Returns the view data containing brick positions and shapes for rendering.
      *
@@ -75,6 +131,21 @@ public interface Board {
      */
     ViewData getViewData();
 
+    /**
+     * Moves the current brick straight down as far as it can go.
+     * The default implementation steps with {@link #moveBrickDown()};
+     * boards that track their surface can jump directly to the landing row.
+     *
+     * @return the number of rows the brick moved
+     */
+    default int hardDropBrick() {
+        int dropped = 0;
+        while (moveBrickDown()) {
+            dropped++;
+        }
+        return dropped;
+    }
+
     /**
      * Merges the current falling brick into the board background.
      * Called when a brick is placed and can no longer move.
@@ -114,4 +185,86 @@ public interface Board {
      * @param rows the garbage rows to add
      */
     void addRows(int[][] rows);
+
+    /**
+     * Returns a 64-bit hash of the position: locked cells, active brick with its
+     * rotation and position, and the preview queue. Equal positions always hash
+     * equally, on any board instance, so two simulations can be checked for
+     * divergence by comparing one value per tick.
+     * The default implementation hashes {@link #saveState()} from scratch;
+     * boards that maintain the hash incrementally return it in O(1).
+     *
+     * @return the position hash
+     * @throws UnsupportedOperationException if the board cannot be saved
+     * @see #supportsStateSave()
+     */
+    default long getStateHash() {
+        return ZobristHash.of(saveState());
+    }
+
+    /**
+     * Reports whether {@link #saveState()} and {@link #restoreState(State)} are
+     * implemented, so callers can check before saving instead of catching the
+     * exception. Boards that override them should override this too.
+     *
+     * @return true if the state can be saved and restored
+     */
+    default boolean supportsStateSave() {
+        return false;
+    }
+
+    /**
+     * Captures everything needed to resume the game later: cells, active brick,
+     * score and brick sequence. The level is not included.
+     *
+     * @return the board state
+     * @throws UnsupportedOperationException if the board cannot be saved
+     * @see #supportsStateSave()
+     */
+    default State saveState() {
+        throw new UnsupportedOperationException("Board: saving state is not supported");
+    }
+
+    /**
+     * Resumes from a state returned by {@link #saveState()} of a board with the same size.
+     *
+     * @param state the state to restore
+     * @throws UnsupportedOperationException if the board cannot be restored
+     */
+    default void restoreState(State state) {
+        throw new UnsupportedOperationException("Board: restoring state is not supported");
+    }
+
+    /**
+     * Saved position of a game.
+     *
+     * @param cells the settled cells, row 0 at the top
+     * @param brick the type of the active brick
+     * @param rotation the rotation index of the active brick
+     * @param x the horizontal position of the active brick
+     * @param y the vertical position of the active brick
+     * @param rotationsUsed the rotations spent on the active brick, for levels with a rotation limit
+     * @param score the score
+     * @param generator the brick sequence
+     */
+    record State(int[][] cells, BrickType brick, int rotation, int x, int y, int rotationsUsed, int score,
+                 BrickGenerator.State generator) {
+
+        /**
+         * Copies the cells.
+         */
+        public State {
+            cells = MatrixOperations.copy(cells);
+        }
+
+        /**
+         * Returns a copy of the settled cells.
+         *
+         * @return the cells
+         */
+        @Override
+        public int[][] cells() {
+            return MatrixOperations.copy(cells);
+        }
+    }
 }
@@ -0,0 +1,92 @@
+package com.comp2042.tetris.model.board;
+
+import java.util.Objects;
+
+/**
+ * Describes which rows of a board changed between two board versions.
+ * Published after every lock, clear, garbage insertion and new game so that
+ * renderers can restyle only the affected rows instead of the whole grid.
+ *
+ * <p>A consumer that last saw version {@link #fromVersion()} can apply the
+ * rows from {@link #firstRow()} to {@link #lastRow()} (inclusive) from the
+ * {@link #view()} and is then at {@link #toVersion()}. A consumer at any other
+ * version, or a delta for which {@link #isFullResync()} is true, must redraw
+ * every row.</p>
+ *
+ * @param fromVersion the board version the delta starts from, or {@link #UNKNOWN_VERSION}
+ * @param toVersion the board version after the change
+ * @param firstRow the first changed row
+ * @param lastRow the last changed row; smaller than {@code firstRow} when nothing changed
+ * @param view the live view of the board
+ * @see Board#takeBoardDelta()
+ */
+public record BoardDelta(long fromVersion, long toVersion, int firstRow, int lastRow, BoardView view) {
+
+    /** Start version of a delta that does not follow any known version. */
+    public static final long UNKNOWN_VERSION = -1L;
+
+    public BoardDelta {
+        Objects.requireNonNull(view, "view");
+    }
+
+    /**
+     * Creates a delta that asks consumers to redraw every row.
+     *
+     * @param view the view of the board
+     * @return a full-resync delta ending at the view's current version
+     */
+    public static BoardDelta fullResync(BoardView view) {
+        return new BoardDelta(UNKNOWN_VERSION, view.version(), 0, view.height() - 1, view);
+    }
+
+    /**
+     * Returns whether this delta does not follow a known version and therefore covers every row.
+     *
+     * @return true if consumers must redraw the whole board
+     */
+    public boolean isFullResync() {
+        return fromVersion == UNKNOWN_VERSION;
+    }
+
+    /**
+     * Returns whether any row changed.
+     *
+     * @return true if the row range is empty
+     */
+    public boolean isEmpty() {
+        return lastRow < firstRow;
+    }
+
+    /**
+     * Returns whether this delta can be applied on top of the given version.
+     *
+     * @param version the version the consumer currently shows
+     * @return true if only the changed rows need to be redrawn
+     */
+    public boolean follows(long version) {
+        return !isFullResync() && fromVersion == version;
+    }
+
+    /**
+     * Combines this delta with the one that came after it, so that applying the result
+     * has the same effect as applying both in turn. The row ranges are joined; if the
+     * next delta does not follow this one, the result is a full resync.
+     *
+     * @param next the delta published after this one
+     * @return a delta from this delta's start version to the next delta's end version
+     */
+    public BoardDelta andThen(BoardDelta next) {
+        Objects.requireNonNull(next, "next");
+        if (!next.follows(toVersion)) {
+            return new BoardDelta(UNKNOWN_VERSION, next.toVersion, 0, next.view.height() - 1, next.view);
+        }
+        if (next.isEmpty()) {
+            return new BoardDelta(fromVersion, next.toVersion, firstRow, lastRow, next.view);
+        }
+        if (isEmpty()) {
+            return new BoardDelta(fromVersion, next.toVersion, next.firstRow, next.lastRow, next.view);
+        }
+        return new BoardDelta(fromVersion, next.toVersion, Math.min(firstRow, next.firstRow),
+                Math.max(lastRow, next.lastRow), next.view);
+    }
+}
@@ -0,0 +1,96 @@
+package com.comp2042.tetris.model.board;
+
+import com.comp2042.tetris.utils.MatrixOperations;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Read-only view of the settled cells of a board.
+ * Views returned by {@link Board#getBoardView()} are backed by the board's live
+ * storage, so reading them never copies; a copy is only made when a consumer
+ * explicitly asks for a {@link #snapshot()}.
+ *
+ * <p>The {@link #version()} increases every time the settled cells change,
+ * which lets consumers skip work when nothing happened since their last read.</p>
+ *
+ * @see Board#getBoardView()
+ */
+public interface BoardView {
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return the board width
+     */
+    int width();
+
+    /**
+     * Returns the number of rows, including hidden spawn rows.
+     *
+     * @return the board height
+     */
+    int height();
+
+    /**
+     * Returns the colour value of a cell.
+     *
+     * @param row the row index, 0 being the top
+     * @param col the column index
+     * @return 0 for an empty cell, otherwise the colour value
+     */
+    int cell(int row, int col);
+
+    /**
+     * Returns the occupancy of a row as a bit mask; bit {@code c} is set when column {@code c}
+     * is filled. Only columns below 64 are represented.
+     *
+     * @param row the row index
+     * @return the row mask
+     */
+    long rowMask(int row);
+
+    /**
+     * Returns a counter that increases whenever the settled cells change.
+     *
+     * @return the board version
+     */
+    long version();
+
+    /**
+     * Copies the current cells into a new matrix.
+     *
+     * @return a deep copy of the board matrix
+     */
+    default int[][] snapshot() {
+        int[][] copy = new int[height()][width()];
+        for (int row = 0; row < copy.length; row++) {
+            for (int col = 0; col < copy[row].length; col++) {
+                copy[row][col] = cell(row, col);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Creates a view over a private copy of the given matrix, for boards
+     * that only expose {@link Board#getBoardMatrix()}.
+     *
+     * @param matrix the cells to copy
+     * @return an immutable view with version 0
+     */
+    static BoardView copyOf(int[][] matrix) {
+        return new MatrixBoardView(MatrixOperations.copy(matrix), () -> 0L);
+    }
+
+    /**
+     * Creates a view backed directly by a live matrix. The matrix must keep
+     * its row count and its row references must be updated in place.
+     *
+     * @param matrix the live cells
+     * @param version supplier of the current board version
+     * @return a live view
+     */
+    static BoardView live(int[][] matrix, LongSupplier version) {
+        return new MatrixBoardView(matrix, version);
+    }
+}
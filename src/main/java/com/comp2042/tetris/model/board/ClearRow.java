@@ -5,8 +5,8 @@ package com.comp2042.tetris.model.board;
 
 
 import com.comp2042.tetris.utils.MatrixOperations;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Represents the result of a row clearing operation in Tetris.
@@ -16,12 +16,39 @@ import java.util.stream.Collectors;
  * <p>This is implemented as a Java record for immutability and conciseness,
  * as it only contains data with no behavior logic.</p>
  *
+ * <p>Boards that clear rows in place may hand over their live matrix; in that case
+ * {@link #newMatrix()} reflects the board at the time it is called, and a result
+ * handed to another thread must be rebuilt from a copy first.</p>
+ *
  * @param linesRemoved the number of lines that were cleared
  * @param newMatrix the updated board matrix after rows were cleared
  * @param scoreBonus the score bonus earned from clearing the rows
- * @param clearedRows a list of row indices that were cleared
+ * @param clearedRowIndices the indices of the cleared rows, in ascending order
  */
-public record ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus, List<Integer> clearedRows) {
+public record ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus, int[] clearedRowIndices) {
+
+    private static final int[] NO_ROWS = new int[0];
+
+    /**
+     * Normalises a missing index array to an empty one.
+     */
+    public ClearRow {
+        if (clearedRowIndices == null) {
+            clearedRowIndices = NO_ROWS;
+        }
+    }
+
+    /**
+     * Creates a result from a boxed list of cleared row indices.
+     *
+     * @param linesRemoved the number of lines that were cleared
+     * @param newMatrix the updated board matrix after rows were cleared
+     * @param scoreBonus the score bonus earned from clearing the rows
+     * @param clearedRows a list of row indices that were cleared
+     */
+    public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus, List<Integer> clearedRows) {
+        this(linesRemoved, newMatrix, scoreBonus, clearedRows.stream().mapToInt(Integer::intValue).toArray());
+    }
 
     /**
      * Returns a defensive copy of the new matrix to prevent external modification.
@@ -33,4 +60,22 @@ public record ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus, List
         return MatrixOperations.copy(newMatrix);
     }
 
+    /**
+     * Returns a copy of the cleared row indices.
+     *
+     * @return the indices of the cleared rows, in ascending order
+     */
+    @Override
+    public int[] clearedRowIndices() {
+        return clearedRowIndices.clone();
+    }
+
+    /**
+     * Returns the cleared row indices as an unmodifiable list.
+     *
+     * @return the indices of the cleared rows, in ascending order
+     */
+    public List<Integer> clearedRows() {
+        return Arrays.stream(clearedRowIndices).boxed().toList();
+    }
 }
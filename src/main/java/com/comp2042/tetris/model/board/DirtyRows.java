@@ -0,0 +1,58 @@
+package com.comp2042.tetris.model.board;
+
+/**
+ * Accumulates the range of rows a board changed since the last
+ * {@link BoardDelta} was taken. Merges only touch the rows of the brick,
+ * while clears and garbage shift everything above them.
+ */
+final class DirtyRows {
+
+    private final int rows;
+    private int firstRow;
+    private int lastRow;
+    private long baseVersion = BoardDelta.UNKNOWN_VERSION;
+
+    /**
+     * Creates a tracker with every row marked dirty.
+     *
+     * @param rows the number of board rows
+     */
+    DirtyRows(int rows) {
+        this.rows = rows;
+        markAll();
+    }
+
+    /**
+     * Marks a range of rows as changed. Rows outside the board are ignored.
+     *
+     * @param from the first changed row
+     * @param to the last changed row, inclusive
+     */
+    void mark(int from, int to) {
+        firstRow = Math.min(firstRow, Math.max(0, from));
+        lastRow = Math.max(lastRow, Math.min(rows - 1, to));
+    }
+
+    /**
+     * Marks every row as changed.
+     */
+    void markAll() {
+        firstRow = 0;
+        lastRow = rows - 1;
+    }
+
+    /**
+     * Returns the rows changed since the previous call and starts a new range.
+     *
+     * @param view the live view of the board
+     * @return the delta from the previously taken version to the view's current version
+     */
+    BoardDelta take(BoardView view) {
+        long toVersion = view.version();
+        BoardDelta delta = new BoardDelta(baseVersion, toVersion, firstRow, lastRow, view);
+        baseVersion = toVersion;
+        firstRow = rows;
+        lastRow = -1;
+        return delta;
+    }
+}
@@ -1,17 +1,50 @@
 package com.comp2042.tetris.model.board;
 
-import java.util.Random;
+import com.comp2042.tetris.utils.GameRandom;
+
+import java.util.Objects;
 
 /**
  * Manages the timing and generation of garbage rows in Tetris.
  * This class is responsible for scheduling when garbage should be added
  * and generating the garbage row patterns.
+ *
+ * <p>Time is game time, advanced by the game loop on every gravity tick via
+ * {@link #advance(double)}, not the wall clock. Together with a seeded
+ * {@link GameRandom} this makes garbage fully reproducible.</p>
  */
 public class GarbageMechanic {
-    private final Random random = new Random();
-    private long nextGarbageTime;
+    private final GameRandom random;
+    private double gameTimeMillis;
+    private double nextGarbageTimeMillis;
+    private long rowsIssued;
     private boolean enabled = false;
 
+    /**
+     * Creates a garbage mechanic with an unseeded random source.
+     */
+    public GarbageMechanic() {
+        this(new GameRandom());
+    }
+
+    /**
+     * Creates a garbage mechanic with the given random source.
+     *
+     * @param random the source for garbage timing, row counts and hole positions
+     */
+    public GarbageMechanic(GameRandom random) {
+        this.random = Objects.requireNonNull(random, "random");
+    }
+
+    /**
+     * Advances game time, typically by one gravity interval.
+     *
+     * @param elapsedMillis the game time that passed, in milliseconds
+     */
+    public void advance(double elapsedMillis) {
+        gameTimeMillis += elapsedMillis;
+    }
+
     /**
      * Enable garbage mechanic and schedule the first garbage.
      */
@@ -31,6 +64,8 @@ public class GarbageMechanic {
      * Reset the garbage mechanic (typically called on new game).
      */
     public void reset() {
+        gameTimeMillis = 0;
+        rowsIssued = 0;
         if (enabled) {
             scheduleNextGarbage();
         }
@@ -47,9 +82,11 @@ public class GarbageMechanic {
             return 0;
         }
 
-        if (System.nanoTime() >= nextGarbageTime) {
+        if (gameTimeMillis >= nextGarbageTimeMillis) {
             scheduleNextGarbage();
-            return 1 + random.nextInt(2); // 1 or 2 rows
+            int rows = 1 + random.nextInt(2); // 1 or 2 rows
+            rowsIssued += rows;
+            return rows;
         }
         return 0;
     }
@@ -76,12 +113,11 @@ public class GarbageMechanic {
     }
 
     /**
-     * Schedule the next garbage to appear in 30-45 seconds.
+     * Schedule the next garbage to appear in 30-45 seconds of game time.
      */
     private void scheduleNextGarbage() {
-        // Schedule next garbage in 30-45 seconds (in nanoseconds)
         long delaySeconds = 30L + random.nextInt(16); // 30 to 45
-        nextGarbageTime = System.nanoTime() + (delaySeconds * 1_000_000_000L);
+        nextGarbageTimeMillis = gameTimeMillis + delaySeconds * 1000.0;
     }
 
     /**
@@ -92,5 +128,48 @@ public class GarbageMechanic {
     public boolean isEnabled() {
         return enabled;
     }
-}
 
+    /**
+     * Returns how many garbage rows were scheduled since the last reset.
+     *
+     * @return the number of garbage rows issued
+     */
+    public long getRowsIssued() {
+        return rowsIssued;
+    }
+
+    /**
+     * Captures the timer, schedule and random stream so a game can be resumed later.
+     *
+     * @return the garbage state
+     */
+    public State saveState() {
+        return new State(gameTimeMillis, nextGarbageTimeMillis, rowsIssued, enabled, random.getState());
+    }
+
+    /**
+     * Resumes from a state returned by {@link #saveState()}.
+     *
+     * @param state the state to restore
+     */
+    public void restoreState(State state) {
+        gameTimeMillis = state.gameTimeMillis();
+        nextGarbageTimeMillis = state.nextGarbageTimeMillis();
+        rowsIssued = state.rowsIssued();
+        enabled = state.enabled();
+        random.setState(state.randomState());
+    }
+
+    /**
+     * Saved garbage timer.
+     *
+     * @param gameTimeMillis the game time elapsed
+     * @param nextGarbageTimeMillis the game time at which the next garbage is due
+     * @param rowsIssued the garbage rows issued so far
+     * @param enabled whether garbage is active
+     * @param randomState the state of the random stream
+     */
+    public record State(double gameTimeMillis, double nextGarbageTimeMillis, long rowsIssued, boolean enabled,
+                        long randomState) {
+    }
+}
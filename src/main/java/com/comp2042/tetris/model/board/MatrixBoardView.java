@@ -0,0 +1,78 @@
+package com.comp2042.tetris.model.board;
+
+import com.comp2042.tetris.utils.MatrixOperations;
+
+import java.util.function.LongSupplier;
+
+/**
+ * {@link BoardView} over an {@code int[][]} kept in logical row order.
+ * Reads go straight to the matrix; only {@link #snapshot()} copies.
+ *
+ * @see BoardView#live(int[][], LongSupplier)
+ * @see BoardView#copyOf(int[][])
+ */
+final class MatrixBoardView implements BoardView {
+
+    private final int[][] matrix;
+    private final LongSupplier version;
+
+    MatrixBoardView(int[][] matrix, LongSupplier version) {
+        this.matrix = matrix;
+        this.version = version;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int width() {
+        return matrix.length > 0 ? matrix[0].length : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int height() {
+        return matrix.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int cell(int row, int col) {
+        return matrix[row][col];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long rowMask(int row) {
+        int[] cells = matrix[row];
+        long mask = 0L;
+        for (int col = 0; col < cells.length && col < Long.SIZE; col++) {
+            if (cells[col] != 0) {
+                mask |= 1L << col;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long version() {
+        return version.getAsLong();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int[][] snapshot() {
+        return MatrixOperations.copy(matrix);
+    }
+}
@@ -16,28 +16,45 @@
 
 package com.comp2042.tetris.model.board;
 
+import com.comp2042.tetris.model.bricks.ActivePiece;
 import com.comp2042.tetris.model.bricks.Brick;
 import com.comp2042.tetris.model.bricks.BrickGenerator;
 import com.comp2042.tetris.model.bricks.BrickRotator;
+import com.comp2042.tetris.model.bricks.BrickType;
 import com.comp2042.tetris.model.bricks.RandomBrickGenerator;
+import com.comp2042.tetris.model.bricks.RotationState;
 import com.comp2042.tetris.model.level.ClassicLevel;
 import com.comp2042.tetris.model.level.GameLevel;
 import com.comp2042.tetris.utils.MatrixOperations;
 import com.comp2042.tetris.model.data.ViewData;
 import com.comp2042.tetris.model.score.Score;
-import java.awt.Point;
+import com.comp2042.tetris.model.score.ScoreCalculator;
+import java.util.Arrays;
 import java.util.List;
 
 
 public class SimpleBoard implements Board {
 
+    private static final int[] NO_CLEARED_ROWS = new int[0];
+
     //changed width -> rows, height -> cols
     private final int rows;
     private final int cols;
     private final BrickGenerator brickGenerator;
     private final BrickRotator brickRotator;
-    private int[][] currentGameMatrix;
-    private Point currentOffset;
+    private final int[][] currentGameMatrix;
+    private final BoardView boardView;
+    private long boardVersion;
+    private final ActivePiece activePiece = new ActivePiece();
+    private final int[][] rowScratch;
+    private final int[] fullRowScratch;
+    private final Skyline skyline;
+    private final DirtyRows dirtyRows;
+    private final ZobristHash zobrist;
+    // Rows that may have filled up since the last clear; empty when firstCandidate > lastCandidate
+    private int firstCandidate;
+    private int lastCandidate = -1;
+    private long previewKey;
     private final Score score;
 
     private GameLevel currentLevel;
@@ -69,6 +86,13 @@ public class SimpleBoard implements Board {
         this.brickRotator = brickRotator;
         this.score = score;
         this.currentGameMatrix = new int[rows][cols];
+        this.boardView = BoardView.live(currentGameMatrix, () -> boardVersion);
+        this.rowScratch = new int[rows][];
+        this.fullRowScratch = new int[rows];
+        this.skyline = new Skyline(rows, cols);
+        this.dirtyRows = new DirtyRows(rows);
+        this.zobrist = new ZobristHash(rows);
+        this.firstCandidate = rows;
         this.currentLevel = new ClassicLevel();
     }
 
@@ -85,37 +109,55 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickDown() {
-        Point p = new Point(currentOffset);
-        p.translate(0, 1);
-        boolean conflict = MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return tryMove(0, 1);
     }
+    /**
+     * {@inheritDoc}
+     * Only the stack and the rows it moves into are shifted up, with a single reference
+     * move; the row arrays they displace are reused for the incoming garbage.
+     */
     @Override
     public void addRows(int[][] rowsToAdd) {
         if (rowsToAdd == null || rowsToAdd.length == 0) {
             return;
         }
 
-        for (int[] newRow : rowsToAdd) {
-            // Shift everything up by 1
-            // Note: matrix[0] is top, matrix[rows-1] is bottom
-            for (int row = 0; row < rows - 1; row++) {
-                currentGameMatrix[row] = currentGameMatrix[row + 1];
-            }
-
-            // Add the new row at the bottom
-            currentGameMatrix[rows - 1] = newRow;
+        // Only the last `rows` garbage lines can survive the shift
+        // Note: matrix[0] is top, matrix[rows-1] is bottom
+        int added = Math.min(rowsToAdd.length, rows);
+        // Rows above the stack are empty before and after, so they stay where they are
+        int first = Math.max(0, skyline.highestRow() - added);
+        zobrist.excludeRows(first, rows - 1);
+        System.arraycopy(currentGameMatrix, first, rowScratch, 0, added);
+        System.arraycopy(currentGameMatrix, first + added, currentGameMatrix, first, rows - added - first);
+        zobrist.shiftUp(first, added);
+        for (int i = 0; i < added; i++) {
+            int[] target = rowScratch[i];
+            rowScratch[i] = null;
+            copyRow(rowsToAdd[rowsToAdd.length - added + i], target);
+            currentGameMatrix[rows - added + i] = target;
+            zobrist.setRow(rows - added + i, target);
+        }
+        zobrist.includeRows(first, rows - 1);
+        skyline.onRowsAdded(currentGameMatrix, added);
+        dirtyRows.mark(first, rows - 1);
+        // Pending candidates moved up with the stack, and a garbage row may be full
+        addCandidates(Math.min(firstCandidate - added, rows - added), rows - 1);
+        boardVersion++;
+
+        // Push the current falling brick up to prevent immediate clipping if possible
+        int y = activePiece.getY();
+        if (y > 0) {
+            activePiece.translate(0, -Math.min(y, rowsToAdd.length));
+        }
+    }
 
-            // Push the current falling brick up to prevent immediate clipping if possible
-            if (currentOffset.getY() > 0) {
-                currentOffset.translate(0, -1);
-            }
+    private void copyRow(int[] source, int[] target) {
+        int copied = source == null ? 0 : Math.min(source.length, target.length);
+        if (copied > 0) {
+            System.arraycopy(source, 0, target, 0, copied);
         }
+        Arrays.fill(target, copied, target.length, 0);
     }
 
     /**
@@ -123,17 +165,7 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickLeft() {
-        Point p = new Point(currentOffset);
-        p.translate(-1, 0);
-
-        // MatrixOperations.intersect handles all boundary checking including walls
-        boolean conflict = MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return tryMove(-1, 0);
     }
 
     /**
@@ -141,17 +173,55 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickRight() {
-        Point p = new Point(currentOffset);
-        p.translate(1, 0);
+        return tryMove(1, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int slideBrickLeft() {
+        return slide(-1);
+    }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int slideBrickRight() {
+        return slide(1);
+    }
+
+    /**
+     * Finds the last free column in one direction and moves the active piece there once.
+     */
+    private int slide(int dx) {
+        int x = activePiece.getX();
+        int y = activePiece.getY();
+        int columns = 0;
+        // An empty shape never intersects; it cannot travel further than the board is wide
+        while (columns < cols && !MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentState(), x + (columns + 1) * dx, y)) {
+            columns++;
+        }
+        if (columns > 0) {
+            activePiece.moveTo(x + columns * dx, y);
+        }
+        return columns;
+    }
+
+    /**
+     * Moves the active piece in place if the target position is free.
+     * Allocation-free so it can run on every gravity tick and key repeat.
+     */
+    private boolean tryMove(int dx, int dy) {
+        int targetX = activePiece.getX() + dx;
+        int targetY = activePiece.getY() + dy;
         // MatrixOperations.intersect handles all boundary checking including walls
-        boolean conflict = MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
+        if (MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentState(), targetX, targetY)) {
             return false;
-        } else {
-            currentOffset = p;
-            return true;
         }
+        activePiece.moveTo(targetX, targetY);
+        return true;
     }
 
     /**
@@ -166,9 +236,7 @@ public class SimpleBoard implements Board {
             return false;
         }
 
-        Point adjustedOffset = brickRotator.tryRotateLeft(currentGameMatrix, currentOffset);
-        if (adjustedOffset != null) {
-            currentOffset = adjustedOffset;
+        if (brickRotator.tryRotateLeft(currentGameMatrix, activePiece)) {
             currentBrickRotationCount++;
             return true;
         }
@@ -185,8 +253,8 @@ public class SimpleBoard implements Board {
         Brick currentBrick = brickGenerator.getBrick();
         brickRotator.setBrick(currentBrick);
         // Compute horizontal spawn so the piece is centered for any board width.
-        int[][] shape = brickRotator.getCurrentShape();
-        int shapeWidth = (shape != null && shape.length > 0) ? shape[0].length : 0;
+        RotationState state = brickRotator.getCurrentState();
+        int shapeWidth = state.width();
         int spawnX = (cols - shapeWidth) / 2;
         int maxSpawn = Math.max(0, cols - shapeWidth);
         if (spawnX > maxSpawn) {
@@ -194,9 +262,10 @@ public class SimpleBoard implements Board {
         }
 
 
-       currentOffset = new Point(spawnX, 1);
+        activePiece.moveTo(spawnX, 1);
+        previewKey = ZobristHash.previewKey(brickGenerator.getNextBricks(ZobristHash.PREVIEW_DEPTH));
         // return whether there is an immediate collision (true => collided)
-        return MatrixOperations.intersect(currentGameMatrix, shape, (int) currentOffset.getX(), (int) currentOffset.getY());
+        return MatrixOperations.intersect(currentGameMatrix, state, activePiece.getX(), activePiece.getY());
 
     }
 
@@ -209,6 +278,23 @@ public class SimpleBoard implements Board {
         return MatrixOperations.copy(currentGameMatrix);
     }
 
+    /**
+     * {@inheritDoc}
+     * The view reads the live matrix directly.
+     */
+    @Override
+    public BoardView getBoardView() {
+        return boardView;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BoardDelta takeBoardDelta() {
+        return dirtyRows.take(boardView);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -217,28 +303,42 @@ public class SimpleBoard implements Board {
         int ghostY = calculateGhostPosition();
         List<int[][]> nextBricksShapes = new java.util.ArrayList<>();
         for (Brick brick : brickGenerator.getNextBricks(3)) {
-            nextBricksShapes.add(brick.getShapeMatrix().get(0));
+            nextBricksShapes.add(brick.getRotationStates().get(0).shape());
         }
         int currentIndex = brickRotator.getCurrentShapeIndex();
         int stateCount = brickRotator.getRotationStateCount();
         int rotationsUsed = currentBrickRotationCount;
-        return new ViewData(brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY(), nextBricksShapes, ghostY, currentIndex, stateCount, rotationsUsed);
+        return new ViewData(brickRotator.getCurrentShape(), activePiece.getX(), activePiece.getY(), nextBricksShapes, ghostY, currentIndex, stateCount, rotationsUsed);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Jumps straight to the landing row computed from the skyline.
+     */
+    @Override
+    public int hardDropBrick() {
+        int landingY = calculateGhostPosition();
+        int dropped = landingY - activePiece.getY();
+        activePiece.moveTo(activePiece.getX(), landingY);
+        return dropped;
     }
 
     /**
      * Calculate the Y position where the current brick would land if dropped straight down
      */
     private int calculateGhostPosition() {
-        if (brickRotator.getCurrentShape() == null) {
-            return (int) currentOffset.getY();
+        RotationState state = brickRotator.getCurrentState();
+        int landingY = skyline.landingY(state, activePiece.getX(), activePiece.getY());
+        if (landingY != Skyline.BELOW_SURFACE) {
+            return landingY;
         }
 
-        Point testPos = new Point(currentOffset);
-        // Keep moving down until we hit something
-        while (!MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) testPos.getX(), (int) testPos.getY() + 1)) {
-            testPos.translate(0, 1);
+        // The brick sits under an overhang, so keep moving down until we hit something
+        int ghostY = activePiece.getY();
+        while (!MatrixOperations.intersect(currentGameMatrix, state, activePiece.getX(), ghostY + 1)) {
+            ghostY++;
         }
-        return (int) testPos.getY();
+        return ghostY;
     }
 
     /**
@@ -246,18 +346,84 @@ public class SimpleBoard implements Board {
      */
     @Override
     public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        // Written in place; the move methods already guarantee every cell is on the board
+        RotationState state = brickRotator.getCurrentState();
+        for (int cell = 0; cell < state.cellCount(); cell++) {
+            int row = activePiece.getY() + state.cellRow(cell);
+            int col = activePiece.getX() + state.cellCol(cell);
+            zobrist.cellChanged(row, col, currentGameMatrix[row][col], state.cellValue(cell));
+            currentGameMatrix[row][col] = state.cellValue(cell);
+        }
+        skyline.onMerged(state, activePiece.getX(), activePiece.getY());
+        dirtyRows.mark(activePiece.getY() + state.topExtent(), activePiece.getY() + state.bottomExtent());
+        addCandidates(activePiece.getY() + state.topExtent(), activePiece.getY() + state.bottomExtent());
+        boardVersion++;
     }
 
     /**
      * {@inheritDoc}
+     * Only the rows written since the last clear are checked, and only the rows
+     * between the top of the stack and the lowest cleared row are moved.
      */
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix);
-        currentGameMatrix = clearRow.newMatrix();
-        return clearRow;
+        int fullRows = 0;
+        for (int row = firstCandidate; row <= lastCandidate; row++) {
+            if (isFull(currentGameMatrix[row])) {
+                fullRowScratch[fullRows++] = row;
+            }
+        }
+        firstCandidate = rows;
+        lastCandidate = -1;
+        if (fullRows == 0) {
+            return new ClearRow(0, currentGameMatrix, 0, NO_CLEARED_ROWS);
+        }
+        int[] clearedRows = Arrays.copyOf(fullRowScratch, fullRows);
+
+        // Compact the stack above the lowest cleared row towards the bottom by moving
+        // row references, then recycle the cleared row arrays as empty rows on top of it
+        int top = skyline.highestRow();
+        int lowest = clearedRows[fullRows - 1];
+        zobrist.excludeRows(top, lowest);
+        int cleared = fullRows - 1;
+        int writeRow = lowest;
+        for (int readRow = lowest; readRow >= top; readRow--) {
+            if (cleared >= 0 && clearedRows[cleared] == readRow) {
+                rowScratch[cleared--] = currentGameMatrix[readRow];
+                continue;
+            }
+            zobrist.moveRow(readRow, writeRow);
+            currentGameMatrix[writeRow--] = currentGameMatrix[readRow];
+        }
+        for (int i = 0; i < fullRows; i++) {
+            int row = top + i;
+            Arrays.fill(rowScratch[i], 0);
+            currentGameMatrix[row] = rowScratch[i];
+            rowScratch[i] = null;
+            zobrist.setRow(row, currentGameMatrix[row]);
+        }
+        zobrist.includeRows(top, lowest);
+        skyline.onRowsCleared(currentGameMatrix);
+        // Every row of the stack above the lowest cleared one has shifted down
+        dirtyRows.mark(top, lowest);
+        boardVersion++;
+
+        int scoreBonus = ScoreCalculator.calculateRowClearBonus(fullRows);
+        return new ClearRow(fullRows, currentGameMatrix, scoreBonus, clearedRows);
+    }
+
+    private void addCandidates(int first, int last) {
+        firstCandidate = Math.max(0, Math.min(firstCandidate, first));
+        lastCandidate = Math.min(rows - 1, Math.max(lastCandidate, last));
+    }
 
+    private static boolean isFull(int[] row) {
+        for (int cell : row) {
+            if (cell == 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -269,12 +435,80 @@ public class SimpleBoard implements Board {
     }
 
 
+    /**
+     * {@inheritDoc}
+     * Maintained incrementally: locked cells are updated per merged cell and per
+     * moved row, the piece and preview keys when they change.
+     */
+    @Override
+    public long getStateHash() {
+        return zobrist.hash(brickRotator.getCurrentState().packedMask(), brickRotator.getCurrentShapeIndex(),
+                activePiece.getX(), activePiece.getY(), previewKey);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsStateSave() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public State saveState() {
+        return new State(currentGameMatrix, BrickType.of(brickRotator.getCurrentBrick()), brickRotator.getCurrentShapeIndex(),
+                activePiece.getX(), activePiece.getY(), currentBrickRotationCount, score.getValue(),
+                brickGenerator.saveState());
+    }
+
+    /**
+     * {@inheritDoc}
+     * The skyline is rebuilt from the restored cells and every row is marked dirty.
+     */
+    @Override
+    public void restoreState(State state) {
+        int[][] cells = state.cells();
+        if (cells.length != rows || cells[0].length != cols) {
+            throw new IllegalArgumentException("SimpleBoard: state is for a " + cells.length + "x" + cells[0].length + " board");
+        }
+        for (int row = 0; row < rows; row++) {
+            System.arraycopy(cells[row], 0, currentGameMatrix[row], 0, cols);
+            zobrist.setRow(row, currentGameMatrix[row]);
+        }
+        zobrist.recombine();
+        skyline.reset();
+        skyline.onRowsAdded(currentGameMatrix, rows);
+        dirtyRows.markAll();
+        addCandidates(0, rows - 1);
+        boardVersion++;
+
+        brickGenerator.restoreState(state.generator());
+        brickRotator.setBrick(state.brick());
+        brickRotator.setCurrentShape(state.rotation());
+        activePiece.moveTo(state.x(), state.y());
+        previewKey = ZobristHash.previewKey(brickGenerator.getNextBricks(ZobristHash.PREVIEW_DEPTH));
+        currentBrickRotationCount = state.rotationsUsed();
+        score.reset();
+        score.add(state.score());
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void newGame() {
-        currentGameMatrix = new int[rows][cols];
+        for (int[] row : currentGameMatrix) {
+            Arrays.fill(row, 0);
+        }
+        skyline.reset();
+        zobrist.reset();
+        dirtyRows.markAll();
+        firstCandidate = rows;
+        lastCandidate = -1;
+        boardVersion++;
         score.reset();
         createNewBrick();
     }
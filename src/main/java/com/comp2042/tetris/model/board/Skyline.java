@@ -0,0 +1,148 @@
+package com.comp2042.tetris.model.board;
+
+import com.comp2042.tetris.model.bricks.RotationState;
+
+import java.util.Arrays;
+
+/**
+ * Per-column surface of a board: the index of the highest filled row in each column.
+ * Boards update it incrementally on merge, row clearing and garbage insertion, which
+ * lets the landing row of a brick be found from its bottom profile in O(brick width)
+ * instead of probing one row at a time.
+ *
+ * <p>An empty column has a top equal to the number of rows (the floor).</p>
+ */
+final class Skyline {
+
+    /** Returned by {@link #landingY} when the brick is not entirely above the surface. */
+    static final int BELOW_SURFACE = Integer.MIN_VALUE;
+
+    private final int rows;
+    private final int[] tops;
+
+    /**
+     * Creates an empty skyline.
+     *
+     * @param rows the number of board rows
+     * @param cols the number of board columns
+     */
+    Skyline(int rows, int cols) {
+        this.rows = rows;
+        this.tops = new int[cols];
+        reset();
+    }
+
+    /**
+     * Marks every column as empty.
+     */
+    void reset() {
+        Arrays.fill(tops, rows);
+    }
+
+    /**
+     * Returns the highest filled row of a column.
+     *
+     * @param col the board column
+     * @return the top row, or the row count if the column is empty
+     */
+    int top(int col) {
+        return tops[col];
+    }
+
+    /**
+     * Returns the highest filled row of the whole board. Every row above it is empty,
+     * so clearing and garbage insertion only need to move the rows from here down.
+     *
+     * @return the top row of the stack, or the row count if the board is empty
+     */
+    int highestRow() {
+        int highest = rows;
+        for (int top : tops) {
+            highest = Math.min(highest, top);
+        }
+        return highest;
+    }
+
+    /**
+     * Records the cells of a brick merged at the given position.
+     *
+     * @param state the rotation state that was merged
+     * @param x the horizontal position of the brick
+     * @param y the vertical position of the brick
+     */
+    void onMerged(RotationState state, int x, int y) {
+        for (int cell = 0; cell < state.cellCount(); cell++) {
+            int col = x + state.cellCol(cell);
+            tops[col] = Math.min(tops[col], y + state.cellRow(cell));
+        }
+    }
+
+    /**
+     * Updates the surface after full rows were removed. Clearing only ever moves
+     * cells down, so each column is rescanned from its previous top.
+     *
+     * @param matrix the board after clearing
+     */
+    void onRowsCleared(int[][] matrix) {
+        for (int col = 0; col < tops.length; col++) {
+            tops[col] = scanDown(matrix, col, tops[col]);
+        }
+    }
+
+    /**
+     * Updates the surface after garbage rows were pushed in from the bottom.
+     *
+     * @param matrix the board after insertion
+     * @param added the number of rows that were inserted
+     */
+    void onRowsAdded(int[][] matrix, int added) {
+        int firstGarbageRow = rows - added;
+        for (int col = 0; col < tops.length; col++) {
+            int top = tops[col];
+            if (top < rows) {
+                top -= added;
+                if (top < 0) {
+                    // Cells scrolled off the top, so the old surface is gone
+                    top = scanDown(matrix, col, 0);
+                }
+            } else {
+                top = scanDown(matrix, col, firstGarbageRow);
+            }
+            tops[col] = top;
+        }
+    }
+
+    /**
+     * Finds the row a brick would land on if dropped straight down.
+     *
+     * @param state the rotation state of the brick
+     * @param x the horizontal position of the brick
+     * @param y the vertical position of the brick
+     * @return the landing row, or {@link #BELOW_SURFACE} if part of the brick is at or
+     *         under a column's top (for example tucked under an overhang)
+     */
+    int landingY(RotationState state, int x, int y) {
+        int landing = Integer.MAX_VALUE;
+        for (int shapeCol = state.leftExtent(); shapeCol <= state.rightExtent(); shapeCol++) {
+            int bottom = state.columnBottom(shapeCol);
+            if (bottom < 0) {
+                continue;
+            }
+            int top = tops[x + shapeCol];
+            if (y + bottom >= top) {
+                return BELOW_SURFACE;
+            }
+            landing = Math.min(landing, top - 1 - bottom);
+        }
+        return landing == Integer.MAX_VALUE ? y : landing;
+    }
+
+    private int scanDown(int[][] matrix, int col, int fromRow) {
+        for (int row = Math.max(0, fromRow); row < rows; row++) {
+            if (matrix[row][col] != 0) {
+                return row;
+            }
+        }
+        return rows;
+    }
+}
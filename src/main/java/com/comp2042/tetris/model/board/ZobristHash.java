@@ -0,0 +1,222 @@
+package com.comp2042.tetris.model.board;
+
+import com.comp2042.tetris.model.bricks.Brick;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Incrementally maintained 64-bit hash of a board position: the locked cells,
+ * the active brick with its rotation and position, and the preview queue.
+ * Bricks are identified by their packed shape, which differs between all seven types.
+ *
+ * <p>Each row keeps a Zobrist hash of its contents - the XOR of one random key per
+ * filled cell and colour - so merging a brick costs one XOR per cell. The row hashes
+ * are combined with their row index, which means clearing or inserting rows only
+ * re-combines the rows that moved instead of rehashing every cell in them.
+ * Empty rows contribute nothing.</p>
+ *
+ * <p>Keys are derived from fixed constants rather than a random table, so equal
+ * positions hash equally on every board instance and across processes.</p>
+ *
+ * @see Board#getStateHash()
+ */
+final class ZobristHash {
+
+    /** Number of upcoming bricks included in the hash, matching the preview panel. */
+    static final int PREVIEW_DEPTH = 3;
+
+    private static final long CELL_SALT = 0x2545F4914F6CDD1DL;
+    private static final long ROW_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long PIECE_SALT = 0x94D049BB133111EBL;
+    private static final long PREVIEW_SALT = 0xBF58476D1CE4E5B9L;
+
+    private final long[] rowContent;
+    private long lockedHash;
+
+    /**
+     * Creates the hash of an empty board.
+     *
+     * @param rows the number of board rows
+     */
+    ZobristHash(int rows) {
+        this.rowContent = new long[rows];
+    }
+
+    /**
+     * Forgets every locked cell.
+     */
+    void reset() {
+        Arrays.fill(rowContent, 0L);
+        lockedHash = 0L;
+    }
+
+    /**
+     * Records a cell whose colour changed.
+     *
+     * @param row the board row
+     * @param col the board column
+     * @param oldColour the previous colour value, 0 for empty
+     * @param newColour the new colour value, 0 for empty
+     */
+    void cellChanged(int row, int col, int oldColour, int newColour) {
+        long before = rowContent[row];
+        long after = before;
+        if (oldColour != 0) {
+            after ^= cellKey(col, oldColour);
+        }
+        if (newColour != 0) {
+            after ^= cellKey(col, newColour);
+        }
+        rowContent[row] = after;
+        lockedHash ^= combine(row, before) ^ combine(row, after);
+    }
+
+    /**
+     * Takes a range of rows out of the combined hash before they are moved or replaced.
+     * Call {@link #includeRows(int, int)} with the same range once they are in place.
+     *
+     * @param first the first row that will change
+     * @param last the last row that will change, inclusive
+     */
+    void excludeRows(int first, int last) {
+        toggleRows(first, last);
+    }
+
+    /**
+     * Puts a range of rows back into the combined hash after {@link #excludeRows(int, int)}.
+     *
+     * @param first the first row that changed
+     * @param last the last row that changed, inclusive
+     */
+    void includeRows(int first, int last) {
+        toggleRows(first, last);
+    }
+
+    /**
+     * Moves a row's contents to another index, as done when compacting cleared rows.
+     * Both rows must be excluded from the combined hash.
+     *
+     * @param from the row the contents came from
+     * @param to the row they now occupy
+     */
+    void moveRow(int from, int to) {
+        rowContent[to] = rowContent[from];
+    }
+
+    /**
+     * Shifts rows up, dropping the ones that move above {@code first}, as done when
+     * garbage is inserted. The rows from {@code first} down must be excluded from the
+     * combined hash.
+     *
+     * @param first the highest row that receives moved contents
+     * @param count the number of rows to shift by
+     */
+    void shiftUp(int first, int count) {
+        System.arraycopy(rowContent, first + count, rowContent, first, rowContent.length - count - first);
+    }
+
+    /**
+     * Rehashes a row from its cells, for rows that were replaced wholesale. The row
+     * must be excluded from the combined hash, or {@link #recombine()} called afterwards.
+     *
+     * @param row the board row
+     * @param cells the row's cells
+     */
+    void setRow(int row, int[] cells) {
+        rowContent[row] = rowContentOf(cells);
+    }
+
+    /**
+     * Recomputes the combined hash after rows were moved or replaced.
+     */
+    void recombine() {
+        long hash = 0L;
+        for (int row = 0; row < rowContent.length; row++) {
+            hash ^= combine(row, rowContent[row]);
+        }
+        lockedHash = hash;
+    }
+
+    /**
+     * Returns the hash of the whole position.
+     *
+     * @param shape the packed shape of the active brick's current rotation
+     * @param rotation its rotation index
+     * @param x its horizontal position
+     * @param y its vertical position
+     * @param previewKey the key of the upcoming bricks from {@link #previewKey(List)}
+     * @return the position hash
+     */
+    long hash(long shape, int rotation, int x, int y, long previewKey) {
+        return lockedHash ^ pieceKey(shape, rotation, x, y) ^ previewKey;
+    }
+
+    /**
+     * Hashes a saved position from scratch. Gives the same value as the incremental
+     * hash of a board in that position.
+     *
+     * @param state the saved position
+     * @return the position hash
+     */
+    static long of(Board.State state) {
+        int[][] cells = state.cells();
+        ZobristHash hash = new ZobristHash(cells.length);
+        for (int row = 0; row < cells.length; row++) {
+            hash.setRow(row, cells[row]);
+        }
+        hash.recombine();
+        long shape = state.brick().getRotationStates().get(state.rotation()).packedMask();
+        return hash.hash(shape, state.rotation(), state.x(), state.y(), previewKey(state.generator().queue()));
+    }
+
+    /**
+     * Hashes the upcoming bricks by the shape of their spawn rotation.
+     *
+     * @param preview the upcoming bricks, next first; only the first {@link #PREVIEW_DEPTH} count
+     * @return the preview key
+     */
+    static long previewKey(List<? extends Brick> preview) {
+        long key = 0L;
+        int depth = Math.min(PREVIEW_DEPTH, preview.size());
+        for (int i = 0; i < depth; i++) {
+            key ^= mix(PREVIEW_SALT + i * ROW_GAMMA ^ preview.get(i).getRotationStates().get(0).packedMask());
+        }
+        return key;
+    }
+
+    private void toggleRows(int first, int last) {
+        for (int row = first; row <= last; row++) {
+            lockedHash ^= combine(row, rowContent[row]);
+        }
+    }
+
+    private static long rowContentOf(int[] cells) {
+        long content = 0L;
+        for (int col = 0; col < cells.length; col++) {
+            if (cells[col] != 0) {
+                content ^= cellKey(col, cells[col]);
+            }
+        }
+        return content;
+    }
+
+    private static long cellKey(int col, int colour) {
+        return mix(CELL_SALT + ((long) col << 32 | colour & 0xFFFFFFFFL));
+    }
+
+    private static long combine(int row, long content) {
+        return content == 0L ? 0L : mix(content + (row + 1) * ROW_GAMMA);
+    }
+
+    private static long pieceKey(long shape, int rotation, int x, int y) {
+        long position = (long) (rotation & 0xFF) << 40 | (long) (x & 0xFFFFF) << 20 | y & 0xFFFFF;
+        return mix(mix(PIECE_SALT ^ shape) ^ position);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
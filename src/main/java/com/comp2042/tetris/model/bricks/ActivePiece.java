@@ -0,0 +1,58 @@
+package com.comp2042.tetris.model.bricks;
+
+/**
+ * Mutable position of the brick currently controlled by the player.
+ * Boards keep a single instance and update it in place, so moving or rotating
+ * the active brick never allocates.
+ *
+ * <p>The position is the board cell of the shape matrix's top-left corner. The
+ * rotation is tracked by the {@link BrickRotator} alone.</p>
+ *
+ * @see BrickRotator#tryRotateLeft(int[][], ActivePiece)
+ * @see RotationStrategy#applyRotation(int[][], RotationState, ActivePiece)
+ */
+public final class ActivePiece {
+
+    private int x;
+    private int y;
+
+    /**
+     * Moves the piece to an absolute position.
+     *
+     * @param x the new horizontal position
+     * @param y the new vertical position
+     */
+    public void moveTo(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Moves the piece by the given offsets.
+     *
+     * @param dx the horizontal offset
+     * @param dy the vertical offset
+     */
+    public void translate(int dx, int dy) {
+        this.x += dx;
+        this.y += dy;
+    }
+
+    /**
+     * Returns the horizontal position.
+     *
+     * @return the column of the shape's top-left corner
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Returns the vertical position.
+     *
+     * @return the row of the shape's top-left corner
+     */
+    public int getY() {
+        return y;
+    }
+}
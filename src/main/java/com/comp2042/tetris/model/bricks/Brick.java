@@ -42,4 +42,15 @@ public interface Brick extends Cloneable {
      * @return a new Brick instance with the same properties
      */
     Brick cloneBrick();
+
+    /**
+     * Returns the precomputed rotation states of this brick, in rotation order.
+     * Built-in bricks return shared flyweight instances; the default
+     * implementation derives them from {@link #getShapeMatrix()}.
+     *
+     * @return an unmodifiable list of rotation states
+     */
+    default List<RotationState> getRotationStates() {
+        return RotationState.fromShapes(getShapeMatrix());
+    }
 }
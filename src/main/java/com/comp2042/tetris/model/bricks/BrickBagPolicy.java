@@ -18,4 +18,22 @@ public interface BrickBagPolicy {
      * @return a deque containing the bricks in the desired order
      */
     Deque<Brick> createBag(List<Brick> prototypes);
+
+    /**
+     * Returns the state of the policy's random stream, so a game can be saved mid-way.
+     * Policies without a resumable stream keep the default.
+     *
+     * @return the random state, or 0 if the policy has none
+     */
+    default long getRandomState() {
+        return 0L;
+    }
+
+    /**
+     * Resumes the policy's random stream from a value returned by {@link #getRandomState()}.
+     *
+     * @param state the random state
+     */
+    default void setRandomState(long state) {
+    }
 }
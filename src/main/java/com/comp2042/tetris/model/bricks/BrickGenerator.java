@@ -38,4 +38,40 @@ public interface BrickGenerator {
      * @return a list of the next bricks in order
      */
     List<Brick> getNextBricks(int count);
+
+    /**
+     * Captures the queue and random stream so the sequence can be resumed later.
+     *
+     * @return the generator state
+     * @throws UnsupportedOperationException if the generator cannot be saved
+     */
+    default State saveState() {
+        throw new UnsupportedOperationException("BrickGenerator: saving state is not supported");
+    }
+
+    /**
+     * Resumes the sequence from a state returned by {@link #saveState()}.
+     *
+     * @param state the state to restore
+     * @throws UnsupportedOperationException if the generator cannot be restored
+     */
+    default void restoreState(State state) {
+        throw new UnsupportedOperationException("BrickGenerator: restoring state is not supported");
+    }
+
+    /**
+     * Saved position of a brick sequence.
+     *
+     * @param queue the bricks already dealt into the queue, next brick first
+     * @param randomState the state of the random stream that shuffles future bags
+     */
+    record State(List<BrickType> queue, long randomState) {
+
+        /**
+         * Copies the queue.
+         */
+        public State {
+            queue = List.copyOf(queue);
+        }
+    }
 }
@@ -23,6 +23,7 @@ public class BrickRotator {
 
     private final RotationStrategy rotationStrategy;
     private Brick brick;
+    private List<RotationState> states;
     private int currentShape = 0;
 
     /**
@@ -51,23 +52,34 @@ public class BrickRotator {
         if (brick == null) {
             throw new IllegalStateException("BrickRotator: no brick assigned yet.");
         }
-        int nextShape = (currentShape + 1) % getBrickShapes().size();
-        return new NextShapeInfo(getBrickShapes().get(nextShape), nextShape);
+        int nextShape = (currentShape + 1) % states.size();
+        return new NextShapeInfo(states.get(nextShape).shape(), nextShape);
     }
 
     /**
      * Gets the current rotation state's shape matrix.
+     * The matrix is shared with the brick's precomputed state and must not be modified.
      *
      * @return the 2D array representing the current shape
      * @throws IllegalStateException if no brick has been assigned
      */
     public int[][] getCurrentShape() {
+        return getCurrentState().shape();
+    }
+
+    /**
+     * Gets the precomputed state of the current rotation.
+     *
+     * @return the current rotation state
+     * @throws IllegalStateException if no brick has been assigned
+     */
+    public RotationState getCurrentState() {
 
         /*added an if statement for the same purpose  */
         if (brick == null) {
             throw new IllegalStateException("BrickRotator: no brick assigned yet.");
         }
-        return getBrickShapes().get(currentShape);
+        return states.get(currentShape);
     }
 
     /**
@@ -79,15 +91,39 @@ public class BrickRotator {
      * @return the new offset if rotation succeeded, null if blocked
      */
     public Point tryRotateLeft(int[][] boardMatrix, Point offset) {
-        NextShapeInfo nextShapeInfo = peekNextRotation();
-        Point kickedOffset = rotationStrategy.findOffsetForRotation(boardMatrix, nextShapeInfo.getShape(), offset);
+        if (brick == null) {
+            throw new IllegalStateException("BrickRotator: no brick assigned yet.");
+        }
+        int nextShape = (currentShape + 1) % states.size();
+        Point kickedOffset = rotationStrategy.findOffsetForRotation(boardMatrix, states.get(nextShape), offset);
         if (kickedOffset != null) {
-            currentShape = nextShapeInfo.getPosition();
+            currentShape = nextShape;
             return kickedOffset;
         }
         return null;
     }
 
+    /**
+     * Attempts to rotate the active piece left (counterclockwise) in place.
+     * Unlike {@link #tryRotateLeft(int[][], Point)} this path allocates nothing.
+     *
+     * @param boardMatrix the current board state for collision detection
+     * @param piece the active piece; its position is updated on success
+     * @return true if the rotation succeeded, false if blocked
+     * @throws IllegalStateException if no brick has been assigned
+     */
+    public boolean tryRotateLeft(int[][] boardMatrix, ActivePiece piece) {
+        if (brick == null) {
+            throw new IllegalStateException("BrickRotator: no brick assigned yet.");
+        }
+        int nextShape = (currentShape + 1) % states.size();
+        if (!rotationStrategy.applyRotation(boardMatrix, states.get(nextShape), piece)) {
+            return false;
+        }
+        currentShape = nextShape;
+        return true;
+    }
+
     /**
      * Sets the current rotation state index directly.
      *
@@ -99,15 +135,27 @@ public class BrickRotator {
 
     /**
      * Sets a new brick and resets the rotation state to 0.
+     * The brick's rotation states are resolved once here and shared afterwards.
      *
      * @param brick the brick to assign (will be cloned)
      */
     public void setBrick(Brick brick) {
         this.brick = brick.cloneBrick();
+        this.states = this.brick.getRotationStates();
         currentShape = 0;
     }
-    private List<int[][]> getBrickShapes() {
-        return brick.cloneShape();
+
+    /**
+     * Returns the brick being rotated.
+     *
+     * @return the current brick
+     * @throws IllegalStateException if no brick has been assigned yet
+     */
+    public Brick getCurrentBrick() {
+        if (brick == null) {
+            throw new IllegalStateException("BrickRotator: no brick assigned yet.");
+        }
+        return brick;
     }
 
     /**
@@ -117,7 +165,16 @@ public class BrickRotator {
      */
     public int getRotationStateCount() {
         if (brick == null) return 0;
-        return getBrickShapes().size();
+        return states.size();
+    }
+
+    /**
+     * Returns the strategy that places rotated bricks.
+     *
+     * @return the rotation strategy
+     */
+    public RotationStrategy getRotationStrategy() {
+        return rotationStrategy;
     }
 
     /**
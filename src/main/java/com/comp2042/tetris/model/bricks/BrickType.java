@@ -75,6 +75,14 @@ public enum BrickType implements Brick {
         return prototype.cloneBrick();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<RotationState> getRotationStates() {
+        return prototype.getRotationStates();
+    }
+
     /**
      * Returns an unmodifiable list of all brick type prototypes.
      *
@@ -83,4 +91,23 @@ public enum BrickType implements Brick {
     public static List<Brick> prototypes() {
         return Collections.unmodifiableList(Arrays.asList(values()));
     }
+
+    /**
+     * Finds the type of a brick created by one of the prototypes.
+     *
+     * @param brick the brick
+     * @return its type
+     * @throws IllegalArgumentException if the brick is not a standard tetromino
+     */
+    public static BrickType of(Brick brick) {
+        if (brick instanceof BrickType type) {
+            return type;
+        }
+        for (BrickType type : values()) {
+            if (type.prototype.getClass() == brick.getClass()) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("BrickType: not a standard brick: " + brick.getClass().getName());
+    }
 }
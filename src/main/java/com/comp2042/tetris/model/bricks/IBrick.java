@@ -19,11 +19,18 @@ final class IBrick extends  AbstractBrick {
                 {0, 1, 0, 0}
         }
     );
+    private static final List<RotationState> STATES = RotationState.fromShapes(SHAPES);
+
     @Override
     protected List<int[][]> getPrototypes() {
         return SHAPES;
     }
 
+    @Override
+    public List<RotationState> getRotationStates() {
+        return STATES;
+    }
+
     @Override
     public Brick cloneBrick() {
             return new IBrick();
@@ -31,11 +31,18 @@ final class JBrick extends AbstractBrick {
                     {0, 0, 0, 0}
             }
     );
+    private static final List<RotationState> STATES = RotationState.fromShapes(SHAPES);
+
     @Override
     protected List<int[][]> getPrototypes() {
         return SHAPES;
     }
 
+    @Override
+    public List<RotationState> getRotationStates() {
+        return STATES;
+    }
+
     @Override
     public Brick cloneBrick() {
         return new JBrick();
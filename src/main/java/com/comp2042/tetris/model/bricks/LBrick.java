@@ -30,11 +30,18 @@ final class LBrick extends AbstractBrick {
                 {0, 0, 0, 0}
             }
         );
+    private static final List<RotationState> STATES = RotationState.fromShapes(SHAPES);
+
     @Override
     protected List<int[][]> getPrototypes() {
         return SHAPES;
     }
 
+    @Override
+    public List<RotationState> getRotationStates() {
+        return STATES;
+    }
+
     public Brick cloneBrick() {
         return new LBrick();
     }
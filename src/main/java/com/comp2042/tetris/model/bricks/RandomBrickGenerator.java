@@ -1,6 +1,9 @@
 package com.comp2042.tetris.model.bricks;
 
+import com.comp2042.tetris.utils.GameRandom;
+
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -34,6 +37,16 @@ public class RandomBrickGenerator implements BrickGenerator {
         this(new ShuffleBagPolicy(), 3);
     }
 
+    /**
+     * Constructs a RandomBrickGenerator whose bags are shuffled by the given random source,
+     * so the same seed always deals the same bricks.
+     *
+     * @param random the random source for shuffling bags
+     */
+    public RandomBrickGenerator(GameRandom random) {
+        this(new ShuffleBagPolicy(random), 3);
+    }
+
     /**
      * Constructs a RandomBrickGenerator with custom bag policy and preview size.
      *
@@ -77,6 +90,31 @@ public class RandomBrickGenerator implements BrickGenerator {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public State saveState() {
+        List<BrickType> queue = new ArrayList<>(nextBricks.size());
+        for (Brick brick : nextBricks) {
+            queue.add(BrickType.of(brick));
+        }
+        return new State(queue, bagPolicy.getRandomState());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restoreState(State state) {
+        nextBricks.clear();
+        for (BrickType type : state.queue()) {
+            nextBricks.add(type.cloneBrick());
+        }
+        bagPolicy.setRandomState(state.randomState());
+        refillIfNeeded();
+    }
+
     /**
      * Refills the queue with new shuffled bags when running low.
      */
@@ -0,0 +1,268 @@
+package com.comp2042.tetris.model.bricks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable, precomputed description of one rotation state of a brick.
+ * Instances are flyweights: every brick of the same type shares the same
+ * states, so reading a shape never copies a matrix.
+ *
+ * <p>Each state exposes:</p>
+ * <ul>
+ *   <li>The shape matrix (shared - callers must treat it as read-only)</li>
+ *   <li>One bit mask per shape row and a packed mask of the whole shape</li>
+ *   <li>The bounding box of the filled cells (left/right/top/bottom extents)</li>
+ *   <li>The bottom profile - the lowest filled row of each column</li>
+ *   <li>The list of filled cells with their colour values</li>
+ * </ul>
+ *
+ * @see Brick#getRotationStates()
+ * @see BrickRotator
+ */
+public final class RotationState {
+
+    /** Number of bits reserved for each shape row in {@link #packedMask()}. */
+    public static final int PACKED_ROW_STRIDE = 8;
+
+    private final int[][] shape;
+    private final long[] rowMasks;
+    private final long packedMask;
+    private final int leftExtent;
+    private final int rightExtent;
+    private final int topExtent;
+    private final int bottomExtent;
+    private final int[] columnBottoms;
+    private final int[] cellRows;
+    private final int[] cellCols;
+    private final int[] cellValues;
+
+    private RotationState(int[][] source) {
+        int height = source.length;
+        this.shape = new int[height][];
+        this.rowMasks = new long[height];
+
+        int cellCount = 0;
+        for (int row = 0; row < height; row++) {
+            this.shape[row] = source[row].clone();
+            for (int value : source[row]) {
+                if (value != 0) {
+                    cellCount++;
+                }
+            }
+        }
+
+        this.cellRows = new int[cellCount];
+        this.cellCols = new int[cellCount];
+        this.cellValues = new int[cellCount];
+
+        int left = Integer.MAX_VALUE;
+        int right = -1;
+        int top = Integer.MAX_VALUE;
+        int bottom = -1;
+        long packed = 0L;
+        int cell = 0;
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < shape[row].length; col++) {
+                int value = shape[row][col];
+                if (value == 0) {
+                    continue;
+                }
+                if (row >= PACKED_ROW_STRIDE || col >= PACKED_ROW_STRIDE) {
+                    throw new IllegalArgumentException("RotationState: shapes are limited to "
+                            + PACKED_ROW_STRIDE + "x" + PACKED_ROW_STRIDE + " filled cells");
+                }
+                rowMasks[row] |= 1L << col;
+                packed |= 1L << (row * PACKED_ROW_STRIDE + col);
+                cellRows[cell] = row;
+                cellCols[cell] = col;
+                cellValues[cell] = value;
+                cell++;
+                left = Math.min(left, col);
+                right = Math.max(right, col);
+                top = Math.min(top, row);
+                bottom = Math.max(bottom, row);
+            }
+        }
+
+        this.columnBottoms = new int[right + 1];
+        Arrays.fill(columnBottoms, -1);
+        for (int i = 0; i < cellCount; i++) {
+            columnBottoms[cellCols[i]] = Math.max(columnBottoms[cellCols[i]], cellRows[i]);
+        }
+
+        this.packedMask = packed;
+        this.leftExtent = right < 0 ? 0 : left;
+        this.rightExtent = right;
+        this.topExtent = bottom < 0 ? 0 : top;
+        this.bottomExtent = bottom;
+    }
+
+    /**
+     * Builds a rotation state from a shape matrix. The matrix is copied.
+     *
+     * @param shape the shape matrix of a single rotation
+     * @return the precomputed rotation state
+     * @throws IllegalArgumentException if a filled cell lies outside the packable area
+     */
+    public static RotationState of(int[][] shape) {
+        return new RotationState(shape);
+    }
+
+    /**
+     * Builds the rotation states for every shape in a rotation cycle.
+     *
+     * @param shapes the shape matrices in rotation order
+     * @return an unmodifiable list of precomputed states
+     */
+    public static List<RotationState> fromShapes(List<int[][]> shapes) {
+        List<RotationState> states = new ArrayList<>(shapes.size());
+        for (int[][] shape : shapes) {
+            states.add(of(shape));
+        }
+        return Collections.unmodifiableList(states);
+    }
+
+    /**
+     * Returns the shared shape matrix. Must not be modified.
+     *
+     * @return the shape matrix of this rotation
+     */
+    public int[][] shape() {
+        return shape;
+    }
+
+    /**
+     * Returns the number of rows in the shape matrix.
+     *
+     * @return the shape matrix height
+     */
+    public int height() {
+        return shape.length;
+    }
+
+    /**
+     * Returns the number of columns in the first row of the shape matrix.
+     *
+     * @return the shape matrix width, or 0 for an empty matrix
+     */
+    public int width() {
+        return shape.length > 0 ? shape[0].length : 0;
+    }
+
+    /**
+     * Returns the bit mask of a shape row; bit {@code c} is set when column {@code c} is filled.
+     *
+     * @param row the shape row
+     * @return the row mask
+     */
+    public long rowMask(int row) {
+        return rowMasks[row];
+    }
+
+    /**
+     * Returns the whole shape packed into one value;
+     * bit {@code row * PACKED_ROW_STRIDE + col} is set for every filled cell.
+     *
+     * @return the packed shape mask
+     */
+    public long packedMask() {
+        return packedMask;
+    }
+
+    /**
+     * Returns the column of the leftmost filled cell.
+     *
+     * @return the left extent, or 0 for an empty shape
+     */
+    public int leftExtent() {
+        return leftExtent;
+    }
+
+    /**
+     * Returns the column of the rightmost filled cell.
+     *
+     * @return the right extent, or -1 for an empty shape
+     */
+    public int rightExtent() {
+        return rightExtent;
+    }
+
+    /**
+     * Returns the row of the topmost filled cell.
+     *
+     * @return the top extent, or 0 for an empty shape
+     */
+    public int topExtent() {
+        return topExtent;
+    }
+
+    /**
+     * Returns the row of the bottommost filled cell.
+     *
+     * @return the bottom extent, or -1 for an empty shape
+     */
+    public int bottomExtent() {
+        return bottomExtent;
+    }
+
+    /**
+     * Returns the lowest filled row of a shape column.
+     *
+     * @param col the shape column, between {@link #leftExtent()} and {@link #rightExtent()}
+     * @return the bottom row of that column, or -1 if the column has no filled cell
+     */
+    public int columnBottom(int col) {
+        return columnBottoms[col];
+    }
+
+    /**
+     * Returns whether the shape has no filled cells.
+     *
+     * @return true if the shape is empty
+     */
+    public boolean isEmpty() {
+        return cellValues.length == 0;
+    }
+
+    /**
+     * Returns the number of filled cells.
+     *
+     * @return the cell count
+     */
+    public int cellCount() {
+        return cellValues.length;
+    }
+
+    /**
+     * Returns the shape row of a filled cell.
+     *
+     * @param index the cell index, from 0 to {@link #cellCount()} - 1
+     * @return the row of the cell
+     */
+    public int cellRow(int index) {
+        return cellRows[index];
+    }
+
+    /**
+     * Returns the shape column of a filled cell.
+     *
+     * @param index the cell index, from 0 to {@link #cellCount()} - 1
+     * @return the column of the cell
+     */
+    public int cellCol(int index) {
+        return cellCols[index];
+    }
+
+    /**
+     * Returns the colour value of a filled cell.
+     *
+     * @param index the cell index, from 0 to {@link #cellCount()} - 1
+     * @return the colour value of the cell
+     */
+    public int cellValue(int index) {
+        return cellValues[index];
+    }
+}
@@ -21,4 +21,37 @@ public interface RotationStrategy {
      * @return the adjusted position if valid, null if rotation is blocked
      */
     Point findOffsetForRotation(int[][] boardMatrix, int[][] rotatedShape, Point currentOffset);
+
+    /**
+     * Finds a valid position for a rotated brick described by a precomputed state.
+     * Strategies can override this to use the state's extents and cell list
+     * instead of rescanning the shape matrix.
+     *
+     * @param boardMatrix the current board state for collision detection
+     * @param rotatedState the rotation state after rotation
+     * @param currentOffset the current position of the brick
+     * @return the adjusted position if valid, null if rotation is blocked
+     */
+    default Point findOffsetForRotation(int[][] boardMatrix, RotationState rotatedState, Point currentOffset) {
+        return findOffsetForRotation(boardMatrix, rotatedState.shape(), currentOffset);
+    }
+
+    /**
+     * Rotates the active piece in place if a valid position exists.
+     * The default implementation delegates to the {@link Point}-based lookup;
+     * strategies on hot paths should override it to avoid allocating.
+     *
+     * @param boardMatrix the current board state for collision detection
+     * @param rotatedState the rotation state after rotation
+     * @param piece the active piece; its position is updated on success
+     * @return true if the rotation fits, false if it is blocked
+     */
+    default boolean applyRotation(int[][] boardMatrix, RotationState rotatedState, ActivePiece piece) {
+        Point kickedOffset = findOffsetForRotation(boardMatrix, rotatedState, new Point(piece.getX(), piece.getY()));
+        if (kickedOffset == null) {
+            return false;
+        }
+        piece.moveTo(kickedOffset.x, kickedOffset.y);
+        return true;
+    }
 }
@@ -1,10 +1,12 @@
 package com.comp2042.tetris.model.bricks;
 
+import com.comp2042.tetris.utils.GameRandom;
+
 import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Implementation of {@link BrickBagPolicy} using random shuffling.
@@ -16,6 +18,25 @@ import java.util.List;
  */
 public class ShuffleBagPolicy implements BrickBagPolicy {
 
+    private final GameRandom random;
+
+    /**
+     * Creates a policy that shuffles with its own unseeded random source.
+     */
+    public ShuffleBagPolicy() {
+        this(new GameRandom());
+    }
+
+    /**
+     * Creates a policy that shuffles with the given random source,
+     * so a seeded source produces a reproducible brick sequence.
+     *
+     * @param random the random source used for shuffling
+     */
+    public ShuffleBagPolicy(GameRandom random) {
+        this.random = Objects.requireNonNull(random, "random");
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -25,7 +46,23 @@ public class ShuffleBagPolicy implements BrickBagPolicy {
         for (Brick prototype : prototypes) {
             shuffled.add(prototype.cloneBrick());
         }
-        Collections.shuffle(shuffled);
+        random.shuffle(shuffled);
         return new ArrayDeque<>(shuffled);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getRandomState() {
+        return random.getState();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setRandomState(long state) {
+        random.setState(state);
+    }
 }
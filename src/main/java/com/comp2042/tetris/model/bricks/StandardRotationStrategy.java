@@ -14,28 +14,60 @@ import java.awt.Point;
  */
 public class StandardRotationStrategy implements RotationStrategy {
     private static final int[] KICKS = {-1, 1, -2, 2};
-    private static final int HIDDEN_TOP_ROWS = 2;
+    private static final int NO_FIT = Integer.MIN_VALUE;
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
     public Point findOffsetForRotation(int[][] boardMatrix, int[][] rotatedShape, Point currentOffset) {
-        int currentX = (int) currentOffset.getX();
-        int currentY = (int) currentOffset.getY();
+        return findOffsetForRotation(boardMatrix, RotationState.of(rotatedShape), currentOffset);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Uses the state's precomputed extents and cell list, so no shape is rescanned.
+     */
+    @Override
+    public Point findOffsetForRotation(int[][] boardMatrix, RotationState rotatedState, Point currentOffset) {
+        int y = (int) currentOffset.getY();
+        int x = findRotationX(boardMatrix, rotatedState, (int) currentOffset.getX(), y);
+        return x == NO_FIT ? null : new Point(x, y);
+    }
 
+    /**
+     * {@inheritDoc}
+     * Allocation-free: the kicked position is written straight into the piece.
+     */
+    @Override
+    public boolean applyRotation(int[][] boardMatrix, RotationState rotatedState, ActivePiece piece) {
+        int x = findRotationX(boardMatrix, rotatedState, piece.getX(), piece.getY());
+        if (x == NO_FIT) {
+            return false;
+        }
+        piece.moveTo(x, piece.getY());
+        return true;
+    }
+
+    /**
+     * Finds the column the rotated brick should occupy, or {@link #NO_FIT} if it is blocked.
+     */
+    private int findRotationX(int[][] boardMatrix, RotationState rotatedState, int currentX, int currentY) {
         // Try current position first
-        if (!MatrixOperations.intersect(boardMatrix, rotatedShape, currentX, currentY)) {
+        if (!MatrixOperations.intersect(boardMatrix, rotatedState, currentX, currentY)) {
             // If the current position is valid, return the optimized position (or same position on small boards)
-            return optimizePosition(boardMatrix, rotatedShape, currentX, currentY);
+            return optimizePosition(boardMatrix, rotatedState, currentX, currentY);
         }
 
         // Current position doesn't work, try wall kicks
         for (int dx : KICKS) {
             int newX = currentX + dx;
-            if (!MatrixOperations.intersect(boardMatrix, rotatedShape, newX, currentY)) {
+            if (!MatrixOperations.intersect(boardMatrix, rotatedState, newX, currentY)) {
                 // Found a valid kick position, optimize it before returning
-                return optimizePosition(boardMatrix, rotatedShape, newX, currentY);
+                return optimizePosition(boardMatrix, rotatedState, newX, currentY);
             }
         }
-        return null;
+        return NO_FIT;
     }
 
     /**
@@ -44,18 +76,18 @@ public class StandardRotationStrategy implements RotationStrategy {
      * This prevents bricks from "floating" away from walls after rotation.
      * Only applies optimization when near walls on standard-sized boards.
      */
-    private Point optimizePosition(int[][] boardMatrix, int[][] rotatedShape, int x, int y) {
+    private int optimizePosition(int[][] boardMatrix, RotationState rotatedState, int x, int y) {
         int boardWidth = boardMatrix.length > 0 ? boardMatrix[0].length : 0;
 
         // Only apply optimization on boards with width >= 8 (standard Tetris is 10)
         // This preserves behavior on smaller test boards
         if (boardWidth < 8) {
-            return new Point(x, y);
+            return x;
         }
 
-        // Calculate the actual width of the brick (rightmost filled column)
-        int brickWidth = getBrickWidth(rotatedShape);
-        int brickLeftOffset = getBrickLeftOffset(rotatedShape);
+        // Width of the actual brick content (rightmost filled column + 1) and its left offset
+        int brickWidth = rotatedState.rightExtent() + 1;
+        int brickLeftOffset = rotatedState.leftExtent();
 
         // Calculate actual rightmost position of brick content on board
         int rightmostBrickColumn = x + brickWidth - 1;
@@ -71,7 +103,7 @@ public class StandardRotationStrategy implements RotationStrategy {
 
         if (!hasGapToRightWall && !hasGapToLeftWall) {
             // Not near any wall with a gap, return position as-is
-            return new Point(x, y);
+            return x;
         }
 
         int bestX = x;
@@ -79,7 +111,7 @@ public class StandardRotationStrategy implements RotationStrategy {
         // If there's a gap to right wall, try to close it
         if (hasGapToRightWall) {
             for (int testX = x + 1; testX <= boardWidth - brickWidth + brickLeftOffset; testX++) {
-                if (!MatrixOperations.intersect(boardMatrix, rotatedShape, testX, y)) {
+                if (!MatrixOperations.intersect(boardMatrix, rotatedState, testX, y)) {
                     bestX = testX;
                 } else {
                     break; // Hit an obstacle, stop trying
@@ -92,7 +124,7 @@ public class StandardRotationStrategy implements RotationStrategy {
             // Calculate minimum valid X (leftmost brick cell should be at board column 0)
             int minValidX = -brickLeftOffset;
             for (int testX = x - 1; testX >= minValidX; testX--) {
-                if (!MatrixOperations.intersect(boardMatrix, rotatedShape, testX, y)) {
+                if (!MatrixOperations.intersect(boardMatrix, rotatedState, testX, y)) {
                     bestX = testX;
                 } else {
                     break; // Hit an obstacle, stop trying
@@ -100,51 +132,6 @@ public class StandardRotationStrategy implements RotationStrategy {
             }
         }
 
-        return new Point(bestX, y);
-    }
-
-    private boolean isAboveVisibleArea(int[][] rotatedShape, int y) {
-        return y + getBrickTopOffset(rotatedShape) < HIDDEN_TOP_ROWS;
-    }
-
-    private int getBrickTopOffset(int[][] shape) {
-        for (int row = 0; row < shape.length; row++) {
-            for (int col = 0; col < shape[row].length; col++) {
-                if (shape[row][col] != 0) {
-                    return row;
-                }
-            }
-        }
-        return 0;
-    }
-
-    /**
-     * Get the width of the actual brick content (distance from leftmost to rightmost filled cell + 1)
-     */
-    private int getBrickWidth(int[][] shape) {
-        int maxCol = -1;
-        for (int row = 0; row < shape.length; row++) {
-            for (int col = 0; col < shape[row].length; col++) {
-                if (shape[row][col] != 0 && col > maxCol) {
-                    maxCol = col;
-                }
-            }
-        }
-        return maxCol + 1;
-    }
-
-    /**
-     * Get the left offset of the brick (column of leftmost filled cell)
-     */
-    private int getBrickLeftOffset(int[][] shape) {
-        int minCol = Integer.MAX_VALUE;
-        for (int row = 0; row < shape.length; row++) {
-            for (int col = 0; col < shape[row].length; col++) {
-                if (shape[row][col] != 0 && col < minCol) {
-                    minCol = col;
-                }
-            }
-        }
-        return minCol == Integer.MAX_VALUE ? 0 : minCol;
+        return bestX;
     }
 }
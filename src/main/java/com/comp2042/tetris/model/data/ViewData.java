@@ -30,6 +30,7 @@ public final class ViewData {
     private final int currentRotationIndex;
     private final int rotationStateCount;
     private final int rotationsUsed;
+    private final long inputNanos;
 
     /**
      * Constructs ViewData with basic brick information.
@@ -92,6 +93,7 @@ public final class ViewData {
         this.currentRotationIndex = currentRotationIndex;
         this.rotationStateCount = rotationStateCount;
         this.rotationsUsed = rotationsUsed;
+        this.inputNanos = 0L;
     }
 
     /**
@@ -117,6 +119,40 @@ public final class ViewData {
         this.currentRotationIndex = currentRotationIndex;
         this.rotationStateCount = rotationStateCount;
         this.rotationsUsed = rotationsUsed;
+        this.inputNanos = 0L;
+    }
+
+    private ViewData(ViewData source, long inputNanos) {
+        this.brickData = source.brickData;
+        this.xPosition = source.xPosition;
+        this.yPosition = source.yPosition;
+        this.nextBrickData = source.nextBrickData;
+        this.nextBricksData = source.nextBricksData;
+        this.ghostYPosition = source.ghostYPosition;
+        this.currentRotationIndex = source.currentRotationIndex;
+        this.rotationStateCount = source.rotationStateCount;
+        this.rotationsUsed = source.rotationsUsed;
+        this.inputNanos = inputNanos;
+    }
+
+    /**
+     * Returns this view stamped with the arrival time of the latest input it shows.
+     *
+     * @param inputNanos the {@link System#nanoTime()} stamp of the input, or 0 for none
+     * @return a stamped copy, or this view if the stamp is unchanged
+     * @see com.comp2042.tetris.model.event.MoveEvent#getInputNanos()
+     */
+    public ViewData withInputNanos(long inputNanos) {
+        return inputNanos == this.inputNanos ? this : new ViewData(this, inputNanos);
+    }
+
+    /**
+     * Returns the arrival time of the latest input this view shows.
+     *
+     * @return the {@link System#nanoTime()} stamp, or 0 if no input is attached
+     */
+    public long getInputNanos() {
+        return inputNanos;
     }
 
     /**
@@ -0,0 +1,197 @@
+package com.comp2042.tetris.model.event;
+
+import com.comp2042.tetris.model.board.BoardDelta;
+import com.comp2042.tetris.model.board.BoardView;
+import com.comp2042.tetris.model.board.ClearRow;
+import com.comp2042.tetris.model.data.ViewData;
+
+import java.util.Objects;
+
+/**
+ * {@link GameEventListener} that sits in front of another listener and passes on only
+ * the latest state each frame.
+ *
+ * <p>Brick, score and board updates are held back until {@link #flush()}, which is meant
+ * to be called once per frame:</p>
+ * <ul>
+ *   <li>Only the latest brick and score are delivered; the brick keeps the input stamp
+ *       of the one it replaced if it has none of its own</li>
+ *   <li>Board deltas are merged with {@link BoardDelta#andThen(BoardDelta)}; a full board
+ *       update replaces the pending one</li>
+ * </ul>
+ *
+ * <p>A hard drop that awards points for twenty rows therefore reaches the target as one
+ * score update instead of twenty. Game initialization, line clears and game over are
+ * delivered at once, after any held-back state, so they always see the board they
+ * belong to. Brick placement carries no state and is delivered at once.</p>
+ *
+ * <p>Not thread-safe: events and flushes must come from the same thread.</p>
+ *
+ * @see com.comp2042.tetris.game.EventPulseDrainer
+ */
+public final class CoalescingGameEventListener implements GameEventListener {
+
+    private final GameEventListener target;
+
+    private ViewData pendingBrick;
+    private ScoreChangeEvent pendingScore;
+    private int[][] pendingMatrix;
+    private BoardView pendingView;
+    private BoardDelta pendingDelta;
+    private int coalesced;
+
+    /**
+     * Creates a listener that forwards to a target.
+     *
+     * @param target the listener that receives the coalesced events
+     * @throws NullPointerException if target is null
+     */
+    public CoalescingGameEventListener(GameEventListener target) {
+        this.target = Objects.requireNonNull(target, "target");
+    }
+
+    /**
+     * Delivers the state held back since the last flush: the board, then the brick, then the score.
+     */
+    public void flush() {
+        if (pendingMatrix != null) {
+            int[][] matrix = pendingMatrix;
+            pendingMatrix = null;
+            target.onBoardUpdated(matrix);
+        }
+        if (pendingView != null) {
+            BoardView view = pendingView;
+            pendingView = null;
+            target.onBoardUpdated(view);
+        }
+        if (pendingDelta != null) {
+            BoardDelta delta = pendingDelta;
+            pendingDelta = null;
+            target.onBoardDelta(delta);
+        }
+        if (pendingBrick != null) {
+            ViewData brick = pendingBrick;
+            pendingBrick = null;
+            target.onBrickUpdated(brick);
+        }
+        if (pendingScore != null) {
+            ScoreChangeEvent score = pendingScore;
+            pendingScore = null;
+            target.onScoreChanged(score);
+        }
+    }
+
+    /**
+     * Returns the number of events that were replaced or merged instead of delivered.
+     *
+     * @return the count of events saved
+     */
+    public int getCoalescedCount() {
+        return coalesced;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onGameInitialized(GameStateSnapshot snapshot) {
+        flush();
+        target.onGameInitialized(snapshot);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onScoreChanged(ScoreChangeEvent event) {
+        if (pendingScore != null) {
+            coalesced++;
+        }
+        pendingScore = event;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onBrickUpdated(ViewData viewData) {
+        if (pendingBrick != null) {
+            coalesced++;
+            if (viewData.getInputNanos() == 0) {
+                // A gravity update must not hide the input the replaced brick was showing
+                viewData = viewData.withInputNanos(pendingBrick.getInputNanos());
+            }
+        }
+        pendingBrick = viewData;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onBoardUpdated(int[][] boardMatrix) {
+        dropPendingBoard();
+        pendingMatrix = boardMatrix;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The view is held until the next flush and read then.
+     */
+    @Override
+    public void onBoardUpdated(BoardView boardView) {
+        dropPendingBoard();
+        pendingView = boardView;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onBoardDelta(BoardDelta delta) {
+        if (pendingDelta != null) {
+            coalesced++;
+            pendingDelta = pendingDelta.andThen(delta);
+        } else {
+            pendingDelta = delta;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onLinesCleared(ClearRow clearRow) {
+        flush();
+        target.onLinesCleared(clearRow);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onGameOver() {
+        flush();
+        target.onGameOver();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onBrickPlaced(BrickPlacedEvent event) {
+        target.onBrickPlaced(event);
+    }
+
+    /**
+     * A full board update makes every pending board update redundant.
+     */
+    private void dropPendingBoard() {
+        if (pendingMatrix != null || pendingView != null || pendingDelta != null) {
+            coalesced++;
+        }
+        pendingMatrix = null;
+        pendingView = null;
+        pendingDelta = null;
+    }
+}
@@ -1,8 +1,9 @@
 package com.comp2042.tetris.model.event;
 
+import com.comp2042.tetris.model.board.BoardDelta;
+import com.comp2042.tetris.model.board.BoardView;
 import com.comp2042.tetris.model.board.ClearRow;
 import com.comp2042.tetris.model.data.ViewData;
-import javafx.beans.property.IntegerProperty;
 
 /**
  * Interface for receiving game events from the event publisher.
@@ -51,6 +52,30 @@ public interface GameEventListener {
      */
     void onBoardUpdated(int[][] boardMatrix);
 
+    /**
+     * Called when the board state changes, with a read-only view of the board.
+     * The view is only valid for the duration of the call; listeners that keep
+     * the cells must take a {@link BoardView#snapshot()}. The default implementation
+     * does exactly that and delegates to {@link #onBoardUpdated(int[][])}.
+     *
+     * @param boardView the live view of the board
+     */
+    default void onBoardUpdated(BoardView boardView) {
+        onBoardUpdated(boardView.snapshot());
+    }
+
+    /**
+     * Called when rows of the board change, with the changed row range and the
+     * versions it spans. The same lifetime rules as {@link #onBoardUpdated(BoardView)}
+     * apply to the view. The default implementation redraws everything through
+     * {@link #onBoardUpdated(BoardView)}.
+     *
+     * @param delta the changed rows and the board versions they span
+     */
+    default void onBoardDelta(BoardDelta delta) {
+        onBoardUpdated(delta.view());
+    }
+
     /**
      * Called when one or more lines are cleared.
      *
@@ -1,5 +1,7 @@
 package com.comp2042.tetris.model.event;
 
+import com.comp2042.tetris.model.board.BoardDelta;
+import com.comp2042.tetris.model.board.BoardView;
 import com.comp2042.tetris.model.board.ClearRow;
 import com.comp2042.tetris.model.data.ViewData;
 
@@ -64,6 +66,28 @@ public interface GameEventPublisher {
      */
     void publishBoardUpdated(int[][] boardMatrix);
 
+    /**
+     * Publishes a board state update backed by a read-only view.
+     * The default implementation takes a snapshot and delegates to
+     * {@link #publishBoardUpdated(int[][])}.
+     *
+     * @param boardView the live view of the board
+     */
+    default void publishBoardUpdated(BoardView boardView) {
+        publishBoardUpdated(boardView.snapshot());
+    }
+
+    /**
+     * Publishes the rows that changed since the previous board event.
+     * The default implementation ignores the row range and delegates to
+     * {@link #publishBoardUpdated(BoardView)}.
+     *
+     * @param delta the changed rows and the board versions they span
+     */
+    default void publishBoardDelta(BoardDelta delta) {
+        publishBoardUpdated(delta.view());
+    }
+
     /**
      * Publishes a lines cleared event.
      *
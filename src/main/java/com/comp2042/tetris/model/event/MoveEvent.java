@@ -11,6 +11,7 @@ package com.comp2042.tetris.model.event;
 public final class MoveEvent {
     private final EventType eventType;
     private final EventSource eventSource;
+    private final long inputNanos;
 
     /**
      * Constructs a MoveEvent with the specified type and source.
@@ -19,8 +20,21 @@ public final class MoveEvent {
      * @param eventSource the source of the event (USER or SYSTEM)
      */
     public MoveEvent(EventType eventType, EventSource eventSource) {
+        this(eventType, eventSource, 0L);
+    }
+
+    /**
+     * Constructs a MoveEvent stamped with the time its input arrived, so the
+     * render that shows it can be timed.
+     *
+     * @param eventType the type of movement (DOWN, LEFT, RIGHT, ROTATE)
+     * @param eventSource the source of the event (USER or SYSTEM)
+     * @param inputNanos when the input arrived, from {@link System#nanoTime()}, or 0 if unknown
+     */
+    public MoveEvent(EventType eventType, EventSource eventSource, long inputNanos) {
         this.eventType = eventType;
         this.eventSource = eventSource;
+        this.inputNanos = inputNanos;
     }
 
     /**
@@ -40,4 +54,13 @@ public final class MoveEvent {
     public EventSource getEventSource() {
         return eventSource;
     }
+
+    /**
+     * Gets the time the input behind this event arrived.
+     *
+     * @return the {@link System#nanoTime()} stamp, or 0 if the event was not stamped
+     */
+    public long getInputNanos() {
+        return inputNanos;
+    }
 }
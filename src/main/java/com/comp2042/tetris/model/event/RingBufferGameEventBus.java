@@ -0,0 +1,464 @@
+package com.comp2042.tetris.model.event;
+
+import com.comp2042.tetris.model.board.BoardDelta;
+import com.comp2042.tetris.model.board.BoardView;
+import com.comp2042.tetris.model.board.ClearRow;
+import com.comp2042.tetris.model.data.ViewData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link GameEventPublisher} that queues events in a preallocated ring buffer and
+ * delivers them later, in batches, on the consumer's thread.
+ *
+ * <p>Publishing writes the event into a reused slot and advances a sequence counter:
+ * it allocates nothing and never runs a listener, so slow listeners such as audio or
+ * effects cannot stall the game logic. Events are delivered, in publication order,
+ * when the buffer is drained:</p>
+ * <ul>
+ *   <li>by calling {@link #drain()} once per frame, for example from a JavaFX pulse</li>
+ *   <li>or by a dedicated consumer thread started with {@link #start()}, which idles
+ *       between batches according to its {@link WaitStrategy}</li>
+ * </ul>
+ *
+ * <p>Events must be published from one thread at a time. Only one thread drains at a
+ * time; a listener may publish during a drain, and the drain then delivers the new
+ * event after the current one.</p>
+ *
+ * <p>When the buffer is full, the {@link BackpressurePolicy} decides whether the
+ * publisher waits for space or drops the event. A publisher that is itself the
+ * consumer, or that publishes before anything has drained, never waits: it drains the
+ * buffer inline, so a single-threaded game cannot deadlock.</p>
+ *
+ * <p>Payloads are passed by reference. Board views and deltas are live, so a listener
+ * on another thread than the game sees the board as it is when the event is delivered,
+ * not as it was when it was published.</p>
+ *
+ * @see SimpleGameEventBus
+ * @see GameEventListener
+ */
+public final class RingBufferGameEventBus implements GameEventPublisher, AutoCloseable {
+
+    /** Slots in a bus created with the default constructor. */
+    public static final int DEFAULT_CAPACITY = 1024;
+    /** Most events the consumer thread delivers before checking whether it should stop. */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RingBufferGameEventBus.class);
+
+    private static final byte GAME_INITIALIZED = 0;
+    private static final byte SCORE_CHANGED = 1;
+    private static final byte BRICK_UPDATED = 2;
+    private static final byte BOARD_MATRIX = 3;
+    private static final byte BOARD_VIEW = 4;
+    private static final byte BOARD_DELTA = 5;
+    private static final byte LINES_CLEARED = 6;
+    private static final byte GAME_OVER = 7;
+    private static final byte BRICK_PLACED = 8;
+
+    private final List<GameEventListener> listeners = new CopyOnWriteArrayList<>();
+    private final byte[] kinds;
+    private final Object[] payloads;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+    private final BackpressurePolicy backpressure;
+
+    // Number of events published and delivered; each is written by one side only
+    private final AtomicLong produced = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicReference<Thread> drainingThread = new AtomicReference<>();
+
+    // Publisher-side copy of consumed, refreshed only when the buffer looks full
+    private long cachedConsumed;
+    private volatile Thread lastConsumer;
+    private volatile Thread consumerThread;
+    private volatile boolean consumerParked;
+    private volatile boolean running;
+
+    /**
+     * How a thread waiting for the other side of the buffer spends its time.
+     */
+    public enum WaitStrategy {
+        /** Spins on the CPU; the lowest latency, but only when each side has a core to itself. */
+        BUSY_SPIN {
+            @Override
+            void idle(int attempt) {
+                Thread.onSpinWait();
+            }
+        },
+        /** Spins briefly, then yields the CPU to other threads. */
+        YIELDING {
+            @Override
+            void idle(int attempt) {
+                if (attempt < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+        },
+        /** Spins, yields, then sleeps in short naps; a balance of latency and CPU use. */
+        SLEEPING {
+            @Override
+            void idle(int attempt) {
+                if (attempt < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else if (attempt < 2 * SPIN_TRIES) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(SLEEP_NANOS);
+                }
+            }
+        },
+        /** Parks until woken by the other side, or for at most a millisecond; no CPU use while idle. */
+        BLOCKING {
+            @Override
+            void idle(int attempt) {
+                LockSupport.parkNanos(BLOCK_NANOS);
+            }
+        };
+
+        private static final int SPIN_TRIES = 100;
+        private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+        private static final long BLOCK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+        abstract void idle(int attempt);
+    }
+
+    /**
+     * What a publisher does when the buffer is full.
+     */
+    public enum BackpressurePolicy {
+        /** Wait for the consumer to free a slot; no event is lost. */
+        WAIT,
+        /** Discard the event and count it; publishing never waits. */
+        DROP
+    }
+
+    /**
+     * Creates a bus with {@link #DEFAULT_CAPACITY} slots that sleeps while idle and waits when full.
+     */
+    public RingBufferGameEventBus() {
+        this(DEFAULT_CAPACITY, WaitStrategy.SLEEPING, BackpressurePolicy.WAIT);
+    }
+
+    /**
+     * Creates a bus.
+     *
+     * @param capacity the minimum number of slots; rounded up to a power of two
+     * @param waitStrategy how waiting threads idle
+     * @param backpressure what a publisher does when the buffer is full
+     * @throws IllegalArgumentException if capacity is not positive or too large
+     */
+    public RingBufferGameEventBus(int capacity, WaitStrategy waitStrategy, BackpressurePolicy backpressure) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("RingBufferGameEventBus: capacity must be between 1 and 2^30");
+        }
+        this.waitStrategy = Objects.requireNonNull(waitStrategy, "waitStrategy");
+        this.backpressure = Objects.requireNonNull(backpressure, "backpressure");
+        int slots = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.kinds = new byte[slots];
+        this.payloads = new Object[slots];
+        this.mask = slots - 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void registerListener(GameEventListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unregisterListener(GameEventListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishGameInitialized(GameStateSnapshot snapshot) {
+        publish(GAME_INITIALIZED, snapshot);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishScoreChanged(ScoreChangeEvent event) {
+        publish(SCORE_CHANGED, event);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishBrickUpdated(ViewData viewData) {
+        publish(BRICK_UPDATED, viewData);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishBoardUpdated(int[][] boardMatrix) {
+        publish(BOARD_MATRIX, boardMatrix);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The view is queued as is; no snapshot is taken.
+     */
+    @Override
+    public void publishBoardUpdated(BoardView boardView) {
+        publish(BOARD_VIEW, boardView);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishBoardDelta(BoardDelta delta) {
+        publish(BOARD_DELTA, delta);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishLinesCleared(ClearRow clearRow) {
+        publish(LINES_CLEARED, clearRow);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishGameOver() {
+        publish(GAME_OVER, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishBrickPlaced(BrickPlacedEvent event) {
+        publish(BRICK_PLACED, event);
+    }
+
+    private void publish(byte kind, Object payload) {
+        long sequence = produced.getPlain();
+        if (sequence - cachedConsumed > mask) {
+            cachedConsumed = consumed.getAcquire();
+            if (sequence - cachedConsumed > mask && !awaitSpace(sequence)) {
+                dropped.incrementAndGet();
+                return;
+            }
+        }
+        int slot = (int) sequence & mask;
+        kinds[slot] = kind;
+        payloads[slot] = payload;
+        produced.setRelease(sequence + 1);
+        if (consumerParked) {
+            LockSupport.unpark(consumerThread);
+        }
+    }
+
+    /**
+     * Makes room for one more event, returning false if the event should be dropped instead.
+     */
+    private boolean awaitSpace(long sequence) {
+        if (backpressure == BackpressurePolicy.DROP) {
+            return false;
+        }
+        int attempt = 0;
+        while (sequence - cachedConsumed > mask) {
+            Thread consumer = consumerThread != null ? consumerThread : lastConsumer;
+            // With nobody else to drain, waiting would never end
+            boolean drainHere = consumer == null || consumer == Thread.currentThread();
+            if (!drainHere || drain(mask + 1) == 0) {
+                waitStrategy.idle(attempt++);
+            }
+            cachedConsumed = consumed.getAcquire();
+        }
+        return true;
+    }
+
+    /**
+     * Delivers up to {@link #getCapacity()} queued events to the listeners.
+     *
+     * @return the number of events delivered
+     * @see #drain(int)
+     */
+    public int drain() {
+        return drain(mask + 1);
+    }
+
+    /**
+     * Delivers queued events to the listeners on the calling thread, oldest first.
+     * Events published by listeners during the drain are delivered by it too, within the limit.
+     * Returns at once if another thread is draining. If a listener throws, the drain stops
+     * and the exception propagates; the event that failed is not delivered again.
+     *
+     * @param maxEvents the most events to deliver
+     * @return the number of events delivered
+     */
+    public int drain(int maxEvents) {
+        Thread current = Thread.currentThread();
+        boolean outermost = drainingThread.get() != current;
+        if (outermost && !drainingThread.compareAndSet(null, current)) {
+            return 0;
+        }
+        try {
+            if (lastConsumer != current) {
+                lastConsumer = current;
+            }
+            int delivered = 0;
+            long available = produced.getAcquire();
+            while (delivered < maxEvents) {
+                long sequence = consumed.getPlain();
+                if (sequence >= available) {
+                    available = produced.getAcquire();
+                    if (sequence >= available) {
+                        break;
+                    }
+                }
+                int slot = (int) sequence & mask;
+                byte kind = kinds[slot];
+                Object payload = payloads[slot];
+                payloads[slot] = null;
+                // Released before dispatch, so a nested drain resumes after this event
+                consumed.setRelease(sequence + 1);
+                delivered++;
+                dispatch(kind, payload);
+            }
+            return delivered;
+        } finally {
+            if (outermost) {
+                drainingThread.set(null);
+            }
+        }
+    }
+
+    private void dispatch(byte kind, Object payload) {
+        for (GameEventListener listener : listeners) {
+            switch (kind) {
+                case GAME_INITIALIZED -> listener.onGameInitialized((GameStateSnapshot) payload);
+                case SCORE_CHANGED -> listener.onScoreChanged((ScoreChangeEvent) payload);
+                case BRICK_UPDATED -> listener.onBrickUpdated((ViewData) payload);
+                case BOARD_MATRIX -> listener.onBoardUpdated((int[][]) payload);
+                case BOARD_VIEW -> listener.onBoardUpdated((BoardView) payload);
+                case BOARD_DELTA -> listener.onBoardDelta((BoardDelta) payload);
+                case LINES_CLEARED -> listener.onLinesCleared((ClearRow) payload);
+                case GAME_OVER -> listener.onGameOver();
+                case BRICK_PLACED -> listener.onBrickPlaced((BrickPlacedEvent) payload);
+                default -> throw new IllegalStateException("RingBufferGameEventBus: unknown event kind " + kind);
+            }
+        }
+    }
+
+    /**
+     * Starts a daemon thread that delivers events as they arrive, in batches of up to
+     * {@link #DEFAULT_BATCH_SIZE}. Listener exceptions are logged and do not stop it.
+     * {@link #drain()} must not be called while it runs.
+     *
+     * @throws IllegalStateException if the consumer thread is already running
+     */
+    public synchronized void start() {
+        if (running) {
+            throw new IllegalStateException("RingBufferGameEventBus: consumer already started");
+        }
+        running = true;
+        Thread thread = new Thread(this::consume, "game-event-consumer");
+        thread.setDaemon(true);
+        consumerThread = thread;
+        thread.start();
+    }
+
+    private void consume() {
+        int attempt = 0;
+        while (running) {
+            int delivered;
+            try {
+                delivered = drain(DEFAULT_BATCH_SIZE);
+            } catch (RuntimeException e) {
+                LOGGER.error("Game event listener failed", e);
+                continue;
+            }
+            if (delivered > 0) {
+                attempt = 0;
+            } else if (waitStrategy == WaitStrategy.BLOCKING) {
+                consumerParked = true;
+                // Checked again after announcing the park, so a concurrent publish is never missed
+                if (consumed.getPlain() == produced.getAcquire() && running) {
+                    waitStrategy.idle(attempt);
+                }
+                consumerParked = false;
+            } else {
+                waitStrategy.idle(attempt++);
+            }
+        }
+    }
+
+    /**
+     * Stops the consumer thread, if one was started, and waits for it to finish its batch.
+     * Events still queued stay in the buffer for {@link #drain()}.
+     */
+    @Override
+    public synchronized void close() {
+        Thread thread = consumerThread;
+        running = false;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        consumerThread = null;
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return the capacity in events
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the number of events published but not yet delivered.
+     *
+     * @return the backlog
+     */
+    public int getBacklog() {
+        return (int) (produced.getAcquire() - consumed.getAcquire());
+    }
+
+    /**
+     * Returns the number of events discarded because the buffer was full.
+     * Always 0 under {@link BackpressurePolicy#WAIT}.
+     *
+     * @return the drop count
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+}
@@ -1,5 +1,7 @@
 package com.comp2042.tetris.model.event;
 
+import com.comp2042.tetris.model.board.BoardDelta;
+import com.comp2042.tetris.model.board.BoardView;
 import com.comp2042.tetris.model.board.ClearRow;
 import com.comp2042.tetris.model.data.ViewData;
 
@@ -75,6 +77,27 @@ public class SimpleGameEventBus implements GameEventPublisher {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * Each listener receives the live view; only listeners that need a copy take one.
+     */
+    @Override
+    public void publishBoardUpdated(BoardView boardView) {
+        for (GameEventListener listener : listeners) {
+            listener.onBoardUpdated(boardView);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishBoardDelta(BoardDelta delta) {
+        for (GameEventListener listener : listeners) {
+            listener.onBoardDelta(delta);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
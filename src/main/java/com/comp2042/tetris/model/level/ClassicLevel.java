@@ -1,8 +1,5 @@
 package com.comp2042.tetris.model.level;
 
-import com.comp2042.tetris.view.UIConstants;
-import javafx.util.Duration;
-
 /**
  * The classic Tetris level with constant drop speed.
  * This level maintains a fixed tick interval regardless of score,
@@ -12,13 +9,16 @@ import javafx.util.Duration;
  */
 public class ClassicLevel implements GameLevel {
 
+    /** Default time between automatic brick drops, in milliseconds. */
+    public static final double DEFAULT_DROP_INTERVAL_MILLIS = 400;
+
     /**
      * {@inheritDoc}
      * Returns a constant drop interval for classic gameplay.
      */
     @Override
-    public Duration getTickInterval(int currentScore) {
-        return UIConstants.DEFAULT_DROP_INTERVAL;
+    public double getTickIntervalMillis(int currentScore) {
+        return DEFAULT_DROP_INTERVAL_MILLIS;
     }
 
     /**
@@ -1,7 +1,5 @@
 package com.comp2042.tetris.model.level;
 
-import javafx.util.Duration;
-
 /**
  * Abstract base class for levels with dynamic speed that increases with score.
  * The drop speed increases as the player's score reaches certain thresholds,
@@ -10,14 +8,22 @@ import javafx.util.Duration;
  * <p>Speed calculation: The tick interval decreases (speed increases) based on
  * the formula: frequency = baseSpeed + (scoreThresholdsPassed × speedIncrement)</p>
  *
+ * <p>The interval for every threshold up to the score cap is computed once, when the
+ * level is built, so the lookup made on every score change is an array read.</p>
+ *
  * @see GameLevel
  * @see Level1
  */
 public abstract class DynamicLevel implements GameLevel {
+    /** Most thresholds kept in the speed table; scores past them use the formula. */
+    static final int MAX_SPEED_TABLE_SIZE = 1024;
+
     private final double baseDropsPerSecond;
     private final double speedIncrement;
     private final int scoreThreshold;
     private final int maxScoreForSpeedUp;
+    private final double[] intervalMillisTable;
+    private final long[] intervalNanosTable;
 
     /**
      * Constructs a DynamicLevel with speed configuration.
@@ -32,25 +38,58 @@ public abstract class DynamicLevel implements GameLevel {
         this.speedIncrement = speedIncrement;
         this.scoreThreshold = scoreThreshold;
         this.maxScoreForSpeedUp = maxScoreForSpeedUp;
+        int tableSize = scoreThreshold > 0 && maxScoreForSpeedUp >= 0
+                ? (int) Math.min(maxScoreForSpeedUp / scoreThreshold + 1L, MAX_SPEED_TABLE_SIZE)
+                : 0;
+        this.intervalMillisTable = new double[tableSize];
+        this.intervalNanosTable = new long[tableSize];
+        for (int increments = 0; increments < tableSize; increments++) {
+            intervalMillisTable[increments] = intervalMillisFor(increments);
+            intervalNanosTable[increments] = Math.round(intervalMillisTable[increments] * 1_000_000d);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Calculates tick interval based on current score with progressive speed increase,
+     * reading it from the speed table built with the level.
+     */
+    @Override
+    public double getTickIntervalMillis(int currentScore) {
+        int increments = incrementsFor(currentScore);
+        if (increments >= 0 && increments < intervalMillisTable.length) {
+            return intervalMillisTable[increments];
+        }
+        return intervalMillisFor(increments);
     }
 
     /**
      * {@inheritDoc}
-     * Calculates tick interval based on current score with progressive speed increase.
+     * Read from the speed table built with the level.
      */
     @Override
-    public Duration getTickInterval(int currentScore) {
+    public long getTickIntervalNanos(int currentScore) {
+        int increments = incrementsFor(currentScore);
+        if (increments >= 0 && increments < intervalNanosTable.length) {
+            return intervalNanosTable[increments];
+        }
+        return Math.round(intervalMillisFor(increments) * 1_000_000d);
+    }
+
+    private int incrementsFor(int currentScore) {
         // Cap the score used for calculation
         int effectiveScore = Math.min(currentScore, maxScoreForSpeedUp);
 
         // Calculate how many thresholds have been passed
-        int increments = effectiveScore / scoreThreshold;
+        return effectiveScore / scoreThreshold;
+    }
 
+    private double intervalMillisFor(int increments) {
         // Calculate new speed (Frequency = Base + (Increments * Step))
         double currentDropsPerSecond = baseDropsPerSecond + (increments * speedIncrement);
 
-        // Convert Frequency (Hz) to Period (Duration)
+        // Convert Frequency (Hz) to Period
         // Interval (ms) = 1000 / Frequency
-        return Duration.millis(1000.0 / currentDropsPerSecond);
+        return 1000.0 / currentDropsPerSecond;
     }
 }
@@ -24,6 +24,28 @@ import javafx.util.Duration;
  */
 public interface GameLevel {
 
+    /**
+     * Gets the tick interval (time between automatic brick drops) in milliseconds.
+     * Can vary based on the current score for progressive difficulty.
+     * Unlike {@link #getTickInterval(int)} this does not touch any JavaFX class,
+     * so headless code can use it.
+     *
+     * @param currentScore the player's current score
+     * @return the milliseconds between game ticks
+     */
+    double getTickIntervalMillis(int currentScore);
+
+    /**
+     * Gets the tick interval in nanoseconds, for loops that schedule gravity themselves.
+     * The default implementation rounds {@link #getTickIntervalMillis(int)}.
+     *
+     * @param currentScore the player's current score
+     * @return the nanoseconds between game ticks
+     */
+    default long getTickIntervalNanos(int currentScore) {
+        return Math.round(getTickIntervalMillis(currentScore) * 1_000_000d);
+    }
+
     /**
      * Gets the tick interval (time between automatic brick drops).
      * Can vary based on the current score for progressive difficulty.
@@ -31,7 +53,9 @@ public interface GameLevel {
      * @param currentScore the player's current score
      * @return the duration between game ticks
      */
-    Duration getTickInterval(int currentScore);
+    default Duration getTickInterval(int currentScore) {
+        return Duration.millis(getTickIntervalMillis(currentScore));
+    }
 
     /**
      * Gets the display name of this level.
@@ -26,6 +26,19 @@ public class Level1 extends DynamicLevel {
         super(BASE_SPEED, 1.5, 100, 500);
     }
 
+    /**
+     * Constructs Level 1 with a custom speed configuration, for tuning the
+     * curve by simulation.
+     *
+     * @param baseDropsPerSecond the initial drop frequency (drops per second)
+     * @param speedIncrement the frequency increase per threshold
+     * @param scoreThreshold points needed to trigger each speed increase
+     * @param maxScoreForSpeedUp score cap for speed increases
+     */
+    public Level1(double baseDropsPerSecond, double speedIncrement, int scoreThreshold, int maxScoreForSpeedUp) {
+        super(baseDropsPerSecond, speedIncrement, scoreThreshold, maxScoreForSpeedUp);
+    }
+
     /**
      * {@inheritDoc}
      */
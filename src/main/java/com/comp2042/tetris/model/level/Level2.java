@@ -1,8 +1,5 @@
 package com.comp2042.tetris.model.level;
 
-import com.comp2042.tetris.view.UIConstants;
-import javafx.util.Duration;
-
 /**
  * Level 2 with limited rotation mechanic.
  * This level adds a rotation constraint where each brick can only
@@ -23,8 +20,8 @@ public class Level2 extends ClassicLevel {
      * {@inheritDoc}
      */
     @Override
-    public Duration getTickInterval(int currentScore) {
-        return UIConstants.DEFAULT_DROP_INTERVAL;
+    public double getTickIntervalMillis(int currentScore) {
+        return DEFAULT_DROP_INTERVAL_MILLIS;
     }
 
     /**
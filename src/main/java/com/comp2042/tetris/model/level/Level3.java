@@ -1,8 +1,5 @@
 package com.comp2042.tetris.model.level;
 
-import com.comp2042.tetris.view.UIConstants;
-import javafx.util.Duration;
-
 /**
  * Level 3 - The most challenging level with multiple difficulty modifiers.
  * This level combines several mechanics to create maximum difficulty.
@@ -33,9 +30,9 @@ public class Level3 extends ClassicLevel {
      * {@inheritDoc}
      */
     @Override
-    public Duration getTickInterval(int currentScore) {
+    public double getTickIntervalMillis(int currentScore) {
         // Keeps standard speed, difficulty comes from garbage/flicker
-        return UIConstants.DEFAULT_DROP_INTERVAL;
+        return DEFAULT_DROP_INTERVAL_MILLIS;
     }
 
     /**
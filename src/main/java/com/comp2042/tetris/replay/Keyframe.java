@@ -0,0 +1,27 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.controller.core.GameController;
+import com.comp2042.tetris.model.level.GameLevel;
+
+import java.util.Objects;
+
+/**
+ * Full game state stored periodically in a replay, so playback can start
+ * from the nearest keyframe instead of the beginning of the session.
+ *
+ * @param tick the tick of the event after which the state was captured
+ * @param eventIndex the number of events that precede the keyframe
+ * @param level the level being played
+ * @param state the game state after those events
+ * @see ReplaySeeker
+ */
+public record Keyframe(long tick, long eventIndex, GameLevel level, GameController.State state) {
+
+    /**
+     * Validates the keyframe.
+     */
+    public Keyframe {
+        Objects.requireNonNull(level, "level");
+        Objects.requireNonNull(state, "state");
+    }
+}
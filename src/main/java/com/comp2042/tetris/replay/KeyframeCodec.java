@@ -0,0 +1,169 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.controller.core.GameController;
+import com.comp2042.tetris.model.board.Board;
+import com.comp2042.tetris.model.board.GarbageMechanic;
+import com.comp2042.tetris.model.bricks.BrickGenerator;
+import com.comp2042.tetris.model.bricks.BrickType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary form of a {@link GameController.State}.
+ *
+ * <p>The board is stored as one varint occupancy mask per row followed by a colour plane
+ * holding a nibble for each filled cell only, so an empty board costs a byte per row.
+ * The active brick, score and counters are varints; random stream positions and
+ * garbage timers are stored at full width.</p>
+ */
+final class KeyframeCodec {
+
+    private static final BrickType[] BRICK_TYPES = BrickType.values();
+    private static final int MAX_COLOUR = 0x0F;
+    private static final int MAX_DIMENSION = 1024;
+
+    private KeyframeCodec() {
+    }
+
+    static byte[] encode(GameController.State state) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        Board.State board = state.board();
+        writeCells(out, board.cells());
+
+        out.writeByte(board.brick().ordinal());
+        ReplayFormat.writeVarLong(out, board.rotation());
+        ReplayFormat.writeVarLong(out, zigZag(board.x()));
+        ReplayFormat.writeVarLong(out, zigZag(board.y()));
+        ReplayFormat.writeVarLong(out, board.rotationsUsed());
+        ReplayFormat.writeVarLong(out, zigZag(board.score()));
+
+        BrickGenerator.State generator = board.generator();
+        ReplayFormat.writeVarLong(out, generator.queue().size());
+        for (BrickType type : generator.queue()) {
+            out.writeByte(type.ordinal());
+        }
+        out.writeLong(generator.randomState());
+
+        GarbageMechanic.State garbage = state.garbage();
+        out.writeDouble(garbage.gameTimeMillis());
+        out.writeDouble(garbage.nextGarbageTimeMillis());
+        ReplayFormat.writeVarLong(out, garbage.rowsIssued());
+        out.writeBoolean(garbage.enabled());
+        out.writeLong(garbage.randomState());
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    static GameController.State decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        int[][] cells = readCells(in);
+
+        BrickType brick = brickType(in.readUnsignedByte());
+        int rotation = (int) ReplayFormat.readVarLong(in);
+        int x = (int) unZigZag(ReplayFormat.readVarLong(in));
+        int y = (int) unZigZag(ReplayFormat.readVarLong(in));
+        int rotationsUsed = (int) ReplayFormat.readVarLong(in);
+        int score = (int) unZigZag(ReplayFormat.readVarLong(in));
+
+        int queueSize = (int) Math.min(ReplayFormat.readVarLong(in), payload.length);
+        List<BrickType> queue = new ArrayList<>(queueSize);
+        for (int i = 0; i < queueSize; i++) {
+            queue.add(brickType(in.readUnsignedByte()));
+        }
+        BrickGenerator.State generator = new BrickGenerator.State(queue, in.readLong());
+
+        GarbageMechanic.State garbage = new GarbageMechanic.State(in.readDouble(), in.readDouble(),
+                ReplayFormat.readVarLong(in), in.readBoolean(), in.readLong());
+        return new GameController.State(
+                new Board.State(cells, brick, rotation, x, y, rotationsUsed, score, generator), garbage);
+    }
+
+    private static void writeCells(DataOutputStream out, int[][] cells) throws IOException {
+        int cols = cells.length == 0 ? 0 : cells[0].length;
+        if (cols >= Long.SIZE) {
+            throw new IllegalArgumentException("KeyframeCodec: boards wider than 63 columns are not supported");
+        }
+        ReplayFormat.writeVarLong(out, cells.length);
+        ReplayFormat.writeVarLong(out, cols);
+        for (int[] row : cells) {
+            long mask = 0;
+            for (int col = 0; col < cols; col++) {
+                if (row[col] != 0) {
+                    mask |= 1L << col;
+                }
+            }
+            ReplayFormat.writeVarLong(out, mask);
+        }
+        // Colour plane: one nibble per filled cell, two cells per byte
+        int pending = -1;
+        for (int[] row : cells) {
+            for (int value : row) {
+                if (value == 0) {
+                    continue;
+                }
+                if (value < 0 || value > MAX_COLOUR) {
+                    throw new IllegalArgumentException("KeyframeCodec: cell colour " + value + " does not fit a nibble");
+                }
+                if (pending < 0) {
+                    pending = value;
+                } else {
+                    out.writeByte(pending | value << 4);
+                    pending = -1;
+                }
+            }
+        }
+        if (pending >= 0) {
+            out.writeByte(pending);
+        }
+    }
+
+    private static int[][] readCells(DataInputStream in) throws IOException {
+        long rows = ReplayFormat.readVarLong(in);
+        long cols = ReplayFormat.readVarLong(in);
+        if (rows <= 0 || rows > MAX_DIMENSION || cols <= 0 || cols >= Long.SIZE) {
+            throw new IOException("ReplayReader: invalid keyframe board size " + rows + "x" + cols);
+        }
+        int[][] cells = new int[(int) rows][(int) cols];
+        long[] masks = new long[cells.length];
+        for (int row = 0; row < cells.length; row++) {
+            masks[row] = ReplayFormat.readVarLong(in);
+        }
+        int packed = 0;
+        boolean highNibble = false;
+        for (int row = 0; row < cells.length; row++) {
+            for (int col = 0; col < cols; col++) {
+                if ((masks[row] & 1L << col) == 0) {
+                    continue;
+                }
+                if (!highNibble) {
+                    packed = in.readUnsignedByte();
+                }
+                cells[row][col] = highNibble ? packed >>> 4 : packed & 0x0F;
+                highNibble = !highNibble;
+            }
+        }
+        return cells;
+    }
+
+    private static BrickType brickType(int ordinal) throws IOException {
+        if (ordinal >= BRICK_TYPES.length) {
+            throw new IOException("ReplayReader: unknown brick type " + ordinal);
+        }
+        return BRICK_TYPES[ordinal];
+    }
+
+    private static long zigZag(long value) {
+        return value << 1 ^ value >> 63;
+    }
+
+    private static long unZigZag(long value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+}
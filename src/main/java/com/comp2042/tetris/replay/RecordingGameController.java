@@ -0,0 +1,228 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.controller.core.GameController;
+import com.comp2042.tetris.controller.core.IGameController;
+import com.comp2042.tetris.model.event.EventType;
+import com.comp2042.tetris.model.event.MoveEvent;
+import com.comp2042.tetris.model.level.ClassicLevel;
+import com.comp2042.tetris.model.level.GameLevel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Decorator that records every call made to a game controller before passing it on.
+ * Recording failures are logged and end the recording; they never interrupt the game.
+ *
+ * <p>Events are buffered and flushed at the start of each game and on {@link #close()},
+ * so at most the current game is lost if the application stops abruptly.</p>
+ *
+ * <p>When recording a {@link GameController}, a {@link Keyframe} of the full game state
+ * is written whenever the keyframe interval has passed, so the session can be
+ * {@linkplain ReplaySeeker sought} without replaying it from the start.</p>
+ *
+ * @see ReplayWriter
+ * @see ReplayPlayer
+ */
+public class RecordingGameController implements IGameController, Closeable {
+
+    /** Ticks between keyframes by default: ten seconds of play. */
+    public static final long DEFAULT_KEYFRAME_INTERVAL_TICKS = 10_000L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RecordingGameController.class);
+
+    private final IGameController delegate;
+    private final ReplayWriter writer;
+    private final LongSupplier tickSource;
+    private GameController keyframeSource;
+    private final long keyframeIntervalTicks;
+    private GameLevel level = new ClassicLevel();
+    private long nextKeyframeTick;
+    private boolean recording = true;
+
+    /**
+     * Records with ticks measured in wall-clock milliseconds since construction.
+     *
+     * @param delegate the controller that plays the game
+     * @param writer the destination of the recording
+     */
+    public RecordingGameController(IGameController delegate, ReplayWriter writer) {
+        this(delegate, writer, elapsedMillis());
+    }
+
+    /**
+     * Records with ticks taken from the given source, without keyframes.
+     *
+     * @param delegate the controller that plays the game
+     * @param writer the destination of the recording
+     * @param tickSource supplies the current tick in logical milliseconds; must never decrease
+     */
+    public RecordingGameController(IGameController delegate, ReplayWriter writer, LongSupplier tickSource) {
+        this(delegate, null, writer, tickSource, Long.MAX_VALUE);
+    }
+
+    /**
+     * Records with wall-clock ticks and a keyframe every {@link #DEFAULT_KEYFRAME_INTERVAL_TICKS}.
+     *
+     * @param delegate the controller that plays the game
+     * @param writer the destination of the recording
+     */
+    public RecordingGameController(GameController delegate, ReplayWriter writer) {
+        this(delegate, writer, elapsedMillis(), DEFAULT_KEYFRAME_INTERVAL_TICKS);
+    }
+
+    /**
+     * Records with ticks taken from the given source and periodic keyframes.
+     *
+     * @param delegate the controller that plays the game
+     * @param writer the destination of the recording
+     * @param tickSource supplies the current tick in logical milliseconds; must never decrease
+     * @param keyframeIntervalTicks the minimum number of ticks between keyframes
+     * @throws IllegalArgumentException if the interval is not positive
+     */
+    public RecordingGameController(GameController delegate, ReplayWriter writer, LongSupplier tickSource,
+                                   long keyframeIntervalTicks) {
+        this(delegate, delegate, writer, tickSource, keyframeIntervalTicks);
+    }
+
+    private RecordingGameController(IGameController delegate, GameController keyframeSource, ReplayWriter writer,
+                                    LongSupplier tickSource, long keyframeIntervalTicks) {
+        if (keyframeIntervalTicks <= 0) {
+            throw new IllegalArgumentException("RecordingGameController: keyframe interval must be positive");
+        }
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        // Without a savable board the session is still replayable from the start
+        this.keyframeSource = keyframeSource != null && keyframeSource.supportsStateSave() ? keyframeSource : null;
+        this.writer = Objects.requireNonNull(writer, "writer");
+        this.tickSource = Objects.requireNonNull(tickSource, "tickSource");
+        this.keyframeIntervalTicks = keyframeIntervalTicks;
+        this.nextKeyframeTick = keyframeIntervalTicks;
+    }
+
+    private static LongSupplier elapsedMillis() {
+        long start = System.nanoTime();
+        return () -> (System.nanoTime() - start) / 1_000_000L;
+    }
+
+    /**
+     * Returns whether calls are still being recorded.
+     *
+     * @return false once the recording failed or was closed
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    @Override
+    public void setLevel(GameLevel level) {
+        long tick = tickSource.getAsLong();
+        record(ReplayEvent.setLevel(tick, level), false);
+        delegate.setLevel(level);
+        this.level = level;
+        keyframeIfDue(tick);
+    }
+
+    @Override
+    public void onDownEvent(MoveEvent event) {
+        long tick = recordMove(ReplayCommand.DOWN, event);
+        delegate.onDownEvent(event);
+        keyframeIfDue(tick);
+    }
+
+    @Override
+    public void onLeftEvent(MoveEvent event) {
+        long tick = recordMove(ReplayCommand.LEFT, event);
+        delegate.onLeftEvent(event);
+        keyframeIfDue(tick);
+    }
+
+    @Override
+    public void onRightEvent(MoveEvent event) {
+        long tick = recordMove(ReplayCommand.RIGHT, event);
+        delegate.onRightEvent(event);
+        keyframeIfDue(tick);
+    }
+
+    @Override
+    public void onSlideEvent(MoveEvent event) {
+        ReplayCommand command = event.getEventType() == EventType.LEFT ? ReplayCommand.SLIDE_LEFT : ReplayCommand.SLIDE_RIGHT;
+        long tick = recordMove(command, event);
+        delegate.onSlideEvent(event);
+        keyframeIfDue(tick);
+    }
+
+    @Override
+    public void onRotateEvent(MoveEvent event) {
+        long tick = recordMove(ReplayCommand.ROTATE, event);
+        delegate.onRotateEvent(event);
+        keyframeIfDue(tick);
+    }
+
+    @Override
+    public void onInstantDropEvent(MoveEvent event) {
+        long tick = recordMove(ReplayCommand.INSTANT_DROP, event);
+        delegate.onInstantDropEvent(event);
+        keyframeIfDue(tick);
+    }
+
+    @Override
+    public void createNewGame() {
+        long tick = tickSource.getAsLong();
+        record(ReplayEvent.newGame(tick), true);
+        delegate.createNewGame();
+        keyframeIfDue(tick);
+    }
+
+    private long recordMove(ReplayCommand command, MoveEvent event) {
+        long tick = tickSource.getAsLong();
+        record(ReplayEvent.move(tick, command, event.getEventSource()), false);
+        return tick;
+    }
+
+    private void keyframeIfDue(long tick) {
+        if (!recording || keyframeSource == null || tick < nextKeyframeTick) {
+            return;
+        }
+        try {
+            writer.writeKeyframe(level, keyframeSource.saveState());
+            nextKeyframeTick = tick + keyframeIntervalTicks;
+        } catch (IOException e) {
+            recording = false;
+            LOGGER.warn("Replay recording stopped: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            // A position the keyframe format cannot hold; the events are still intact
+            keyframeSource = null;
+            LOGGER.warn("Replay keyframes disabled: {}", e.getMessage());
+        }
+    }
+
+    private void record(ReplayEvent event, boolean flush) {
+        if (!recording) {
+            return;
+        }
+        try {
+            writer.write(event);
+            if (flush) {
+                writer.flush();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            recording = false;
+            LOGGER.warn("Replay recording stopped: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stops recording and closes the writer.
+     *
+     * @throws IOException if the buffered events cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        recording = false;
+        writer.close();
+    }
+}
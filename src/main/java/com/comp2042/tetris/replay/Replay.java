@@ -0,0 +1,80 @@
+package com.comp2042.tetris.replay;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A recorded session held in memory: the game seed and every controller call in order.
+ *
+ * @param seed the seed the session was played with
+ * @param events the recorded calls, in tick order
+ * @see ReplayPlayer
+ */
+public record Replay(long seed, List<ReplayEvent> events) {
+
+    /**
+     * Copies the event list.
+     */
+    public Replay {
+        events = List.copyOf(Objects.requireNonNull(events, "events"));
+    }
+
+    /**
+     * Reads a whole replay stream. The stream is not closed.
+     *
+     * @param in the replay stream
+     * @return the replay
+     * @throws IOException if the stream is malformed
+     */
+    public static Replay read(InputStream in) throws IOException {
+        ReplayReader reader = new ReplayReader(in);
+        List<ReplayEvent> events = new ArrayList<>();
+        for (ReplayEvent event = reader.next(); event != null; event = reader.next()) {
+            events.add(event);
+        }
+        return new Replay(reader.getSeed(), events);
+    }
+
+    /**
+     * Writes this replay as a stream. The stream is flushed but not closed.
+     *
+     * @param out the destination
+     * @throws IOException if the destination fails
+     */
+    public void write(OutputStream out) throws IOException {
+        ReplayWriter writer = new ReplayWriter(out, seed);
+        for (ReplayEvent event : events) {
+            writer.write(event);
+        }
+        writer.flush();
+    }
+
+    /**
+     * Encodes this replay.
+     *
+     * @return the replay stream bytes
+     */
+    public byte[] toByteArray() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            write(out);
+        } catch (IOException e) {
+            throw new IllegalStateException("Replay: in-memory write failed", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns the tick of the last event.
+     *
+     * @return the session length in logical milliseconds
+     */
+    public long durationTicks() {
+        return events.isEmpty() ? 0 : events.get(events.size() - 1).tick();
+    }
+}
@@ -0,0 +1,23 @@
+package com.comp2042.tetris.replay;
+
+/**
+ * The controller calls a replay can record. Each constant corresponds to one
+ * method of {@link com.comp2042.tetris.controller.core.IGameController}.
+ *
+ * <p>The ordinal is written to the replay stream, so constants must only
+ * ever be appended. Only three bits are available: constants past
+ * {@link #SET_LEVEL} need their own encoding in {@link ReplayFormat}.</p>
+ *
+ * @see ReplayEvent
+ */
+public enum ReplayCommand {
+    DOWN,
+    LEFT,
+    RIGHT,
+    ROTATE,
+    INSTANT_DROP,
+    NEW_GAME,
+    SET_LEVEL,
+    SLIDE_LEFT,
+    SLIDE_RIGHT
+}
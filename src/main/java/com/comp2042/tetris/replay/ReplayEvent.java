@@ -0,0 +1,87 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.model.event.EventSource;
+import com.comp2042.tetris.model.event.EventType;
+import com.comp2042.tetris.model.event.MoveEvent;
+import com.comp2042.tetris.model.level.GameLevel;
+
+import java.util.Objects;
+
+/**
+ * One recorded controller call.
+ *
+ * @param tick the logical millisecond at which the call was made, counted from the start of the recording
+ * @param command the controller call
+ * @param source who raised the move; {@link EventSource#USER} for commands that carry no move
+ * @param level the level that was selected, only set for {@link ReplayCommand#SET_LEVEL}
+ * @see ReplayWriter
+ * @see ReplayReader
+ */
+public record ReplayEvent(long tick, ReplayCommand command, EventSource source, GameLevel level) {
+
+    /**
+     * Validates the event.
+     *
+     * @throws IllegalArgumentException if the tick is negative or the level does not match the command
+     */
+    public ReplayEvent {
+        Objects.requireNonNull(command, "command");
+        Objects.requireNonNull(source, "source");
+        if (tick < 0) {
+            throw new IllegalArgumentException("ReplayEvent: tick must not be negative");
+        }
+        if ((command == ReplayCommand.SET_LEVEL) != (level != null)) {
+            throw new IllegalArgumentException("ReplayEvent: a level is required by SET_LEVEL and only by SET_LEVEL");
+        }
+    }
+
+    /**
+     * Creates an event for a move or drop.
+     *
+     * @param tick the logical millisecond of the call
+     * @param command the controller call
+     * @param source who raised the move
+     * @return the event
+     */
+    public static ReplayEvent move(long tick, ReplayCommand command, EventSource source) {
+        return new ReplayEvent(tick, command, source, null);
+    }
+
+    /**
+     * Creates an event for a new game.
+     *
+     * @param tick the logical millisecond of the call
+     * @return the event
+     */
+    public static ReplayEvent newGame(long tick) {
+        return new ReplayEvent(tick, ReplayCommand.NEW_GAME, EventSource.USER, null);
+    }
+
+    /**
+     * Creates an event for a level change.
+     *
+     * @param tick the logical millisecond of the call
+     * @param level the selected level
+     * @return the event
+     */
+    public static ReplayEvent setLevel(long tick, GameLevel level) {
+        return new ReplayEvent(tick, ReplayCommand.SET_LEVEL, EventSource.USER, Objects.requireNonNull(level, "level"));
+    }
+
+    /**
+     * Rebuilds the move event that was passed to the controller.
+     *
+     * @return the move event
+     * @throws IllegalStateException if the command is not a move or drop
+     */
+    public MoveEvent toMoveEvent() {
+        EventType type = switch (command) {
+            case DOWN, INSTANT_DROP -> EventType.DOWN;
+            case LEFT, SLIDE_LEFT -> EventType.LEFT;
+            case RIGHT, SLIDE_RIGHT -> EventType.RIGHT;
+            case ROTATE -> EventType.ROTATE;
+            default -> throw new IllegalStateException("ReplayEvent: " + command + " carries no move event");
+        };
+        return new MoveEvent(type, source);
+    }
+}
@@ -0,0 +1,244 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.model.event.EventSource;
+import com.comp2042.tetris.model.level.ClassicLevel;
+import com.comp2042.tetris.model.level.GameLevel;
+import com.comp2042.tetris.model.level.Level1;
+import com.comp2042.tetris.model.level.Level2;
+import com.comp2042.tetris.model.level.Level3;
+
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Layout of the replay stream, shared by {@link ReplayWriter} and {@link ReplayReader}.
+ *
+ * <p>A stream starts with the magic bytes {@code TRPL}, a format version byte and the
+ * 8-byte big-endian game seed. Each event that follows starts with one byte:</p>
+ * <ul>
+ *   <li>Bits 0-2: the {@link ReplayCommand} ordinal</li>
+ *   <li>Bit 3: set when the move came from {@link com.comp2042.tetris.model.event.EventSource#THREAD}</li>
+ *   <li>Bits 4-7: the tick delta since the previous event when below {@value #TICK_ESCAPE},
+ *       otherwise {@value #TICK_ESCAPE} followed by a varint of the remainder</li>
+ * </ul>
+ * <p>{@link ReplayCommand#SET_LEVEL} is followed by the level name as a varint length
+ * and UTF-8 bytes, and is always written without the thread flag. From version 4,
+ * command value {@value #EXTENDED} (SET_LEVEL with the thread flag) escapes to the
+ * commands that do not fit in three bits: it is followed by the varint
+ * {@link ReplayCommand} ordinal, which is how {@link ReplayCommand#SLIDE_LEFT} and
+ * {@link ReplayCommand#SLIDE_RIGHT} are stored. Version 3 streams stored slides as
+ * LEFT and RIGHT with the thread flag set, and are still read that way.</p>
+ *
+ * <p>Command value {@value #KEYFRAME} marks a {@link Keyframe}: a varint payload length,
+ * then the varint event index, the level name and the {@link KeyframeCodec} state.
+ * Keyframes always share the tick of the event before them. The same value with the
+ * thread flag set starts the index footer written on close: a varint entry count,
+ * then for each keyframe the varint deltas of its tick, event index and byte offset,
+ * and finally the 4-byte offset of the footer and the magic bytes {@code TRPX}.</p>
+ *
+ * <p>A stream cut short by a crash has no footer but can still be read up to the
+ * last complete event; seeking then rebuilds the index by scanning.</p>
+ */
+final class ReplayFormat {
+
+    static final byte[] MAGIC = {'T', 'R', 'P', 'L'};
+    static final byte[] INDEX_MAGIC = {'T', 'R', 'P', 'X'};
+    static final int VERSION = 4;
+    static final int OLDEST_READABLE_VERSION = 1;
+    static final int THREAD_SLIDE_VERSION = 3;
+    static final int FIRST_EXTENDED_VERSION = 4;
+    static final int TRAILER_BYTES = Integer.BYTES + INDEX_MAGIC.length;
+
+    static final int COMMAND_MASK = 0x07;
+    static final int THREAD_FLAG = 0x08;
+    static final int TICK_SHIFT = 4;
+    static final int TICK_ESCAPE = 15;
+    static final int KEYFRAME = 7;
+    static final int INDEX = KEYFRAME | THREAD_FLAG;
+    // SET_LEVEL with the thread flag, which the writer never produces
+    static final int EXTENDED = 6 | THREAD_FLAG;
+
+    private static final Map<String, Supplier<GameLevel>> LEVELS = Map.of(
+            "Classic", ClassicLevel::new,
+            "Level 1", Level1::new,
+            "Level 2", Level2::new,
+            "Level 3", Level3::new);
+
+    private ReplayFormat() {
+    }
+
+    /**
+     * Packs a command and its source into the low bits of an event header.
+     */
+    static int commandBits(ReplayCommand command, EventSource source) {
+        if (isExtended(command)) {
+            return EXTENDED;
+        }
+        if (command == ReplayCommand.SET_LEVEL || source != EventSource.THREAD) {
+            return command.ordinal();
+        }
+        return command.ordinal() | THREAD_FLAG;
+    }
+
+    /**
+     * Returns whether a command is written as {@value #EXTENDED} followed by its ordinal.
+     */
+    static boolean isExtended(ReplayCommand command) {
+        return command.ordinal() > ReplayCommand.SET_LEVEL.ordinal();
+    }
+
+    /**
+     * Returns whether a level can be restored from its name.
+     *
+     * @param level the level
+     * @return true for the built-in levels
+     */
+    static boolean isKnownLevel(GameLevel level) {
+        return LEVELS.containsKey(level.getName());
+    }
+
+    /**
+     * Creates a fresh instance of a built-in level.
+     *
+     * @param name the level name
+     * @return the level
+     * @throws IOException if no built-in level has that name
+     */
+    static GameLevel levelNamed(String name) throws IOException {
+        Supplier<GameLevel> factory = LEVELS.get(name);
+        if (factory == null) {
+            throw new IOException("ReplayReader: unknown level " + name);
+        }
+        return factory.get();
+    }
+
+    static void writeString(OutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(InputStream in, int maxBytes) throws IOException {
+        long length = readVarLong(in);
+        if (length > maxBytes) {
+            throw new IOException("ReplayReader: string is too long");
+        }
+        byte[] bytes = in.readNBytes((int) length);
+        if (bytes.length != length) {
+            throw new EOFException("ReplayReader: stream ends in the middle of an event");
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = readByte(in);
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("ReplayReader: varint is too long");
+    }
+
+    static int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException("ReplayReader: stream ends in the middle of an event");
+        }
+        return b;
+    }
+
+    /**
+     * Location of a keyframe record in the stream.
+     *
+     * @param tick the keyframe tick
+     * @param eventIndex the number of events before the keyframe
+     * @param offset the byte offset of the keyframe record from the start of the stream
+     */
+    record IndexEntry(long tick, long eventIndex, long offset) {
+    }
+
+    /**
+     * Output stream that knows how many bytes went through it, for the keyframe index.
+     */
+    static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        long count() {
+            return count;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    /**
+     * Input stream that knows how many bytes were read from it, for rebuilding the keyframe index.
+     */
+    static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long count() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = in.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = in.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.controller.core.GameController;
+import com.comp2042.tetris.controller.core.IGameController;
+import com.comp2042.tetris.model.event.GameEventPublisher;
+import com.comp2042.tetris.utils.GameRandom;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Feeds a recorded session back into a game controller.
+ * Games are fully determined by their seed and inputs, so replaying into a controller
+ * from {@link #newController(long, GameEventPublisher)} reproduces the session exactly,
+ * whatever the playback speed.
+ *
+ * <p>Speed is a multiple of real time: {@link #REAL_TIME} waits for each event's tick,
+ * larger values fast-forward and {@link #UNTHROTTLED} never waits, which is how a
+ * regression corpus is re-simulated. Events are applied on the calling thread;
+ * a player driving the interactive game should run on a background thread with a
+ * publisher that hands events over to the UI thread.</p>
+ *
+ * @see Replay
+ * @see RecordingGameController
+ */
+public final class ReplayPlayer {
+
+    /** Plays events at the pace they were recorded. */
+    public static final double REAL_TIME = 1.0;
+    /** Plays events as fast as the controller accepts them. */
+    public static final double UNTHROTTLED = Double.POSITIVE_INFINITY;
+
+    private final double speed;
+
+    /**
+     * Creates a player.
+     *
+     * @param speed the playback speed as a multiple of real time
+     * @throws IllegalArgumentException if the speed is not positive
+     */
+    public ReplayPlayer(double speed) {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("ReplayPlayer: speed must be positive");
+        }
+        this.speed = speed;
+    }
+
+    /**
+     * Creates a controller set up like the one the session was recorded with.
+     *
+     * @param seed the seed of the recorded session
+     * @param eventPublisher the publisher that receives the replayed game's events
+     * @return a controller ready for {@link #play}
+     */
+    public static GameController newController(long seed, GameEventPublisher eventPublisher) {
+        return GameController.create(new GameRandom(seed), eventPublisher, () -> { });
+    }
+
+    /**
+     * Plays a whole replay.
+     *
+     * @param replay the replay
+     * @param controller the controller to drive
+     * @return the number of events played; fewer than recorded if the thread was interrupted
+     */
+    public long play(Replay replay, IGameController controller) {
+        Objects.requireNonNull(replay, "replay");
+        Objects.requireNonNull(controller, "controller");
+        long start = System.nanoTime();
+        long played = 0;
+        for (ReplayEvent event : replay.events()) {
+            if (!waitFor(event.tick(), start)) {
+                break;
+            }
+            apply(event, controller);
+            played++;
+        }
+        return played;
+    }
+
+    /**
+     * Plays a replay stream as it is read, without holding it in memory.
+     *
+     * @param reader the replay stream
+     * @param controller the controller to drive
+     * @return the number of events played; fewer than recorded if the thread was interrupted
+     * @throws IOException if the stream is malformed
+     */
+    public long play(ReplayReader reader, IGameController controller) throws IOException {
+        Objects.requireNonNull(reader, "reader");
+        Objects.requireNonNull(controller, "controller");
+        long start = System.nanoTime();
+        long played = 0;
+        for (ReplayEvent event = reader.next(); event != null; event = reader.next()) {
+            if (!waitFor(event.tick(), start)) {
+                break;
+            }
+            apply(event, controller);
+            played++;
+        }
+        return played;
+    }
+
+    /**
+     * Makes the controller call an event records.
+     *
+     * @param event the recorded event
+     * @param controller the controller to call
+     */
+    public static void apply(ReplayEvent event, IGameController controller) {
+        switch (event.command()) {
+            case DOWN -> controller.onDownEvent(event.toMoveEvent());
+            case LEFT -> controller.onLeftEvent(event.toMoveEvent());
+            case RIGHT -> controller.onRightEvent(event.toMoveEvent());
+            case SLIDE_LEFT, SLIDE_RIGHT -> controller.onSlideEvent(event.toMoveEvent());
+            case ROTATE -> controller.onRotateEvent(event.toMoveEvent());
+            case INSTANT_DROP -> controller.onInstantDropEvent(event.toMoveEvent());
+            case NEW_GAME -> controller.createNewGame();
+            case SET_LEVEL -> controller.setLevel(event.level());
+        }
+    }
+
+    private boolean waitFor(long tick, long startNanos) {
+        if (speed == UNTHROTTLED) {
+            return true;
+        }
+        long dueNanos = startNanos + (long) (tick * 1_000_000L / speed);
+        long remaining;
+        while ((remaining = dueNanos - System.nanoTime()) > 0) {
+            try {
+                Thread.sleep(remaining / 1_000_000L, (int) (remaining % 1_000_000L));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,198 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.model.event.EventSource;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads replay events written by {@link ReplayWriter}, one at a time,
+ * so long sessions can be replayed without loading them whole.
+ * Keyframes are skipped; {@link ReplaySeeker} uses them to start mid-session.
+ *
+ * @see Replay#read(InputStream)
+ */
+public final class ReplayReader implements Closeable {
+
+    private static final ReplayCommand[] COMMANDS = ReplayCommand.values();
+    private static final int MAX_LEVEL_NAME_BYTES = 256;
+    private static final int MAX_KEYFRAME_BYTES = 1 << 20;
+
+    private final ReplayFormat.CountingInputStream in;
+    private final long seed;
+    private final int version;
+    private final long baseOffset;
+    private final List<ReplayFormat.IndexEntry> keyframesRead = new ArrayList<>();
+    private long lastTick;
+    private long eventCount;
+
+    /**
+     * Reads and checks the stream header.
+     *
+     * @param in the source; it is buffered and closed with this reader
+     * @throws IOException if the stream is not a replay or uses an unsupported version
+     */
+    public ReplayReader(InputStream in) throws IOException {
+        this.in = new ReplayFormat.CountingInputStream(new BufferedInputStream(Objects.requireNonNull(in, "in")));
+        this.baseOffset = 0;
+        byte[] magic = this.in.readNBytes(ReplayFormat.MAGIC.length);
+        if (!Arrays.equals(magic, ReplayFormat.MAGIC)) {
+            throw new IOException("ReplayReader: not a replay stream");
+        }
+        this.version = ReplayFormat.readByte(this.in);
+        if (version < ReplayFormat.OLDEST_READABLE_VERSION || version > ReplayFormat.VERSION) {
+            throw new IOException("ReplayReader: unsupported replay version " + version);
+        }
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = value << Byte.SIZE | ReplayFormat.readByte(this.in);
+        }
+        this.seed = value;
+    }
+
+    /**
+     * Continues reading a stream from a keyframe found through the index.
+     */
+    private ReplayReader(byte[] replay, long seed, ReplayFormat.IndexEntry keyframe) {
+        int offset = (int) keyframe.offset();
+        this.in = new ReplayFormat.CountingInputStream(new ByteArrayInputStream(replay, offset, replay.length - offset));
+        this.seed = seed;
+        // Already checked when the stream was opened to load its index
+        this.version = replay[ReplayFormat.MAGIC.length] & 0xFF;
+        this.baseOffset = offset;
+        this.lastTick = keyframe.tick();
+        this.eventCount = keyframe.eventIndex();
+    }
+
+    static ReplayReader resumeAt(byte[] replay, long seed, ReplayFormat.IndexEntry keyframe) {
+        return new ReplayReader(replay, seed, keyframe);
+    }
+
+    /**
+     * Returns the seed from the header.
+     *
+     * @return the game seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Reads the next event.
+     *
+     * @return the event, or null at the end of the stream
+     * @throws IOException if the stream is cut inside an event or is malformed
+     */
+    public ReplayEvent next() throws IOException {
+        while (true) {
+            long offset = position();
+            int header = in.read();
+            if (header < 0 || header == ReplayFormat.INDEX) {
+                return null;
+            }
+            long tick = lastTick + readTickDelta(header);
+            int commandIndex = header & ReplayFormat.COMMAND_MASK;
+            if (commandIndex == ReplayFormat.KEYFRAME) {
+                readKeyframePayload();
+                keyframesRead.add(new ReplayFormat.IndexEntry(tick, eventCount, offset));
+                lastTick = tick;
+                continue;
+            }
+            if (commandIndex >= COMMANDS.length) {
+                throw new IOException("ReplayReader: unknown command " + commandIndex);
+            }
+            ReplayCommand command = COMMANDS[commandIndex];
+            EventSource source = (header & ReplayFormat.THREAD_FLAG) != 0 ? EventSource.THREAD : EventSource.USER;
+            if ((header & (ReplayFormat.COMMAND_MASK | ReplayFormat.THREAD_FLAG)) == ReplayFormat.EXTENDED
+                    && version >= ReplayFormat.FIRST_EXTENDED_VERSION) {
+                command = extendedCommand(ReplayFormat.readVarLong(in));
+                source = EventSource.USER;
+            } else if (version == ReplayFormat.THREAD_SLIDE_VERSION && source == EventSource.THREAD
+                    && (command == ReplayCommand.LEFT || command == ReplayCommand.RIGHT)) {
+                command = command == ReplayCommand.LEFT ? ReplayCommand.SLIDE_LEFT : ReplayCommand.SLIDE_RIGHT;
+                source = EventSource.USER;
+            }
+            lastTick = tick;
+            eventCount++;
+            if (command == ReplayCommand.SET_LEVEL) {
+                return ReplayEvent.setLevel(tick, ReplayFormat.levelNamed(ReplayFormat.readString(in, MAX_LEVEL_NAME_BYTES)));
+            }
+            return new ReplayEvent(tick, command, source, null);
+        }
+    }
+
+    /**
+     * Reads the keyframe the reader is positioned on.
+     *
+     * @return the keyframe
+     * @throws IOException if the next record is not a keyframe or is malformed
+     */
+    Keyframe readKeyframe() throws IOException {
+        int header = ReplayFormat.readByte(in);
+        if ((header & ~(ReplayFormat.TICK_ESCAPE << ReplayFormat.TICK_SHIFT)) != ReplayFormat.KEYFRAME) {
+            throw new IOException("ReplayReader: index does not point at a keyframe");
+        }
+        lastTick += readTickDelta(header);
+        ByteArrayInputStream payload = new ByteArrayInputStream(readKeyframePayload());
+        long eventIndex = ReplayFormat.readVarLong(payload);
+        String level = ReplayFormat.readString(payload, MAX_LEVEL_NAME_BYTES);
+        return new Keyframe(lastTick, eventIndex, ReplayFormat.levelNamed(level),
+                KeyframeCodec.decode(payload.readAllBytes()));
+    }
+
+    /**
+     * Returns where the keyframes read so far are, for streams without an index footer.
+     *
+     * @return the keyframe locations in stream order
+     */
+    List<ReplayFormat.IndexEntry> keyframesRead() {
+        return keyframesRead;
+    }
+
+    private static ReplayCommand extendedCommand(long ordinal) throws IOException {
+        if (ordinal >= COMMANDS.length || !ReplayFormat.isExtended(COMMANDS[(int) ordinal])) {
+            throw new IOException("ReplayReader: unknown extended command " + ordinal);
+        }
+        return COMMANDS[(int) ordinal];
+    }
+
+    private long readTickDelta(int header) throws IOException {
+        long delta = header >>> ReplayFormat.TICK_SHIFT;
+        if (delta == ReplayFormat.TICK_ESCAPE) {
+            delta += ReplayFormat.readVarLong(in);
+        }
+        return delta;
+    }
+
+    private byte[] readKeyframePayload() throws IOException {
+        long length = ReplayFormat.readVarLong(in);
+        if (length > MAX_KEYFRAME_BYTES) {
+            throw new IOException("ReplayReader: keyframe is too large");
+        }
+        byte[] payload = in.readNBytes((int) length);
+        if (payload.length != length) {
+            throw new EOFException("ReplayReader: stream ends in the middle of a keyframe");
+        }
+        return payload;
+    }
+
+    private long position() {
+        return baseOffset + in.count();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,152 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.controller.core.GameController;
+import com.comp2042.tetris.model.event.GameEventPublisher;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Random access into a recorded session. A seek restores the nearest keyframe at or
+ * before the requested tick and re-simulates only the events recorded since, so
+ * reaching minute 40 of a session costs at most one keyframe interval of simulation.
+ *
+ * <p>The keyframe index is read from the footer written by {@link ReplayWriter#close()}.
+ * Streams without a footer, such as a session cut short by a crash, are scanned once
+ * to rebuild it.</p>
+ *
+ * @see Keyframe
+ * @see RecordingGameController
+ */
+public final class ReplaySeeker {
+
+    private final byte[] replay;
+    private final long seed;
+    private final List<ReplayFormat.IndexEntry> index;
+
+    /**
+     * Opens a replay held in memory and loads its keyframe index.
+     *
+     * @param replay the replay stream bytes; not copied, so they must not change afterwards
+     * @throws IOException if the stream is malformed
+     */
+    public ReplaySeeker(byte[] replay) throws IOException {
+        this.replay = Objects.requireNonNull(replay, "replay");
+        this.seed = new ReplayReader(new ByteArrayInputStream(replay)).getSeed();
+        List<ReplayFormat.IndexEntry> footer = readFooter();
+        this.index = footer != null ? footer : scanForKeyframes();
+    }
+
+    /**
+     * Returns the seed of the recorded session.
+     *
+     * @return the game seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of keyframes available for seeking.
+     *
+     * @return the keyframe count
+     */
+    public int getKeyframeCount() {
+        return index.size();
+    }
+
+    /**
+     * Builds a controller holding the game exactly as it was after every event
+     * recorded up to and including the given tick.
+     *
+     * @param tick the target tick
+     * @param eventPublisher the publisher that receives the restored game's events
+     * @return a controller positioned at the tick, ready to continue playback
+     * @throws IOException if the stream is malformed
+     */
+    public GameController seek(long tick, GameEventPublisher eventPublisher) throws IOException {
+        GameController controller = ReplayPlayer.newController(seed, eventPublisher);
+        ReplayFormat.IndexEntry keyframe = nearestKeyframe(tick);
+        ReplayReader reader;
+        if (keyframe == null) {
+            reader = new ReplayReader(new ByteArrayInputStream(replay));
+        } else {
+            reader = ReplayReader.resumeAt(replay, seed, keyframe);
+            Keyframe restored = reader.readKeyframe();
+            controller.setLevel(restored.level());
+            controller.restoreState(restored.state());
+        }
+        for (ReplayEvent event = reader.next(); event != null && event.tick() <= tick; event = reader.next()) {
+            ReplayPlayer.apply(event, controller);
+        }
+        return controller;
+    }
+
+    private ReplayFormat.IndexEntry nearestKeyframe(long tick) {
+        int low = 0;
+        int high = index.size() - 1;
+        ReplayFormat.IndexEntry best = null;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            ReplayFormat.IndexEntry entry = index.get(mid);
+            if (entry.tick() <= tick) {
+                best = entry;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return best;
+    }
+
+    private List<ReplayFormat.IndexEntry> readFooter() throws IOException {
+        int length = replay.length;
+        if (length < ReplayFormat.TRAILER_BYTES
+                || !Arrays.equals(replay, length - ReplayFormat.INDEX_MAGIC.length, length,
+                ReplayFormat.INDEX_MAGIC, 0, ReplayFormat.INDEX_MAGIC.length)) {
+            return null;
+        }
+        int trailer = length - ReplayFormat.TRAILER_BYTES;
+        int offset = 0;
+        for (int i = 0; i < Integer.BYTES; i++) {
+            offset = offset << Byte.SIZE | replay[trailer + i] & 0xFF;
+        }
+        if (offset < 0 || offset >= trailer || replay[offset] != ReplayFormat.INDEX) {
+            throw new IOException("ReplaySeeker: corrupt keyframe index");
+        }
+
+        ByteArrayInputStream in = new ByteArrayInputStream(replay, offset + 1, trailer - offset - 1);
+        long count = ReplayFormat.readVarLong(in);
+        List<ReplayFormat.IndexEntry> entries = new ArrayList<>((int) Math.min(count, trailer));
+        long tick = 0;
+        long eventIndex = 0;
+        long entryOffset = 0;
+        for (long i = 0; i < count; i++) {
+            tick += ReplayFormat.readVarLong(in);
+            eventIndex += ReplayFormat.readVarLong(in);
+            entryOffset += ReplayFormat.readVarLong(in);
+            if (entryOffset >= offset) {
+                throw new IOException("ReplaySeeker: corrupt keyframe index");
+            }
+            entries.add(new ReplayFormat.IndexEntry(tick, eventIndex, entryOffset));
+        }
+        return List.copyOf(entries);
+    }
+
+    private List<ReplayFormat.IndexEntry> scanForKeyframes() throws IOException {
+        ReplayReader reader = new ReplayReader(new ByteArrayInputStream(replay));
+        try {
+            while (reader.next() != null) {
+                // Reading records the keyframe locations
+            }
+        } catch (EOFException e) {
+            // A crashed session may end mid-event; everything before that is still usable
+        }
+        return List.copyOf(reader.keyframesRead());
+    }
+}
@@ -0,0 +1,178 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.controller.core.GameController;
+import com.comp2042.tetris.model.level.GameLevel;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes replay events to a compact binary stream.
+ * Ticks are delta-encoded, so a typical input or gravity step takes one to three bytes.
+ * Optional {@linkplain #writeKeyframe keyframes} and the index written by {@link #close()}
+ * let a {@link ReplaySeeker} jump into the middle of a long session.
+ *
+ * @see ReplayReader
+ * @see RecordingGameController
+ */
+public final class ReplayWriter implements Closeable, Flushable {
+
+    private final ReplayFormat.CountingOutputStream out;
+    private final long seed;
+    private final List<ReplayFormat.IndexEntry> index = new ArrayList<>();
+    private long lastTick;
+    private long eventCount;
+    private boolean closed;
+
+    /**
+     * Writes the stream header.
+     *
+     * @param out the destination; it is buffered and closed with this writer
+     * @param seed the seed of the recorded game
+     * @throws IOException if the header cannot be written
+     */
+    public ReplayWriter(OutputStream out, long seed) throws IOException {
+        this.out = new ReplayFormat.CountingOutputStream(new BufferedOutputStream(Objects.requireNonNull(out, "out")));
+        this.seed = seed;
+        this.out.write(ReplayFormat.MAGIC);
+        this.out.write(ReplayFormat.VERSION);
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            this.out.write((int) (seed >>> shift));
+        }
+    }
+
+    /**
+     * Returns the seed written in the header.
+     *
+     * @return the game seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of events written so far.
+     *
+     * @return the event count
+     */
+    public long getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Appends an event.
+     *
+     * @param event the event to write
+     * @throws IOException if the event cannot be written
+     * @throws IllegalArgumentException if the event is older than the previous one
+     *         or selects a level that cannot be restored by name
+     */
+    public void write(ReplayEvent event) throws IOException {
+        Objects.requireNonNull(event, "event");
+        long delta = event.tick() - lastTick;
+        if (delta < 0) {
+            throw new IllegalArgumentException("ReplayWriter: events must be written in tick order");
+        }
+        if (event.level() != null) {
+            requireKnownLevel(event.level());
+        }
+
+        writeHeader(ReplayFormat.commandBits(event.command(), event.source()), delta);
+        if (ReplayFormat.isExtended(event.command())) {
+            ReplayFormat.writeVarLong(out, event.command().ordinal());
+        }
+        if (event.level() != null) {
+            ReplayFormat.writeString(out, event.level().getName());
+        }
+        lastTick = event.tick();
+        eventCount++;
+    }
+
+    /**
+     * Appends a keyframe holding the state reached after the last event written.
+     *
+     * @param level the level being played
+     * @param state the game state after the last event
+     * @throws IOException if the keyframe cannot be written
+     * @throws IllegalArgumentException if the level cannot be restored by name
+     */
+    public void writeKeyframe(GameLevel level, GameController.State state) throws IOException {
+        Objects.requireNonNull(state, "state");
+        requireKnownLevel(Objects.requireNonNull(level, "level"));
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(160);
+        ReplayFormat.writeVarLong(payload, eventCount);
+        ReplayFormat.writeString(payload, level.getName());
+        payload.write(KeyframeCodec.encode(state));
+
+        index.add(new ReplayFormat.IndexEntry(lastTick, eventCount, out.count()));
+        writeHeader(ReplayFormat.KEYFRAME, 0);
+        ReplayFormat.writeVarLong(out, payload.size());
+        payload.writeTo(out);
+    }
+
+    private void writeHeader(int header, long delta) throws IOException {
+        int inlineDelta = (int) Math.min(delta, ReplayFormat.TICK_ESCAPE);
+        out.write(header | inlineDelta << ReplayFormat.TICK_SHIFT);
+        if (inlineDelta == ReplayFormat.TICK_ESCAPE) {
+            ReplayFormat.writeVarLong(out, delta - ReplayFormat.TICK_ESCAPE);
+        }
+    }
+
+    private static void requireKnownLevel(GameLevel level) {
+        if (!ReplayFormat.isKnownLevel(level)) {
+            throw new IllegalArgumentException("ReplayWriter: level " + level.getName() + " cannot be replayed");
+        }
+    }
+
+    /**
+     * Pushes buffered events to the destination.
+     *
+     * @throws IOException if the destination fails
+     */
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * Writes the keyframe index and closes the destination.
+     *
+     * @throws IOException if the index cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            long indexOffset = out.count();
+            if (indexOffset > Integer.MAX_VALUE) {
+                // Too long to locate from the trailer; readers fall back to scanning
+                return;
+            }
+            out.write(ReplayFormat.INDEX);
+            ReplayFormat.writeVarLong(out, index.size());
+            ReplayFormat.IndexEntry previous = new ReplayFormat.IndexEntry(0, 0, 0);
+            for (ReplayFormat.IndexEntry entry : index) {
+                ReplayFormat.writeVarLong(out, entry.tick() - previous.tick());
+                ReplayFormat.writeVarLong(out, entry.eventIndex() - previous.eventIndex());
+                ReplayFormat.writeVarLong(out, entry.offset() - previous.offset());
+                previous = entry;
+            }
+            for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+                out.write((int) (indexOffset >>> shift));
+            }
+            out.write(ReplayFormat.INDEX_MAGIC);
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.comp2042.tetris.sim;
+
+import com.comp2042.tetris.model.level.GameLevel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+/**
+ * Plays many headless games in parallel and aggregates their results.
+ * Every game gets its own board, brick generator, garbage mechanic, clock,
+ * level and input source, so games share no mutable state and each result
+ * depends only on its seed.
+ *
+ * <p>Typical use is tuning level parameters:</p>
+ * <pre>
+ * try (BatchSimulator simulator = new BatchSimulator()) {
+ *     BatchStatistics stats = simulator.run(1L, 10_000,
+ *             () -&gt; new Level1(5.0, 1.5, 100, 500), MyBot::new, 5_000_000L);
+ * }
+ * </pre>
+ *
+ * @see SimulationEngine
+ * @see BatchStatistics
+ */
+public final class BatchSimulator implements AutoCloseable {
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a simulator using every available processor.
+     */
+    public BatchSimulator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a simulator with a fixed number of worker threads.
+     *
+     * @param parallelism the number of games played at the same time
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public BatchSimulator(int parallelism) {
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Plays a batch of games with consecutive seeds.
+     * The factories are called once per game from worker threads, so they must be thread-safe
+     * and should return a fresh instance each time.
+     *
+     * @param firstSeed the seed of the first game; game {@code i} uses {@code firstSeed + i}
+     * @param games the number of games to play
+     * @param levelFactory creates the level for each game
+     * @param policyFactory creates the input source for each game
+     * @param maxTicksPerGame the tick limit after which a game is stopped
+     * @return the aggregated statistics
+     * @throws IllegalArgumentException if games or maxTicksPerGame is negative
+     */
+    public BatchStatistics run(long firstSeed, int games, Supplier<? extends GameLevel> levelFactory,
+                               Supplier<? extends InputSource> policyFactory, long maxTicksPerGame) {
+        Objects.requireNonNull(levelFactory, "levelFactory");
+        Objects.requireNonNull(policyFactory, "policyFactory");
+        if (games < 0 || maxTicksPerGame < 0) {
+            throw new IllegalArgumentException("BatchSimulator: games and maxTicksPerGame must not be negative");
+        }
+
+        List<ForkJoinTask<GameResult>> tasks = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            long seed = firstSeed + i;
+            tasks.add(pool.submit(() -> playGame(seed, levelFactory.get(), policyFactory.get(), maxTicksPerGame)));
+        }
+        List<GameResult> results = new ArrayList<>(games);
+        for (ForkJoinTask<GameResult> task : tasks) {
+            results.add(task.join());
+        }
+        return new BatchStatistics(results);
+    }
+
+    /**
+     * Plays a single game on the calling thread.
+     *
+     * @param seed the seed for the brick sequence and garbage
+     * @param level the level rules to play
+     * @param policy the source of player actions
+     * @param maxTicks the tick limit after which the game is stopped
+     * @return the result of the game
+     */
+    public static GameResult playGame(long seed, GameLevel level, InputSource policy, long maxTicks) {
+        SimulationEngine engine = new SimulationEngine(seed, level, policy);
+
+        engine.run(maxTicks);
+        return new GameResult(seed, engine.getScore(), engine.getLinesCleared(), engine.getBricksPlaced(),
+                engine.getTick(), engine.getGarbageRowsReceived(), engine.isGameOver());
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+}
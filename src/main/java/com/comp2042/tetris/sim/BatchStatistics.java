@@ -0,0 +1,133 @@
+package com.comp2042.tetris.sim;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Aggregated results of a batch of simulated games.
+ *
+ * <p>Provides a {@link Distribution} for:</p>
+ * <ul>
+ *   <li>Final scores</li>
+ *   <li>Lines cleared</li>
+ *   <li>Game length in ticks</li>
+ *   <li>Garbage rows survived</li>
+ *   <li>Bricks placed</li>
+ * </ul>
+ *
+ * @see BatchSimulator
+ */
+public final class BatchStatistics {
+
+    private final List<GameResult> games;
+    private final Distribution scores;
+    private final Distribution lines;
+    private final Distribution gameLengths;
+    private final Distribution garbageRows;
+    private final Distribution bricksPlaced;
+    private final int toppedOut;
+
+    /**
+     * Aggregates the given game results.
+     *
+     * @param results the results of every game in the batch
+     */
+    public BatchStatistics(List<GameResult> results) {
+        List<GameResult> ordered = new ArrayList<>(results);
+        ordered.sort(Comparator.comparingLong(GameResult::seed));
+        this.games = List.copyOf(ordered);
+        this.scores = distribution(GameResult::score);
+        this.lines = distribution(GameResult::linesCleared);
+        this.gameLengths = distribution(GameResult::ticks);
+        this.garbageRows = distribution(GameResult::garbageRows);
+        this.bricksPlaced = distribution(GameResult::bricksPlaced);
+        this.toppedOut = (int) games.stream().filter(GameResult::toppedOut).count();
+    }
+
+    private Distribution distribution(ToLongFunction<GameResult> metric) {
+        return new Distribution(games.stream().mapToLong(metric).toArray());
+    }
+
+    /**
+     * Returns every game result, ordered by seed.
+     *
+     * @return an unmodifiable list of results
+     */
+    public List<GameResult> games() {
+        return games;
+    }
+
+    /**
+     * Returns the number of games played.
+     *
+     * @return the game count
+     */
+    public int gameCount() {
+        return games.size();
+    }
+
+    /**
+     * Returns the number of games that ended in game over before the tick limit.
+     *
+     * @return the topped-out game count
+     */
+    public int toppedOutCount() {
+        return toppedOut;
+    }
+
+    /**
+     * Returns the distribution of final scores.
+     *
+     * @return the score distribution
+     */
+    public Distribution scores() {
+        return scores;
+    }
+
+    /**
+     * Returns the distribution of lines cleared per game.
+     *
+     * @return the lines distribution
+     */
+    public Distribution lines() {
+        return lines;
+    }
+
+    /**
+     * Returns the distribution of game lengths in ticks.
+     *
+     * @return the game length distribution
+     */
+    public Distribution gameLengths() {
+        return gameLengths;
+    }
+
+    /**
+     * Returns the distribution of garbage rows received per game.
+     *
+     * @return the garbage distribution
+     */
+    public Distribution garbageRows() {
+        return garbageRows;
+    }
+
+    /**
+     * Returns the distribution of bricks placed per game.
+     *
+     * @return the bricks placed distribution
+     */
+    public Distribution bricksPlaced() {
+        return bricksPlaced;
+    }
+
+    @Override
+    public String toString() {
+        return "games=" + gameCount() + ", toppedOut=" + toppedOut
+                + "\n  score:   " + scores
+                + "\n  lines:   " + lines
+                + "\n  ticks:   " + gameLengths
+                + "\n  garbage: " + garbageRows;
+    }
+}
@@ -0,0 +1,113 @@
+package com.comp2042.tetris.sim;
+
+import java.util.Arrays;
+
+/**
+ * Immutable summary of a set of sampled values, such as the scores of a batch of games.
+ *
+ * @see BatchStatistics
+ */
+public final class Distribution {
+
+    private final long[] sorted;
+    private final double mean;
+    private final double standardDeviation;
+
+    /**
+     * Builds a distribution from the given samples. The array is copied.
+     *
+     * @param samples the sampled values
+     */
+    public Distribution(long[] samples) {
+        this.sorted = samples.clone();
+        Arrays.sort(sorted);
+        double sum = 0;
+        for (long value : sorted) {
+            sum += value;
+        }
+        this.mean = sorted.length == 0 ? 0 : sum / sorted.length;
+        double squares = 0;
+        for (long value : sorted) {
+            squares += (value - mean) * (value - mean);
+        }
+        this.standardDeviation = sorted.length == 0 ? 0 : Math.sqrt(squares / sorted.length);
+    }
+
+    /**
+     * Returns the number of samples.
+     *
+     * @return the sample count
+     */
+    public int count() {
+        return sorted.length;
+    }
+
+    /**
+     * Returns the smallest sample.
+     *
+     * @return the minimum, or 0 when empty
+     */
+    public long min() {
+        return sorted.length == 0 ? 0 : sorted[0];
+    }
+
+    /**
+     * Returns the largest sample.
+     *
+     * @return the maximum, or 0 when empty
+     */
+    public long max() {
+        return sorted.length == 0 ? 0 : sorted[sorted.length - 1];
+    }
+
+    /**
+     * Returns the arithmetic mean.
+     *
+     * @return the mean, or 0 when empty
+     */
+    public double mean() {
+        return mean;
+    }
+
+    /**
+     * Returns the population standard deviation.
+     *
+     * @return the standard deviation, or 0 when empty
+     */
+    public double standardDeviation() {
+        return standardDeviation;
+    }
+
+    /**
+     * Returns the nearest-rank percentile.
+     *
+     * @param percent the percentile, from 0 to 100
+     * @return the smallest sample with at least {@code percent}% of samples at or below it, or 0 when empty
+     * @throws IllegalArgumentException if percent is outside 0..100
+     */
+    public long percentile(double percent) {
+        if (percent < 0 || percent > 100) {
+            throw new IllegalArgumentException("Distribution: percentile must be between 0 and 100");
+        }
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Returns the median (50th percentile).
+     *
+     * @return the median sample
+     */
+    public long median() {
+        return percentile(50);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d mean=%.1f sd=%.1f min=%d p50=%d p90=%d max=%d",
+                count(), mean, standardDeviation, min(), median(), percentile(90), max());
+    }
+}
@@ -0,0 +1,17 @@
+package com.comp2042.tetris.sim;
+
+/**
+ * Outcome of one simulated game.
+ *
+ * @param seed the seed the game was played with
+ * @param score the final score
+ * @param linesCleared the number of lines cleared
+ * @param bricksPlaced the number of bricks locked
+ * @param ticks the number of ticks the game lasted
+ * @param garbageRows the number of garbage rows received
+ * @param toppedOut true if the game ended in game over rather than at the tick limit
+ * @see BatchSimulator
+ */
+public record GameResult(long seed, int score, long linesCleared, long bricksPlaced, long ticks,
+                         long garbageRows, boolean toppedOut) {
+}
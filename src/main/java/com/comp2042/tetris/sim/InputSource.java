@@ -0,0 +1,40 @@
+package com.comp2042.tetris.sim;
+
+import java.util.Objects;
+
+/**
+ * Supplies the player's action for each tick of a {@link SimulationEngine}.
+ * Implementations range from scripted sequences to bots that inspect the board.
+ *
+ * @see SimAction
+ */
+@FunctionalInterface
+public interface InputSource {
+
+    /** Input source that never acts, leaving the brick to gravity. */
+    InputSource IDLE = engine -> SimAction.NONE;
+
+    /**
+     * Returns the action to apply on the current tick.
+     *
+     * @param engine the running engine, for reading the board, brick and tick
+     * @return the action to apply, never null
+     */
+    SimAction nextAction(SimulationEngine engine);
+
+    /**
+     * Creates an input source that cycles through a fixed sequence of actions, one per tick.
+     *
+     * @param actions the actions to repeat
+     * @return a repeating input source
+     * @throws IllegalArgumentException if no actions are given
+     */
+    static InputSource repeating(SimAction... actions) {
+        Objects.requireNonNull(actions, "actions");
+        if (actions.length == 0) {
+            throw new IllegalArgumentException("InputSource: at least one action is required");
+        }
+        SimAction[] sequence = actions.clone();
+        return engine -> sequence[Math.floorMod(engine.getTick() - 1, sequence.length)];
+    }
+}
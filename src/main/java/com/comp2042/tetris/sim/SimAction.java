@@ -0,0 +1,22 @@
+package com.comp2042.tetris.sim;
+
+/**
+ * Logical player actions understood by the headless {@link SimulationEngine}.
+ * These replace key presses, so simulations never touch JavaFX input classes.
+ *
+ * @see InputSource
+ */
+public enum SimAction {
+    /** Do nothing this tick. */
+    NONE,
+    /** Move the brick one column to the left. */
+    LEFT,
+    /** Move the brick one column to the right. */
+    RIGHT,
+    /** Rotate the brick counterclockwise. */
+    ROTATE,
+    /** Move the brick down one row, scoring as a player drop. */
+    SOFT_DROP,
+    /** Drop the brick to its landing row and lock it. */
+    HARD_DROP
+}
@@ -0,0 +1,323 @@
+package com.comp2042.tetris.sim;
+
+import com.comp2042.tetris.controller.core.GameController;
+import com.comp2042.tetris.controller.core.GameFlowManager;
+import com.comp2042.tetris.model.board.Board;
+import com.comp2042.tetris.model.board.BoardView;
+import com.comp2042.tetris.model.board.ClearRow;
+import com.comp2042.tetris.model.board.GarbageMechanic;
+import com.comp2042.tetris.model.board.SimpleBoard;
+import com.comp2042.tetris.model.bricks.BrickRotator;
+import com.comp2042.tetris.model.bricks.RandomBrickGenerator;
+import com.comp2042.tetris.model.data.ViewData;
+import com.comp2042.tetris.model.event.BrickPlacedEvent;
+import com.comp2042.tetris.model.event.EventSource;
+import com.comp2042.tetris.model.event.EventType;
+import com.comp2042.tetris.model.event.GameEventListener;
+import com.comp2042.tetris.model.event.MoveEvent;
+import com.comp2042.tetris.model.event.SimpleGameEventBus;
+import com.comp2042.tetris.model.level.GameLevel;
+import com.comp2042.tetris.model.score.DefaultScorePolicy;
+import com.comp2042.tetris.model.score.Score;
+import com.comp2042.tetris.model.score.ScoreManager;
+import com.comp2042.tetris.utils.GameRandom;
+
+import java.util.Objects;
+
+/**
+ * Headless game engine that runs the real board, scoring, level and garbage
+ * logic on a logical {@link TickClock} instead of a JavaFX timeline.
+ * No JavaFX class is loaded, so simulations run on machines without a display
+ * and as fast as the CPU allows.
+ *
+ * <p>Each tick the engine:</p>
+ * <ul>
+ *   <li>Advances the clock</li>
+ *   <li>Applies one {@link SimAction} from the {@link InputSource}</li>
+ *   <li>Applies gravity when the level's tick interval has elapsed</li>
+ * </ul>
+ *
+ * <p>Locking, line clearing, scoring and garbage go through the same
+ * {@link GameFlowManager} as the interactive game. As in the interactive game,
+ * gravity keeps its own rhythm regardless of player drops. Horizontal control
+ * inversion is a key-mapping feature and does not apply to logical actions.</p>
+ *
+ * @see InputSource
+ * @see TickClock
+ */
+public final class SimulationEngine {
+
+    /** Logical duration of one tick used by the convenience constructor. */
+    public static final double DEFAULT_MILLIS_PER_TICK = 1.0;
+
+    private static final MoveEvent GRAVITY_EVENT = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+    private static final MoveEvent PLAYER_DROP_EVENT = new MoveEvent(EventType.DOWN, EventSource.USER);
+
+    private final Board board;
+    private final GameLevel level;
+    private final InputSource inputSource;
+    private final TickClock clock;
+    private final SimulationEventBus eventBus = new SimulationEventBus();
+    private final GarbageMechanic garbageMechanic;
+    private final GameFlowManager gameFlowManager;
+
+    private long ticksUntilGravity;
+
+    /**
+     * Creates an engine on a {@link SimpleBoard} the size of the interactive game's, with one millisecond ticks.
+     *
+     * @param level the level rules to play
+     * @param inputSource the source of player actions
+     */
+    public SimulationEngine(GameLevel level, InputSource inputSource) {
+        this(new SimpleBoard(GameController.BOARD_ROWS, GameController.BOARD_COLS), level, inputSource, new TickClock(DEFAULT_MILLIS_PER_TICK));
+    }
+
+    /**
+     * Creates a reproducible engine: the brick sequence and garbage are drawn from
+     * independent streams of a single {@link GameRandom} seeded with the given seed.
+     *
+     * @param seed the game seed
+     * @param level the level rules to play
+     * @param inputSource the source of player actions
+     */
+    public SimulationEngine(long seed, GameLevel level, InputSource inputSource) {
+        this(new GameRandom(seed), level, inputSource);
+    }
+
+    private SimulationEngine(GameRandom random, GameLevel level, InputSource inputSource) {
+        this(new SimpleBoard(GameController.BOARD_ROWS, GameController.BOARD_COLS, new RandomBrickGenerator(random.split()), new BrickRotator(), new Score()),
+                level, inputSource, new TickClock(DEFAULT_MILLIS_PER_TICK), new GarbageMechanic(random.split()));
+    }
+
+    /**
+     * Creates an engine with custom components and starts a new game.
+     *
+     * @param board the board to play on
+     * @param level the level rules to play
+     * @param inputSource the source of player actions
+     * @param clock the logical clock
+     */
+    public SimulationEngine(Board board, GameLevel level, InputSource inputSource, TickClock clock) {
+        this(board, level, inputSource, clock, new GarbageMechanic());
+    }
+
+    /**
+     * Creates an engine with custom components and starts a new game.
+     *
+     * @param board the board to play on
+     * @param level the level rules to play
+     * @param inputSource the source of player actions
+     * @param clock the logical clock
+     * @param garbageMechanic the garbage mechanic for this game
+     */
+    public SimulationEngine(Board board, GameLevel level, InputSource inputSource, TickClock clock,
+                            GarbageMechanic garbageMechanic) {
+        this.board = Objects.requireNonNull(board, "board");
+        this.level = Objects.requireNonNull(level, "level");
+        this.inputSource = Objects.requireNonNull(inputSource, "inputSource");
+        this.clock = Objects.requireNonNull(clock, "clock");
+        ScoreManager scoreManager = new ScoreManager(board.getScore(), eventBus, new DefaultScorePolicy());
+        this.garbageMechanic = Objects.requireNonNull(garbageMechanic, "garbageMechanic");
+        this.gameFlowManager = new GameFlowManager(board, eventBus, scoreManager, garbageMechanic);
+        board.setLevel(level);
+        gameFlowManager.setLevel(level);
+        if (level.isGarbageEnabled()) {
+            gameFlowManager.enableGarbage();
+        }
+        reset();
+    }
+
+    /**
+     * Starts a new game: clears the board, score, statistics and clock.
+     */
+    public void reset() {
+        clock.reset();
+        eventBus.reset();
+        board.newGame();
+        gameFlowManager.resetGarbage();
+        ticksUntilGravity = gravityTicks();
+    }
+
+    /**
+     * Runs a single tick.
+     *
+     * @return true if the game is still running afterwards
+     */
+    public boolean step() {
+        if (eventBus.gameOver) {
+            return false;
+        }
+        clock.advance();
+        apply(Objects.requireNonNull(inputSource.nextAction(this), "action"));
+        if (!eventBus.gameOver && --ticksUntilGravity <= 0) {
+            gameFlowManager.handleDownEvent(GRAVITY_EVENT);
+            ticksUntilGravity = gravityTicks();
+        }
+        return !eventBus.gameOver;
+    }
+
+    /**
+     * Runs up to the given number of ticks, stopping early on game over.
+     *
+     * @param maxTicks the maximum number of ticks to run
+     * @return the number of ticks actually run
+     */
+    public long run(long maxTicks) {
+        long ran = 0;
+        while (ran < maxTicks && !eventBus.gameOver) {
+            step();
+            ran++;
+        }
+        return ran;
+    }
+
+    private void apply(SimAction action) {
+        switch (action) {
+            case LEFT -> board.moveBrickLeft();
+            case RIGHT -> board.moveBrickRight();
+            case ROTATE -> board.rotateLeftBrick();
+            case SOFT_DROP -> gameFlowManager.handleDownEvent(PLAYER_DROP_EVENT);
+            case HARD_DROP -> gameFlowManager.handleInstantDrop(PLAYER_DROP_EVENT);
+            case NONE -> { }
+        }
+    }
+
+    private long gravityTicks() {
+        return clock.ticksFor(level.getTickIntervalMillis(board.getScore().getValue()));
+    }
+
+    /**
+     * Registers a listener for the game events raised by the simulation.
+     * Brick movement from left, right and rotate actions is not published.
+     *
+     * @param listener the listener to register
+     */
+    public void registerListener(GameEventListener listener) {
+        eventBus.registerListener(listener);
+    }
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener the listener to unregister
+     */
+    public void unregisterListener(GameEventListener listener) {
+        eventBus.unregisterListener(listener);
+    }
+
+    /**
+     * Returns the number of ticks run since the last reset.
+     *
+     * @return the current tick
+     */
+    public long getTick() {
+        return clock.getTick();
+    }
+
+    /**
+     * Returns whether the game has ended.
+     *
+     * @return true after game over
+     */
+    public boolean isGameOver() {
+        return eventBus.gameOver;
+    }
+
+    /**
+     * Returns the current score.
+     *
+     * @return the score value
+     */
+    public int getScore() {
+        return board.getScore().getValue();
+    }
+
+    /**
+     * Returns the number of lines cleared since the last reset.
+     *
+     * @return the cleared line count
+     */
+    public long getLinesCleared() {
+        return eventBus.linesCleared;
+    }
+
+    /**
+     * Returns the number of bricks locked since the last reset.
+     *
+     * @return the placed brick count
+     */
+    public long getBricksPlaced() {
+        return eventBus.bricksPlaced;
+    }
+
+    /**
+     * Returns the number of garbage rows pushed onto the board since the last reset.
+     *
+     * @return the garbage row count
+     */
+    public long getGarbageRowsReceived() {
+        return garbageMechanic.getRowsIssued();
+    }
+
+    /**
+     * Returns the level being played.
+     *
+     * @return the level
+     */
+    public GameLevel getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns a read-only view of the settled cells.
+     *
+     * @return the live board view
+     */
+    public BoardView getBoardView() {
+        return board.getBoardView();
+    }
+
+    /**
+     * Returns the current brick, its position and the upcoming bricks.
+     * Computed on demand, so input sources that do not need it pay nothing.
+     *
+     * @return the view data of the active brick
+     */
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+
+    /**
+     * Event bus that also keeps the statistics the engine reports.
+     */
+    private static final class SimulationEventBus extends SimpleGameEventBus {
+        private boolean gameOver;
+        private long linesCleared;
+        private long bricksPlaced;
+
+        void reset() {
+            gameOver = false;
+            linesCleared = 0;
+            bricksPlaced = 0;
+        }
+
+        @Override
+        public void publishLinesCleared(ClearRow clearRow) {
+            linesCleared += clearRow.linesRemoved();
+            super.publishLinesCleared(clearRow);
+        }
+
+        @Override
+        public void publishGameOver() {
+            gameOver = true;
+            super.publishGameOver();
+        }
+
+        @Override
+        public void publishBrickPlaced(BrickPlacedEvent event) {
+            bricksPlaced++;
+            super.publishBrickPlaced(event);
+        }
+    }
+}
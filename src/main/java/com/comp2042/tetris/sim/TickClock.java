@@ -0,0 +1,78 @@
+package com.comp2042.tetris.sim;
+
+/**
+ * Logical clock for headless simulations. Time only moves when the engine
+ * advances it, so a simulation runs as fast as the CPU allows and is
+ * independent of the wall clock.
+ *
+ * @see SimulationEngine
+ */
+public final class TickClock {
+
+    private final long nanosPerTick;
+    private long tick;
+
+    /**
+     * Creates a clock where every tick stands for the given number of milliseconds.
+     *
+     * @param millisPerTick the logical duration of one tick
+     * @throws IllegalArgumentException if the duration is not positive
+     */
+    public TickClock(double millisPerTick) {
+        if (!(millisPerTick > 0)) {
+            throw new IllegalArgumentException("TickClock: millisPerTick must be positive");
+        }
+        this.nanosPerTick = Math.max(1L, Math.round(millisPerTick * 1_000_000.0));
+    }
+
+    /**
+     * Moves the clock forward by one tick.
+     */
+    public void advance() {
+        tick++;
+    }
+
+    /**
+     * Moves the clock back to tick zero.
+     */
+    public void reset() {
+        tick = 0;
+    }
+
+    /**
+     * Returns the number of ticks elapsed.
+     *
+     * @return the current tick
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Returns the logical duration of one tick.
+     *
+     * @return milliseconds per tick
+     */
+    public double getMillisPerTick() {
+        return nanosPerTick / 1_000_000.0;
+    }
+
+    /**
+     * Returns the logical time elapsed since tick zero.
+     *
+     * @return the elapsed logical time in nanoseconds
+     */
+    public long nanoTime() {
+        return tick * nanosPerTick;
+    }
+
+    /**
+     * Converts a duration to a whole number of ticks, never less than one.
+     *
+     * @param millis the duration in milliseconds
+     * @return the number of ticks covering that duration
+     */
+    public long ticksFor(double millis) {
+        return Math.max(1L, Math.round(millis * 1_000_000.0 / nanosPerTick));
+    }
+}
@@ -69,6 +69,9 @@ public class InputHandlerHarness {
         @Override
         public void onRightEvent(MoveEvent event) { last.set("RIGHT (" + event.getEventSource() + ")"); }
 
+        @Override
+        public void onSlideEvent(MoveEvent event) { last.set("SLIDE " + event.getEventType() + " (" + event.getEventSource() + ")"); }
+
         @Override
         public void onRotateEvent(MoveEvent event) { last.set("ROTATE (" + event.getEventSource() + ")"); }
 
@@ -0,0 +1,157 @@
+package com.comp2042.tetris.utils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Fast, splittable pseudo-random source for the game model, based on the
+ * SplitMix64 generator. One instance is seeded per game and split into
+ * independent streams for each consumer (brick bag, garbage), so a game is
+ * fully reproducible from its seed regardless of the order in which
+ * consumers draw numbers.
+ *
+ * <p>Instances are not thread-safe; give each thread or game its own stream
+ * via {@link #split()}.</p>
+ */
+public final class GameRandom {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private final long seed;
+    private final long gamma;
+    private long state;
+
+    /**
+     * Creates a source with an unpredictable seed, for interactive games.
+     */
+    public GameRandom() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a source whose sequence is fully determined by the seed.
+     *
+     * @param seed the game seed
+     */
+    public GameRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private GameRandom(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+        this.state = seed;
+    }
+
+    /**
+     * Returns the seed this source was created with.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the current position in the stream, for saving a game in progress.
+     *
+     * @return the generator state
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Moves the stream back to a position returned by {@link #getState()}.
+     * Only meaningful on a source created the same way as the saved one
+     * (same seed and the same sequence of splits).
+     *
+     * @param state the generator state to resume from
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    /**
+     * Creates a new, statistically independent source and advances this one.
+     * Splitting in the same order always yields the same child streams.
+     *
+     * @return the child source
+     */
+    public GameRandom split() {
+        return new GameRandom(nextLong(), mixGamma(nextSeed()));
+    }
+
+    /**
+     * Returns the next pseudo-random 64-bit value.
+     *
+     * @return a uniformly distributed long
+     */
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    /**
+     * Returns a pseudo-random value between 0 (inclusive) and the bound (exclusive).
+     *
+     * @param bound the upper bound, must be positive
+     * @return a uniformly distributed int in {@code [0, bound)}
+     * @throws IllegalArgumentException if bound is not positive
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("GameRandom: bound must be positive");
+        }
+        // Lemire's multiply-and-reject method: unbiased with a single multiplication in the common case
+        long product = (nextLong() >>> 32) * bound;
+        long low = product & 0xFFFFFFFFL;
+        if (low < bound) {
+            long threshold = (0x1_0000_0000L - bound) % bound;
+            while (low < threshold) {
+                product = (nextLong() >>> 32) * bound;
+                low = product & 0xFFFFFFFFL;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+
+    /**
+     * Returns a pseudo-random double between 0 (inclusive) and 1 (exclusive).
+     *
+     * @return a uniformly distributed double
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Shuffles a list in place with the Fisher-Yates algorithm.
+     *
+     * @param list the list to shuffle
+     */
+    public void shuffle(List<?> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            Collections.swap(list, i, nextInt(i + 1));
+        }
+    }
+
+    private long nextSeed() {
+        return state += gamma;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        // Avoid gammas with too few bit transitions, which produce weak streams
+        return Long.bitCount(z ^ (z >>> 1)) < 24 ? z ^ 0xAAAAAAAAAAAAAAAAL : z;
+    }
+}
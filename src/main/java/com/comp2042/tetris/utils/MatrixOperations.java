@@ -11,6 +11,7 @@
 package com.comp2042.tetris.utils;
 
 import com.comp2042.tetris.model.board.ClearRow;
+import com.comp2042.tetris.model.bricks.RotationState;
 import com.comp2042.tetris.model.score.ScoreCalculator;
 
 import java.util.ArrayDeque;
@@ -52,6 +53,28 @@ public final class MatrixOperations {
         return false;
     }
 
+    /**
+     * Checks if a precomputed rotation state intersects with existing blocks or boundaries.
+     * Only the state's filled cells are visited.
+     *
+     * @param matrix the game board matrix
+     * @param state the rotation state of the brick
+     * @param x the horizontal position to check
+     * @param y the vertical position to check
+     * @return true if there is a collision, false otherwise
+     */
+    @Pure
+    public static boolean intersect(final int[][] matrix, final RotationState state, int x, int y) {
+        for (int cell = 0; cell < state.cellCount(); cell++) {
+            int targetRow = y + state.cellRow(cell);
+            int targetCol = x + state.cellCol(cell);
+            if (isOutOfBounds(matrix, targetRow, targetCol) || matrix[targetRow][targetCol] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     //the point of the if statement added is to fix the logic of OutOfBounds
     //now if player attempts to rotate on the edges it gets blocked
     @Pure
@@ -5,6 +5,8 @@ import java.util.Collection;
 import java.util.List;
 import javafx.animation.FillTransition;
 import javafx.animation.ParallelTransition;
+import com.comp2042.tetris.model.board.BoardDelta;
+import com.comp2042.tetris.model.board.BoardView;
 import com.comp2042.tetris.model.data.ViewData;
 import javafx.application.Platform;
 import javafx.geometry.Bounds;
@@ -27,6 +29,7 @@ import javafx.util.Duration;
  * the game state with color-coded cells for different brick types.</p>
  *
  * @see ViewData
+ * @see CanvasBoardRenderer
  */
 public class BoardRenderer {
 
@@ -43,6 +46,9 @@ public class BoardRenderer {
     private Rectangle[][] ghostBrickMatrix;
     private List<Rectangle[][]> nextBrickMatrices;
 
+    // Board version currently shown by displayMatrix, used to apply deltas incrementally
+    private long renderedVersion = BoardDelta.UNKNOWN_VERSION;
+
     // Cache the origin offset to prevent jitter from fluctuating scene bounds
     private Double cachedOriginX = null;
     private Double cachedOriginY = null;
@@ -111,10 +117,54 @@ public class BoardRenderer {
                 setRectangleData(board[i][j], displayMatrix[i][j]);
             }
         }
+        renderedVersion = BoardDelta.UNKNOWN_VERSION;
+    }
+
+    /**
+     * Updates the game board background display straight from a read-only board view.
+     *
+     * @param board the live view of the board
+     */
+    public void refreshGameBackground(BoardView board) {
+        if (displayMatrix == null) {
+            return;
+        }
+        refreshRows(board, 0, board.height() - 1);
+        renderedVersion = board.version();
+    }
+
+    /**
+     * Updates only the board rows that changed since the version currently shown.
+     * Falls back to a full redraw when the delta does not follow that version,
+     * for example after a missed event or a new game.
+     *
+     * @param delta the changed rows and the board versions they span
+     */
+    public void applyBoardDelta(BoardDelta delta) {
+        if (displayMatrix == null) {
+            return;
+        }
+        if (delta.follows(renderedVersion)) {
+            if (!delta.isEmpty()) {
+                refreshRows(delta.view(), delta.firstRow(), delta.lastRow());
+            }
+        } else {
+            refreshRows(delta.view(), 0, delta.view().height() - 1);
+        }
+        renderedVersion = delta.toVersion();
+    }
+
+    private void refreshRows(BoardView board, int firstRow, int lastRow) {
+        for (int i = Math.max(HIDDEN_TOP_ROWS, firstRow); i <= lastRow; i++) {
+            for (int j = 0; j < board.width(); j++) {
+                setRectangleData(board.cell(i, j), displayMatrix[i][j]);
+            }
+        }
     }
 
     private void initializeBoard(int[][] boardMatrix) {
         gamePanel.getChildren().clear();
+        renderedVersion = BoardDelta.UNKNOWN_VERSION;
         displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
         for (int i = 2; i < boardMatrix.length; i++) {
             for (int j = 0; j < boardMatrix[i].length; j++) {
@@ -356,7 +406,7 @@ public class BoardRenderer {
         }
     }
 
-    private void applyBrickStyling(Rectangle rectangle, Color baseColor) {
+    static void applyBrickStyling(Rectangle rectangle, Color baseColor) {
         if (baseColor == null || baseColor == Color.TRANSPARENT) {
             rectangle.setFill(Color.TRANSPARENT);
             rectangle.setEffect(null);
@@ -380,7 +430,7 @@ public class BoardRenderer {
         rectangle.setEffect(lighting);
     }
 
-    private void applyGhostBrickStyling(Rectangle rectangle, Color baseColor) {
+    static void applyGhostBrickStyling(Rectangle rectangle, Color baseColor) {
         if (baseColor == null || baseColor == Color.TRANSPARENT) {
             rectangle.setFill(Color.TRANSPARENT);
             rectangle.setEffect(null);
@@ -395,7 +445,7 @@ public class BoardRenderer {
         rectangle.setEffect(null);
     }
 
-    private LinearGradient createBrickGradient(Color baseColor) {
+    private static LinearGradient createBrickGradient(Color baseColor) {
         Color highlight = baseColor.deriveColor(0, 1.05, 1.25, 1);
         Color midTone = baseColor;
         Color shadow = baseColor.deriveColor(0, 1, 0.65, 1);
@@ -414,7 +464,7 @@ public class BoardRenderer {
                 && matrix[0].length == data[0].length;
     }
 
-    private Color getFillColor(int value) {
+    static Color getFillColor(int value) {
         return switch (value) {
             case 0 -> Color.TRANSPARENT;
             case 1 -> Color.web("#00FEFF"); // I-brick, Neon Cyan
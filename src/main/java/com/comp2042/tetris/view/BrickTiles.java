@@ -0,0 +1,96 @@
+package com.comp2042.tetris.view;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+import java.util.function.IntFunction;
+
+/**
+ * Pre-rasterised brick tiles for {@link CanvasBoardRenderer}, one image per cell value
+ * and style.
+ *
+ * <p>{@link #rasterise(int, int)} snapshots a {@link Rectangle} styled exactly as
+ * {@link BoardRenderer} styles its cells, gradient and lighting included, so the costly
+ * effects are rendered once per colour instead of once per cell per frame.</p>
+ */
+final class BrickTiles {
+
+    /** Cell values with a tile of their own; larger and negative values share the fallback tint. */
+    static final int FALLBACK_VALUE = 8;
+
+    private final Image[] board = new Image[FALLBACK_VALUE + 1];
+    private final Image[] ghost = new Image[FALLBACK_VALUE + 1];
+    private final Image[] preview = new Image[FALLBACK_VALUE + 1];
+
+    /**
+     * Creates tiles from the given rasterisers, called once per non-empty cell value.
+     *
+     * @param boardTile draws a board or active brick cell
+     * @param ghostTile draws a ghost brick cell
+     * @param previewTile draws a next brick preview cell
+     */
+    BrickTiles(IntFunction<Image> boardTile, IntFunction<Image> ghostTile, IntFunction<Image> previewTile) {
+        for (int value = 1; value <= FALLBACK_VALUE; value++) {
+            board[value] = boardTile.apply(value);
+            ghost[value] = ghostTile.apply(value);
+            preview[value] = previewTile.apply(value);
+        }
+    }
+
+    /**
+     * Snapshots styled rectangles into tiles. Must run on the FX application thread.
+     *
+     * @param brickSize the board cell size in pixels
+     * @param previewSize the preview cell size in pixels
+     * @return the tiles
+     */
+    static BrickTiles rasterise(int brickSize, int previewSize) {
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return new BrickTiles(
+                value -> {
+                    Rectangle rectangle = tile(brickSize, 8);
+                    BoardRenderer.applyBrickStyling(rectangle, BoardRenderer.getFillColor(value));
+                    return rectangle.snapshot(parameters, null);
+                },
+                value -> {
+                    Rectangle rectangle = tile(brickSize, 8);
+                    BoardRenderer.applyGhostBrickStyling(rectangle, BoardRenderer.getFillColor(value));
+                    return rectangle.snapshot(parameters, null);
+                },
+                value -> {
+                    Rectangle rectangle = tile(previewSize, 7);
+                    BoardRenderer.applyBrickStyling(rectangle, BoardRenderer.getFillColor(value));
+                    return rectangle.snapshot(parameters, null);
+                });
+    }
+
+    Image board(int value) {
+        return board[index(value)];
+    }
+
+    Image ghost(int value) {
+        return ghost[index(value)];
+    }
+
+    Image preview(int value) {
+        return preview[index(value)];
+    }
+
+    private static int index(int value) {
+        if (value == 0) {
+            return 0;
+        }
+        return value > 0 && value < FALLBACK_VALUE ? value : FALLBACK_VALUE;
+    }
+
+    private static Rectangle tile(int size, double arc) {
+        Rectangle rectangle = new Rectangle(size, size);
+        rectangle.setArcWidth(arc);
+        rectangle.setArcHeight(arc);
+        rectangle.setSmooth(true);
+        return rectangle;
+    }
+}
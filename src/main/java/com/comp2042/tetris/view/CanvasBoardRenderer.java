@@ -0,0 +1,315 @@
+package com.comp2042.tetris.view;
+
+import com.comp2042.tetris.model.board.BoardDelta;
+import com.comp2042.tetris.model.board.BoardView;
+import com.comp2042.tetris.model.data.ViewData;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.GridPane;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * {@link BoardRenderer} that draws into {@link Canvas} layers instead of one
+ * {@link javafx.scene.shape.Rectangle} per cell.
+ *
+ * <p>The board and the falling brick are drawn into two stacked canvases in the game
+ * panel, the falling brick's layer also holding its ghost; the next brick queue is
+ * drawn into a third canvas in the preview panel. Cells are copied from
+ * {@linkplain BrickTiles pre-rasterised tiles}, so the lighting effect is rendered
+ * once per colour rather than by every cell on every frame, and the node count stays
+ * at three whatever the board size.</p>
+ *
+ * <p>Only what changed is redrawn: board cells whose value differs from the one shown,
+ * and the bounding boxes of the falling and ghost brick when either moves.</p>
+ *
+ * <p>The brick and ghost panels are left empty. The row clear animation has no cell
+ * nodes to fade with this renderer and plays only its explosions.</p>
+ *
+ * @see BoardRenderer
+ */
+public class CanvasBoardRenderer extends BoardRenderer {
+
+    private static final int HIDDEN_TOP_ROWS = 2;
+    private static final int PREVIEW_TILE_SIZE = 20;
+    private static final double GHOST_OPACITY = 0.25;
+    private static final int NOT_DRAWN = Integer.MIN_VALUE;
+
+    private final GridPane brickPanel;
+    private final GridPane ghostBrickPanel;
+    private final GridPane nextBrickPanel;
+    private final int brickSize;
+    private final Supplier<BrickTiles> tileFactory;
+
+    private BrickTiles tiles;
+    private Canvas boardCanvas;
+    private Canvas pieceCanvas;
+    private Canvas previewCanvas;
+
+    // Cell values currently drawn on boardCanvas
+    private int[][] shownBoard;
+    private long renderedVersion = BoardDelta.UNKNOWN_VERSION;
+
+    // Falling brick currently drawn on pieceCanvas
+    private int[][] shownBrick;
+    private int shownX;
+    private int shownY;
+    private int shownGhostY;
+
+    private List<int[][]> shownNextBricks;
+
+    /**
+     * Constructs a CanvasBoardRenderer with the specified UI components.
+     *
+     * @param gamePanel the GridPane that holds the board and brick canvases
+     * @param brickPanel the GridPane the Rectangle renderer draws the falling brick into; emptied
+     * @param ghostBrickPanel the GridPane the Rectangle renderer draws the ghost into; emptied
+     * @param nextBrickPanel the GridPane that holds the next brick canvas
+     * @param brickSize the pixel size of each brick cell
+     */
+    public CanvasBoardRenderer(GridPane gamePanel, GridPane brickPanel, GridPane ghostBrickPanel, GridPane nextBrickPanel, int brickSize) {
+        this(gamePanel, brickPanel, ghostBrickPanel, nextBrickPanel, brickSize,
+                () -> BrickTiles.rasterise(brickSize, PREVIEW_TILE_SIZE));
+    }
+
+    CanvasBoardRenderer(GridPane gamePanel, GridPane brickPanel, GridPane ghostBrickPanel, GridPane nextBrickPanel,
+                        int brickSize, Supplier<BrickTiles> tileFactory) {
+        super(gamePanel, brickPanel, ghostBrickPanel, nextBrickPanel, brickSize);
+        this.brickPanel = brickPanel;
+        this.ghostBrickPanel = ghostBrickPanel;
+        this.nextBrickPanel = nextBrickPanel;
+        this.brickSize = brickSize;
+        this.tileFactory = tileFactory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void initialize(int[][] boardMatrix, ViewData brick) {
+        if (tiles == null) {
+            tiles = tileFactory.get();
+        }
+        int rows = boardMatrix.length;
+        int columns = boardMatrix[0].length;
+        double width = (double) columns * brickSize;
+        double height = (double) Math.max(0, rows - HIDDEN_TOP_ROWS) * brickSize;
+
+        boardCanvas = new Canvas(width, height);
+        pieceCanvas = new Canvas(width, height);
+        pieceCanvas.setMouseTransparent(true);
+        GridPane gamePanel = getGamePanel();
+        gamePanel.getChildren().clear();
+        gamePanel.add(boardCanvas, 0, 0);
+        gamePanel.add(pieceCanvas, 0, 0);
+        if (brickPanel != null) brickPanel.getChildren().clear();
+        if (ghostBrickPanel != null) ghostBrickPanel.getChildren().clear();
+
+        shownBoard = new int[rows][columns];
+        for (int[] row : shownBoard) {
+            Arrays.fill(row, NOT_DRAWN);
+        }
+        refreshGameBackground(boardMatrix);
+
+        shownBrick = null;
+        shownNextBricks = null;
+        if (nextBrickPanel != null) {
+            previewCanvas = new Canvas();
+            nextBrickPanel.getChildren().clear();
+            nextBrickPanel.add(previewCanvas, 0, 0);
+        }
+        drawBrick(brick);
+        drawNextBricks(brick.getNextBricksData());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void refreshBrick(ViewData brick, boolean isPaused) {
+        if (isPaused || pieceCanvas == null) {
+            return;
+        }
+        drawBrick(brick);
+        drawNextBricks(brick.getNextBricksData());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void refreshGameBackground(int[][] board) {
+        if (boardCanvas == null) {
+            return;
+        }
+        for (int i = HIDDEN_TOP_ROWS; i < board.length; i++) {
+            for (int j = 0; j < board[i].length; j++) {
+                drawBoardCell(i, j, board[i][j]);
+            }
+        }
+        renderedVersion = BoardDelta.UNKNOWN_VERSION;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void refreshGameBackground(BoardView board) {
+        if (boardCanvas == null) {
+            return;
+        }
+        refreshRows(board, 0, board.height() - 1);
+        renderedVersion = board.version();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void applyBoardDelta(BoardDelta delta) {
+        if (boardCanvas == null) {
+            return;
+        }
+        if (delta.follows(renderedVersion)) {
+            if (!delta.isEmpty()) {
+                refreshRows(delta.view(), delta.firstRow(), delta.lastRow());
+            }
+        } else {
+            refreshRows(delta.view(), 0, delta.view().height() - 1);
+        }
+        renderedVersion = delta.toVersion();
+    }
+
+    private void refreshRows(BoardView board, int firstRow, int lastRow) {
+        for (int i = Math.max(HIDDEN_TOP_ROWS, firstRow); i <= lastRow && i < shownBoard.length; i++) {
+            for (int j = 0; j < board.width() && j < shownBoard[i].length; j++) {
+                drawBoardCell(i, j, board.cell(i, j));
+            }
+        }
+    }
+
+    private void drawBoardCell(int row, int column, int value) {
+        if (shownBoard[row][column] == value) {
+            return;
+        }
+        shownBoard[row][column] = value;
+        GraphicsContext graphics = boardCanvas.getGraphicsContext2D();
+        double x = (double) column * brickSize;
+        double y = (double) (row - HIDDEN_TOP_ROWS) * brickSize;
+        graphics.clearRect(x, y, brickSize, brickSize);
+        Image tile = tiles.board(value);
+        if (tile != null) {
+            graphics.drawImage(tile, x, y);
+        }
+    }
+
+    private void drawBrick(ViewData brick) {
+        int[][] brickData = brick.getBrickData();
+        int x = brick.getXPosition();
+        int y = brick.getYPosition();
+        int ghostY = brick.getGhostYPosition();
+        if (shownBrick != null && x == shownX && y == shownY && ghostY == shownGhostY
+                && sameCells(shownBrick, brickData)) {
+            return;
+        }
+
+        GraphicsContext graphics = pieceCanvas.getGraphicsContext2D();
+        if (shownBrick != null) {
+            clearBrickArea(graphics, shownBrick, shownX, shownGhostY);
+            clearBrickArea(graphics, shownBrick, shownX, shownY);
+        }
+
+        graphics.setGlobalAlpha(GHOST_OPACITY);
+        drawBrickCells(graphics, brickData, x, ghostY, true);
+        graphics.setGlobalAlpha(1.0);
+        drawBrickCells(graphics, brickData, x, y, false);
+
+        shownBrick = copyOf(brickData);
+        shownX = x;
+        shownY = y;
+        shownGhostY = ghostY;
+    }
+
+    private void clearBrickArea(GraphicsContext graphics, int[][] brickData, int x, int y) {
+        graphics.clearRect((double) x * brickSize, (double) (y - HIDDEN_TOP_ROWS) * brickSize,
+                (double) brickData[0].length * brickSize, (double) brickData.length * brickSize);
+    }
+
+    private void drawBrickCells(GraphicsContext graphics, int[][] brickData, int x, int y, boolean ghost) {
+        for (int i = 0; i < brickData.length; i++) {
+            for (int j = 0; j < brickData[i].length; j++) {
+                Image tile = ghost ? tiles.ghost(brickData[i][j]) : tiles.board(brickData[i][j]);
+                if (tile != null) {
+                    graphics.drawImage(tile, (double) (x + j) * brickSize, (double) (y + i - HIDDEN_TOP_ROWS) * brickSize);
+                }
+            }
+        }
+    }
+
+    private void drawNextBricks(List<int[][]> nextBricksData) {
+        if (previewCanvas == null || nextBricksData == null) {
+            return;
+        }
+        if (shownNextBricks != null && shownNextBricks.size() == nextBricksData.size()) {
+            boolean unchanged = true;
+            for (int index = 0; index < nextBricksData.size() && unchanged; index++) {
+                unchanged = sameCells(shownNextBricks.get(index), nextBricksData.get(index));
+            }
+            if (unchanged) {
+                return;
+            }
+        }
+
+        // Stacked top to bottom with a one-row gap, as the Rectangle renderer lays them out
+        int columns = 0;
+        int rows = 0;
+        for (int[][] brickData : nextBricksData) {
+            columns = Math.max(columns, brickData[0].length);
+            rows += brickData.length + 1;
+        }
+        previewCanvas.setWidth((double) columns * PREVIEW_TILE_SIZE);
+        previewCanvas.setHeight((double) Math.max(0, rows - 1) * PREVIEW_TILE_SIZE);
+
+        GraphicsContext graphics = previewCanvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, previewCanvas.getWidth(), previewCanvas.getHeight());
+        List<int[][]> shown = new ArrayList<>(nextBricksData.size());
+        int top = 0;
+        for (int[][] brickData : nextBricksData) {
+            for (int i = 0; i < brickData.length; i++) {
+                for (int j = 0; j < brickData[i].length; j++) {
+                    Image tile = tiles.preview(brickData[i][j]);
+                    if (tile != null) {
+                        graphics.drawImage(tile, (double) j * PREVIEW_TILE_SIZE, (double) (top + i) * PREVIEW_TILE_SIZE);
+                    }
+                }
+            }
+            shown.add(copyOf(brickData));
+            top += brickData.length + 1;
+        }
+        shownNextBricks = shown;
+    }
+
+    private static boolean sameCells(int[][] a, int[][] b) {
+        if (a.length != b.length) {
+            return false;
+        }
+        for (int i = 0; i < a.length; i++) {
+            if (!Arrays.equals(a[i], b[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[][] copyOf(int[][] cells) {
+        int[][] copy = new int[cells.length][];
+        for (int i = 0; i < cells.length; i++) {
+            copy[i] = cells[i].clone();
+        }
+        return copy;
+    }
+}
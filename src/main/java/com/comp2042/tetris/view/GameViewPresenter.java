@@ -1,5 +1,8 @@
 package com.comp2042.tetris.view;
 
+import com.comp2042.tetris.debug.InputLatencyTracker;
+import com.comp2042.tetris.model.board.BoardDelta;
+import com.comp2042.tetris.model.board.BoardView;
 import com.comp2042.tetris.model.board.ClearRow;
 import com.comp2042.tetris.model.data.ViewData;
 import com.comp2042.tetris.model.event.GameStateSnapshot;
@@ -25,6 +28,7 @@ public class GameViewPresenter {
     private final OverlayPanel gameOverPanel;
     private final NotificationAnimator notificationAnimator;
     private final RowClearAnimator rowClearAnimator;
+    private InputLatencyTracker latencyTracker;
 
     // new fields to support fireworks/popups on score thresholds
     private int lastScore = 0;
@@ -40,6 +44,15 @@ public class GameViewPresenter {
         this.rowClearAnimator = new RowClearAnimator();
     }
 
+    /**
+     * Reports every brick render that shows a stamped input to a tracker.
+     *
+     * @param latencyTracker the tracker, or null to stop reporting
+     */
+    public void setLatencyTracker(InputLatencyTracker latencyTracker) {
+        this.latencyTracker = latencyTracker;
+    }
+
     public void initializeGame(GameStateSnapshot snapshot) {
         boardRenderer.initialize(snapshot.boardMatrix(), snapshot.viewData());
     }
@@ -49,7 +62,7 @@ public class GameViewPresenter {
             throw new IllegalStateException("scoreLabel is null.");
         }
         // Update the label and, if we've crossed 500-point thresholds, show popups and fireworks
-        Platform.runLater(() -> {
+        Runnable update = () -> {
             int newScore = event.newScore();
             scoreLabel.setText(String.valueOf(newScore));
 
@@ -83,17 +96,34 @@ public class GameViewPresenter {
             }
 
             lastScore = newScore;
-        });
+        };
+        // Coalesced updates already arrive on the FX thread once per frame; only others need queueing
+        if (Platform.isFxApplicationThread()) {
+            update.run();
+        } else {
+            Platform.runLater(update);
+        }
     }
 
     public void refreshBrick(ViewData viewData, boolean paused) {
         boardRenderer.refreshBrick(viewData, paused);
+        if (latencyTracker != null && viewData != null && viewData.getInputNanos() != 0L) {
+            latencyTracker.frameRendered(viewData.getInputNanos());
+        }
     }
 
     public void refreshBoard(int[][] boardMatrix) {
         boardRenderer.refreshGameBackground(boardMatrix);
     }
 
+    public void refreshBoard(BoardView boardView) {
+        boardRenderer.refreshGameBackground(boardView);
+    }
+
+    public void applyBoardDelta(BoardDelta delta) {
+        boardRenderer.applyBoardDelta(delta);
+    }
+
     public void handleLinesCleared(ClearRow clearRow) {
 
         if (clearRow.linesRemoved() > 0) {
@@ -132,6 +132,9 @@ public class RowClearAnimator {
             return;
         }
 
+        // Trigger star explosions immediately, also for a canvas-drawn board with no cell nodes
+        triggerRowExplosions(gamePanel, clearedRowIndices);
+
         List<Rectangle> rectanglesToAnimate = collectRectanglesFromRows(gamePanel, clearedRowIndices);
 
         if (rectanglesToAnimate.isEmpty()) {
@@ -141,9 +144,6 @@ public class RowClearAnimator {
             return;
         }
 
-        // Trigger star explosions immediately
-        triggerRowExplosions(gamePanel, clearedRowIndices);
-
         SequentialTransition sequentialTransition = new SequentialTransition();
 
         // Phase 1: Flash (quick brightness increase)
@@ -1,5 +1,6 @@
 package com.comp2042.tetris.view;
 
+import com.comp2042.tetris.model.level.ClassicLevel;
 import javafx.util.Duration;
 
 /**
@@ -18,7 +19,7 @@ public class UIConstants {
     public static final int BOARD_TOP_OFFSET = -42;
 
     /** Default time between automatic brick drops. */
-    public static final Duration DEFAULT_DROP_INTERVAL = Duration.millis(400);
+    public static final Duration DEFAULT_DROP_INTERVAL = Duration.millis(ClassicLevel.DEFAULT_DROP_INTERVAL_MILLIS);
 
     /** Width of the game window in pixels. */
     public static final int WINDOW_WIDTH = 950;
@@ -0,0 +1,108 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.controller.command.DefaultCommandRegistry;
+import com.comp2042.tetris.controller.command.DefaultInputCommandFactory;
+import com.comp2042.tetris.controller.core.GameController;
+import com.comp2042.tetris.controller.core.InputHandler;
+import com.comp2042.tetris.model.board.ClearRow;
+import com.comp2042.tetris.model.board.SimpleBoard;
+import com.comp2042.tetris.model.bricks.BrickRotator;
+import com.comp2042.tetris.model.bricks.RandomBrickGenerator;
+import com.comp2042.tetris.model.data.ViewData;
+import com.comp2042.tetris.model.event.BrickPlacedEvent;
+import com.comp2042.tetris.model.event.GameEventListener;
+import com.comp2042.tetris.model.event.GameStateSnapshot;
+import com.comp2042.tetris.model.event.ScoreChangeEvent;
+import com.comp2042.tetris.model.event.SimpleGameEventBus;
+import com.comp2042.tetris.model.score.Score;
+import com.comp2042.tetris.utils.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BotPlayerTest {
+
+    // The 1000 pieces/s target is measured by BotPlayerBenchmark in the benchmarks profile, as a
+    // test on a shared machine cannot hold it. The beam is expanded on every processor, and one
+    // slow core manages about 800 pieces/s once warmed up, so this floor only catches gross
+    // regressions such as a search that stops pruning
+    private static final double MIN_PIECES_PER_SECOND = 500;
+    private static final int PIECES = 1_000;
+
+    @Test
+    void playsALongGameThroughTheInputHandler() {
+        BrickRotator rotator = new BrickRotator();
+        RandomBrickGenerator generator = new RandomBrickGenerator(new GameRandom(4L));
+        SimpleBoard board = new SimpleBoard(GameController.BOARD_ROWS, GameController.BOARD_COLS, generator, rotator, new Score());
+        SimpleGameEventBus bus = new SimpleGameEventBus();
+        GameTally tally = new GameTally();
+        bus.registerListener(tally);
+        GameController controller = new GameController(board, bus);
+        InputHandler input = new InputHandler(() -> false, () -> tally.gameOver,
+                new DefaultCommandRegistry(), new DefaultInputCommandFactory());
+        input.setGameController(controller);
+
+        long elapsedNanos;
+        try (PlacementBot bot = new PlacementBot()) {
+            BotPlayer player = new BotPlayer(bot, board, rotator, generator, input);
+            play(player, tally);
+
+            assertFalse(tally.gameOver, "the bot should survive a thousand pieces");
+            assertEquals(PIECES, tally.placed);
+            // 1000 bricks of 4 cells fill about 300 lines of a 13-wide board
+            assertTrue(tally.lines > 250, "lines cleared: " + tally.lines);
+
+            // The first game warmed up the JIT; the next thousand pieces are timed
+            long start = System.nanoTime();
+            play(player, tally);
+            elapsedNanos = System.nanoTime() - start;
+        }
+
+        assertFalse(tally.gameOver, "the bot should survive two thousand pieces");
+        double piecesPerSecond = PIECES * 1e9 / elapsedNanos;
+        assertTrue(piecesPerSecond > MIN_PIECES_PER_SECOND, "pieces per second: " + piecesPerSecond);
+    }
+
+    private static void play(BotPlayer player, GameTally tally) {
+        for (int piece = 0; piece < PIECES && !tally.gameOver; piece++) {
+            assertNotNull(player.playPiece());
+        }
+    }
+
+    private static final class GameTally implements GameEventListener {
+        private boolean gameOver;
+        private int placed;
+        private int lines;
+
+        @Override
+        public void onGameInitialized(GameStateSnapshot snapshot) {
+        }
+
+        @Override
+        public void onScoreChanged(ScoreChangeEvent event) {
+        }
+
+        @Override
+        public void onBrickUpdated(ViewData viewData) {
+        }
+
+        @Override
+        public void onBoardUpdated(int[][] boardMatrix) {
+        }
+
+        @Override
+        public void onLinesCleared(ClearRow clearRow) {
+            lines += clearRow.linesRemoved();
+        }
+
+        @Override
+        public void onGameOver() {
+            gameOver = true;
+        }
+
+        @Override
+        public void onBrickPlaced(BrickPlacedEvent event) {
+            placed++;
+        }
+    }
+}
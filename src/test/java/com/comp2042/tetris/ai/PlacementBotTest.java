@@ -0,0 +1,148 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.model.board.BoardView;
+import com.comp2042.tetris.model.bricks.Brick;
+import com.comp2042.tetris.model.bricks.BrickType;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlacementBotTest {
+
+    private static final ReachabilitySearch SEARCH = new ReachabilitySearch();
+    private static final int UNLIMITED = ReachabilitySearch.UNLIMITED_ROTATIONS;
+
+    @Test
+    void enumeratesEveryColumnOfEveryDistinctRotation() {
+        SearchBoard empty = SearchBoard.of(BoardView.copyOf(new int[20][10]));
+
+        List<PlacementBot.Candidate> placements = PlacementBot.enumerate(SEARCH, empty, BrickType.O.getRotationStates(), 0, 4, 1, UNLIMITED);
+        Set<Integer> columns = new HashSet<>();
+        placements.forEach(placement -> columns.add(placement.x()));
+
+        // A 2x2 brick fits in 9 columns, and all its rotations look the same
+        assertEquals(9, placements.size());
+        assertEquals(9, columns.size());
+        assertTrue(PlacementBot.enumerate(SEARCH, empty, BrickType.T.getRotationStates(), 0, 4, 1, UNLIMITED).size()
+                > PlacementBot.enumerate(SEARCH, empty, BrickType.I.getRotationStates(), 0, 4, 1, UNLIMITED).size());
+    }
+
+    @Test
+    void completesALineWhenOneIsAvailable() {
+        int[][] cells = new int[20][10];
+        for (int col = 0; col < 9; col++) {
+            cells[19][col] = 1;
+            cells[18][col] = 1;
+            cells[17][col] = 1;
+            cells[16][col] = 1;
+        }
+
+        try (PlacementBot bot = new PlacementBot(Heuristic.DEFAULT, 0, PlacementBot.DEFAULT_BEAM_WIDTH, 1)) {
+            Placement placement = bot.choose(BoardView.copyOf(cells), BrickType.I, 0, 3, 1, List.of());
+
+            // The vertical I brick drops into the well and clears four lines
+            assertNotNull(placement);
+            assertEquals(1, placement.rotation());
+            SearchBoard after = SearchBoard.of(BoardView.copyOf(cells))
+                    .place(BrickType.I.getRotationStates().get(1), placement.x(), placement.y());
+            assertEquals(4, after.linesCleared());
+        }
+    }
+
+    @Test
+    void parallelSearchChoosesLikeASingleThread() {
+        Random random = new Random(21);
+        List<Brick> types = BrickType.prototypes();
+        try (PlacementBot single = new PlacementBot(Heuristic.DEFAULT, 3, 6, 1);
+             PlacementBot parallel = new PlacementBot(Heuristic.DEFAULT, 3, 6, 4)) {
+            for (int trial = 0; trial < 50; trial++) {
+                int[][] cells = new int[23][13];
+                for (int row = 12; row < 23; row++) {
+                    for (int col = 0; col < 13; col++) {
+                        cells[row][col] = random.nextInt(3) == 0 ? 0 : 1;
+                    }
+                }
+                Brick brick = types.get(random.nextInt(types.size()));
+                List<Brick> preview = List.of(types.get(random.nextInt(7)), types.get(random.nextInt(7)), types.get(random.nextInt(7)));
+
+                assertEquals(single.choose(BoardView.copyOf(cells), brick, 0, 5, 1, preview),
+                        parallel.choose(BoardView.copyOf(cells), brick, 0, 5, 1, preview), "trial " + trial);
+            }
+        }
+    }
+
+    @Test
+    void cachedSearchChoosesLikeAnUncachedOne() {
+        Random random = new Random(8);
+        List<Brick> types = BrickType.prototypes();
+        TranspositionTable table = new TranspositionTable(1 << 20, TranspositionTable.ReplacementPolicy.DEPTH_PREFERRED);
+        try (PlacementBot plain = new PlacementBot(Heuristic.DEFAULT, 2, 6, 1);
+             PlacementBot cached = new PlacementBot(Heuristic.DEFAULT, 2, 6, 2, table)) {
+            int[][] cells = new int[23][13];
+            for (int trial = 0; trial < 40; trial++) {
+                // Revisit each board once so decisions are served from the table too
+                Brick brick = types.get(trial / 2 % types.size());
+                List<Brick> preview = List.of(types.get((trial / 2 + 3) % 7), types.get(trial / 2 * 5 % 7));
+                if (trial % 2 == 0) {
+                    cells[22 - random.nextInt(8)][random.nextInt(13)] = 1;
+                }
+
+                assertEquals(plain.choose(BoardView.copyOf(cells), brick, 0, 5, 1, preview),
+                        cached.choose(BoardView.copyOf(cells), brick, 0, 5, 1, preview), "trial " + trial);
+            }
+        }
+
+        assertTrue(table.getHits() > 0);
+    }
+
+    @Test
+    void placementsKeepTheHashOfTheCellsTheyLeave() {
+        Random random = new Random(5);
+        List<Brick> types = BrickType.prototypes();
+        SearchBoard board = SearchBoard.of(BoardView.copyOf(new int[23][13]));
+        int lines = 0;
+        for (int piece = 0; piece < 200; piece++) {
+            List<PlacementBot.Candidate> placements = PlacementBot.enumerate(SEARCH, board,
+                    types.get(random.nextInt(types.size())).getRotationStates(), 0, 5, 1, UNLIMITED);
+            if (placements.isEmpty()) {
+                board = SearchBoard.of(BoardView.copyOf(new int[23][13]));
+                continue;
+            }
+            // Low placements fill lines, so clears are hashed too
+            board = placements.stream().max(java.util.Comparator.comparingInt(PlacementBot.Candidate::y)).orElseThrow().board();
+            lines += board.linesCleared();
+
+            assertEquals(SearchBoard.of(BoardView.copyOf(board.cells())).hash(), board.hash(), "piece " + piece);
+        }
+
+        assertTrue(lines > 0);
+    }
+
+    @Test
+    void returnsNullWhenTheBrickCannotMove() {
+        int[][] full = new int[6][6];
+        for (int[] row : full) {
+            java.util.Arrays.fill(row, 1);
+        }
+
+        try (PlacementBot bot = new PlacementBot()) {
+            assertNull(bot.choose(BoardView.copyOf(full), BrickType.T, 0, 2, 1, List.of()));
+        }
+    }
+
+    @Test
+    void featuresCountHolesHeightAndBumpiness() {
+        int[][] cells = new int[5][3];
+        cells[2][0] = 1;
+        cells[4][1] = 1;
+
+        BoardFeatures features = SearchBoard.of(BoardView.copyOf(cells)).features(2);
+
+        assertEquals(new BoardFeatures(4, 3, 2, 3, 2), features);
+    }
+}
@@ -0,0 +1,140 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.model.board.Board;
+import com.comp2042.tetris.model.board.BoardView;
+import com.comp2042.tetris.model.board.SimpleBoard;
+import com.comp2042.tetris.model.bricks.BrickRotator;
+import com.comp2042.tetris.model.bricks.BrickType;
+import com.comp2042.tetris.model.bricks.RandomBrickGenerator;
+import com.comp2042.tetris.model.bricks.RotationState;
+import com.comp2042.tetris.model.data.ViewData;
+import com.comp2042.tetris.model.score.Score;
+import com.comp2042.tetris.sim.SimAction;
+import com.comp2042.tetris.utils.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReachabilitySearchTest {
+
+    private final ReachabilitySearch search = new ReachabilitySearch();
+
+    @Test
+    void everyInputSequenceLocksTheBrickWhereReported() {
+        for (long seed = 1; seed <= 20; seed++) {
+            BrickRotator rotator = new BrickRotator();
+            SimpleBoard board = new SimpleBoard(23, 10, new RandomBrickGenerator(new GameRandom(seed)), rotator, new Score());
+            board.newGame();
+            addRaggedRows(board, new Random(seed), 8);
+            Board.State start = board.saveState();
+            ViewData view = board.getViewData();
+
+            List<LockPosition> locks = search.search(board.getBoardMatrix(), rotator.getCurrentBrick().getRotationStates(),
+                    rotator.getCurrentShapeIndex(), view.getXPosition(), view.getYPosition(), ReachabilitySearch.UNLIMITED_ROTATIONS);
+
+            assertFalse(locks.isEmpty());
+            for (LockPosition lock : locks) {
+                board.restoreState(start);
+                for (SimAction input : lock.inputs()) {
+                    apply(board, input);
+                }
+                ViewData locked = board.getViewData();
+                assertEquals(List.of(lock.x(), lock.y(), lock.rotation()),
+                        List.of(locked.getXPosition(), locked.getYPosition(), rotator.getCurrentShapeIndex()),
+                        "seed " + seed + ", inputs " + lock.inputs());
+            }
+        }
+    }
+
+    @Test
+    void randomPlayNeverLocksAnywhereUnreported() {
+        BrickRotator rotator = new BrickRotator();
+        SimpleBoard board = new SimpleBoard(23, 10, new RandomBrickGenerator(new GameRandom(3L)), rotator, new Score());
+        board.newGame();
+        Random random = new Random(3);
+        addRaggedRows(board, random, 10);
+        Board.State start = board.saveState();
+        ViewData view = board.getViewData();
+        Set<List<Integer>> reported = new HashSet<>();
+        for (LockPosition lock : search.search(board.getBoardMatrix(), rotator.getCurrentBrick().getRotationStates(),
+                rotator.getCurrentShapeIndex(), view.getXPosition(), view.getYPosition(), ReachabilitySearch.UNLIMITED_ROTATIONS)) {
+            reported.add(List.of(lock.x(), lock.y(), lock.rotation()));
+        }
+
+        for (int walk = 0; walk < 2_000; walk++) {
+            board.restoreState(start);
+            int length = random.nextInt(30);
+            for (int i = 0; i < length; i++) {
+                apply(board, SimAction.values()[1 + random.nextInt(4)]);
+            }
+            board.hardDropBrick();
+            ViewData locked = board.getViewData();
+            assertTrue(reported.contains(List.of(locked.getXPosition(), locked.getYPosition(), rotator.getCurrentShapeIndex())),
+                    "walk " + walk);
+        }
+    }
+
+    @Test
+    void findsTucksUnderOverhangs() {
+        int[][] cells = new int[8][6];
+        for (int col = 2; col < 6; col++) {
+            cells[6][col] = 1;
+        }
+        cells[7][4] = 1;
+        cells[7][5] = 1;
+        List<RotationState> domino = List.of(RotationState.of(new int[][]{{1, 1}}));
+
+        List<LockPosition> locks = search.search(cells, domino, 0, 2, 0, ReachabilitySearch.UNLIMITED_ROTATIONS);
+
+        LockPosition tuck = locks.stream().filter(lock -> lock.x() == 2 && lock.y() == 7).findFirst().orElseThrow();
+        assertTrue(tuck.isTuck());
+        assertEquals(List.of(SimAction.LEFT, SimAction.LEFT, SimAction.SOFT_DROP, SimAction.SOFT_DROP,
+                SimAction.SOFT_DROP, SimAction.SOFT_DROP, SimAction.SOFT_DROP, SimAction.SOFT_DROP, SimAction.SOFT_DROP,
+                SimAction.RIGHT, SimAction.RIGHT, SimAction.HARD_DROP), tuck.inputs());
+        // The bot considers the tuck too
+        assertTrue(PlacementBot.enumerate(search, SearchBoard.of(BoardView.copyOf(cells)), domino, 0, 2, 0,
+                        ReachabilitySearch.UNLIMITED_ROTATIONS).stream()
+                .anyMatch(placement -> placement.x() == 2 && placement.y() == 7));
+    }
+
+    @Test
+    void respectsTheRotationLimit() {
+        int[][] empty = new int[20][10];
+        List<RotationState> states = BrickType.T.getRotationStates();
+
+        List<LockPosition> frozen = search.search(empty, states, 0, 4, 1, 0);
+        Set<Integer> rotations = new HashSet<>();
+        search.search(empty, states, 0, 4, 1, ReachabilitySearch.UNLIMITED_ROTATIONS)
+                .forEach(lock -> rotations.add(lock.rotation()));
+
+        assertTrue(frozen.stream().allMatch(lock -> lock.rotation() == 0 && !lock.inputs().contains(SimAction.ROTATE)));
+        assertEquals(states.size(), rotations.size());
+        assertEquals(List.of(SimAction.HARD_DROP), frozen.get(0).inputs());
+    }
+
+    private static void apply(Board board, SimAction input) {
+        switch (input) {
+            case LEFT -> board.moveBrickLeft();
+            case RIGHT -> board.moveBrickRight();
+            case ROTATE -> board.rotateLeftBrick();
+            case SOFT_DROP -> board.moveBrickDown();
+            case HARD_DROP -> board.hardDropBrick();
+            case NONE -> { }
+        }
+    }
+
+    private static void addRaggedRows(Board board, Random random, int count) {
+        int[][] rows = new int[count][10];
+        for (int[] row : rows) {
+            for (int col = 0; col < row.length; col++) {
+                row[col] = random.nextInt(3) == 0 ? 0 : 8;
+            }
+        }
+        board.addRows(rows);
+    }
+}
@@ -0,0 +1,99 @@
+package com.comp2042.tetris.ai;
+
+import com.comp2042.tetris.ai.TranspositionTable.ReplacementPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    @Test
+    void storesAndFindsEntries() {
+        TranspositionTable table = new TranspositionTable(1 << 16, ReplacementPolicy.ALWAYS_REPLACE);
+
+        assertNull(table.probe(42L));
+        table.store(42L, 3, -1.25, 2, -2, 21);
+
+        assertEquals(new TranspositionTable.Entry(3, -1.25, 2, -2, 21), table.probe(42L));
+        assertEquals(1, table.getHits());
+        assertEquals(1, table.getMisses());
+    }
+
+    @Test
+    void sizeStaysWithinTheByteBudget() {
+        TranspositionTable table = new TranspositionTable(1_000_000, ReplacementPolicy.ALWAYS_REPLACE);
+
+        assertTrue(table.getByteSize() <= 1_000_000);
+        assertTrue(table.getByteSize() > 500_000);
+        assertEquals(Integer.bitCount(table.getCapacity()), 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> new TranspositionTable(TranspositionTable.ENTRY_BYTES - 1, ReplacementPolicy.ALWAYS_REPLACE));
+    }
+
+    @Test
+    void depthPreferredKeepsTheDeeperEntry() {
+        TranspositionTable preferred = new TranspositionTable(TranspositionTable.ENTRY_BYTES, ReplacementPolicy.DEPTH_PREFERRED);
+        TranspositionTable always = new TranspositionTable(TranspositionTable.ENTRY_BYTES, ReplacementPolicy.ALWAYS_REPLACE);
+        for (TranspositionTable table : List.of(preferred, always)) {
+            table.store(1L, 4, 1.0, 0, 0, 0);
+            table.store(2L, 1, 2.0, 0, 0, 0);
+        }
+
+        assertNotNull(preferred.probe(1L));
+        assertNull(preferred.probe(2L));
+        assertEquals(0, preferred.getEvictions());
+        assertNull(always.probe(1L));
+        assertNotNull(always.probe(2L));
+        assertEquals(1, always.getEvictions());
+
+        preferred.store(3L, 4, 3.0, 0, 0, 0);
+        assertNotNull(preferred.probe(3L), "an equally deep entry replaces the old one");
+        assertEquals(1, preferred.getEvictions());
+    }
+
+    @Test
+    void concurrentWritersNeverProduceMixedEntries() throws Exception {
+        // A tiny table so threads constantly overwrite each other's slots
+        TranspositionTable table = new TranspositionTable(64 * TranspositionTable.ENTRY_BYTES, ReplacementPolicy.ALWAYS_REPLACE);
+        AtomicInteger verified = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                long seed = thread;
+                workers.add(executor.submit(() -> {
+                    SplittableRandom random = new SplittableRandom(seed);
+                    for (int i = 0; i < 200_000; i++) {
+                        long key = random.nextLong(1_000);
+                        if (random.nextBoolean()) {
+                            table.store(key, (int) (key % 200), key * 0.5, (int) (key % 4), (int) (key % 100) - 50, (int) key);
+                        } else {
+                            TranspositionTable.Entry entry = table.probe(key);
+                            if (entry != null) {
+                                assertEquals(new TranspositionTable.Entry((int) (key % 200), key * 0.5, (int) (key % 4),
+                                        (int) (key % 100) - 50, (int) key), entry);
+                                verified.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(verified.get() > 0);
+    }
+}
@@ -7,13 +7,17 @@ import com.comp2042.tetris.controller.core.GameActionInvoker;
 import com.comp2042.tetris.controller.core.IGameController;
 import com.comp2042.tetris.controller.core.InputCommandRegistrar;
 import com.comp2042.tetris.controller.core.InputHandler;
+import com.comp2042.tetris.controller.core.KeyRepeat;
 import com.comp2042.tetris.model.event.EventSource;
+import com.comp2042.tetris.model.event.EventType;
 import com.comp2042.tetris.model.event.MoveEvent;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -62,6 +66,36 @@ class InputHandlerTest {
         assertEquals(1, gameplayCommand.executions);
     }
 
+    @Test
+    void keyboardRepeatsOfAHeldGameplayKeyAreConsumedWithoutExecuting() {
+        handler.handle(mockKeyEvent(KeyCode.LEFT));
+        boolean handled = handler.handle(mockKeyEvent(KeyCode.LEFT));
+
+        assertTrue(handled);
+        assertEquals(1, gameplayCommand.executions);
+
+        handler.handleReleased(new KeyEvent(KeyEvent.KEY_RELEASED, "", "", KeyCode.LEFT, false, false, false, false));
+        handler.handle(mockKeyEvent(KeyCode.LEFT));
+        assertEquals(2, gameplayCommand.executions);
+    }
+
+    @Test
+    void keyboardRepeatsOfKeysWithoutARepeatStillExecute() {
+        handler.handle(mockKeyEvent(KeyCode.UP));
+        handler.handle(mockKeyEvent(KeyCode.UP));
+
+        assertEquals(2, gameplayCommand.executions);
+    }
+
+    @Test
+    void slidesFollowHorizontalInversion() {
+        handler.slideLeft();
+        handler.setInvertHorizontal(true);
+        handler.slideLeft();
+
+        assertEquals(List.of(EventType.LEFT, EventType.RIGHT), controller.slides);
+    }
+
     @Test
     void moveDownDelegatesToControllerWithSource() {
         handler.moveDown(EventSource.THREAD);
@@ -104,6 +138,8 @@ class InputHandlerTest {
         @Override
         public void registerCommands(GameActionInvoker invoker, InputCommandRegistrar registrar, InputCommandFactory factory) {
             registrar.registerCommand(factory.createMoveLeftCommand(invoker), true, KeyCode.LEFT);
+            registrar.registerKeyRepeat(KeyRepeat.SHIFT_LEFT, KeyCode.LEFT);
+            registrar.registerCommand(factory.createRotateCommand(invoker), true, KeyCode.UP);
             registrar.registerCommand(globalCommand, false, KeyCode.P);
         }
     }
@@ -147,6 +183,7 @@ class InputHandlerTest {
         private int rightCalls;
         private int rotateCalls;
         private MoveEvent lastDownEvent;
+        private final List<EventType> slides = new ArrayList<>();
 
         @Override
         public void onDownEvent(MoveEvent event) {
@@ -164,6 +201,11 @@ class InputHandlerTest {
             rightCalls++;
         }
 
+        @Override
+        public void onSlideEvent(MoveEvent event) {
+            slides.add(event.getEventType());
+        }
+
         @Override
         public void onRotateEvent(MoveEvent event) {
             rotateCalls++;
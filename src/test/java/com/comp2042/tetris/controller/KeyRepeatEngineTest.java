@@ -0,0 +1,220 @@
+package com.comp2042.tetris.controller;
+
+import com.comp2042.tetris.controller.core.GameActionInvoker;
+import com.comp2042.tetris.controller.core.KeyRepeat;
+import com.comp2042.tetris.controller.core.KeyRepeatEngine;
+import com.comp2042.tetris.controller.core.KeyRepeatSettings;
+import com.comp2042.tetris.model.event.EventSource;
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyRepeatEngineTest {
+
+    private static final long MS = 1_000_000L;
+
+    private RecordingActions actions;
+    private KeyRepeatEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        actions = new RecordingActions();
+        engine = new KeyRepeatEngine(actions, () -> 400 * MS);
+        engine.setSettings(KeyRepeatSettings.ofMillis(100, 20, 10));
+        engine.bind(KeyRepeat.SHIFT_LEFT, KeyCode.LEFT, KeyCode.A);
+        engine.bind(KeyRepeat.SHIFT_RIGHT, KeyCode.RIGHT);
+        engine.bind(KeyRepeat.SOFT_DROP, KeyCode.DOWN);
+    }
+
+    @Test
+    void keyboardRepeatsOfAHeldKeyAreReported() {
+        assertTrue(engine.press(KeyCode.LEFT, 0));
+        assertFalse(engine.press(KeyCode.LEFT, 30 * MS));
+
+        engine.release(KeyCode.LEFT, 40 * MS);
+        assertTrue(engine.press(KeyCode.LEFT, 50 * MS));
+    }
+
+    @Test
+    void shiftWaitsForTheDelayThenRepeatsAtTheRate() {
+        engine.press(KeyCode.LEFT, 0);
+
+        engine.update(99 * MS);
+        assertEquals(List.of(), actions.calls);
+
+        engine.update(100 * MS);
+        assertEquals(List.of("left"), actions.calls);
+
+        engine.update(119 * MS);
+        engine.update(150 * MS);
+        assertEquals(List.of("left", "left", "left"), actions.calls);
+    }
+
+    @Test
+    void releaseStopsTheRepeat() {
+        engine.press(KeyCode.RIGHT, 0);
+        engine.release(KeyCode.RIGHT, 50 * MS);
+
+        engine.update(500 * MS);
+
+        assertEquals(List.of(), actions.calls);
+    }
+
+    @Test
+    void zeroRateSlidesToTheWall() {
+        engine.setSettings(KeyRepeatSettings.ofMillis(100, 0, 10));
+        engine.press(KeyCode.RIGHT, 0);
+
+        engine.update(100 * MS);
+        engine.update(116 * MS);
+        engine.update(500 * MS);
+
+        assertEquals(List.of("slideRight"), actions.calls);
+    }
+
+    @Test
+    void zeroRateSlidesEachNewBrickWhileTheKeyIsHeld() {
+        engine.setSettings(KeyRepeatSettings.ofMillis(100, 0, 10));
+        engine.press(KeyCode.LEFT, 0);
+        engine.brickSpawned();
+        engine.update(50 * MS);
+        engine.update(100 * MS);
+
+        engine.brickSpawned();
+        engine.update(116 * MS);
+        engine.update(133 * MS);
+
+        assertEquals(List.of("slideLeft", "slideLeft"), actions.calls);
+    }
+
+    @Test
+    void lastDirectionPressedWinsAndReleasingItRestartsTheOther() {
+        engine.press(KeyCode.LEFT, 0);
+        engine.press(KeyCode.RIGHT, 50 * MS);
+        engine.update(150 * MS);
+        assertEquals(List.of("right"), actions.calls);
+
+        actions.calls.clear();
+        engine.release(KeyCode.RIGHT, 160 * MS);
+        engine.update(259 * MS);
+        assertEquals(List.of(), actions.calls);
+        engine.update(260 * MS);
+        assertEquals(List.of("left"), actions.calls);
+    }
+
+    @Test
+    void aSecondKeyForTheSameDirectionKeepsItHeld() {
+        engine.press(KeyCode.LEFT, 0);
+        engine.press(KeyCode.A, 10 * MS);
+        engine.release(KeyCode.LEFT, 20 * MS);
+
+        engine.update(110 * MS);
+
+        assertEquals(List.of("left"), actions.calls);
+    }
+
+    @Test
+    void softDropRepeatsAtGravityDividedByTheFactor() {
+        engine.press(KeyCode.DOWN, 0);
+
+        engine.update(39 * MS);
+        assertEquals(0, actions.downs());
+        engine.update(120 * MS);
+        assertEquals(3, actions.downs());
+    }
+
+    @Test
+    void aStallMakesAtMostTheCappedNumberOfMoves() {
+        engine.press(KeyCode.LEFT, 0);
+
+        engine.update(10_000 * MS);
+        assertEquals(KeyRepeatEngine.MAX_REPEATS_PER_UPDATE, actions.calls.size());
+
+        actions.calls.clear();
+        engine.update(10_019 * MS);
+        assertEquals(List.of(), actions.calls);
+        engine.update(10_020 * MS);
+        assertEquals(List.of("left"), actions.calls);
+    }
+
+    @Test
+    void releaseAllForgetsHeldKeys() {
+        engine.press(KeyCode.LEFT, 0);
+        engine.press(KeyCode.DOWN, 0);
+
+        engine.releaseAll();
+        engine.update(1_000 * MS);
+
+        assertEquals(List.of(), actions.calls);
+        assertFalse(engine.isPressed(KeyCode.LEFT));
+    }
+
+    @Test
+    void unboundKeysAreTrackedButNeverRepeat() {
+        assertTrue(engine.press(KeyCode.UP, 0));
+        assertFalse(engine.press(KeyCode.UP, 10 * MS));
+
+        engine.update(1_000 * MS);
+
+        assertEquals(List.of(), actions.calls);
+    }
+
+    @Test
+    void settingsRejectInvalidTimings() {
+        assertThrows(IllegalArgumentException.class, () -> KeyRepeatSettings.ofMillis(-1, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> KeyRepeatSettings.ofMillis(0, 0, 0));
+    }
+
+    private static final class RecordingActions implements GameActionInvoker {
+        private final List<String> calls = new ArrayList<>();
+
+        long downs() {
+            return calls.stream().filter("down"::equals).count();
+        }
+
+        @Override
+        public void moveDown(EventSource source) {
+            calls.add("down");
+        }
+
+        @Override
+        public void moveDown() {
+            moveDown(EventSource.USER);
+        }
+
+        @Override
+        public void moveLeft() {
+            calls.add("left");
+        }
+
+        @Override
+        public void moveRight() {
+            calls.add("right");
+        }
+
+        @Override
+        public void slideLeft() {
+            calls.add("slideLeft");
+        }
+
+        @Override
+        public void slideRight() {
+            calls.add("slideRight");
+        }
+
+        @Override
+        public void rotate() {
+            calls.add("rotate");
+        }
+
+        @Override
+        public void instantDrop() {
+            calls.add("drop");
+        }
+    }
+}
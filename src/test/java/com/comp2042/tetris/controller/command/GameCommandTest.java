@@ -214,6 +214,8 @@ class GameCommandTest {
         int moveDownWithSourceCalls = 0;
         int moveLeftCalls = 0;
         int moveRightCalls = 0;
+        int slideLeftCalls = 0;
+        int slideRightCalls = 0;
         int rotateCalls = 0;
         int instantDropCalls = 0;
 
@@ -237,6 +239,16 @@ class GameCommandTest {
             moveRightCalls++;
         }
 
+        @Override
+        public void slideLeft() {
+            slideLeftCalls++;
+        }
+
+        @Override
+        public void slideRight() {
+            slideRightCalls++;
+        }
+
         @Override
         public void rotate() {
             rotateCalls++;
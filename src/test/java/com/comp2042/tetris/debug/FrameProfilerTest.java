@@ -0,0 +1,76 @@
+package com.comp2042.tetris.debug;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameProfilerTest {
+
+    private static final long MS = 1_000_000L;
+
+    private final FrameProfiler profiler = new FrameProfiler();
+
+    @Test
+    void framesAreTheGapsBetweenPulses() {
+        profiler.frame(0);
+        profiler.frame(16 * MS);
+        profiler.frame(20 * MS);
+
+        assertEquals(2, profiler.getHistogram().getTotalCount());
+        assertEquals(16 * MS, profiler.getHistogram().getMax());
+        assertEquals(4 * MS, profiler.getHistogram().getMin());
+    }
+
+    @Test
+    void longFramesAreCountedAgainstOneAndTwoVsyncs() {
+        long now = 0;
+        profiler.frame(now);
+        profiler.frame(now += FrameProfiler.LONG_FRAME_NANOS);
+        profiler.frame(now += FrameProfiler.LONG_FRAME_NANOS + 1);
+        profiler.frame(now += 30 * MS);
+        profiler.frame(now + 40 * MS);
+
+        assertEquals(3, profiler.getLongFrames());
+        assertEquals(1, profiler.getVeryLongFrames());
+    }
+
+    @Test
+    void fpsIsAveragedOverAWindow() {
+        assertEquals(0.0, profiler.getFps());
+        for (long now = 0; now <= FrameProfiler.FPS_WINDOW_NANOS; now += 10 * MS) {
+            profiler.frame(now);
+        }
+
+        assertEquals(100.0, profiler.getFps(), 1e-9);
+    }
+
+    @Test
+    void restartSkipsTheGapButKeepsTheFrames() {
+        profiler.frame(0);
+        profiler.frame(10 * MS);
+        profiler.restart();
+        profiler.frame(5_000 * MS);
+        profiler.frame(5_010 * MS);
+
+        assertEquals(2, profiler.getHistogram().getTotalCount());
+        assertEquals(0, profiler.getLongFrames());
+
+        profiler.reset();
+        assertEquals(0, profiler.getHistogram().getTotalCount());
+    }
+
+    @Test
+    void summaryShowsABarPerFrameTimeRange() {
+        profiler.frame(0);
+        profiler.frame(5 * MS);
+        profiler.frame(45 * MS);
+
+        String[] lines = profiler.summary().split("\n");
+
+        assertEquals(7, lines.length, profiler.summary());
+        assertTrue(lines[1].contains(">16.7 ms: 1  >33.3 ms: 1  (n=2)"), lines[1]);
+        assertTrue(lines[2].startsWith("<=  8.3 ms |##########"), lines[2]);
+        assertTrue(lines[5].endsWith("| 1"), lines[5]);
+        assertTrue(lines[6].endsWith("| 0"), lines[6]);
+    }
+}
@@ -0,0 +1,95 @@
+package com.comp2042.tetris.debug;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputLatencyTrackerTest {
+
+    private static final long MS = 1_000_000L;
+
+    private final InputLatencyTracker tracker = new InputLatencyTracker();
+
+    @Test
+    void latencyRunsFromInputToThePulseAfterItsRender() {
+        tracker.inputReceived(10 * MS);
+        tracker.frameRendered(10 * MS);
+        tracker.pulse(26 * MS);
+
+        assertEquals(1, tracker.getHistogram().getTotalCount());
+        assertEquals(16 * MS, tracker.getHistogram().getMax());
+    }
+
+    @Test
+    void inputsAreNotRecordedBeforeTheirRender() {
+        tracker.inputReceived(10 * MS);
+        tracker.pulse(20 * MS);
+        assertEquals(0, tracker.getHistogram().getTotalCount());
+
+        tracker.frameRendered(10 * MS);
+        tracker.pulse(36 * MS);
+        assertEquals(26 * MS, tracker.getHistogram().getMax());
+    }
+
+    @Test
+    void aRenderShowsEveryEarlierInputButNoLaterOne() {
+        tracker.inputReceived(1 * MS);
+        tracker.inputReceived(2 * MS);
+        tracker.inputReceived(3 * MS);
+
+        tracker.frameRendered(2 * MS);
+        tracker.pulse(10 * MS);
+
+        assertEquals(2, tracker.getHistogram().getTotalCount());
+        assertEquals(9 * MS, tracker.getHistogram().getMax());
+
+        tracker.frameRendered(3 * MS);
+        tracker.pulse(20 * MS);
+        assertEquals(3, tracker.getHistogram().getTotalCount());
+        assertEquals(17 * MS, tracker.getHistogram().getMax());
+    }
+
+    @Test
+    void inputsThatNeverRenderAreDropped() {
+        tracker.inputReceived(0);
+        tracker.pulse(InputLatencyTracker.MAX_LATENCY_NANOS + 1);
+
+        tracker.frameRendered(0);
+        tracker.pulse(InputLatencyTracker.MAX_LATENCY_NANOS + 2);
+
+        assertEquals(0, tracker.getHistogram().getTotalCount());
+        assertEquals(1, tracker.getDroppedCount());
+    }
+
+    @Test
+    void aFullQueueDropsTheOldestInput() {
+        for (int i = 0; i <= InputLatencyTracker.MAX_PENDING; i++) {
+            tracker.inputReceived(i);
+        }
+        tracker.frameRendered(InputLatencyTracker.MAX_PENDING);
+        tracker.pulse(1_000);
+
+        assertEquals(InputLatencyTracker.MAX_PENDING, tracker.getHistogram().getTotalCount());
+        assertEquals(1, tracker.getDroppedCount());
+        assertEquals(999, tracker.getHistogram().getMax());
+    }
+
+    @Test
+    void dumpWritesThePercentileDistribution(@TempDir Path directory) throws IOException {
+        tracker.inputReceived(0);
+        tracker.frameRendered(0);
+        tracker.pulse(8 * MS);
+        Path file = directory.resolve("latency.hgrm");
+
+        tracker.dump(file);
+
+        String text = Files.readString(file);
+        assertTrue(text.contains("#[Max     =        8.000"), text);
+        assertTrue(tracker.summary().contains("max 8.0 ms"), tracker.summary());
+    }
+}
@@ -0,0 +1,29 @@
+package com.comp2042.tetris.debug;
+
+import javafx.scene.Group;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuntimeStatsTest {
+
+    @Test
+    void countNodesCountsTheWholeSubtree() {
+        Pane inner = new Pane(new Rectangle(), new Rectangle());
+        Group root = new Group(inner, new Rectangle());
+
+        assertEquals(5, RuntimeStats.countNodes(root));
+        assertEquals(3, RuntimeStats.countNodes(inner));
+        assertEquals(0, RuntimeStats.countNodes(null));
+    }
+
+    @Test
+    void jvmSummaryListsHeapAndCollectors() {
+        String summary = RuntimeStats.jvmSummary();
+
+        assertTrue(summary.startsWith("heap "), summary);
+        assertTrue(summary.contains("\ngc "), summary);
+    }
+}
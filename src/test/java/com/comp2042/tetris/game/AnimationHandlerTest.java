@@ -6,6 +6,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 
@@ -131,6 +134,69 @@ class AnimationHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("SetTickInterval Tests - With Loop")
+    class SetTickIntervalWithLoopTests {
+
+        @Test
+        @DisplayName("setGameLoop applies the current interval")
+        void setGameLoop_appliesCurrentInterval() {
+            AnimationHandler handler = new AnimationHandler(
+                stateManager, Duration.millis(100), () -> {});
+            RecordingLoop loop = new RecordingLoop();
+
+            handler.setGameLoop(loop);
+
+            assertEquals(List.of(100_000_000L), loop.intervals);
+        }
+
+        @Test
+        @DisplayName("An unchanged interval does not reach the loop")
+        void setTickIntervalNanos_unchanged_isIgnored() {
+            AnimationHandler handler = new AnimationHandler(
+                stateManager, Duration.millis(100), () -> {});
+            RecordingLoop loop = new RecordingLoop();
+            handler.setGameLoop(loop);
+
+            handler.setTickIntervalNanos(100_000_000L);
+            handler.setTickIntervalNanos(50_000_000L);
+            handler.setTickIntervalNanos(50_000_000L);
+            handler.setTickInterval(Duration.millis(50));
+
+            assertEquals(List.of(100_000_000L, 50_000_000L), loop.intervals);
+        }
+    }
+
+    private static final class RecordingLoop implements GameLoop {
+        final List<Long> intervals = new ArrayList<>();
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void resume() {
+        }
+
+        @Override
+        public void pause() {
+        }
+
+        @Override
+        public void stop() {
+        }
+
+        @Override
+        public void updateInterval(Duration newInterval) {
+            updateIntervalNanos(Math.round(newInterval.toMillis() * 1_000_000d));
+        }
+
+        @Override
+        public void updateIntervalNanos(long intervalNanos) {
+            intervals.add(intervalNanos);
+        }
+    }
+
     @Nested
     @DisplayName("TogglePause Before Init Tests")
     class TogglePauseBeforeInitTests {
@@ -0,0 +1,271 @@
+package com.comp2042.tetris.game;
+
+import com.comp2042.tetris.controller.core.IGameController;
+import com.comp2042.tetris.model.board.BoardDelta;
+import com.comp2042.tetris.model.board.BoardView;
+import com.comp2042.tetris.model.board.ClearRow;
+import com.comp2042.tetris.model.data.ViewData;
+import com.comp2042.tetris.model.event.BrickPlacedEvent;
+import com.comp2042.tetris.model.event.EventSource;
+import com.comp2042.tetris.model.event.EventType;
+import com.comp2042.tetris.model.event.GameEventListener;
+import com.comp2042.tetris.model.event.GameStateSnapshot;
+import com.comp2042.tetris.model.event.MoveEvent;
+import com.comp2042.tetris.model.event.ScoreChangeEvent;
+import com.comp2042.tetris.model.event.SimpleGameEventBus;
+import com.comp2042.tetris.model.level.GameLevel;
+import javafx.util.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Timeout(value = 10, unit = TimeUnit.SECONDS)
+class FixedStepGameLoopTest {
+
+    private static final long STEP_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final SimpleGameEventBus downstream = new SimpleGameEventBus();
+    private final FixedStepGameLoop loop = new FixedStepGameLoop(downstream, STEP_NANOS);
+    private final RecordingGame game = new RecordingGame();
+    private long now;
+
+    @AfterEach
+    void tearDown() {
+        loop.close();
+    }
+
+    @Test
+    void commandsRunOnTheLogicThreadInOrder() throws InterruptedException {
+        loop.createNewGame();
+        loop.launch(game);
+        loop.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+        loop.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER));
+        loop.onInstantDropEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+
+        awaitUntil(() -> game.calls.size() == 4);
+
+        assertEquals(List.of("new game", "left", "rotate", "drop"), game.calls);
+        assertEquals(1, game.threads.size());
+        assertNotSame(Thread.currentThread(), game.threads.get(0));
+    }
+
+    @Test
+    void gravityDropsAtTheTickInterval() {
+        FixedStepGameLoop stepped = steppedLoop();
+        stepped.updateInterval(Duration.millis(20));
+        stepped.start();
+
+        advanceMillis(stepped, 99);
+        assertEquals(4, game.gravityDrops.get());
+        advanceMillis(stepped, 1);
+        assertEquals(5, game.gravityDrops.get());
+        assertEquals(100, stepped.getStepCount());
+        assertTrue(game.calls.stream().allMatch("gravity"::equals));
+    }
+
+    @Test
+    void aStalledLoopCatchesUpAtMostTheCappedSteps() {
+        FixedStepGameLoop stepped = steppedLoop();
+
+        now += TimeUnit.SECONDS.toNanos(1);
+        stepped.runDue();
+
+        assertEquals(FixedStepGameLoop.MAX_CATCH_UP_STEPS, stepped.getStepCount());
+    }
+
+    @Test
+    void pauseStopsGravityUntilResumed() {
+        FixedStepGameLoop stepped = steppedLoop();
+        stepped.updateInterval(Duration.millis(5));
+        stepped.start();
+        advanceMillis(stepped, 5);
+        assertEquals(1, game.gravityDrops.get());
+
+        stepped.pause();
+        advanceMillis(stepped, 50);
+        assertEquals(1, game.gravityDrops.get());
+
+        stepped.resume();
+        advanceMillis(stepped, 5);
+        assertEquals(2, game.gravityDrops.get());
+    }
+
+    @Test
+    void gameOverStopsGravity() {
+        FixedStepGameLoop stepped = steppedLoop();
+        game.onGravity = () -> stepped.getEventPublisher().publishGameOver();
+        stepped.updateInterval(Duration.millis(5));
+        stepped.start();
+
+        advanceMillis(stepped, 50);
+
+        assertEquals(1, game.gravityDrops.get());
+    }
+
+    @Test
+    void boardViewsAreCopiedBeforeTheyArePublished() {
+        int[][] cells = new int[3][2];
+        BoardView live = BoardView.live(cells, () -> 7L);
+        List<BoardDelta> received = new ArrayList<>();
+        downstream.registerListener(new PublishedListener(received, new ArrayList<>()));
+
+        loop.getEventPublisher().publishBoardDelta(new BoardDelta(6, 7, 1, 1, live));
+        cells[1][0] = 5;
+
+        BoardDelta delta = received.get(0);
+        assertEquals(6, delta.fromVersion());
+        assertEquals(7, delta.toVersion());
+        assertEquals(7, delta.view().version());
+        assertEquals(0, delta.view().cell(1, 0));
+    }
+
+    @Test
+    void clearedMatricesAreCopiedBeforeTheyArePublished() {
+        int[][] cells = new int[3][2];
+        List<ClearRow> received = new ArrayList<>();
+        downstream.registerListener(new PublishedListener(new ArrayList<>(), received));
+
+        loop.getEventPublisher().publishLinesCleared(new ClearRow(1, cells, 50, new int[]{2}));
+        cells[1][0] = 5;
+
+        ClearRow clearRow = received.get(0);
+        assertEquals(1, clearRow.linesRemoved());
+        assertEquals(50, clearRow.scoreBonus());
+        assertArrayEquals(new int[]{2}, clearRow.clearedRowIndices());
+        assertEquals(0, clearRow.newMatrix()[1][0]);
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new FixedStepGameLoop(downstream, 0));
+        assertThrows(NullPointerException.class, () -> new FixedStepGameLoop(null));
+        loop.launch(game);
+        assertThrows(IllegalStateException.class, () -> loop.launch(game));
+    }
+
+    /** A loop on the test's own clock, driven from this thread instead of a logic thread. */
+    private FixedStepGameLoop steppedLoop() {
+        FixedStepGameLoop stepped = new FixedStepGameLoop(downstream, STEP_NANOS, () -> now);
+        stepped.attach(game);
+        return stepped;
+    }
+
+    private void advanceMillis(FixedStepGameLoop stepped, int millis) {
+        for (int i = 0; i < millis; i++) {
+            now += STEP_NANOS;
+            stepped.runDue();
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        while (!condition.getAsBoolean()) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static final class RecordingGame implements IGameController {
+        final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger gravityDrops = new AtomicInteger();
+        volatile Runnable onGravity = () -> { };
+
+        private void record(String call) {
+            Thread current = Thread.currentThread();
+            if (!threads.contains(current)) {
+                threads.add(current);
+            }
+            calls.add(call);
+        }
+
+        @Override
+        public void onDownEvent(MoveEvent event) {
+            if (event.getEventSource() == EventSource.THREAD) {
+                record("gravity");
+                gravityDrops.incrementAndGet();
+                onGravity.run();
+            } else {
+                record("down");
+            }
+        }
+
+        @Override
+        public void onLeftEvent(MoveEvent event) {
+            record("left");
+        }
+
+        @Override
+        public void onRightEvent(MoveEvent event) {
+            record("right");
+        }
+
+        @Override
+        public void onSlideEvent(MoveEvent event) {
+            record("slide");
+        }
+
+        @Override
+        public void onRotateEvent(MoveEvent event) {
+            record("rotate");
+        }
+
+        @Override
+        public void onInstantDropEvent(MoveEvent event) {
+            record("drop");
+        }
+
+        @Override
+        public void createNewGame() {
+            record("new game");
+        }
+
+        @Override
+        public void setLevel(GameLevel level) {
+            record("level");
+        }
+    }
+
+    private record PublishedListener(List<BoardDelta> deltas, List<ClearRow> clears) implements GameEventListener {
+        @Override
+        public void onGameInitialized(GameStateSnapshot snapshot) {
+        }
+
+        @Override
+        public void onScoreChanged(ScoreChangeEvent event) {
+        }
+
+        @Override
+        public void onBrickUpdated(ViewData viewData) {
+        }
+
+        @Override
+        public void onBoardUpdated(int[][] boardMatrix) {
+        }
+
+        @Override
+        public void onBoardDelta(BoardDelta delta) {
+            deltas.add(delta);
+        }
+
+        @Override
+        public void onLinesCleared(ClearRow clearRow) {
+            clears.add(clearRow);
+        }
+
+        @Override
+        public void onGameOver() {
+        }
+
+        @Override
+        public void onBrickPlaced(BrickPlacedEvent event) {
+        }
+    }
+}
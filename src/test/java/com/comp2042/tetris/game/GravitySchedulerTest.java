@@ -0,0 +1,80 @@
+package com.comp2042.tetris.game;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GravitySchedulerTest {
+
+    @Test
+    void dropsOncePerInterval() {
+        GravityScheduler gravity = new GravityScheduler(100);
+
+        assertEquals(0, gravity.advance(99));
+        assertEquals(1, gravity.advance(1));
+        assertEquals(0, gravity.advance(50));
+        assertEquals(50, gravity.getNanosUntilNextDrop());
+    }
+
+    @Test
+    void remainderCarriesOverSoTheAverageRateIsExact() {
+        GravityScheduler gravity = new GravityScheduler(30);
+        int drops = 0;
+        for (int step = 0; step < 90; step++) {
+            drops += gravity.advance(7);
+        }
+
+        // 630 nanoseconds hold exactly 21 intervals of 30
+        assertEquals(21, drops);
+    }
+
+    @Test
+    void aLongStepReturnsEveryDropDue() {
+        GravityScheduler gravity = new GravityScheduler(10);
+
+        assertEquals(3, gravity.advance(35));
+        assertEquals(5, gravity.getNanosUntilNextDrop());
+    }
+
+    @Test
+    void changingTheIntervalKeepsTheElapsedTime() {
+        GravityScheduler gravity = new GravityScheduler(100);
+        gravity.advance(60);
+
+        gravity.setIntervalNanos(80);
+        assertEquals(20, gravity.getNanosUntilNextDrop());
+
+        gravity.setIntervalNanos(50);
+        assertEquals(0, gravity.getNanosUntilNextDrop());
+        assertEquals(1, gravity.advance(0));
+        assertEquals(40, gravity.getNanosUntilNextDrop());
+    }
+
+    @Test
+    void resetStartsAFullInterval() {
+        GravityScheduler gravity = new GravityScheduler(100);
+        gravity.advance(90);
+
+        gravity.reset();
+
+        assertEquals(100, gravity.getNanosUntilNextDrop());
+        assertEquals(0, gravity.advance(90));
+    }
+
+    @Test
+    void negativeStepsAreIgnored() {
+        GravityScheduler gravity = new GravityScheduler(100);
+        gravity.advance(50);
+
+        assertEquals(0, gravity.advance(-500));
+        assertEquals(50, gravity.getNanosUntilNextDrop());
+    }
+
+    @Test
+    void rejectsNonPositiveIntervals() {
+        assertThrows(IllegalArgumentException.class, () -> new GravityScheduler(0));
+        GravityScheduler gravity = new GravityScheduler(1);
+        assertThrows(IllegalArgumentException.class, () -> gravity.setIntervalNanos(-1));
+        assertEquals(1, gravity.getIntervalNanos());
+    }
+}
@@ -0,0 +1,86 @@
+package com.comp2042.tetris.model.board;
+
+import com.comp2042.tetris.model.bricks.BrickRotator;
+import com.comp2042.tetris.model.bricks.BrickType;
+import com.comp2042.tetris.model.bricks.RandomBrickGenerator;
+import com.comp2042.tetris.model.score.Score;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Verifies that moving and rotating the active brick allocates nothing,
+ * using the per-thread allocation counter of the HotSpot ThreadMXBean.
+ */
+class ActivePieceAllocationTest {
+
+    private static final int ITERATIONS = 10_000;
+    private static final int WARMUP_ROUNDS = 30;
+    private static final int MEASURED_ROUNDS = 3;
+
+    private com.sun.management.ThreadMXBean threadBean;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "allocation counters not available on this JVM");
+        threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "allocation counters not supported");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    void simpleBoardMovesAndRotatesWithoutAllocating() {
+        assertNoAllocation(new SimpleBoard(23, 13, tBrickGenerator(), new BrickRotator(), new Score()));
+    }
+
+    @Test
+    void bitBoardMovesAndRotatesWithoutAllocating() {
+        assertNoAllocation(new BitBoard(23, 13, tBrickGenerator(), new BrickRotator(), new Score()));
+    }
+
+    private void assertNoAllocation(Board board) {
+        board.newGame();
+        // Warm up so class loading, lazy initialisation and JIT compilation are not counted.
+        // Each round also drops the brick a row, so it reaches the floor before the measured
+        // round and no newly taken branch deoptimises compiled code while it is counted
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            exercise(board);
+        }
+
+        long start = threadBean.getCurrentThreadAllocatedBytes();
+        long overhead = threadBean.getCurrentThreadAllocatedBytes() - start;
+        // An allocating move or rotation shows in every round; a deoptimisation caused by
+        // profiles other tests left behind only shows in one, so the least is asserted
+        long least = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            start = threadBean.getCurrentThreadAllocatedBytes();
+            exercise(board);
+            least = Math.min(least, threadBean.getCurrentThreadAllocatedBytes() - start);
+        }
+
+        assertEquals(0L, Math.max(0L, least - overhead),
+                "bytes allocated by " + ITERATIONS + " move/rotate rounds");
+    }
+
+    private static void exercise(Board board) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            board.moveBrickLeft();
+            board.rotateLeftBrick();
+            board.moveBrickRight();
+            board.moveBrickRight();
+            board.moveBrickLeft();
+        }
+        board.moveBrickDown();
+    }
+
+    private static RandomBrickGenerator tBrickGenerator() {
+        return new RandomBrickGenerator(prototypes -> new ArrayDeque<>(List.of(BrickType.T)), 1);
+    }
+}
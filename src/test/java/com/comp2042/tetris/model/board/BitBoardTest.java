@@ -0,0 +1,247 @@
+package com.comp2042.tetris.model.board;
+
+import com.comp2042.tetris.model.bricks.Brick;
+import com.comp2042.tetris.model.bricks.BrickBagPolicy;
+import com.comp2042.tetris.model.bricks.BrickRotator;
+import com.comp2042.tetris.model.bricks.RandomBrickGenerator;
+import com.comp2042.tetris.model.data.ViewData;
+import com.comp2042.tetris.model.score.Score;
+import com.comp2042.tetris.utils.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitBoardTest {
+
+    @Test
+    void rejectsBoardsWiderThanRowMask() {
+        assertThrows(IllegalArgumentException.class, () -> new BitBoard(10, BitBoard.MAX_COLS + 1));
+        assertThrows(IllegalArgumentException.class, () -> new BitBoard(0, 10));
+    }
+
+    @Test
+    void newGameSpawnsBrickOnEmptyBoard() {
+        BitBoard board = createBitBoard(23, 13, 1L);
+        board.newGame();
+
+        ViewData view = board.getViewData();
+        assertEquals(1, view.getYPosition());
+        for (int[] row : board.getBoardMatrix()) {
+            for (int cell : row) {
+                assertEquals(0, cell);
+            }
+        }
+    }
+
+    @Test
+    void clearRowsRemovesFullGarbageRowAndKeepsPartialRows() {
+        BitBoard board = createBitBoard(8, 4, 1L);
+        board.newGame();
+        board.addRows(new int[][]{{1, 0, 1, 1}, {2, 2, 2, 2}});
+
+        ClearRow clearRow = board.clearRows();
+
+        assertEquals(1, clearRow.linesRemoved());
+        assertEquals(List.of(7), clearRow.clearedRows());
+        int[][] matrix = board.getBoardMatrix();
+        assertArrayEquals(new int[]{1, 0, 1, 1}, matrix[7]);
+        assertArrayEquals(new int[]{0, 0, 0, 0}, matrix[6]);
+    }
+
+    @Test
+    void supportsFullWidthRowMask() {
+        BitBoard board = createBitBoard(6, BitBoard.MAX_COLS, 3L);
+        board.newGame();
+        int[] full = new int[BitBoard.MAX_COLS];
+        Arrays.fill(full, 3);
+        board.addRows(new int[][]{full});
+
+        assertEquals(1, board.clearRows().linesRemoved());
+    }
+
+    @Test
+    void boardViewExposesOccupancyMasks() {
+        BitBoard board = createBitBoard(8, 4, 1L);
+        board.newGame();
+        long version = board.getBoardView().version();
+
+        board.addRows(new int[][]{{1, 0, 1, 1}});
+
+        BoardView view = board.getBoardView();
+        assertEquals(0b1101L, view.rowMask(7));
+        assertEquals(1, view.cell(7, 0));
+        assertEquals(version + 1, view.version());
+    }
+
+    @Test
+    void matchesSimpleBoardForRandomisedPlay() {
+        for (long seed = 1; seed <= 20; seed++) {
+            Board reference = new SimpleBoard(23, 13, generator(seed), new BrickRotator(), new Score());
+            Board bitBoard = createBitBoard(23, 13, seed);
+            reference.newGame();
+            bitBoard.newGame();
+
+            Random actions = new Random(seed * 31);
+            for (int step = 0; step < 2_000; step++) {
+                int action = actions.nextInt(6);
+                switch (action) {
+                    case 0 -> assertEquals(reference.moveBrickLeft(), bitBoard.moveBrickLeft());
+                    case 1 -> assertEquals(reference.moveBrickRight(), bitBoard.moveBrickRight());
+                    case 2 -> assertEquals(reference.rotateLeftBrick(), bitBoard.rotateLeftBrick());
+                    case 3 -> {
+                        int[][] garbage = {randomGarbageRow(actions, 13)};
+                        reference.addRows(garbage);
+                        bitBoard.addRows(garbage);
+                    }
+                    default -> {
+                        boolean moved = reference.moveBrickDown();
+                        assertEquals(moved, bitBoard.moveBrickDown());
+                        if (!moved) {
+                            reference.mergeBrickToBackground();
+                            bitBoard.mergeBrickToBackground();
+                            ClearRow expected = reference.clearRows();
+                            ClearRow actual = bitBoard.clearRows();
+                            assertEquals(expected.linesRemoved(), actual.linesRemoved());
+                            assertEquals(expected.clearedRows(), actual.clearedRows());
+                            assertNoFullRows(reference, seed, step);
+                            boolean gameOver = reference.createNewBrick();
+                            assertEquals(gameOver, bitBoard.createNewBrick());
+                            if (gameOver) {
+                                reference.newGame();
+                                bitBoard.newGame();
+                            }
+                        }
+                    }
+                }
+                assertSameState(reference, bitBoard, seed, step);
+                assertEquals(reference.getStateHash(), bitBoard.getStateHash(), "seed " + seed + ", step " + step);
+                assertArrayEquals(reference.getBoardView().snapshot(), bitBoard.getBoardView().snapshot());
+                BoardDelta expectedDelta = reference.takeBoardDelta();
+                BoardDelta actualDelta = bitBoard.takeBoardDelta();
+                assertEquals(expectedDelta.isEmpty(), actualDelta.isEmpty(), "seed " + seed + ", step " + step);
+                if (!expectedDelta.isEmpty()) {
+                    assertEquals(expectedDelta.firstRow(), actualDelta.firstRow(), "seed " + seed + ", step " + step);
+                    assertEquals(expectedDelta.lastRow(), actualDelta.lastRow(), "seed " + seed + ", step " + step);
+                }
+            }
+        }
+    }
+
+    @Test
+    void resumesAStateSavedBySimpleBoard() {
+        SimpleBoard original = new SimpleBoard(23, 13, new RandomBrickGenerator(new GameRandom(3L)), new BrickRotator(), new Score());
+        original.newGame();
+        for (int brick = 0; brick < 12; brick++) {
+            original.moveBrickLeft();
+            original.rotateLeftBrick();
+            original.hardDropBrick();
+            original.mergeBrickToBackground();
+            original.clearRows();
+            original.createNewBrick();
+        }
+        original.getScore().add(42);
+
+        BitBoard restored = new BitBoard(23, 13, new RandomBrickGenerator(new GameRandom(9L)), new BrickRotator(), new Score());
+        assertTrue(restored.supportsStateSave());
+        restored.restoreState(original.saveState());
+
+        assertEquals(42, restored.getScore().getValue());
+        assertEquals(original.getStateHash(), restored.getStateHash());
+        assertEquals(ZobristHash.of(restored.saveState()), restored.getStateHash());
+        for (int step = 0; step < 30; step++) {
+            assertSameState(original, restored, 3L, step);
+            for (Board board : List.of(original, restored)) {
+                board.moveBrickRight();
+                board.hardDropBrick();
+                board.mergeBrickToBackground();
+                board.clearRows();
+                board.createNewBrick();
+            }
+            assertEquals(original.getStateHash(), restored.getStateHash());
+        }
+    }
+
+    @Test
+    void slidesMatchRepeatedSingleMoves() {
+        for (long seed = 1; seed <= 20; seed++) {
+            Board reference = new SimpleBoard(23, 13, generator(seed), new BrickRotator(), new Score());
+            Board bitBoard = createBitBoard(23, 13, seed);
+            reference.newGame();
+            bitBoard.newGame();
+
+            Random actions = new Random(seed * 17);
+            for (int step = 0; step < 200; step++) {
+                int[][] garbage = {randomGarbageRow(actions, 13)};
+                reference.addRows(garbage);
+                bitBoard.addRows(garbage);
+                reference.moveBrickDown();
+                bitBoard.moveBrickDown();
+                if (actions.nextBoolean()) {
+                    int moved = 0;
+                    while (reference.moveBrickLeft()) {
+                        moved++;
+                    }
+                    assertEquals(moved, bitBoard.slideBrickLeft(), "seed " + seed + ", step " + step);
+                } else {
+                    int moved = 0;
+                    while (reference.moveBrickRight()) {
+                        moved++;
+                    }
+                    assertEquals(moved, bitBoard.slideBrickRight(), "seed " + seed + ", step " + step);
+                }
+                assertSameState(reference, bitBoard, seed, step);
+                if (step % 10 == 9) {
+                    reference.newGame();
+                    bitBoard.newGame();
+                }
+            }
+        }
+    }
+
+    private static void assertNoFullRows(Board board, long seed, int step) {
+        for (int[] row : board.getBoardMatrix()) {
+            assertTrue(Arrays.stream(row).anyMatch(cell -> cell == 0), "full row left behind, seed " + seed + ", step " + step);
+        }
+    }
+
+    private static void assertSameState(Board expected, Board actual, long seed, int step) {
+        String context = "seed " + seed + ", step " + step;
+        assertArrayEquals(expected.getBoardMatrix(), actual.getBoardMatrix(), context);
+        ViewData expectedView = expected.getViewData();
+        ViewData actualView = actual.getViewData();
+        assertEquals(expectedView.getXPosition(), actualView.getXPosition(), context);
+        assertEquals(expectedView.getYPosition(), actualView.getYPosition(), context);
+        assertEquals(expectedView.getGhostYPosition(), actualView.getGhostYPosition(), context);
+        assertArrayEquals(expectedView.getBrickData(), actualView.getBrickData(), context);
+    }
+
+    private static int[] randomGarbageRow(Random random, int cols) {
+        int[] row = new int[cols];
+        int hole = random.nextInt(cols);
+        for (int col = 0; col < cols; col++) {
+            row[col] = col == hole ? 0 : 8;
+        }
+        return row;
+    }
+
+    private static BitBoard createBitBoard(int rows, int cols, long seed) {
+        return new BitBoard(rows, cols, generator(seed), new BrickRotator(), new Score());
+    }
+
+    private static RandomBrickGenerator generator(long seed) {
+        Random random = new Random(seed);
+        BrickBagPolicy seededPolicy = prototypes -> {
+            List<Brick> bag = new ArrayList<>(prototypes);
+            Collections.shuffle(bag, random);
+            return new ArrayDeque<>(bag);
+        };
+        return new RandomBrickGenerator(seededPolicy, 3);
+    }
+}
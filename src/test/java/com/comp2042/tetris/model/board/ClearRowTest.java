@@ -31,6 +31,25 @@ class ClearRowTest {
             assertEquals(clearedRows, clearRow.clearedRows());
         }
 
+        @Test
+        @DisplayName("Primitive indices are exposed as a boxed list view")
+        void constructor_withPrimitiveIndices() {
+            ClearRow clearRow = new ClearRow(2, new int[][]{{0}}, 200, new int[]{3, 7});
+
+            assertArrayEquals(new int[]{3, 7}, clearRow.clearedRowIndices());
+            assertEquals(List.of(3, 7), clearRow.clearedRows());
+        }
+
+        @Test
+        @DisplayName("clearedRowIndices returns defensive copy")
+        void clearedRowIndices_returnsDefensiveCopy() {
+            ClearRow clearRow = new ClearRow(1, new int[][]{{0}}, 50, new int[]{4});
+
+            clearRow.clearedRowIndices()[0] = 99;
+
+            assertArrayEquals(new int[]{4}, clearRow.clearedRowIndices());
+        }
+
         @Test
         @DisplayName("Constructor accepts zero lines removed")
         void constructor_acceptsZeroLines() {
@@ -1,5 +1,6 @@
 package com.comp2042.tetris.model.board;
 
+import com.comp2042.tetris.utils.GameRandom;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -89,5 +90,56 @@ class GarbageMechanicTest {
         garbageMechanic.reset();
         assertFalse(garbageMechanic.isEnabled());
     }
-}
 
+    @Test
+    void garbageFollowsGameTimeNotWallClock() {
+        garbageMechanic.enable();
+
+        garbageMechanic.advance(29_999);
+        assertEquals(0, garbageMechanic.checkAndGetRowsToAdd());
+
+        garbageMechanic.advance(15_001);
+        int rows = garbageMechanic.checkAndGetRowsToAdd();
+        assertTrue(rows == 1 || rows == 2);
+        assertEquals(rows, garbageMechanic.getRowsIssued());
+        // The next batch is scheduled at least 30 seconds later
+        assertEquals(0, garbageMechanic.checkAndGetRowsToAdd());
+    }
+
+    @Test
+    void sameSeedProducesSameGarbage() {
+        GarbageMechanic first = new GarbageMechanic(new GameRandom(11L));
+        GarbageMechanic second = new GarbageMechanic(new GameRandom(11L));
+        first.enable();
+        second.enable();
+
+        for (int elapsed = 0; elapsed < 600; elapsed++) {
+            first.advance(1_000);
+            second.advance(1_000);
+            assertEquals(first.checkAndGetRowsToAdd(), second.checkAndGetRowsToAdd());
+            assertArrayEquals(first.generateGarbageRow(10), second.generateGarbageRow(10));
+        }
+        assertTrue(first.getRowsIssued() > 0);
+    }
+
+    @Test
+    void restoredStateContinuesTheSameSchedule() {
+        GarbageMechanic original = new GarbageMechanic(new GameRandom(11L));
+        original.enable();
+        original.advance(100_000);
+        original.checkAndGetRowsToAdd();
+        GarbageMechanic.State saved = original.saveState();
+
+        GarbageMechanic restored = new GarbageMechanic(new GameRandom(11L));
+        restored.restoreState(saved);
+
+        assertTrue(restored.isEnabled());
+        assertEquals(original.getRowsIssued(), restored.getRowsIssued());
+        for (int elapsed = 0; elapsed < 300; elapsed++) {
+            original.advance(1_000);
+            restored.advance(1_000);
+            assertEquals(original.checkAndGetRowsToAdd(), restored.checkAndGetRowsToAdd());
+            assertArrayEquals(original.generateGarbageRow(10), restored.generateGarbageRow(10));
+        }
+    }
+}
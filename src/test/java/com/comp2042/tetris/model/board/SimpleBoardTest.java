@@ -3,10 +3,12 @@ package com.comp2042.tetris.model.board;
 import com.comp2042.tetris.model.bricks.Brick;
 import com.comp2042.tetris.model.bricks.BrickGenerator;
 import com.comp2042.tetris.model.bricks.BrickRotator;
+import com.comp2042.tetris.model.bricks.RandomBrickGenerator;
 import com.comp2042.tetris.model.bricks.RotationStrategy;
 import com.comp2042.tetris.model.bricks.StandardRotationStrategy;
 import com.comp2042.tetris.model.data.ViewData;
 import com.comp2042.tetris.model.score.Score;
+import com.comp2042.tetris.utils.GameRandom;
 import com.comp2042.tetris.utils.MatrixOperations;
 import org.junit.jupiter.api.Test;
 
@@ -69,6 +71,21 @@ class SimpleBoardTest {
         assertEquals(view.getXPosition(), board.getViewData().getXPosition());
     }
 
+    @Test
+    void slideBrickMovesUntilTheWallOrABlock() {
+        SimpleBoard board = createBoard(6, 6, SINGLE_SHAPE, new StandardRotationStrategy());
+        assertFalse(board.createNewBrick());
+        ViewData view = board.getViewData();
+        int[][] matrix = accessMatrix(board);
+        matrix[view.getYPosition()][5] = 3;
+
+        assertEquals(4 - view.getXPosition(), board.slideBrickRight());
+        assertEquals(4, board.getViewData().getXPosition());
+        assertEquals(0, board.slideBrickRight());
+        assertEquals(4, board.slideBrickLeft());
+        assertEquals(0, board.getViewData().getXPosition());
+    }
+
     @Test
     void rotateLeftBrickChangesShapeWhenRotationPossible() {
         SimpleBoard board = createBoard(6, 6, LINE_SHAPES, new StandardRotationStrategy());
@@ -103,11 +120,8 @@ class SimpleBoardTest {
     void clearRowsRemovesFilledLinesAndUpdatesMatrix() {
         SimpleBoard board = createBoard(6, 4, SINGLE_SHAPE, new StandardRotationStrategy());
         assertFalse(board.createNewBrick());
-        int[][] matrix = accessMatrix(board);
-        int bottomRow = matrix.length - 1;
-        for (int col = 0; col < matrix[bottomRow].length; col++) {
-            matrix[bottomRow][col] = 4;
-        }
+        int bottomRow = 5;
+        board.addRows(new int[][]{{4, 4, 4, 4}});
 
         ClearRow clearRow = board.clearRows();
         assertEquals(1, clearRow.linesRemoved());
@@ -117,6 +131,127 @@ class SimpleBoardTest {
         }
     }
 
+    @Test
+    void clearRowsCompactsMatrixInPlaceAndReportsIndices() {
+        SimpleBoard board = createBoard(6, 3, SINGLE_SHAPE, new StandardRotationStrategy());
+        assertFalse(board.createNewBrick());
+        int[][] matrix = accessMatrix(board);
+        board.addRows(new int[][]{{0, 4, 0}, {3, 3, 3}, {2, 0, 2}, {1, 1, 1}});
+
+        ClearRow clearRow = board.clearRows();
+
+        assertSame(matrix, accessMatrix(board));
+        assertArrayEquals(new int[]{3, 5}, clearRow.clearedRowIndices());
+        int[][] updated = board.getBoardMatrix();
+        assertArrayEquals(new int[]{2, 0, 2}, updated[5]);
+        assertArrayEquals(new int[]{0, 4, 0}, updated[4]);
+        assertArrayEquals(new int[]{0, 0, 0}, updated[0]);
+        assertArrayEquals(new int[]{0, 0, 0}, updated[1]);
+    }
+
+    @Test
+    void clearRowsWithoutFullRowsReportsNothing() {
+        SimpleBoard board = createBoard(6, 3, SINGLE_SHAPE, new StandardRotationStrategy());
+        assertFalse(board.createNewBrick());
+
+        ClearRow clearRow = board.clearRows();
+
+        assertEquals(0, clearRow.linesRemoved());
+        assertEquals(0, clearRow.clearedRowIndices().length);
+    }
+
+    @Test
+    void boardViewReadsLiveCellsAndTracksVersion() {
+        SimpleBoard board = createBoard(6, 4, SINGLE_SHAPE, new StandardRotationStrategy());
+        assertFalse(board.createNewBrick());
+        BoardView view = board.getBoardView();
+        long initialVersion = view.version();
+        ViewData brick = board.getViewData();
+
+        board.mergeBrickToBackground();
+
+        assertSame(view, board.getBoardView());
+        assertEquals(4, view.width());
+        assertEquals(6, view.height());
+        assertEquals(1, view.cell(brick.getYPosition(), brick.getXPosition()));
+        assertEquals(1L << brick.getXPosition(), view.rowMask(brick.getYPosition()));
+        assertTrue(view.version() > initialVersion);
+        assertArrayEquals(board.getBoardMatrix(), view.snapshot());
+        assertNotSame(view.snapshot(), view.snapshot());
+    }
+
+    @Test
+    void boardDeltaReportsOnlyTheRowsThatChanged() {
+        SimpleBoard board = createBoard(6, 4, SINGLE_SHAPE, new StandardRotationStrategy());
+        assertFalse(board.createNewBrick());
+        BoardDelta initial = board.takeBoardDelta();
+        assertTrue(initial.isFullResync());
+        while (board.moveBrickDown()) {
+            // drop to the floor
+        }
+        ViewData brick = board.getViewData();
+
+        board.mergeBrickToBackground();
+        BoardDelta merged = board.takeBoardDelta();
+
+        assertTrue(merged.follows(initial.toVersion()));
+        assertEquals(board.getBoardView().version(), merged.toVersion());
+        assertEquals(brick.getYPosition(), merged.firstRow());
+        assertEquals(brick.getYPosition(), merged.lastRow());
+
+        BoardDelta unchanged = board.takeBoardDelta();
+        assertTrue(unchanged.isEmpty());
+        assertEquals(merged.toVersion(), unchanged.fromVersion());
+
+        board.addRows(new int[][]{{1, 1, 1, 1}});
+        BoardDelta garbage = board.takeBoardDelta();
+        assertEquals(4, garbage.firstRow());
+        assertEquals(5, garbage.lastRow());
+
+        board.clearRows();
+        BoardDelta cleared = board.takeBoardDelta();
+        // Only the stack moves; the empty rows above it are not reported
+        assertEquals(4, cleared.firstRow());
+        assertEquals(5, cleared.lastRow());
+    }
+
+    @Test
+    void restoredStateResumesTheSameGame() {
+        SimpleBoard original = new SimpleBoard(40, 10, new RandomBrickGenerator(new GameRandom(3L)), new BrickRotator(), new Score());
+        original.newGame();
+        for (int brick = 0; brick < 12; brick++) {
+            original.moveBrickLeft();
+            original.rotateLeftBrick();
+            original.hardDropBrick();
+            original.mergeBrickToBackground();
+            original.clearRows();
+            original.createNewBrick();
+        }
+        original.moveBrickRight();
+        original.getScore().add(42);
+        Board.State saved = original.saveState();
+
+        SimpleBoard restored = new SimpleBoard(40, 10, new RandomBrickGenerator(new GameRandom(3L)), new BrickRotator(), new Score());
+        restored.restoreState(saved);
+
+        assertArrayEquals(original.getBoardMatrix(), restored.getBoardMatrix());
+        assertEquals(42, restored.getScore().getValue());
+        for (int brick = 0; brick < 30; brick++) {
+            ViewData expected = original.getViewData();
+            ViewData actual = restored.getViewData();
+            assertArrayEquals(expected.getBrickData(), actual.getBrickData());
+            assertEquals(expected.getXPosition(), actual.getXPosition());
+            assertEquals(expected.getGhostYPosition(), actual.getGhostYPosition());
+            for (Board board : List.of(original, restored)) {
+                board.hardDropBrick();
+                board.mergeBrickToBackground();
+                board.clearRows();
+                board.createNewBrick();
+            }
+        }
+        assertArrayEquals(original.getBoardMatrix(), restored.getBoardMatrix());
+    }
+
     @Test
     void createNewBrickCentersPieceAndReportsNoCollision() {
         SimpleBoard board = createBoard(6, 6, SINGLE_SHAPE, new StandardRotationStrategy());
@@ -225,10 +360,7 @@ class SimpleBoardTest {
         int[][] matrix = accessMatrix(board);
         int bottomRow = matrix.length - 1;
         int secondBottomRow = matrix.length - 2;
-        for (int col = 0; col < matrix[bottomRow].length; col++) {
-            matrix[bottomRow][col] = 5;
-            matrix[secondBottomRow][col] = 6;
-        }
+        board.addRows(new int[][]{{6, 6, 6, 6}, {5, 5, 5, 5}});
 
         // Add one garbage row
         int[][] garbageRows = new int[1][];
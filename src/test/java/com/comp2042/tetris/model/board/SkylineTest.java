@@ -0,0 +1,115 @@
+package com.comp2042.tetris.model.board;
+
+import com.comp2042.tetris.model.bricks.Brick;
+import com.comp2042.tetris.model.bricks.BrickBagPolicy;
+import com.comp2042.tetris.model.bricks.BrickRotator;
+import com.comp2042.tetris.model.bricks.BrickType;
+import com.comp2042.tetris.model.bricks.RandomBrickGenerator;
+import com.comp2042.tetris.model.data.ViewData;
+import com.comp2042.tetris.model.score.Score;
+import com.comp2042.tetris.utils.MatrixOperations;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkylineTest {
+
+    @Test
+    void landingRowFollowsBottomProfile() {
+        Skyline skyline = new Skyline(10, 4);
+        int[][] matrix = new int[10][4];
+        matrix[9][0] = 1;
+        matrix[7][2] = 1;
+        skyline.onRowsAdded(matrix, 3);
+
+        assertEquals(9, skyline.top(0));
+        assertEquals(10, skyline.top(1));
+        assertEquals(7, skyline.top(2));
+
+        // Vertical I brick in shape column 1 lands on the empty column 1 floor
+        assertEquals(6, skyline.landingY(BrickType.I.getRotationStates().get(1), 0, 0));
+        // Horizontal I brick (row 1 of its matrix) rests on the highest of the four columns
+        assertEquals(5, skyline.landingY(BrickType.I.getRotationStates().get(0), 0, 0));
+    }
+
+    @Test
+    void reportsBelowSurfaceWhenBrickIsUnderAnOverhang() {
+        Skyline skyline = new Skyline(10, 4);
+        skyline.onMerged(BrickType.O.getRotationStates().get(0), 0, 2);
+
+        assertEquals(Skyline.BELOW_SURFACE, skyline.landingY(BrickType.O.getRotationStates().get(0), 0, 3));
+    }
+
+    @Test
+    void ghostAndHardDropMatchRowByRowProbeOnBothBoards() {
+        for (long seed = 1; seed <= 10; seed++) {
+            assertGhostMatchesProbe(new SimpleBoard(40, 10, generator(seed), new BrickRotator(), new Score()), seed);
+            assertGhostMatchesProbe(new BitBoard(40, 10, generator(seed), new BrickRotator(), new Score()), seed);
+        }
+    }
+
+    private static void assertGhostMatchesProbe(Board board, long seed) {
+        board.newGame();
+        Random random = new Random(seed);
+        for (int step = 0; step < 1_500; step++) {
+            switch (random.nextInt(7)) {
+                case 0 -> board.moveBrickLeft();
+                case 1 -> board.moveBrickRight();
+                case 2 -> board.rotateLeftBrick();
+                case 3 -> {
+                    int[] garbage = new int[10];
+                    for (int col = 0; col < garbage.length; col++) {
+                        garbage[col] = random.nextInt(3) == 0 ? 0 : 8;
+                    }
+                    board.addRows(new int[][]{garbage});
+                }
+                case 4 -> {
+                    ViewData view = board.getViewData();
+                    int dropped = board.hardDropBrick();
+                    assertEquals(view.getGhostYPosition() - view.getYPosition(), dropped, "seed " + seed);
+                    assertFalse(board.moveBrickDown());
+                    lockAndSpawn(board);
+                }
+                default -> {
+                    if (!board.moveBrickDown()) {
+                        lockAndSpawn(board);
+                    }
+                }
+            }
+            ViewData view = board.getViewData();
+            assertEquals(probeGhost(board.getBoardMatrix(), view), view.getGhostYPosition(), "seed " + seed + ", step " + step);
+        }
+    }
+
+    private static void lockAndSpawn(Board board) {
+        board.mergeBrickToBackground();
+        board.clearRows();
+        if (board.createNewBrick()) {
+            board.newGame();
+        }
+    }
+
+    private static int probeGhost(int[][] matrix, ViewData view) {
+        int ghostY = view.getYPosition();
+        while (!MatrixOperations.intersect(matrix, view.getBrickData(), view.getXPosition(), ghostY + 1)) {
+            ghostY++;
+        }
+        return ghostY;
+    }
+
+    private static RandomBrickGenerator generator(long seed) {
+        Random random = new Random(seed);
+        BrickBagPolicy seededPolicy = prototypes -> {
+            List<Brick> bag = new ArrayList<>(prototypes);
+            Collections.shuffle(bag, random);
+            return new ArrayDeque<>(bag);
+        };
+        return new RandomBrickGenerator(seededPolicy, 3);
+    }
+}
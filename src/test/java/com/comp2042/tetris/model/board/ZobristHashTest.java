@@ -0,0 +1,115 @@
+package com.comp2042.tetris.model.board;
+
+import com.comp2042.tetris.model.bricks.BrickRotator;
+import com.comp2042.tetris.model.bricks.RandomBrickGenerator;
+import com.comp2042.tetris.model.score.Score;
+import com.comp2042.tetris.utils.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZobristHashTest {
+
+    @Test
+    void incrementalHashMatchesHashFromScratch() {
+        for (long seed = 1; seed <= 5; seed++) {
+            SimpleBoard board = board(seed);
+            board.newGame();
+            Random random = new Random(seed);
+            int cleared = 0;
+            for (int step = 0; step < 2_000; step++) {
+                cleared += play(board, random);
+                assertEquals(ZobristHash.of(board.saveState()), board.getStateHash(), "seed " + seed + ", step " + step);
+            }
+            assertTrue(cleared > 0, "the session should exercise row clears");
+        }
+    }
+
+    @Test
+    void sameGameHashesEquallyOnEveryBoard() {
+        SimpleBoard first = board(7);
+        SimpleBoard second = board(7);
+        first.newGame();
+        second.newGame();
+        Random firstMoves = new Random(3);
+        Random secondMoves = new Random(3);
+        for (int step = 0; step < 500; step++) {
+            play(first, firstMoves);
+            play(second, secondMoves);
+            assertEquals(first.getStateHash(), second.getStateHash(), "step " + step);
+        }
+    }
+
+    @Test
+    void movingOrRotatingChangesTheHash() {
+        SimpleBoard board = board(11);
+        board.newGame();
+        Set<Long> seen = new HashSet<>();
+        seen.add(board.getStateHash());
+
+        assertTrue(board.moveBrickLeft());
+        assertTrue(seen.add(board.getStateHash()));
+        assertTrue(board.moveBrickDown());
+        assertTrue(seen.add(board.getStateHash()));
+        assertTrue(board.rotateLeftBrick());
+        assertTrue(seen.add(board.getStateHash()));
+    }
+
+    @Test
+    void restoredStateHashesLikeTheOriginal() {
+        SimpleBoard original = board(5);
+        original.newGame();
+        Random random = new Random(5);
+        for (int step = 0; step < 800; step++) {
+            play(original, random);
+        }
+        SimpleBoard restored = board(99);
+        restored.newGame();
+
+        restored.restoreState(original.saveState());
+
+        assertEquals(original.getStateHash(), restored.getStateHash());
+    }
+
+    private static int play(SimpleBoard board, Random random) {
+        switch (random.nextInt(8)) {
+            case 0 -> board.moveBrickLeft();
+            case 1 -> board.moveBrickRight();
+            case 2 -> board.rotateLeftBrick();
+            case 3 -> {
+                int[] garbage = new int[10];
+                for (int col = 0; col < garbage.length; col++) {
+                    garbage[col] = random.nextInt(4) == 0 ? 0 : 8;
+                }
+                board.addRows(new int[][]{garbage});
+            }
+            case 4 -> {
+                board.hardDropBrick();
+                return lockAndSpawn(board);
+            }
+            default -> {
+                if (!board.moveBrickDown()) {
+                    return lockAndSpawn(board);
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static int lockAndSpawn(SimpleBoard board) {
+        board.mergeBrickToBackground();
+        int cleared = board.clearRows().linesRemoved();
+        if (board.createNewBrick()) {
+            board.newGame();
+        }
+        return cleared;
+    }
+
+    private static SimpleBoard board(long seed) {
+        return new SimpleBoard(40, 10, new RandomBrickGenerator(new GameRandom(seed)), new BrickRotator(), new Score());
+    }
+}
@@ -0,0 +1,59 @@
+package com.comp2042.tetris.model.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RotationStateTest {
+
+    @Test
+    void computesExtentsMasksAndCellsForHorizontalIBrick() {
+        RotationState state = BrickType.I.getRotationStates().get(0);
+
+        assertEquals(0, state.leftExtent());
+        assertEquals(3, state.rightExtent());
+        assertEquals(1, state.topExtent());
+        assertEquals(1, state.bottomExtent());
+        assertEquals(0b1111L, state.rowMask(1));
+        assertEquals(0L, state.rowMask(0));
+        assertEquals(0b1111L << RotationState.PACKED_ROW_STRIDE, state.packedMask());
+        assertEquals(4, state.cellCount());
+        for (int cell = 0; cell < state.cellCount(); cell++) {
+            assertEquals(1, state.cellRow(cell));
+            assertEquals(cell, state.cellCol(cell));
+        }
+    }
+
+    @Test
+    void builtInBricksShareStatesAcrossClones() {
+        for (BrickType type : BrickType.values()) {
+            List<RotationState> states = type.getRotationStates();
+            assertSame(states, type.cloneBrick().getRotationStates());
+            assertEquals(type.getShapeMatrix().size(), states.size());
+            for (int i = 0; i < states.size(); i++) {
+                assertArrayEquals(type.getShapeMatrix().get(i), states.get(i).shape());
+            }
+        }
+    }
+
+    @Test
+    void rotatorReturnsSharedShapeWithoutCopying() {
+        BrickRotator rotator = new BrickRotator();
+        rotator.setBrick(BrickType.T);
+
+        assertSame(rotator.getCurrentShape(), rotator.getCurrentShape());
+        assertSame(BrickType.T.getRotationStates().get(0), rotator.getCurrentState());
+    }
+
+    @Test
+    void stateIsIndependentOfSourceMatrix() {
+        int[][] source = {{0, 2}, {2, 2}};
+        RotationState state = RotationState.of(source);
+        source[0][1] = 0;
+
+        assertEquals(2, state.shape()[0][1]);
+        assertTrue(RotationState.of(new int[][]{{0, 0}}).isEmpty());
+    }
+}
@@ -1,5 +1,6 @@
 package com.comp2042.tetris.model.bricks;
 
+import com.comp2042.tetris.utils.GameRandom;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayDeque;
@@ -40,6 +41,25 @@ class ShuffleBagPolicyTest {
         }
     }
 
+    @Test
+    void seededPoliciesDealTheSameBags() {
+        List<Brick> prototypes = BrickType.prototypes();
+        ShuffleBagPolicy first = new ShuffleBagPolicy(new GameRandom(21L));
+        ShuffleBagPolicy second = new ShuffleBagPolicy(new GameRandom(21L));
+
+        for (int bag = 0; bag < 10; bag++) {
+            assertEquals(brickTypes(first.createBag(prototypes)), brickTypes(second.createBag(prototypes)));
+        }
+    }
+
+    private static List<String> brickTypes(Deque<Brick> bag) {
+        List<String> types = new ArrayList<>();
+        for (Brick brick : bag) {
+            types.add(Arrays.deepToString(brick.getShapeMatrix().get(0)));
+        }
+        return types;
+    }
+
     @Test
     void createBagDoesNotMutatePrototypeList() {
         List<TrackingBrick> prototypes = new ArrayList<>(List.of(new TrackingBrick(10), new TrackingBrick(20)));
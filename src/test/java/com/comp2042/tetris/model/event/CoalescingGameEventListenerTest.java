@@ -0,0 +1,178 @@
+package com.comp2042.tetris.model.event;
+
+import com.comp2042.tetris.model.board.BoardDelta;
+import com.comp2042.tetris.model.board.BoardView;
+import com.comp2042.tetris.model.board.ClearRow;
+import com.comp2042.tetris.model.data.ViewData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingGameEventListenerTest {
+
+    private RecordingListener target;
+    private CoalescingGameEventListener coalescer;
+    private BoardView view;
+
+    @BeforeEach
+    void setUp() {
+        target = new RecordingListener();
+        coalescer = new CoalescingGameEventListener(target);
+        view = BoardView.live(new int[10][4], () -> 0L);
+    }
+
+    @Test
+    void stateIsHeldUntilFlush() {
+        coalescer.onScoreChanged(new ScoreChangeEvent(1));
+        coalescer.onBrickUpdated(viewData(3));
+
+        assertTrue(target.events.isEmpty());
+        coalescer.flush();
+        assertEquals(List.of("brick 3", "score 1"), target.events);
+    }
+
+    @Test
+    void aHardDropReachesTheTargetAsOneScoreUpdate() {
+        for (int row = 1; row <= 20; row++) {
+            coalescer.onScoreChanged(new ScoreChangeEvent(row * 2));
+        }
+        coalescer.flush();
+
+        assertEquals(List.of("score 40"), target.events);
+        assertEquals(19, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    void boardDeltasAreMerged() {
+        coalescer.onBoardDelta(new BoardDelta(1, 2, 5, 6, view));
+        coalescer.onBoardDelta(new BoardDelta(2, 3, 8, 9, view));
+        coalescer.onBoardDelta(new BoardDelta(3, 4, 0, -1, view));
+        coalescer.flush();
+
+        assertEquals(List.of("delta 1->4 rows 5..9"), target.events);
+    }
+
+    @Test
+    void aDeltaThatSkipsAVersionBecomesAFullResync() {
+        coalescer.onBoardDelta(new BoardDelta(1, 2, 5, 6, view));
+        coalescer.onBoardDelta(new BoardDelta(7, 8, 3, 3, view));
+        coalescer.flush();
+
+        assertEquals(List.of("delta -1->8 rows 0..9"), target.events);
+    }
+
+    @Test
+    void aFullBoardUpdateReplacesPendingDeltas() {
+        int[][] matrix = new int[10][4];
+        coalescer.onBoardDelta(new BoardDelta(1, 2, 5, 6, view));
+        coalescer.onBoardUpdated(matrix);
+        coalescer.flush();
+
+        assertEquals(List.of("matrix"), target.events);
+    }
+
+    @Test
+    void linesClearedAndGameOverSeeTheStateBeforeThem() {
+        ClearRow clearRow = new ClearRow(1, new int[1][1], 50, List.of(9));
+        coalescer.onBoardDelta(new BoardDelta(1, 2, 9, 9, view));
+        coalescer.onScoreChanged(new ScoreChangeEvent(50));
+        coalescer.onLinesCleared(clearRow);
+        coalescer.onBrickUpdated(viewData(1));
+        coalescer.onGameOver();
+
+        assertEquals(List.of("delta 1->2 rows 9..9", "score 50", "lines 1", "brick 1", "game over"), target.events);
+    }
+
+    @Test
+    void brickPlacementIsDeliveredAtOnceWithoutFlushing() {
+        coalescer.onScoreChanged(new ScoreChangeEvent(2));
+        coalescer.onBrickPlaced(new BrickPlacedEvent());
+
+        assertEquals(List.of("placed"), target.events);
+        coalescer.flush();
+        assertEquals(List.of("placed", "score 2"), target.events);
+    }
+
+    @Test
+    void flushWithNothingPendingDeliversNothing() {
+        coalescer.flush();
+        coalescer.onBrickUpdated(viewData(1));
+        coalescer.flush();
+        coalescer.flush();
+
+        assertEquals(List.of("brick 1"), target.events);
+    }
+
+    @Test
+    void aReplacedBrickHandsItsInputStampToAnUnstampedOne() {
+        RecordingListener bricks = new RecordingListener() {
+            @Override
+            public void onBrickUpdated(ViewData viewData) {
+                events.add("stamp " + viewData.getInputNanos());
+            }
+        };
+        CoalescingGameEventListener stamped = new CoalescingGameEventListener(bricks);
+
+        stamped.onBrickUpdated(viewData(1).withInputNanos(42));
+        stamped.onBrickUpdated(viewData(2));
+        stamped.flush();
+        stamped.onBrickUpdated(viewData(3).withInputNanos(7));
+        stamped.onBrickUpdated(viewData(4).withInputNanos(9));
+        stamped.flush();
+
+        assertEquals(List.of("stamp 42", "stamp 9"), bricks.events);
+    }
+
+    private static ViewData viewData(int x) {
+        return new ViewData(new int[][]{{1}}, x, 0, new int[][]{{1}});
+    }
+
+    private static class RecordingListener implements GameEventListener {
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onGameInitialized(GameStateSnapshot snapshot) {
+            events.add("initialized");
+        }
+
+        @Override
+        public void onScoreChanged(ScoreChangeEvent event) {
+            events.add("score " + event.newScore());
+        }
+
+        @Override
+        public void onBrickUpdated(ViewData viewData) {
+            events.add("brick " + viewData.getXPosition());
+        }
+
+        @Override
+        public void onBoardUpdated(int[][] boardMatrix) {
+            events.add("matrix");
+        }
+
+        @Override
+        public void onBoardDelta(BoardDelta delta) {
+            events.add("delta " + delta.fromVersion() + "->" + delta.toVersion()
+                    + " rows " + delta.firstRow() + ".." + delta.lastRow());
+        }
+
+        @Override
+        public void onLinesCleared(ClearRow clearRow) {
+            events.add("lines " + clearRow.linesRemoved());
+        }
+
+        @Override
+        public void onGameOver() {
+            events.add("game over");
+        }
+
+        @Override
+        public void onBrickPlaced(BrickPlacedEvent event) {
+            events.add("placed");
+        }
+    }
+}
@@ -44,6 +44,13 @@ class MoveEventTest {
                 assertEquals(source, event.getEventSource());
             }
         }
+
+        @Test
+        @DisplayName("Constructor keeps the input stamp, defaulting to none")
+        void constructor_keepsInputStamp() {
+            assertEquals(0L, new MoveEvent(EventType.LEFT, EventSource.USER).getInputNanos());
+            assertEquals(123L, new MoveEvent(EventType.LEFT, EventSource.USER, 123L).getInputNanos());
+        }
     }
 
     @Nested
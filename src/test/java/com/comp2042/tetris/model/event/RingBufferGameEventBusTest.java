@@ -0,0 +1,290 @@
+package com.comp2042.tetris.model.event;
+
+import com.comp2042.tetris.model.board.BoardDelta;
+import com.comp2042.tetris.model.board.BoardView;
+import com.comp2042.tetris.model.board.ClearRow;
+import com.comp2042.tetris.model.data.ViewData;
+import com.comp2042.tetris.model.event.RingBufferGameEventBus.BackpressurePolicy;
+import com.comp2042.tetris.model.event.RingBufferGameEventBus.WaitStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferGameEventBusTest {
+
+    @Test
+    void eventsAreOnlyDeliveredWhenDrained() {
+        RingBufferGameEventBus bus = new RingBufferGameEventBus();
+        ScoreListener listener = new ScoreListener();
+        bus.registerListener(listener);
+
+        bus.publishScoreChanged(new ScoreChangeEvent(1));
+        bus.publishScoreChanged(new ScoreChangeEvent(2));
+
+        assertTrue(listener.scores.isEmpty());
+        assertEquals(2, bus.getBacklog());
+        assertEquals(2, bus.drain());
+        assertEquals(List.of(1, 2), listener.scores);
+        assertEquals(0, bus.getBacklog());
+    }
+
+    @Test
+    void everyEventKindReachesItsCallback() {
+        RingBufferGameEventBus bus = new RingBufferGameEventBus();
+        List<Object> received = new ArrayList<>();
+        bus.registerListener(new GameEventListener() {
+            @Override
+            public void onGameInitialized(GameStateSnapshot snapshot) {
+                received.add(snapshot);
+            }
+
+            @Override
+            public void onScoreChanged(ScoreChangeEvent event) {
+                received.add(event);
+            }
+
+            @Override
+            public void onBrickUpdated(ViewData viewData) {
+                received.add(viewData);
+            }
+
+            @Override
+            public void onBoardUpdated(int[][] boardMatrix) {
+                received.add(boardMatrix);
+            }
+
+            @Override
+            public void onBoardUpdated(BoardView boardView) {
+                received.add(boardView);
+            }
+
+            @Override
+            public void onBoardDelta(BoardDelta delta) {
+                received.add(delta);
+            }
+
+            @Override
+            public void onLinesCleared(ClearRow clearRow) {
+                received.add(clearRow);
+            }
+
+            @Override
+            public void onGameOver() {
+                received.add("game over");
+            }
+
+            @Override
+            public void onBrickPlaced(BrickPlacedEvent event) {
+                received.add(event);
+            }
+        });
+        int[][] matrix = {{1}};
+        ViewData viewData = new ViewData(new int[][]{{1}}, 0, 0, new int[][]{{2}});
+        GameStateSnapshot snapshot = new GameStateSnapshot(matrix, viewData);
+        ScoreChangeEvent score = new ScoreChangeEvent(5);
+        BoardView view = BoardView.copyOf(matrix);
+        BoardDelta delta = BoardDelta.fullResync(view);
+        ClearRow clearRow = new ClearRow(0, matrix, 0, List.of());
+        BrickPlacedEvent placed = new BrickPlacedEvent();
+
+        bus.publishGameInitialized(snapshot);
+        bus.publishScoreChanged(score);
+        bus.publishBrickUpdated(viewData);
+        bus.publishBoardUpdated(matrix);
+        bus.publishBoardUpdated(view);
+        bus.publishBoardDelta(delta);
+        bus.publishLinesCleared(clearRow);
+        bus.publishGameOver();
+        bus.publishBrickPlaced(placed);
+        bus.drain();
+
+        assertEquals(List.of(snapshot, score, viewData, matrix, view, delta, clearRow, "game over", placed), received);
+    }
+
+    @Test
+    void drainDeliversAtMostTheRequestedBatch() {
+        RingBufferGameEventBus bus = new RingBufferGameEventBus();
+        ScoreListener listener = new ScoreListener();
+        bus.registerListener(listener);
+        for (int i = 0; i < 10; i++) {
+            bus.publishScoreChanged(new ScoreChangeEvent(i));
+        }
+
+        assertEquals(4, bus.drain(4));
+        assertEquals(List.of(0, 1, 2, 3), listener.scores);
+        assertEquals(6, bus.drain(100));
+        assertEquals(0, bus.drain(100));
+    }
+
+    @Test
+    void capacityIsRoundedUpToAPowerOfTwo() {
+        assertEquals(8, new RingBufferGameEventBus(5, WaitStrategy.SLEEPING, BackpressurePolicy.WAIT).getCapacity());
+        assertEquals(8, new RingBufferGameEventBus(8, WaitStrategy.SLEEPING, BackpressurePolicy.WAIT).getCapacity());
+        assertThrows(IllegalArgumentException.class,
+                () -> new RingBufferGameEventBus(0, WaitStrategy.SLEEPING, BackpressurePolicy.WAIT));
+    }
+
+    @Test
+    void dropPolicyDiscardsEventsWhenFull() {
+        RingBufferGameEventBus bus = new RingBufferGameEventBus(4, WaitStrategy.SLEEPING, BackpressurePolicy.DROP);
+        ScoreListener listener = new ScoreListener();
+        bus.registerListener(listener);
+        for (int i = 0; i < 6; i++) {
+            bus.publishScoreChanged(new ScoreChangeEvent(i));
+        }
+
+        bus.drain();
+
+        assertEquals(List.of(0, 1, 2, 3), listener.scores);
+        assertEquals(2, bus.getDroppedCount());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void waitPolicyDrainsInlineWhenThePublisherIsTheConsumer() {
+        RingBufferGameEventBus bus = new RingBufferGameEventBus(4, WaitStrategy.BLOCKING, BackpressurePolicy.WAIT);
+        ScoreListener listener = new ScoreListener();
+        bus.registerListener(listener);
+        bus.drain();
+
+        for (int i = 0; i < 10; i++) {
+            bus.publishScoreChanged(new ScoreChangeEvent(i));
+        }
+        bus.drain();
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), listener.scores);
+        assertEquals(0, bus.getDroppedCount());
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void listenersMayPublishWhileBeingDrained() {
+        RingBufferGameEventBus bus = new RingBufferGameEventBus(2, WaitStrategy.SLEEPING, BackpressurePolicy.WAIT);
+        ScoreListener listener = new ScoreListener() {
+            @Override
+            public void onScoreChanged(ScoreChangeEvent event) {
+                super.onScoreChanged(event);
+                if (event.newScore() < 10) {
+                    // Three publishes per event overflow the two slots
+                    bus.publishScoreChanged(new ScoreChangeEvent(event.newScore() * 10 + 1));
+                    bus.publishScoreChanged(new ScoreChangeEvent(event.newScore() * 10 + 2));
+                    bus.publishScoreChanged(new ScoreChangeEvent(event.newScore() * 10 + 3));
+                }
+            }
+        };
+        bus.registerListener(listener);
+
+        bus.publishScoreChanged(new ScoreChangeEvent(1));
+        bus.drain(Integer.MAX_VALUE);
+
+        assertEquals(List.of(1, 11, 12, 13), listener.scores);
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    @Timeout(value = 20, unit = TimeUnit.SECONDS)
+    void consumerThreadDeliversEveryEventInOrder(WaitStrategy strategy) throws InterruptedException {
+        int events = 20_000;
+        RingBufferGameEventBus bus = new RingBufferGameEventBus(256, strategy, BackpressurePolicy.WAIT);
+        List<Integer> delivered = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        bus.registerListener(new ScoreListener() {
+            @Override
+            public void onScoreChanged(ScoreChangeEvent event) {
+                delivered.add(event.newScore());
+                if (threads.isEmpty()) {
+                    threads.add(Thread.currentThread());
+                }
+            }
+        });
+        bus.start();
+        ScoreChangeEvent[] payloads = new ScoreChangeEvent[events];
+        for (int i = 0; i < events; i++) {
+            payloads[i] = new ScoreChangeEvent(i);
+        }
+
+        for (ScoreChangeEvent payload : payloads) {
+            bus.publishScoreChanged(payload);
+        }
+        while (bus.getBacklog() > 0) {
+            Thread.sleep(1);
+        }
+        bus.close();
+
+        assertEquals(events, delivered.size());
+        for (int i = 0; i < events; i++) {
+            assertEquals(i, delivered.get(i));
+        }
+        assertNotSame(Thread.currentThread(), threads.get(0));
+        assertEquals(0, bus.getDroppedCount());
+    }
+
+    @Test
+    void publishingDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        RingBufferGameEventBus bus = new RingBufferGameEventBus(1 << 16, WaitStrategy.SLEEPING, BackpressurePolicy.DROP);
+        bus.registerListener(new ScoreListener());
+        ScoreChangeEvent event = new ScoreChangeEvent(1);
+        ViewData viewData = new ViewData(new int[][]{{1}}, 0, 0, new int[][]{{2}});
+        for (int i = 0; i < 20_000; i++) {
+            bus.publishScoreChanged(event);
+            bus.publishBrickUpdated(viewData);
+            bus.publishGameOver();
+            bus.drain();
+        }
+
+        long baseline = threads.getCurrentThreadAllocatedBytes();
+        long measuring = threads.getCurrentThreadAllocatedBytes() - baseline;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 10_000; i++) {
+            bus.publishScoreChanged(event);
+            bus.publishBrickUpdated(viewData);
+            bus.publishGameOver();
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(measuring, allocated);
+    }
+
+    private static class ScoreListener implements GameEventListener {
+        final List<Integer> scores = new ArrayList<>();
+
+        @Override
+        public void onGameInitialized(GameStateSnapshot snapshot) {
+        }
+
+        @Override
+        public void onScoreChanged(ScoreChangeEvent event) {
+            scores.add(event.newScore());
+        }
+
+        @Override
+        public void onBrickUpdated(ViewData viewData) {
+        }
+
+        @Override
+        public void onBoardUpdated(int[][] boardMatrix) {
+        }
+
+        @Override
+        public void onLinesCleared(ClearRow clearRow) {
+        }
+
+        @Override
+        public void onGameOver() {
+        }
+
+        @Override
+        public void onBrickPlaced(BrickPlacedEvent event) {
+        }
+    }
+}
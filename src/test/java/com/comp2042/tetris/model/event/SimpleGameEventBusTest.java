@@ -1,5 +1,7 @@
 package com.comp2042.tetris.model.event;
 
+import com.comp2042.tetris.model.board.BoardDelta;
+import com.comp2042.tetris.model.board.BoardView;
 import com.comp2042.tetris.model.board.ClearRow;
 import com.comp2042.tetris.model.data.ViewData;
 import org.junit.jupiter.api.BeforeEach;
@@ -70,6 +72,19 @@ class SimpleGameEventBusTest {
         assertSame(board, listener.boardUpdates.peekLast());
     }
 
+    @Test
+    void publishBoardDeltaGivesLegacyListenersASnapshot() {
+        int[][] board = new int[][]{{5, 0}};
+        BoardDelta delta = BoardDelta.fullResync(BoardView.copyOf(board));
+
+        bus.publishBoardDelta(delta);
+
+        assertArrayEquals(board, listener.boardUpdates.peekLast());
+        assertTrue(delta.isFullResync());
+        assertEquals(0, delta.firstRow());
+        assertEquals(0, delta.lastRow());
+    }
+
     @Test
     void publishLinesClearedNotifiesListeners() {
         ClearRow clearRow = new ClearRow(1, new int[][]{{0}}, 50, java.util.List.of(5));
@@ -113,6 +113,27 @@ class GameLevelTest {
             assertTrue(at100.toMillis() < at0.toMillis());
             assertTrue(at200.toMillis() < at100.toMillis());
         }
+
+        @Test
+        @DisplayName("getTickIntervalNanos only changes at thresholds")
+        void getTickIntervalNanos_changesOnlyAtThresholds() {
+            assertEquals(200_000_000L, level1.getTickIntervalNanos(0));
+            assertEquals(level1.getTickIntervalNanos(0), level1.getTickIntervalNanos(99));
+            assertEquals(Math.round(1000.0 / 6.5 * 1_000_000d), level1.getTickIntervalNanos(100));
+            assertEquals(level1.getTickIntervalNanos(500), level1.getTickIntervalNanos(10000));
+        }
+
+        @Test
+        @DisplayName("Speed table matches the formula for every score")
+        void speedTable_matchesFormula() {
+            Level1 uncapped = new Level1(5.0, 1.5, 1, Integer.MAX_VALUE);
+            for (int score = 0; score <= 600; score++) {
+                double expected = 1000.0 / (5.0 + (Math.min(score, 500) / 100) * 1.5);
+                assertEquals(expected, level1.getTickIntervalMillis(score));
+            }
+            // Scores past the table fall back to the formula
+            assertEquals(1000.0 / (5.0 + 5000 * 1.5), uncapped.getTickIntervalMillis(5000));
+        }
     }
 
     @Nested
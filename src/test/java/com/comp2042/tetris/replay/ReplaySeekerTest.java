@@ -0,0 +1,90 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.controller.core.GameController;
+import com.comp2042.tetris.model.event.SimpleGameEventBus;
+import com.comp2042.tetris.utils.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplaySeekerTest {
+
+    private static final long SEED = 99L;
+    private static final long KEYFRAME_INTERVAL = 5_000L;
+
+    @Test
+    void seekMatchesReplayingFromTheStart() throws IOException {
+        byte[] recording = record();
+        ReplaySeeker seeker = new ReplaySeeker(recording);
+        Replay replay = Replay.read(new ByteArrayInputStream(recording));
+
+        assertEquals(SEED, seeker.getSeed());
+        assertTrue(seeker.getKeyframeCount() > 10, "a long session should hold many keyframes");
+        for (long tick : new long[]{0, 1_234, KEYFRAME_INTERVAL, 61_000, replay.durationTicks() / 2, replay.durationTicks()}) {
+            assertArrayEquals(fromTheStart(replay, tick), encode(seeker.seek(tick, new SimpleGameEventBus())), "tick " + tick);
+        }
+    }
+
+    @Test
+    void crashedSessionsAreIndexedByScanning() throws IOException {
+        byte[] recording = record();
+        // Drop the footer and half of the last event, as if the game had crashed
+        byte[] crashed = Arrays.copyOf(recording, indexOffset(recording) - 1);
+        Replay replay = Replay.read(new ByteArrayInputStream(recording));
+
+        ReplaySeeker seeker = new ReplaySeeker(crashed);
+
+        assertEquals(new ReplaySeeker(recording).getKeyframeCount(), seeker.getKeyframeCount());
+        long tick = replay.durationTicks() / 3;
+        assertArrayEquals(fromTheStart(replay, tick), encode(seeker.seek(tick, new SimpleGameEventBus())));
+    }
+
+    @Test
+    void keyframesStayCompact() throws IOException {
+        GameController controller = ReplayPlayer.newController(SEED, new SimpleGameEventBus());
+
+        // An empty 23x13 board plus brick, queue, score and garbage timer
+        assertTrue(encode(controller).length < 80);
+    }
+
+    private static byte[] record() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        long[] tick = {0};
+        try (RecordingGameController recorder = new RecordingGameController(
+                GameController.create(new GameRandom(SEED), new SimpleGameEventBus(), () -> { }),
+                new ReplayWriter(bytes, SEED), () -> tick[0], KEYFRAME_INTERVAL)) {
+            ReplayTest.playRandomSession(recorder, tick, new Random(13));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] fromTheStart(Replay replay, long tick) throws IOException {
+        GameController controller = ReplayPlayer.newController(replay.seed(), new SimpleGameEventBus());
+        for (ReplayEvent event : replay.events()) {
+            if (event.tick() > tick) {
+                break;
+            }
+            ReplayPlayer.apply(event, controller);
+        }
+        return encode(controller);
+    }
+
+    private static byte[] encode(GameController controller) throws IOException {
+        return KeyframeCodec.encode(controller.saveState());
+    }
+
+    private static int indexOffset(byte[] recording) {
+        int trailer = recording.length - ReplayFormat.TRAILER_BYTES;
+        int offset = 0;
+        for (int i = 0; i < Integer.BYTES; i++) {
+            offset = offset << Byte.SIZE | recording[trailer + i] & 0xFF;
+        }
+        return offset;
+    }
+}
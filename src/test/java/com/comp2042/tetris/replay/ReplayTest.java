@@ -0,0 +1,222 @@
+package com.comp2042.tetris.replay;
+
+import com.comp2042.tetris.controller.core.GameController;
+import com.comp2042.tetris.model.board.BoardView;
+import com.comp2042.tetris.model.board.ClearRow;
+import com.comp2042.tetris.model.data.ViewData;
+import com.comp2042.tetris.model.event.BrickPlacedEvent;
+import com.comp2042.tetris.model.event.EventSource;
+import com.comp2042.tetris.model.event.EventType;
+import com.comp2042.tetris.model.event.GameEventListener;
+import com.comp2042.tetris.model.event.GameStateSnapshot;
+import com.comp2042.tetris.model.event.MoveEvent;
+import com.comp2042.tetris.model.event.ScoreChangeEvent;
+import com.comp2042.tetris.model.event.SimpleGameEventBus;
+import com.comp2042.tetris.model.level.ClassicLevel;
+import com.comp2042.tetris.model.level.Level3;
+import com.comp2042.tetris.utils.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayTest {
+
+    @Test
+    void streamRoundTripKeepsEveryField() throws IOException {
+        List<ReplayEvent> events = List.of(
+                ReplayEvent.setLevel(0, new Level3()),
+                ReplayEvent.newGame(0),
+                ReplayEvent.move(3, ReplayCommand.LEFT, EventSource.USER),
+                ReplayEvent.move(400, ReplayCommand.DOWN, EventSource.THREAD),
+                ReplayEvent.move(400, ReplayCommand.ROTATE, EventSource.USER),
+                ReplayEvent.move(401, ReplayCommand.SLIDE_LEFT, EventSource.USER),
+                ReplayEvent.move(401, ReplayCommand.SLIDE_RIGHT, EventSource.USER),
+                ReplayEvent.move(1L << 40, ReplayCommand.INSTANT_DROP, EventSource.USER));
+
+        Replay read = Replay.read(new ByteArrayInputStream(new Replay(-42L, events).toByteArray()));
+
+        assertEquals(-42L, read.seed());
+        assertEquals(events.size(), read.events().size());
+        for (int i = 0; i < events.size(); i++) {
+            ReplayEvent expected = events.get(i);
+            ReplayEvent actual = read.events().get(i);
+            assertEquals(expected.tick(), actual.tick());
+            assertEquals(expected.command(), actual.command());
+            assertEquals(expected.source(), actual.source());
+        }
+        assertInstanceOf(Level3.class, read.events().get(0).level());
+        assertEquals(1L << 40, read.durationTicks());
+    }
+
+    @Test
+    void sidewaysMovesFromTheGameThreadAreNotReadAsSlides() throws IOException {
+        List<ReplayEvent> events = List.of(
+                ReplayEvent.move(0, ReplayCommand.LEFT, EventSource.THREAD),
+                ReplayEvent.move(1, ReplayCommand.SLIDE_LEFT, EventSource.USER),
+                ReplayEvent.move(2, ReplayCommand.RIGHT, EventSource.THREAD),
+                ReplayEvent.move(3, ReplayCommand.SLIDE_RIGHT, EventSource.USER));
+
+        Replay read = Replay.read(new ByteArrayInputStream(new Replay(1L, events).toByteArray()));
+
+        assertEquals(events.stream().map(ReplayEvent::command).toList(),
+                read.events().stream().map(ReplayEvent::command).toList());
+        assertEquals(EventSource.THREAD, read.events().get(0).source());
+        assertEquals(EventSource.THREAD, read.events().get(2).source());
+    }
+
+    @Test
+    void threadFlaggedSidewaysMovesAreSlidesOnlyInVersion3() throws IOException {
+        int leftFromThread = ReplayCommand.LEFT.ordinal() | ReplayFormat.THREAD_FLAG;
+
+        ReplayEvent version3 = new ReplayReader(new ByteArrayInputStream(stream(3, leftFromThread))).next();
+        ReplayEvent version2 = new ReplayReader(new ByteArrayInputStream(stream(2, leftFromThread))).next();
+
+        assertEquals(ReplayCommand.SLIDE_LEFT, version3.command());
+        assertEquals(ReplayCommand.LEFT, version2.command());
+        assertEquals(EventSource.THREAD, version2.source());
+    }
+
+    @Test
+    void replayReproducesTheRecordedSession() throws IOException {
+        long seed = 2024L;
+        StringBuilder recordedTrace = new StringBuilder();
+        SimpleGameEventBus recordedBus = new SimpleGameEventBus();
+        recordedBus.registerListener(new TraceListener(recordedTrace));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        long[] tick = {0};
+        RecordingGameController recorder = new RecordingGameController(
+                GameController.create(new GameRandom(seed), recordedBus, () -> { }),
+                new ReplayWriter(bytes, seed), () -> tick[0]);
+
+        int events = playRandomSession(recorder, tick, new Random(7));
+        recorder.close();
+        assertFalse(recorder.isRecording());
+
+        Replay replay = Replay.read(new ByteArrayInputStream(bytes.toByteArray()));
+        StringBuilder replayedTrace = new StringBuilder();
+        SimpleGameEventBus replayedBus = new SimpleGameEventBus();
+        replayedBus.registerListener(new TraceListener(replayedTrace));
+        long played = new ReplayPlayer(ReplayPlayer.UNTHROTTLED).play(replay, ReplayPlayer.newController(seed, replayedBus));
+
+        assertEquals(events, played);
+        assertTrue(recordedTrace.indexOf("placed") >= 0, "the session should lock bricks");
+        assertEquals(recordedTrace.toString(), replayedTrace.toString());
+        assertTrue(bytes.size() < 2.5 * events, "replay should average under 2.5 bytes per event, was " + bytes.size());
+    }
+
+    @Test
+    void fastForwardKeepsRelativeTiming() {
+        Replay replay = new Replay(1L, List.of(ReplayEvent.newGame(0),
+                ReplayEvent.move(200, ReplayCommand.DOWN, EventSource.THREAD)));
+        GameController controller = ReplayPlayer.newController(1L, new SimpleGameEventBus());
+
+        long start = System.nanoTime();
+        new ReplayPlayer(10).play(replay, controller);
+
+        assertTrue(System.nanoTime() - start >= 20_000_000L);
+    }
+
+    @Test
+    void rejectsStreamsThatAreNotReplays() {
+        assertThrows(IOException.class, () -> new ReplayReader(new ByteArrayInputStream("not a replay".getBytes())));
+        assertThrows(IllegalArgumentException.class, () -> new ReplayPlayer(0));
+    }
+
+    @Test
+    void truncatedEventIsReported() throws IOException {
+        byte[] full = new Replay(5L, List.of(ReplayEvent.move(100_000, ReplayCommand.DOWN, EventSource.THREAD))).toByteArray();
+
+        ReplayReader reader = new ReplayReader(new ByteArrayInputStream(Arrays.copyOf(full, full.length - 1)));
+
+        assertThrows(EOFException.class, reader::next);
+    }
+
+    private static byte[] stream(int version, int header) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.writeBytes(ReplayFormat.MAGIC);
+        bytes.write(version);
+        bytes.writeBytes(new byte[Long.BYTES]);
+        bytes.write(header);
+        return bytes.toByteArray();
+    }
+
+    static int playRandomSession(RecordingGameController controller, long[] tick, Random random) {
+        controller.setLevel(new Level3());
+        controller.createNewGame();
+        int events = 2;
+        for (int step = 0; step < 4_000; step++) {
+            tick[0] += random.nextInt(120);
+            MoveEvent user = new MoveEvent(EventType.DOWN, EventSource.USER);
+            switch (random.nextInt(9)) {
+                case 0 -> controller.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+                case 1 -> controller.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
+                case 2 -> controller.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER));
+                case 3 -> controller.onInstantDropEvent(user);
+                case 4 -> controller.onDownEvent(user);
+                case 5 -> controller.onSlideEvent(new MoveEvent(
+                        random.nextBoolean() ? EventType.LEFT : EventType.RIGHT, EventSource.USER));
+                default -> controller.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+            }
+            events++;
+            if (step == 2_000) {
+                controller.setLevel(new ClassicLevel());
+                controller.createNewGame();
+                events += 2;
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Writes every published event into a trace so two sessions can be compared.
+     */
+    private record TraceListener(StringBuilder trace) implements GameEventListener {
+        @Override
+        public void onGameInitialized(GameStateSnapshot snapshot) {
+            trace.append("init\n");
+        }
+
+        @Override
+        public void onScoreChanged(ScoreChangeEvent event) {
+            trace.append("score ").append(event.newScore()).append('\n');
+        }
+
+        @Override
+        public void onBrickUpdated(ViewData viewData) {
+            trace.append("brick ").append(viewData.getXPosition()).append(',').append(viewData.getYPosition()).append('\n');
+        }
+
+        @Override
+        public void onBoardUpdated(int[][] boardMatrix) {
+            trace.append("board ").append(Arrays.deepToString(boardMatrix)).append('\n');
+        }
+
+        @Override
+        public void onBoardUpdated(BoardView boardView) {
+            onBoardUpdated(boardView.snapshot());
+        }
+
+        @Override
+        public void onLinesCleared(ClearRow clearRow) {
+            trace.append("lines ").append(clearRow.linesRemoved()).append('\n');
+        }
+
+        @Override
+        public void onGameOver() {
+            trace.append("game over\n");
+        }
+
+        @Override
+        public void onBrickPlaced(BrickPlacedEvent event) {
+            trace.append("placed\n");
+        }
+    }
+}
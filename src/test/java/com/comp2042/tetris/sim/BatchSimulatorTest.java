@@ -0,0 +1,89 @@
+package com.comp2042.tetris.sim;
+
+import com.comp2042.tetris.model.level.Level1;
+import com.comp2042.tetris.model.level.Level3;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchSimulatorTest {
+
+    private static final int[] COLUMN_OFFSETS = {-5, 4, -2, 1, -4, 5, 0, -1, 3, -3, 2};
+
+    // Spreads bricks across the board and waits between drops so games last long enough to see garbage
+    private static final InputSource PATIENT_PLAYER = engine -> {
+        long phase = engine.getTick() % 1_200;
+        int offset = COLUMN_OFFSETS[(int) (engine.getTick() / 1_200 % COLUMN_OFFSETS.length)];
+        if (phase == 1_100) {
+            return SimAction.HARD_DROP;
+        }
+        if (phase % 10 == 0 && phase >= 10 && phase <= 10L * Math.abs(offset)) {
+            return offset < 0 ? SimAction.LEFT : SimAction.RIGHT;
+        }
+        return SimAction.NONE;
+    };
+
+    @Test
+    void resultsDependOnlyOnTheSeed() {
+        BatchStatistics sequential;
+        BatchStatistics parallel;
+        try (BatchSimulator simulator = new BatchSimulator(1)) {
+            sequential = simulator.run(42L, 8, Level3::new, () -> PATIENT_PLAYER, 200_000);
+        }
+        try (BatchSimulator simulator = new BatchSimulator(4)) {
+            parallel = simulator.run(42L, 8, Level3::new, () -> PATIENT_PLAYER, 200_000);
+        }
+
+        assertEquals(sequential.games(), parallel.games());
+        assertEquals(8, parallel.gameCount());
+        assertTrue(parallel.garbageRows().max() > 0, "Level 3 games should receive garbage");
+    }
+
+    @Test
+    void aggregatesEveryGame() {
+        BatchStatistics stats;
+        try (BatchSimulator simulator = new BatchSimulator()) {
+            stats = simulator.run(7L, 20, Level1::new, () -> InputSource.repeating(SimAction.HARD_DROP), 1_000_000);
+        }
+
+        assertEquals(20, stats.gameCount());
+        assertEquals(20, stats.toppedOutCount());
+        assertEquals(7L, stats.games().get(0).seed());
+        assertEquals(26L, stats.games().get(19).seed());
+        assertEquals(stats.games().stream().mapToLong(GameResult::ticks).average().orElseThrow(),
+                stats.gameLengths().mean(), 1e-9);
+        assertEquals(0, stats.garbageRows().max());
+        assertTrue(stats.scores().min() > 0);
+    }
+
+    @Test
+    void differentSeedsPlayDifferentGames() {
+        GameResult first = BatchSimulator.playGame(1L, new Level1(), PATIENT_PLAYER, 500_000);
+        GameResult again = BatchSimulator.playGame(1L, new Level1(), PATIENT_PLAYER, 500_000);
+        List<GameResult> others = List.of(
+                BatchSimulator.playGame(2L, new Level1(), PATIENT_PLAYER, 500_000),
+                BatchSimulator.playGame(3L, new Level1(), PATIENT_PLAYER, 500_000),
+                BatchSimulator.playGame(4L, new Level1(), PATIENT_PLAYER, 500_000));
+
+        assertEquals(first, again);
+        assertTrue(others.stream().anyMatch(other -> other.ticks() != first.ticks() || other.score() != first.score()));
+    }
+
+    @Test
+    void distributionReportsNearestRankPercentiles() {
+        Distribution distribution = new Distribution(new long[]{50, 10, 40, 20, 30});
+
+        assertEquals(5, distribution.count());
+        assertEquals(10, distribution.min());
+        assertEquals(50, distribution.max());
+        assertEquals(30.0, distribution.mean(), 1e-9);
+        assertEquals(Math.sqrt(200), distribution.standardDeviation(), 1e-9);
+        assertEquals(30, distribution.median());
+        assertEquals(50, distribution.percentile(90));
+        assertEquals(10, distribution.percentile(0));
+        assertThrows(IllegalArgumentException.class, () -> distribution.percentile(101));
+        assertEquals(0, new Distribution(new long[0]).max());
+    }
+}
@@ -0,0 +1,123 @@
+package com.comp2042.tetris.sim;
+
+import com.comp2042.tetris.model.board.BoardView;
+import com.comp2042.tetris.model.board.SimpleBoard;
+import com.comp2042.tetris.model.level.ClassicLevel;
+import com.comp2042.tetris.model.level.GameLevel;
+import com.comp2042.tetris.model.level.Level3;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Array;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationEngineTest {
+
+    @Test
+    void gravityMovesBrickOncePerLevelInterval() {
+        SimulationEngine engine = new SimulationEngine(new ClassicLevel(), InputSource.IDLE);
+        int startY = engine.getViewData().getYPosition();
+        long gravityTicks = Math.round(ClassicLevel.DEFAULT_DROP_INTERVAL_MILLIS / SimulationEngine.DEFAULT_MILLIS_PER_TICK);
+
+        engine.run(gravityTicks - 1);
+        assertEquals(startY, engine.getViewData().getYPosition());
+
+        engine.step();
+        assertEquals(startY + 1, engine.getViewData().getYPosition());
+        assertEquals(gravityTicks, engine.getTick());
+    }
+
+    @Test
+    void hardDroppingEveryTickEndsInGameOver() {
+        SimulationEngine engine = new SimulationEngine(new ClassicLevel(), InputSource.repeating(SimAction.HARD_DROP));
+
+        long ran = engine.run(1_000_000);
+
+        assertTrue(engine.isGameOver());
+        assertTrue(ran < 1_000_000);
+        assertEquals(ran, engine.getBricksPlaced());
+        assertTrue(engine.getScore() > 0, "hard drops award points per row");
+        assertFalse(engine.step());
+        assertEquals(ran, engine.getTick());
+    }
+
+    @Test
+    void resetStartsAFreshGame() {
+        SimulationEngine engine = new SimulationEngine(new ClassicLevel(), InputSource.repeating(SimAction.HARD_DROP));
+        engine.run(1_000_000);
+
+        engine.reset();
+
+        assertFalse(engine.isGameOver());
+        assertEquals(0, engine.getTick());
+        assertEquals(0, engine.getScore());
+        assertEquals(0, engine.getBricksPlaced());
+        assertEquals(0, engine.getLinesCleared());
+    }
+
+    @Test
+    void garbageFollowsTheLogicalClock() {
+        // A tall board keeps an idle player alive until the first garbage is due (30-45 logical seconds)
+        SimulationEngine engine = new SimulationEngine(new SimpleBoard(80, 13), new Level3(), InputSource.IDLE,
+                new TickClock(SimulationEngine.DEFAULT_MILLIS_PER_TICK));
+
+        engine.run(29_000);
+        assertFalse(bottomRowIsGarbage(engine.getBoardView()));
+
+        engine.run(17_000);
+        assertFalse(engine.isGameOver());
+        assertTrue(bottomRowIsGarbage(engine.getBoardView()));
+    }
+
+    @Test
+    void runsWithoutLoadingJavaFx() throws Exception {
+        URL[] classpath = {
+                SimulationEngine.class.getProtectionDomain().getCodeSource().getLocation(),
+                org.slf4j.LoggerFactory.class.getProtectionDomain().getCodeSource().getLocation()
+        };
+        List<String> javaFxRequests = new CopyOnWriteArrayList<>();
+        try (URLClassLoader loader = new URLClassLoader(classpath, ClassLoader.getPlatformClassLoader()) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                if (name.startsWith("javafx.")) {
+                    javaFxRequests.add(name);
+                    throw new ClassNotFoundException(name);
+                }
+                return super.loadClass(name, resolve);
+            }
+        }) {
+            Class<?> levelType = loader.loadClass(GameLevel.class.getName());
+            Class<?> inputType = loader.loadClass(InputSource.class.getName());
+            Class<?> actionType = loader.loadClass(SimAction.class.getName());
+            Class<?> engineType = loader.loadClass(SimulationEngine.class.getName());
+            assertNotSame(SimulationEngine.class, engineType);
+
+            Object actions = Array.newInstance(actionType, 3);
+            Array.set(actions, 0, actionType.getField("ROTATE").get(null));
+            Array.set(actions, 1, actionType.getField("LEFT").get(null));
+            Array.set(actions, 2, actionType.getField("NONE").get(null));
+            Object input = inputType.getMethod("repeating", actions.getClass()).invoke(null, actions);
+            Object level = loader.loadClass(Level3.class.getName()).getConstructor().newInstance();
+            Object engine = engineType.getConstructor(levelType, inputType).newInstance(level, input);
+
+            long ran = (long) engineType.getMethod("run", long.class).invoke(engine, 200_000L);
+
+            assertTrue(ran > 0);
+        }
+        assertEquals(List.of(), javaFxRequests);
+    }
+
+    private static boolean bottomRowIsGarbage(BoardView view) {
+        int filled = 0;
+        for (int col = 0; col < view.width(); col++) {
+            if (view.cell(view.height() - 1, col) != 0) {
+                filled++;
+            }
+        }
+        return filled == view.width() - 1;
+    }
+}
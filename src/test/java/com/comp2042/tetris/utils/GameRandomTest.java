@@ -0,0 +1,88 @@
+package com.comp2042.tetris.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRandomTest {
+
+    @Test
+    void sameSeedProducesSameSequence() {
+        GameRandom first = new GameRandom(1234L);
+        GameRandom second = new GameRandom(1234L);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(first.nextLong(), second.nextLong());
+        }
+        assertEquals(1234L, first.getSeed());
+    }
+
+    @Test
+    void differentSeedsDiverge() {
+        assertNotEquals(new GameRandom(1L).nextLong(), new GameRandom(2L).nextLong());
+    }
+
+    @Test
+    void splitStreamsAreReproducibleAndIndependent() {
+        GameRandom parent = new GameRandom(99L);
+        GameRandom bricks = parent.split();
+        GameRandom garbage = parent.split();
+
+        GameRandom replayParent = new GameRandom(99L);
+        GameRandom replayBricks = replayParent.split();
+        GameRandom replayGarbage = replayParent.split();
+
+        // Drawing from one stream must not disturb the other
+        for (int i = 0; i < 100; i++) {
+            bricks.nextLong();
+        }
+        assertEquals(replayGarbage.nextLong(), garbage.nextLong());
+        for (int i = 0; i < 100; i++) {
+            replayBricks.nextLong();
+        }
+        assertEquals(replayBricks.nextLong(), bricks.nextLong());
+    }
+
+    @Test
+    void nextIntStaysInBoundsAndCoversEveryValue() {
+        GameRandom random = new GameRandom(7L);
+        int[] counts = new int[7];
+        for (int i = 0; i < 70_000; i++) {
+            int value = random.nextInt(7);
+            assertTrue(value >= 0 && value < 7);
+            counts[value]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 9_000 && count < 11_000, "roughly uniform: " + count);
+        }
+        assertThrows(IllegalArgumentException.class, () -> random.nextInt(0));
+    }
+
+    @Test
+    void nextDoubleIsInUnitInterval() {
+        GameRandom random = new GameRandom(3L);
+        for (int i = 0; i < 10_000; i++) {
+            double value = random.nextDouble();
+            assertTrue(value >= 0.0 && value < 1.0);
+        }
+    }
+
+    @Test
+    void shuffleIsAReproduciblePermutation() {
+        List<Integer> original = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+        List<Integer> first = new ArrayList<>(original);
+        List<Integer> second = new ArrayList<>(original);
+
+        new GameRandom(5L).shuffle(first);
+        new GameRandom(5L).shuffle(second);
+
+        assertEquals(first, second);
+        assertNotEquals(original, first);
+        assertEquals(original, first.stream().sorted().collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,107 @@
+package com.comp2042.tetris.view;
+
+import com.comp2042.tetris.model.data.ViewData;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.GridPane;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the CanvasBoardRenderer class, with plain images standing in for the
+ * snapshot tiles so no FX thread is needed.
+ */
+class CanvasBoardRendererTest {
+
+    private static final int BRICK_SIZE = 20;
+    private static final int[][] T_BRICK = {{0, 6, 0}, {6, 6, 6}};
+    private static final int[][] I_BRICK = {{1, 1, 1, 1}};
+
+    private final GridPane gamePanel = new GridPane();
+    private final GridPane brickPanel = new GridPane();
+    private final GridPane ghostBrickPanel = new GridPane();
+    private final GridPane nextBrickPanel = new GridPane();
+    private final AtomicInteger rasterisations = new AtomicInteger();
+
+    private final CanvasBoardRenderer renderer = new CanvasBoardRenderer(
+            gamePanel, brickPanel, ghostBrickPanel, nextBrickPanel, BRICK_SIZE, () -> {
+                rasterisations.incrementAndGet();
+                return new BrickTiles(value -> tile(BRICK_SIZE), value -> tile(BRICK_SIZE), value -> tile(20));
+            });
+
+    @Test
+    void nodeCountDoesNotDependOnBoardSize() {
+        brickPanel.add(new Rectangle(), 0, 0);
+        ghostBrickPanel.add(new Rectangle(), 0, 0);
+
+        renderer.initialize(new int[23][13], brick(4, 5));
+        assertEquals(2, gamePanel.getChildren().size());
+        assertEquals(1, nextBrickPanel.getChildren().size());
+        assertTrue(brickPanel.getChildren().isEmpty());
+        assertTrue(ghostBrickPanel.getChildren().isEmpty());
+
+        renderer.initialize(new int[42][30], brick(10, 20));
+        assertEquals(2, gamePanel.getChildren().size());
+        assertEquals(1, nextBrickPanel.getChildren().size());
+        assertEquals(1, rasterisations.get(), "tiles are rasterised once");
+    }
+
+    @Test
+    void boardCanvasCoversTheVisibleRows() {
+        renderer.initialize(new int[23][13], brick(4, 5));
+
+        Canvas board = (Canvas) gamePanel.getChildren().get(0);
+        assertEquals(13 * BRICK_SIZE, board.getWidth());
+        assertEquals(21 * BRICK_SIZE, board.getHeight());
+    }
+
+    @Test
+    void refreshesDrawWithoutAddingNodes() {
+        int[][] board = new int[23][13];
+        renderer.initialize(board, brick(4, 5));
+
+        board[22][0] = 3;
+        board[21][12] = 9;
+        renderer.refreshGameBackground(board);
+        renderer.refreshBrick(brick(5, 6), false);
+        renderer.refreshBrick(brick(5, 6), false);
+        renderer.refreshBrick(brick(0, 0), true);
+
+        assertEquals(2, gamePanel.getChildren().size());
+        assertEquals(1, nextBrickPanel.getChildren().size());
+    }
+
+    @Test
+    void previewIsSizedForTheStackedQueue() {
+        renderer.initialize(new int[23][13], brick(4, 5));
+
+        Canvas preview = (Canvas) nextBrickPanel.getChildren().get(0);
+        // T (2 rows), gap, I (1 row); four columns wide
+        assertEquals(4 * 20, preview.getWidth());
+        assertEquals(4 * 20, preview.getHeight());
+    }
+
+    @Test
+    void unknownCellValuesShareTheFallbackTile() {
+        BrickTiles tiles = new BrickTiles(value -> tile(value), value -> tile(1), value -> tile(1));
+
+        assertNull(tiles.board(0));
+        assertEquals(3, tiles.board(3).getWidth());
+        assertEquals(BrickTiles.FALLBACK_VALUE, tiles.board(12).getWidth());
+        assertEquals(BrickTiles.FALLBACK_VALUE, tiles.board(-1).getWidth());
+    }
+
+    private static ViewData brick(int x, int y) {
+        return new ViewData(T_BRICK, x, y, List.of(T_BRICK, I_BRICK), 20);
+    }
+
+    private static Image tile(int size) {
+        return new WritableImage(size, size);
+    }
+}